@@ -0,0 +1,5 @@
+-- p_menu 외부 식별 키: 메뉴 대량 등록/수정(PUT /api/stores/{storeId}/menus/bulk)에서 기존 메뉴를 찾는 키
+-- 매장 안에서만 유일 (NULL은 여러 개 허용 - 개별 등록한 메뉴)
+ALTER TABLE p_menu ADD COLUMN IF NOT EXISTS client_key VARCHAR(100);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_menu_store_client_key ON p_menu (store_id, client_key);
@@ -0,0 +1,16 @@
+-- 메뉴/옵션 가격 일괄 조정 전 가격 (MenuPriceSnapshotEntity, PATCH /api/stores/{storeId}/menus/prices)
+-- 조정 쿼리가 UPDATE와 같은 문장에서 INSERT하고, 되돌리기(POST .../prices/{adjustmentId}/rollback)에서 삭제한다
+CREATE TABLE IF NOT EXISTS p_menu_price_snapshot (
+    id             UUID PRIMARY KEY,
+    adjustment_id  UUID        NOT NULL,
+    store_id       UUID        NOT NULL,
+    item_type      VARCHAR(10) NOT NULL,
+    item_id        UUID        NOT NULL,
+    menu_id        UUID        NOT NULL,
+    previous_price INTEGER     NOT NULL,
+    adjusted_price INTEGER     NOT NULL,
+    created_at     TIMESTAMP   NOT NULL,
+    created_by     INTEGER     NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_menu_price_snapshot_adjustment ON p_menu_price_snapshot (adjustment_id);
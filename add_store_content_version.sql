@@ -0,0 +1,3 @@
+-- p_store 콘텐츠 버전: 매장/메뉴/옵션 변경 트랜잭션마다 +1 (StoreContentVersionService)
+-- 매장 상세/메뉴 조회 응답의 ETag로 사용하고, If-None-Match가 같으면 이 값 하나만 읽고 304로 응답한다
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS content_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- 커서(키셋) 기반 매장 목록 조회용 인덱스: ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_store_created_at_id ON p_store (created_at, id);
@@ -0,0 +1,17 @@
+-- p_store.fingerprint: 도로명주소 + 상세주소 + 매장명을 정규화(NFC, 소문자, 공백 제거)한 뒤 SHA-256 (StoreFingerprint.of와 동일한 규칙)
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS fingerprint VARCHAR(64);
+
+-- 기존 데이터 백필 (normalize는 PostgreSQL 13 이상)
+UPDATE p_store
+SET fingerprint = encode(sha256(convert_to(
+        lower(regexp_replace(normalize(road_address, NFC), '\s', '', 'g')) || chr(31) ||
+        lower(regexp_replace(normalize(address_detail, NFC), '\s', '', 'g')) || chr(31) ||
+        lower(regexp_replace(normalize(name, NFC), '\s', '', 'g')),
+        'UTF8')), 'hex')
+WHERE fingerprint IS NULL;
+
+-- 삭제되지 않은 매장끼리만 중복 불가 (soft delete된 매장과는 같은 지문 허용)
+-- 기존 데이터에 중복이 있으면 생성이 실패하므로 먼저 정리해야 한다
+CREATE UNIQUE INDEX IF NOT EXISTS uk_store_fingerprint_active
+    ON p_store (fingerprint)
+    WHERE is_deleted = false;
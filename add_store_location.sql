@@ -0,0 +1,7 @@
+-- p_store.latitude / longitude: 매장 좌표 (WGS84, 선택 입력)
+-- 주변 매장 조회는 애플리케이션 메모리의 위경도 격자 색인(StoreSearchIndex)으로 처리하고,
+-- 색인이 준비되기 전에만 아래 인덱스로 사각형 범위를 조회한다
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
+
+CREATE INDEX IF NOT EXISTS idx_store_latitude_longitude ON p_store (latitude, longitude);
@@ -0,0 +1,15 @@
+-- p_store.open_minute / close_minute: open_time/close_time을 자정 기준 분(0~1439)으로 변환한 값
+-- 영업시간(openAt) 목록 필터를 SQL에서 처리하기 위해 사용 (StoreEntity에서 생성/수정 시 함께 갱신)
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS open_minute INTEGER;
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS close_minute INTEGER;
+
+-- 기존 데이터 백필
+UPDATE p_store
+SET open_minute = EXTRACT(HOUR FROM open_time) * 60 + EXTRACT(MINUTE FROM open_time),
+    close_minute = EXTRACT(HOUR FROM close_time) * 60 + EXTRACT(MINUTE FROM close_time)
+WHERE open_minute IS NULL OR close_minute IS NULL;
+
+-- 영업시간 필터는 인덱스를 타지 않는 일반 SQL 조건이다 (StoreRepository.OPEN_AT_CONDITION)
+-- 자정을 넘기는 영업/요일별 일정 분기가 OR로 섞여 있어 (open_minute, close_minute) B-tree로는 범위를 좁힐 수 없으므로
+-- 인덱스는 두지 않는다 (이전에 만들어진 인덱스는 쓰기 비용만 늘리므로 제거)
+DROP INDEX IF EXISTS idx_store_open_close_minute;
@@ -0,0 +1,2 @@
+-- 승인 대기열 조회용 인덱스: WHERE status = 'PENDING' ORDER BY created_at, id
+CREATE INDEX IF NOT EXISTS idx_store_status_created_at_id ON p_store (status, created_at, id);
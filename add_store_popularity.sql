@@ -0,0 +1,18 @@
+-- p_store 인기 점수 집계 컬럼: 목록을 인기순으로 정렬할 때 p_review / p_order를 매번 조인하지 않도록 미리 계산
+-- 리뷰 변경 시 해당 매장만, 그 외에는 StoreRankingService 주기 작업(기본 10분)이 1000개씩 다시 계산한다
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS review_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS completed_order_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS popularity_score DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+-- 기존 데이터 백필 (StoreRankingRepository와 같은 식)
+UPDATE p_store s
+SET review_count = (SELECT COUNT(*) FROM p_review r WHERE r.store_id = s.id AND r.is_deleted = false),
+    rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM p_review r WHERE r.store_id = s.id AND r.is_deleted = false),
+    completed_order_count = (SELECT COUNT(*) FROM p_order o WHERE o.store_id = s.id AND o.order_status = 'COMPLETED');
+
+UPDATE p_store
+SET popularity_score = (3.5 * 10 + rating_sum) / (10 + review_count) + 0.5 * LN(1 + completed_order_count);
+
+-- 인기순 목록 조회용 인덱스
+CREATE INDEX IF NOT EXISTS idx_store_popularity_score_id ON p_store (popularity_score, id);
@@ -0,0 +1,32 @@
+-- p_store.region_code: road_address의 시/도 단위를 정규화한 코드 (StoreRegion.normalize와 동일한 규칙)
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS region_code VARCHAR(20);
+
+-- 기존 데이터 백필
+UPDATE p_store
+SET region_code = CASE split_part(trim(road_address), ' ', 1)
+        WHEN '서울특별시' THEN '서울'
+        WHEN '부산광역시' THEN '부산'
+        WHEN '대구광역시' THEN '대구'
+        WHEN '인천광역시' THEN '인천'
+        WHEN '광주광역시' THEN '광주'
+        WHEN '대전광역시' THEN '대전'
+        WHEN '울산광역시' THEN '울산'
+        WHEN '세종특별자치시' THEN '세종'
+        WHEN '경기도' THEN '경기'
+        WHEN '강원도' THEN '강원'
+        WHEN '강원특별자치도' THEN '강원'
+        WHEN '충청북도' THEN '충북'
+        WHEN '충청남도' THEN '충남'
+        WHEN '전라북도' THEN '전북'
+        WHEN '전북특별자치도' THEN '전북'
+        WHEN '전라남도' THEN '전남'
+        WHEN '경상북도' THEN '경북'
+        WHEN '경상남도' THEN '경남'
+        WHEN '제주도' THEN '제주'
+        WHEN '제주특별자치도' THEN '제주'
+        ELSE regexp_replace(split_part(trim(road_address), ' ', 1), '(특별자치시|특별자치도|특별시|광역시|도|시)$', '')
+    END
+WHERE region_code IS NULL;
+
+-- 서비스 지역 + 승인 상태 기반 목록 조회용 인덱스
+CREATE INDEX IF NOT EXISTS idx_store_region_status ON p_store (region_code, status, is_deleted);
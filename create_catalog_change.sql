@@ -0,0 +1,17 @@
+-- 매장/메뉴 델타 동기화용 변경 로그 (CatalogChangeEntity / CatalogSequenceEntity)
+-- seq는 p_catalog_sequence 행을 잠그고 커밋 직전에 발급하므로 커밋 순서대로 증가한다
+CREATE TABLE IF NOT EXISTS p_catalog_sequence (
+    name     VARCHAR(30) PRIMARY KEY,
+    last_seq BIGINT      NOT NULL DEFAULT 0
+);
+
+INSERT INTO p_catalog_sequence (name, last_seq) VALUES ('catalog', 0)
+ON CONFLICT (name) DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS p_catalog_change (
+    seq         BIGINT PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id   UUID        NOT NULL,
+    store_id    UUID        NOT NULL,
+    changed_at  TIMESTAMP   NOT NULL
+);
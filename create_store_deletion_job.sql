@@ -0,0 +1,29 @@
+-- 매장 삭제 후속 처리 작업 (StoreDeletionJobEntity)
+CREATE TABLE IF NOT EXISTS p_store_deletion_job (
+    id                   UUID PRIMARY KEY,
+    store_id             UUID         NOT NULL,
+    requested_by         INTEGER      NOT NULL,
+    status               VARCHAR(20)  NOT NULL,
+    stage                VARCHAR(20)  NOT NULL,
+    deleted_menu_options BIGINT       NOT NULL DEFAULT 0,
+    deleted_origins      BIGINT       NOT NULL DEFAULT 0,
+    deleted_menus        BIGINT       NOT NULL DEFAULT 0,
+    deleted_reviews      BIGINT       NOT NULL DEFAULT 0,
+    last_error           VARCHAR(500),
+    failed_attempts      INTEGER      NOT NULL DEFAULT 0,
+    completed_at         TIMESTAMP,
+    created_at           TIMESTAMP    NOT NULL,
+    created_by           INTEGER      NOT NULL
+);
+
+-- 이미 만들어진 테이블에 실패 횟수 컬럼 추가 (StoreDeletionCascadeService.MAX_ATTEMPTS)
+ALTER TABLE p_store_deletion_job ADD COLUMN IF NOT EXISTS failed_attempts INTEGER NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_store_deletion_job_store_id ON p_store_deletion_job (store_id);
+CREATE INDEX IF NOT EXISTS idx_store_deletion_job_status ON p_store_deletion_job (status);
+
+-- 배치 조회(매장/메뉴 기준 미삭제 행)용 인덱스
+CREATE INDEX IF NOT EXISTS idx_menu_store_id_is_deleted ON p_menu (store_id, is_deleted);
+CREATE INDEX IF NOT EXISTS idx_menu_option_menu_id_is_deleted ON p_menu_option (menu_id, is_deleted);
+CREATE INDEX IF NOT EXISTS idx_origin_menu_id_is_deleted ON p_origin (menu_id, is_deleted);
+CREATE INDEX IF NOT EXISTS idx_review_store_id_is_deleted ON p_review (store_id, is_deleted);
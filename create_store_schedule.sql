@@ -0,0 +1,26 @@
+-- 매장 영업 일정 (StoreOpeningHoursEntity / StoreHolidayEntity)
+-- p_store.has_schedule = true인 매장은 open_time/close_time 대신 아래 일정으로 영업 여부를 판단한다
+ALTER TABLE p_store ADD COLUMN IF NOT EXISTS has_schedule BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- 요일별 영업 구간 (하루 여러 개 가능, close_time < open_time 이면 다음 날 종료)
+CREATE TABLE IF NOT EXISTS p_store_opening_hours (
+    id          UUID PRIMARY KEY,
+    store_id    UUID        NOT NULL REFERENCES p_store (id),
+    day_of_week VARCHAR(10) NOT NULL,
+    open_time   TIME        NOT NULL,
+    close_time  TIME        NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_store_opening_hours_store ON p_store_opening_hours (store_id, day_of_week);
+
+-- 날짜별 예외 (시간이 비어 있으면 하루 휴무, 있으면 그 시간만 영업)
+CREATE TABLE IF NOT EXISTS p_store_holiday (
+    id           UUID PRIMARY KEY,
+    store_id     UUID NOT NULL REFERENCES p_store (id),
+    holiday_date DATE NOT NULL,
+    open_time    TIME,
+    close_time   TIME,
+    CONSTRAINT ck_store_holiday_time CHECK ((open_time IS NULL) = (close_time IS NULL))
+);
+
+CREATE INDEX IF NOT EXISTS idx_store_holiday_store_date ON p_store_holiday (store_id, holiday_date);
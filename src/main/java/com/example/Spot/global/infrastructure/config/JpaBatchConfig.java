@@ -0,0 +1,23 @@
+package com.example.Spot.global.infrastructure.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Hibernate JDBC batch 설정
+// 엔티티 ID가 UUID(애플리케이션 생성)라서 insert도 batch로 묶인다 (대량 매장 등록 등)
+@Configuration
+public class JpaBatchConfig {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
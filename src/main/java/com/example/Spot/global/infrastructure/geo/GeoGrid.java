@@ -0,0 +1,149 @@
+package com.example.Spot.global.infrastructure.geo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+// 위경도 균일 격자 공간 색인 (셀 = cellSizeDegrees x cellSizeDegrees)
+// 최근접 조회는 중심 셀에서 한 칸씩 링을 넓혀가며 탐색하고, 남은 링이 현재 k번째보다 멀면 멈춘다
+// 날짜변경선/극지방 부근은 고려하지 않는다 (국내 서비스)
+// 동기화는 호출하는 쪽(StoreSearchIndex 등)의 lock에 맡긴다
+public class GeoGrid<K> {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+    private final double cellSizeDegrees;
+    private final Map<Long, Set<K>> cells = new HashMap<>();
+    private final Map<K, Point> points = new HashMap<>();
+
+    public record Hit<K>(K key, double distanceMeters) {
+    }
+
+    private record Point(double latitude, double longitude, long cell) {
+    }
+
+    public GeoGrid(double cellSizeDegrees) {
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    public void put(K key, double latitude, double longitude) {
+        remove(key);
+        long cell = cellKey(row(latitude), col(longitude));
+        cells.computeIfAbsent(cell, c -> new HashSet<>()).add(key);
+        points.put(key, new Point(latitude, longitude, cell));
+    }
+
+    public void remove(K key) {
+        Point point = points.remove(key);
+        if (point == null) {
+            return;
+        }
+        Set<K> keys = cells.get(point.cell());
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                cells.remove(point.cell());
+            }
+        }
+    }
+
+    public void clear() {
+        cells.clear();
+        points.clear();
+    }
+
+    // (latitude, longitude)에서 radiusMeters 이내인 키를 가까운 순으로 최대 limit개
+    public List<Hit<K>> nearest(double latitude, double longitude, double radiusMeters, int limit, Predicate<K> filter) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        // 셀 한 칸의 최소 폭(m): 경도 방향 폭은 위도가 높을수록 좁아지므로 반경 끝의 위도 기준으로 계산
+        double farthestLatitude = Math.min(89.0, Math.abs(latitude) + latitudeDegrees(radiusMeters));
+        double cellMeters = cellSizeDegrees * METERS_PER_DEGREE * Math.cos(Math.toRadians(farthestLatitude));
+        int maxRing = (int) Math.ceil(radiusMeters / cellMeters);
+
+        int centerRow = row(latitude);
+        int centerCol = col(longitude);
+        // 최대 힙: 지금까지 찾은 것 중 가장 먼 것이 맨 위
+        PriorityQueue<Hit<K>> best = new PriorityQueue<>(
+                Comparator.comparingDouble((Hit<K> hit) -> hit.distanceMeters()).reversed());
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int col = centerCol - ring; col <= centerCol + ring; col += step) {
+                    collect(cells.get(cellKey(row, col)), latitude, longitude, radiusMeters, limit, filter, best);
+                }
+            }
+            // 다음 링의 셀은 중심점에서 최소 ring * cellMeters 떨어져 있다
+            if (best.size() == limit && best.peek().distanceMeters() <= ring * cellMeters) {
+                break;
+            }
+        }
+
+        List<Hit<K>> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return result;
+    }
+
+    // 두 좌표 사이의 거리(m, haversine)
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // 반경(m)을 감싸는 위도/경도 폭(도) - 사각형 범위 조회용
+    public static double latitudeDegrees(double meters) {
+        return meters / METERS_PER_DEGREE;
+    }
+
+    public static double longitudeDegrees(double meters, double atLatitude) {
+        return meters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(atLatitude)), 0.01));
+    }
+
+    private void collect(Set<K> keys, double latitude, double longitude, double radiusMeters, int limit,
+                         Predicate<K> filter, PriorityQueue<Hit<K>> best) {
+        if (keys == null) {
+            return;
+        }
+        for (K key : keys) {
+            Point point = points.get(key);
+            double distance = distanceMeters(latitude, longitude, point.latitude(), point.longitude());
+            if (distance > radiusMeters || (best.size() == limit && distance >= best.peek().distanceMeters())) {
+                continue;
+            }
+            if (!filter.test(key)) {
+                continue;
+            }
+            best.offer(new Hit<>(key, distance));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor(latitude / cellSizeDegrees);
+    }
+
+    private int col(double longitude) {
+        return (int) Math.floor(longitude / cellSizeDegrees);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.Spot.global.infrastructure.search;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 문자열 n-gram(1, 2글자) -> 문서 키 역색인
+// 후보만 빠르게 좁혀주고, 실제 포함 여부는 호출하는 쪽에서 원문으로 다시 확인한다
+// 동기화는 호출하는 쪽(StoreSearchIndex 등)의 lock에 맡긴다
+public class NgramIndex<K> {
+
+    private static final int MAX_GRAM = 2;
+
+    private final Map<String, Set<K>> postings = new HashMap<>();
+    private final Map<K, Set<String>> gramsByKey = new HashMap<>();
+
+    public void put(K key, Collection<String> texts) {
+        remove(key);
+
+        Set<String> grams = new HashSet<>();
+        for (String text : texts) {
+            grams.addAll(grams(text));
+        }
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(key);
+        }
+        gramsByKey.put(key, grams);
+    }
+
+    public void remove(K key) {
+        Set<String> grams = gramsByKey.remove(key);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            Set<K> keys = postings.get(gram);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+        gramsByKey.clear();
+    }
+
+    // 검색어의 모든 n-gram을 포함하는 문서 키 (posting이 작은 것부터 교집합)
+    public Set<K> candidates(String query) {
+        if (query.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Set<K>> lists = grams(query).stream()
+                .filter(gram -> gram.length() == Math.min(MAX_GRAM, query.length()))
+                .map(gram -> postings.getOrDefault(gram, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+
+        if (lists.isEmpty() || lists.get(0).isEmpty()) {
+            return Set.of();
+        }
+
+        Set<K> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                grams.add(text.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.Spot.global.presentation;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// fields= 파라미터 (응답 최상위 필드 선택, JSON 필드명 기준 콤마 구분)
+// - 서비스: includes()로 선택되지 않은 연관(직원, 메뉴, 옵션 등)은 조회 자체를 건너뛴다
+// - 컨트롤러: apply()로 선택한 필드만 직렬화 (목록이면 항목마다 적용, 응답 타입은 JsonBody<T>로 유지)
+// 알 수 없는 필드명은 무시한다
+public final class FieldSelection {
+
+    public static final FieldSelection ALL = new FieldSelection(null);
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        return new FieldSelection(Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    public <T> JsonBody<T> apply(ObjectMapper objectMapper, T value) {
+        if (isAll()) {
+            return JsonBody.of(value);
+        }
+        JsonNode node = objectMapper.valueToTree(value);
+        retain(node);
+        return JsonBody.selected(node);
+    }
+
+    private void retain(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            object.retain(fields);
+        } else if (node instanceof ArrayNode array) {
+            array.forEach(this::retain);
+        }
+    }
+}
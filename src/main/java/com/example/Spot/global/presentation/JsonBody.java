@@ -0,0 +1,57 @@
+package com.example.Spot.global.presentation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+// 응답 본문 T를 필드 선택(fields=) 결과나 미리 직렬화해 둔 JSON(캐시)으로 내보내기 위한 래퍼
+// 컨트롤러/Swagger 시그니처는 T 기준으로 두고, 직렬화할 때만 담긴 형태대로 쓴다
+// - of: 값을 그대로 직렬화
+// - selected: FieldSelection.apply가 선택한 필드만 남긴 JSON
+// - raw: 캐시된 직렬화 결과 (응답 객체를 다시 만들거나 직렬화하지 않음)
+public final class JsonBody<T> extends JsonSerializable.Base {
+
+    private final T value;
+    private final JsonNode node;
+    private final byte[] raw;
+
+    private JsonBody(T value, JsonNode node, byte[] raw) {
+        this.value = value;
+        this.node = node;
+        this.raw = raw;
+    }
+
+    public static <T> JsonBody<T> of(T value) {
+        return new JsonBody<>(value, null, null);
+    }
+
+    static <T> JsonBody<T> selected(JsonNode node) {
+        return new JsonBody<>(null, node, null);
+    }
+
+    public static <T> JsonBody<T> raw(byte[] json) {
+        return new JsonBody<>(null, null, json);
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (raw != null) {
+            gen.writeRawValue(new String(raw, StandardCharsets.UTF_8));
+        } else if (node != null) {
+            gen.writeTree(node);
+        } else {
+            serializers.defaultSerializeValue(value, gen);
+        }
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+}
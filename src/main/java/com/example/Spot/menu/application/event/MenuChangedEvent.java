@@ -0,0 +1,20 @@
+package com.example.Spot.menu.application.event;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+// 메뉴/메뉴 옵션(생성/수정/삭제/숨김/품절)이 바뀌었을 때 발행
+// 매장 상세 캐시 등 메뉴를 포함해 메모리에 들고 있는 데이터는 커밋 이후 이 이벤트로 갱신한다
+public record MenuChangedEvent(
+        UUID storeId,
+        Set<UUID> menuIds
+) {
+    public static MenuChangedEvent of(UUID storeId, UUID menuId) {
+        return new MenuChangedEvent(storeId, Set.of(menuId));
+    }
+
+    public static MenuChangedEvent of(UUID storeId, Collection<UUID> menuIds) {
+        return new MenuChangedEvent(storeId, Set.copyOf(menuIds));
+    }
+}
@@ -0,0 +1,307 @@
+package com.example.Spot.menu.application.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.Spot.menu.application.event.MenuChangedEvent;
+import com.example.Spot.menu.domain.MenuAvailability;
+import com.example.Spot.menu.infrastructure.availability.StoreAvailabilityBoard;
+import com.example.Spot.menu.infrastructure.repository.MenuAvailabilityRepository;
+import com.example.Spot.menu.presentation.dto.response.MenuAvailabilityChangeDto;
+import com.example.Spot.menu.presentation.dto.response.MenuAvailabilitySnapshotDto;
+import com.example.Spot.store.domain.repository.StoreRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 매장별 메뉴 품절/숨김 실시간 구독 (SSE)
+// - 구독 시작: 매장 상태를 StoreAvailabilityBoard에 적재(구독자가 있는 매장만)하고 현재 상태(snapshot)를 보낸다
+// - 메뉴/옵션 변경 커밋 후: 변경된 메뉴의 상태만 다시 읽어 board와 비교하고, 실제로 바뀐 항목만 보낸다(availability)
+// - 마지막 구독자가 나가면 board도 버린다
+// 처리 방식
+// - 요청 스레드는 channel에 할 일(변경 메뉴 id, 새 구독자)만 쌓고 바로 돌아간다
+// - 매장마다 drain 작업이 하나만 돌면서 쌓인 일을 모아 처리한다 (매장 안에서는 순서 보장, 변경 메뉴 id는 합쳐짐)
+// - DB 조회와 전송은 channel lock 밖에서 한다 (lock 안에서는 board 반영과 전송 대상 복사만)
+// - 느린 클라이언트는 자기 매장의 drain과 풀 스레드 하나만 붙잡는다 (풀 크기/대기열은 고정, 매장마다 대기열에 최대 한 건)
+// - 전송에 실패한 구독자는 바로 뺀다 (끊긴 연결은 컨테이너 타임아웃/에러 콜백으로도 정리됨)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MenuAvailabilityService {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final String EVENT_SNAPSHOT = "snapshot";
+    private static final String EVENT_AVAILABILITY = "availability";
+
+    private static final int PUSH_THREADS = 4;
+    private static final int PUSH_QUEUE_CAPACITY = 1_000;
+    // 쌓인 변경 메뉴가 이보다 많으면 매장 전체를 다시 적재하고 snapshot을 보낸다
+    private static final int MAX_PENDING_MENUS = 500;
+
+    private final StoreRepository storeRepository;
+    private final MenuAvailabilityRepository menuAvailabilityRepository;
+
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor executor = newPushExecutor();
+
+    // 매장 하나의 board, 구독자, 쌓인 할 일 (모든 필드는 channel lock 안에서만 읽고 쓴다)
+    private static final class Channel {
+        private final StoreAvailabilityBoard board = new StoreAvailabilityBoard();
+        private final List<SseEmitter> emitters = new ArrayList<>();
+        private final List<SseEmitter> newEmitters = new ArrayList<>();
+        private final Set<UUID> pendingMenuIds = new HashSet<>();
+        private boolean reload = true;
+        private boolean scheduled;
+        private boolean closed;
+
+        private boolean hasWork() {
+            return reload || !pendingMenuIds.isEmpty() || !newEmitters.isEmpty();
+        }
+    }
+
+    // drain 한 번에 보낼 것 (channel lock 안에서 만들고, 전송은 lock 밖에서)
+    private record Delivery(
+            List<SseEmitter> changeTargets,
+            MenuAvailabilityChangeDto change,
+            List<SseEmitter> snapshotTargets,
+            MenuAvailabilitySnapshotDto snapshot
+    ) {
+    }
+
+    public SseEmitter subscribe(UUID storeId) {
+        storeRepository.findById(storeId)
+                .filter(found -> !found.getIsDeleted())
+                .orElseThrow(() -> new IllegalArgumentException("가게가 존재하지 않습니다."));
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        while (true) {
+            Channel channel = channels.computeIfAbsent(storeId, id -> new Channel());
+            synchronized (channel) {
+                // 마지막 구독자가 나가면서 닫힌 channel이면 새로 만든다
+                if (channel.closed) {
+                    continue;
+                }
+                // snapshot은 drain이 board에 반영한 뒤 보낸다 (그 사이 변경을 놓치거나 순서가 뒤집히지 않도록)
+                channel.newEmitters.add(emitter);
+                emitter.onCompletion(() -> unsubscribe(storeId, channel, emitter));
+                emitter.onTimeout(() -> unsubscribe(storeId, channel, emitter));
+                emitter.onError(error -> unsubscribe(storeId, channel, emitter));
+                schedule(storeId, channel);
+                return emitter;
+            }
+        }
+    }
+
+    // 구독자가 없는 매장은 무시 (DB를 읽지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChanged(MenuChangedEvent event) {
+        Channel channel = channels.get(event.storeId());
+        if (event.menuIds().isEmpty() || channel == null) {
+            return;
+        }
+        synchronized (channel) {
+            if (channel.closed) {
+                return;
+            }
+            if (!channel.reload) {
+                channel.pendingMenuIds.addAll(event.menuIds());
+                if (channel.pendingMenuIds.size() > MAX_PENDING_MENUS) {
+                    channel.pendingMenuIds.clear();
+                    channel.reload = true;
+                }
+            }
+            schedule(event.storeId(), channel);
+        }
+    }
+
+    public int subscriberCount(UUID storeId) {
+        Channel channel = channels.get(storeId);
+        if (channel == null) {
+            return 0;
+        }
+        synchronized (channel) {
+            return channel.emitters.size() + channel.newEmitters.size();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        for (Channel channel : channels.values()) {
+            List<SseEmitter> emitters;
+            synchronized (channel) {
+                emitters = new ArrayList<>(channel.emitters);
+                emitters.addAll(channel.newEmitters);
+            }
+            emitters.forEach(SseEmitter::complete);
+        }
+    }
+
+    // channel lock 안에서 호출: 매장마다 drain 작업은 최대 하나
+    private void schedule(UUID storeId, Channel channel) {
+        if (channel.scheduled) {
+            return;
+        }
+        channel.scheduled = true;
+        try {
+            executor.execute(() -> drain(storeId, channel));
+        } catch (RejectedExecutionException e) {
+            // 쌓인 일은 그대로 두고 다음 변경/구독 때 다시 시도
+            channel.scheduled = false;
+            log.warn("[MenuAvailability] 매장 {} 전송 대기열이 가득 찼습니다.", storeId);
+        }
+    }
+
+    private void drain(UUID storeId, Channel channel) {
+        try {
+            while (true) {
+                boolean reload;
+                Set<UUID> menuIds;
+                synchronized (channel) {
+                    if (channel.closed || !channel.hasWork()) {
+                        channel.scheduled = false;
+                        return;
+                    }
+                    reload = channel.reload;
+                    menuIds = Set.copyOf(channel.pendingMenuIds);
+                    channel.reload = false;
+                    channel.pendingMenuIds.clear();
+                }
+
+                List<MenuAvailability> rows = reload ? loadStore(storeId) : loadMenus(storeId, menuIds);
+
+                Delivery delivery;
+                synchronized (channel) {
+                    if (channel.closed) {
+                        channel.scheduled = false;
+                        return;
+                    }
+                    delivery = reload ? reloadBoard(channel, rows) : applyChanges(channel, menuIds, rows);
+                }
+                deliver(storeId, channel, delivery);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[MenuAvailability] 매장 {} 품절 상태 전송 실패", storeId, e);
+            failPending(channel, e);
+        }
+    }
+
+    // 전체 다시 적재: 모든 구독자에게 snapshot
+    private Delivery reloadBoard(Channel channel, List<MenuAvailability> rows) {
+        channel.board.load(rows);
+        channel.emitters.addAll(channel.newEmitters);
+        channel.newEmitters.clear();
+        return new Delivery(List.of(), null,
+                List.copyOf(channel.emitters), MenuAvailabilitySnapshotDto.from(channel.board.snapshot()));
+    }
+
+    // 변경 반영: 기존 구독자에게는 바뀐 항목만, 새 구독자에게는 반영된 snapshot
+    private Delivery applyChanges(Channel channel, Set<UUID> menuIds, List<MenuAvailability> rows) {
+        List<SseEmitter> changeTargets = List.of();
+        MenuAvailabilityChangeDto change = null;
+        if (!menuIds.isEmpty()) {
+            StoreAvailabilityBoard.Diff diff = channel.board.apply(menuIds, rows);
+            if (!diff.isEmpty()) {
+                changeTargets = List.copyOf(channel.emitters);
+                change = MenuAvailabilityChangeDto.from(diff);
+            }
+        }
+
+        List<SseEmitter> snapshotTargets = List.copyOf(channel.newEmitters);
+        MenuAvailabilitySnapshotDto snapshot = snapshotTargets.isEmpty()
+                ? null
+                : MenuAvailabilitySnapshotDto.from(channel.board.snapshot());
+        channel.emitters.addAll(channel.newEmitters);
+        channel.newEmitters.clear();
+        return new Delivery(changeTargets, change, snapshotTargets, snapshot);
+    }
+
+    private void deliver(UUID storeId, Channel channel, Delivery delivery) {
+        for (SseEmitter emitter : delivery.changeTargets()) {
+            if (!send(emitter, EVENT_AVAILABILITY, delivery.change().version(), delivery.change())) {
+                unsubscribe(storeId, channel, emitter);
+            }
+        }
+        for (SseEmitter emitter : delivery.snapshotTargets()) {
+            if (!send(emitter, EVENT_SNAPSHOT, delivery.snapshot().version(), delivery.snapshot())) {
+                unsubscribe(storeId, channel, emitter);
+            }
+        }
+    }
+
+    // 처리 도중 실패: 다음 drain에서 전체를 다시 적재하고, snapshot을 기다리던 구독자는 끊어서 재연결하게 한다
+    private void failPending(Channel channel, RuntimeException error) {
+        List<SseEmitter> waiting;
+        synchronized (channel) {
+            channel.scheduled = false;
+            channel.reload = true;
+            channel.pendingMenuIds.clear();
+            waiting = List.copyOf(channel.newEmitters);
+        }
+        waiting.forEach(emitter -> emitter.completeWithError(error));
+    }
+
+    private List<MenuAvailability> loadStore(UUID storeId) {
+        List<MenuAvailability> rows = new ArrayList<>(menuAvailabilityRepository.findMenusByStoreId(storeId));
+        rows.addAll(menuAvailabilityRepository.findOptionsByStoreId(storeId));
+        return rows;
+    }
+
+    private List<MenuAvailability> loadMenus(UUID storeId, Set<UUID> menuIds) {
+        if (menuIds.isEmpty()) {
+            return List.of();
+        }
+        List<MenuAvailability> rows = new ArrayList<>(menuAvailabilityRepository.findMenusByIdIn(storeId, menuIds));
+        rows.addAll(menuAvailabilityRepository.findOptionsByMenuIdIn(storeId, menuIds));
+        return rows;
+    }
+
+    private void unsubscribe(UUID storeId, Channel channel, SseEmitter emitter) {
+        synchronized (channel) {
+            channel.emitters.remove(emitter);
+            channel.newEmitters.remove(emitter);
+            if (channel.emitters.isEmpty() && channel.newEmitters.isEmpty() && !channel.closed) {
+                channel.closed = true;
+                channels.remove(storeId, channel);
+            }
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String name, long version, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).id(Long.toString(version)).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private static ThreadPoolExecutor newPushExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(PUSH_THREADS, PUSH_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(PUSH_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "menu-availability-push-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -2,11 +2,13 @@ package com.example.Spot.menu.application.service;
 
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.Spot.global.common.Role;
+import com.example.Spot.menu.application.event.MenuChangedEvent;
 import com.example.Spot.menu.domain.entity.MenuEntity;
 import com.example.Spot.menu.domain.entity.MenuOptionEntity;
 import com.example.Spot.menu.domain.repository.MenuOptionRepository;
@@ -16,6 +18,7 @@ import com.example.Spot.menu.presentation.dto.request.UpdateMenuOptionHiddenRequ
 import com.example.Spot.menu.presentation.dto.request.UpdateMenuOptionRequestDto;
 import com.example.Spot.menu.presentation.dto.response.CreateMenuOptionResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuOptionAdminResponseDto;
+import com.example.Spot.store.application.service.StoreMembershipService;
 import com.example.Spot.store.domain.entity.StoreEntity;
 import com.example.Spot.store.domain.repository.StoreRepository;
 
@@ -27,6 +30,8 @@ public class MenuOptionServiceImpl implements MenuOptionService {
     private final StoreRepository storeRepository;
     private final MenuRepository menuRepository;
     private final MenuOptionRepository menuOptionRepository;
+    private final StoreMembershipService storeMembershipService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 메뉴 옵션 생성
     @Transactional
@@ -45,6 +50,7 @@ public class MenuOptionServiceImpl implements MenuOptionService {
         MenuOptionEntity option = request.toEntity(menu);
 
         menuOptionRepository.save(option);
+        eventPublisher.publishEvent(MenuChangedEvent.of(storeId, menuId));
 
         return CreateMenuOptionResponseDto.from(option);
     }
@@ -82,6 +88,7 @@ public class MenuOptionServiceImpl implements MenuOptionService {
         if (request.isAvailable() != null) {
             option.changeAvailable(request.isAvailable());
         }
+        eventPublisher.publishEvent(MenuChangedEvent.of(storeId, menuId));
 
         return MenuOptionAdminResponseDto.of(option, userRole);
     }
@@ -114,6 +121,7 @@ public class MenuOptionServiceImpl implements MenuOptionService {
         }
 
         option.softDelete(userId);
+        eventPublisher.publishEvent(MenuChangedEvent.of(storeId, menuId));
     }
 
     // 메뉴 숨김
@@ -144,20 +152,13 @@ public class MenuOptionServiceImpl implements MenuOptionService {
 
         // 숨김 처리
         option.changeHidden(request.isHidden());
+        eventPublisher.publishEvent(MenuChangedEvent.of(storeId, menuId));
     }
 
-    // Helper - 유저의 소속 가게 검증
+    // Helper - 유저의 소속 가게 검증 (StoreMembershipService 캐시 조회, 매장 직원 그래프를 로딩하지 않음)
     private void validateOwner(StoreEntity store, Integer userId, Role userRole, String errorMessage) {
-        if (userRole == Role.OWNER) {
-
-            // StoreEntity가 가지고 있는 User 목록(store.getUsers())을 순회하며
-            // 현재 로그인한 userId와 일치하는지 확인
-            boolean isMyStore = store.getUsers().stream()
-                    .anyMatch(storeUser -> storeUser.getUser().getId().equals(userId));
-
-            if (!isMyStore) {
-                throw new AccessDeniedException(errorMessage);
-            }
+        if (userRole == Role.OWNER && !storeMembershipService.isMember(userId, store.getId())) {
+            throw new AccessDeniedException(errorMessage);
         }
     }
 }
@@ -0,0 +1,17 @@
+package com.example.Spot.menu.application.service;
+
+import java.util.UUID;
+
+import com.example.Spot.global.common.Role;
+import com.example.Spot.menu.presentation.dto.request.AdjustMenuPriceRequestDto;
+import com.example.Spot.menu.presentation.dto.response.AdjustMenuPriceResponseDto;
+import com.example.Spot.menu.presentation.dto.response.RollbackMenuPriceResponseDto;
+
+public interface MenuPriceService {
+
+    // 메뉴/옵션 가격 일괄 조정
+    AdjustMenuPriceResponseDto adjustPrices(UUID storeId, AdjustMenuPriceRequestDto request, Integer userId, Role userRole);
+
+    // 가격 일괄 조정 되돌리기
+    RollbackMenuPriceResponseDto rollbackPrices(UUID storeId, UUID adjustmentId, Integer userId, Role userRole);
+}
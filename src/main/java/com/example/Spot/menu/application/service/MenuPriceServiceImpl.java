@@ -0,0 +1,144 @@
+package com.example.Spot.menu.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.Spot.global.common.Role;
+import com.example.Spot.menu.application.event.MenuChangedEvent;
+import com.example.Spot.menu.domain.MenuPriceItem;
+import com.example.Spot.menu.domain.MenuPriceTarget;
+import com.example.Spot.menu.domain.entity.MenuPriceSnapshotEntity;
+import com.example.Spot.menu.domain.repository.MenuOptionRepository;
+import com.example.Spot.menu.domain.repository.MenuPriceSnapshotRepository;
+import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.menu.infrastructure.repository.MenuPriceRepository;
+import com.example.Spot.menu.presentation.dto.request.AdjustMenuPriceRequestDto;
+import com.example.Spot.menu.presentation.dto.response.AdjustMenuPriceResponseDto;
+import com.example.Spot.menu.presentation.dto.response.RollbackMenuPriceResponseDto;
+import com.example.Spot.store.application.service.StoreMembershipService;
+import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.repository.StoreRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class MenuPriceServiceImpl implements MenuPriceService {
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final MenuOptionRepository menuOptionRepository;
+    private final MenuPriceRepository menuPriceRepository;
+    private final MenuPriceSnapshotRepository menuPriceSnapshotRepository;
+    private final StoreMembershipService storeMembershipService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 가격 일괄 조정 (대상 id 조회 1번 + 조정/스냅샷 쿼리 1번, 엔티티를 읽지 않음)
+    @Transactional
+    public AdjustMenuPriceResponseDto adjustPrices(
+            UUID storeId, AdjustMenuPriceRequestDto request, Integer userId, Role userRole) {
+
+        // 1) 가게 조회 + 권한 확인
+        StoreEntity store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new IllegalArgumentException("가게가 존재하지 않습니다."));
+        validateOwner(store, userId, userRole, "본인 가게의 가격만 조정할 수 있습니다.");
+
+        // 2) 조정 값 -> 새 가격 = GREATEST(0, ROUND(가격 * rate) + amount)
+        int value = request.value();
+        if (value == 0) {
+            throw new IllegalArgumentException("조정 값은 0일 수 없습니다.");
+        }
+        boolean percent = request.mode() == AdjustMenuPriceRequestDto.Mode.PERCENT;
+        if (percent && (value < -100 || value > 1000)) {
+            throw new IllegalArgumentException("비율 조정 값은 -100 ~ 1000 사이여야 합니다.");
+        }
+        BigDecimal rate = percent ? BigDecimal.valueOf(100L + value).movePointLeft(2) : BigDecimal.ONE;
+        int amount = percent ? 0 : value;
+
+        // 3) 대상 조회 (id만), 지정한 id 중 빠진 것이 있으면 거절
+        List<MenuPriceItem> items = findTargets(storeId, request.category(), request);
+        if (request.ids() != null && items.size() != new HashSet<>(request.ids()).size()) {
+            validateExcludedIds(storeId, request);
+        }
+
+        UUID adjustmentId = UUID.randomUUID();
+        if (items.isEmpty()) {
+            return new AdjustMenuPriceResponseDto(adjustmentId, request.target(), 0);
+        }
+
+        // 4) UPDATE + 이전 가격 스냅샷 (한 문장)
+        List<UUID> itemIds = items.stream().map(MenuPriceItem::itemId).toList();
+        LocalDateTime now = LocalDateTime.now();
+        int adjusted = request.target() == MenuPriceTarget.MENU
+                ? menuPriceRepository.adjustMenuPrices(adjustmentId, storeId, itemIds, rate, amount, now, userId)
+                : menuPriceRepository.adjustOptionPrices(adjustmentId, storeId, itemIds, rate, amount, now, userId);
+
+        // 5) 메뉴 캐시/ETag 갱신
+        eventPublisher.publishEvent(MenuChangedEvent.of(storeId,
+                items.stream().map(MenuPriceItem::menuId).toList()));
+
+        return new AdjustMenuPriceResponseDto(adjustmentId, request.target(), adjusted);
+    }
+
+    // 가격 일괄 조정 되돌리기 (스냅샷 삭제 + 이전 가격 UPDATE 한 문장, 조정 이후 다시 수정한 가격은 유지)
+    @Transactional
+    public RollbackMenuPriceResponseDto rollbackPrices(UUID storeId, UUID adjustmentId, Integer userId, Role userRole) {
+
+        // 1) 가게 조회 + 권한 확인
+        StoreEntity store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new IllegalArgumentException("가게가 존재하지 않습니다."));
+        validateOwner(store, userId, userRole, "본인 가게의 가격만 되돌릴 수 있습니다.");
+
+        // 2) 조정 내역 확인 (이미 되돌린 조정은 스냅샷이 없음)
+        List<MenuPriceSnapshotEntity> snapshots =
+                menuPriceSnapshotRepository.findAllByAdjustmentIdAndStoreId(adjustmentId, storeId);
+        if (snapshots.isEmpty()) {
+            throw new IllegalArgumentException("되돌릴 가격 조정 내역이 없습니다.");
+        }
+        List<UUID> menuIds = snapshots.stream().map(MenuPriceSnapshotEntity::getMenuId).toList();
+
+        // 3) 되돌리기
+        LocalDateTime now = LocalDateTime.now();
+        int restored = snapshots.get(0).getItemType() == MenuPriceTarget.MENU
+                ? menuPriceRepository.rollbackMenuPrices(adjustmentId, storeId, now, userId)
+                : menuPriceRepository.rollbackOptionPrices(adjustmentId, storeId, now, userId);
+
+        eventPublisher.publishEvent(MenuChangedEvent.of(storeId, menuIds));
+
+        return new RollbackMenuPriceResponseDto(adjustmentId, restored, snapshots.size() - restored);
+    }
+
+    private List<MenuPriceItem> findTargets(UUID storeId, String category, AdjustMenuPriceRequestDto request) {
+        if (request.target() == MenuPriceTarget.MENU) {
+            return request.ids() == null
+                    ? menuRepository.findPriceItems(storeId, category)
+                    : menuRepository.findPriceItemsByIdIn(storeId, category, request.ids());
+        }
+        return request.ids() == null
+                ? menuOptionRepository.findPriceItems(storeId, category)
+                : menuOptionRepository.findPriceItemsByIdIn(storeId, category, request.ids());
+    }
+
+    // 지정한 id가 빠진 이유 구분: 카테고리 필터로만 빠졌는지, 이 매장 것이 아니거나 삭제되었는지 (오류 경로에서만 한 번 더 조회)
+    private void validateExcludedIds(UUID storeId, AdjustMenuPriceRequestDto request) {
+        if (request.category() != null
+                && findTargets(storeId, null, request).size() == new HashSet<>(request.ids()).size()) {
+            throw new IllegalArgumentException("지정한 카테고리(" + request.category() + ")에 속하지 않는 대상이 포함되어 있습니다.");
+        }
+        throw new IllegalArgumentException("존재하지 않거나 삭제된 대상이 포함되어 있습니다.");
+    }
+
+    // Helper - 유저의 소속 가게 검증
+    private void validateOwner(StoreEntity store, Integer userId, Role userRole, String errorMessage) {
+        if (userRole == Role.OWNER && !storeMembershipService.isMember(userId, store.getId())) {
+            throw new AccessDeniedException(errorMessage);
+        }
+    }
+}
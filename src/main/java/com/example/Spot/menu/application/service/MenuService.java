@@ -6,9 +6,14 @@ import java.util.UUID;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.Spot.global.common.Role;
+import com.example.Spot.global.presentation.FieldSelection;
+import com.example.Spot.menu.presentation.dto.request.BulkUpsertMenuRequestDto;
+import com.example.Spot.menu.presentation.dto.request.CopyMenuRequestDto;
 import com.example.Spot.menu.presentation.dto.request.CreateMenuRequestDto;
 import com.example.Spot.menu.presentation.dto.request.UpdateMenuHiddenRequestDto;
 import com.example.Spot.menu.presentation.dto.request.UpdateMenuRequestDto;
+import com.example.Spot.menu.presentation.dto.response.BulkUpsertMenuResponseDto;
+import com.example.Spot.menu.presentation.dto.response.CopyMenuResponseDto;
 import com.example.Spot.menu.presentation.dto.response.CreateMenuResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuAdminResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuResponseDto;
@@ -17,15 +22,33 @@ public interface MenuService {
 
     // [통합] 메뉴 조회
     @Transactional(readOnly = true)
-    List<? extends MenuResponseDto> getMenus(UUID storeId, Integer userId, Role userRole);
+    default List<? extends MenuResponseDto> getMenus(UUID storeId, Integer userId, Role userRole) {
+        return getMenus(storeId, userId, userRole, FieldSelection.ALL);
+    }
+
+    // [통합] 메뉴 조회 (fields에 options가 없으면 옵션은 조회하지 않음)
+    @Transactional(readOnly = true)
+    List<? extends MenuResponseDto> getMenus(UUID storeId, Integer userId, Role userRole, FieldSelection fields);
 
     // [통합] 메뉴 상세 조회
     @Transactional(readOnly = true)
-    MenuResponseDto getMenuDetail(UUID storeId, UUID menuId, Integer userId, Role userRole);
+    default MenuResponseDto getMenuDetail(UUID storeId, UUID menuId, Integer userId, Role userRole) {
+        return getMenuDetail(storeId, menuId, userId, userRole, FieldSelection.ALL);
+    }
+
+    // [통합] 메뉴 상세 조회 (fields에 options/origins가 없으면 해당 연관은 조회하지 않음)
+    @Transactional(readOnly = true)
+    MenuResponseDto getMenuDetail(UUID storeId, UUID menuId, Integer userId, Role userRole, FieldSelection fields);
 
     // 메뉴 생성
     CreateMenuResponseDto createMenu(UUID storeId, CreateMenuRequestDto request, Integer userId, Role userRole);
 
+    // 메뉴 대량 등록/수정 (client_key 기준 upsert)
+    BulkUpsertMenuResponseDto upsertMenus(UUID storeId, BulkUpsertMenuRequestDto request, Integer userId, Role userRole);
+
+    // 매장 메뉴 복사 (원본 매장 -> 대상 매장들)
+    CopyMenuResponseDto copyMenus(UUID sourceStoreId, CopyMenuRequestDto request, Integer userId, Role userRole);
+
     // 메뉴 업데이트
     MenuAdminResponseDto updateMenu(UUID storeId, UUID menuId, UpdateMenuRequestDto request, Integer userId, Role userRole);
 
@@ -1,27 +1,49 @@
 package com.example.Spot.menu.application.service;
 
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.Spot.global.common.Role;
+import com.example.Spot.global.presentation.FieldSelection;
+import com.example.Spot.global.presentation.advice.DuplicateResourceException;
+import com.example.Spot.global.presentation.advice.ResourceNotFoundException;
+import com.example.Spot.menu.application.event.MenuChangedEvent;
 import com.example.Spot.menu.domain.entity.MenuEntity;
 import com.example.Spot.menu.domain.entity.MenuOptionEntity;
+import com.example.Spot.menu.domain.entity.OriginEntity;
 import com.example.Spot.menu.domain.repository.MenuOptionRepository;
 import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.menu.domain.repository.OriginRepository;
+import com.example.Spot.menu.infrastructure.repository.MenuCopyRepository;
+import com.example.Spot.menu.infrastructure.repository.MenuGraphLoader;
+import com.example.Spot.menu.presentation.dto.request.BulkUpsertMenuRequestDto;
+import com.example.Spot.menu.presentation.dto.request.CopyMenuRequestDto;
 import com.example.Spot.menu.presentation.dto.request.CreateMenuRequestDto;
 import com.example.Spot.menu.presentation.dto.request.UpdateMenuHiddenRequestDto;
 import com.example.Spot.menu.presentation.dto.request.UpdateMenuRequestDto;
+import com.example.Spot.menu.presentation.dto.response.BulkUpsertMenuResponseDto;
+import com.example.Spot.menu.presentation.dto.response.CopyMenuResponseDto;
 import com.example.Spot.menu.presentation.dto.response.CreateMenuResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuAdminResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuPublicResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuResponseDto;
+import com.example.Spot.store.application.service.StoreMembershipService;
 import com.example.Spot.store.domain.entity.StoreEntity;
 import com.example.Spot.store.domain.repository.StoreRepository;
 
@@ -33,25 +55,35 @@ public class MenuServiceImpl implements MenuService {
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
     private final MenuOptionRepository menuOptionRepository;
+    private final OriginRepository originRepository;
+    private final MenuGraphLoader menuGraphLoader;
+    private final MenuCopyRepository menuCopyRepository;
+    private final StoreMembershipService storeMembershipService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 통합 메뉴 조회
     @Transactional(readOnly = true)
     @Override
-    public List<? extends MenuResponseDto> getMenus(UUID storeId, Integer userId, Role userRole) {
+    public List<? extends MenuResponseDto> getMenus(UUID storeId, Integer userId, Role userRole, FieldSelection fields) {
 
         // 3. 관리자 권한(사장, 매니저, 마스터)이면 Admin용 로직 호출
         if (userRole == Role.OWNER || userRole == Role.MANAGER || userRole == Role.MASTER) {
             // 관리자용
-            return getMenusForAdmin(storeId, userId, userRole);
+            return getMenusForAdmin(storeId, userId, userRole, fields);
         }
 
         // 손님용
-        return getMenusForCustomer(storeId);
+        return getMenusForCustomer(storeId, fields);
     }
 
     // [관리자/가게] 메뉴 조회
     @Transactional(readOnly = true)
     public List<MenuAdminResponseDto> getMenusForAdmin(UUID storeId, Integer userId, Role userRole) {
+        return getMenusForAdmin(storeId, userId, userRole, FieldSelection.ALL);
+    }
+
+    private List<MenuAdminResponseDto> getMenusForAdmin(
+            UUID storeId, Integer userId, Role userRole, FieldSelection fields) {
 
         // 가게 조회
         StoreEntity store = storeRepository.findById(storeId)
@@ -60,91 +92,47 @@ public class MenuServiceImpl implements MenuService {
         // 본인 가게 확인
         validateOwner(store, userId, userRole, "본인 가게의 메뉴만 조회할 수 있습니다.");
 
+        // 관리자(마스터, 매니저)는 삭제된 메뉴/옵션/원산지까지, 오너는 삭제 안 된 것만
         boolean isAdmin = userRole == Role.MANAGER || userRole == Role.MASTER;
 
-        List<MenuEntity> menus;
-
-        // 관리자(마스터, 매니저, 오너)인지 아닌지 판단
-        // 메뉴 리스트 조회
-        if (isAdmin) {
-            menus = menuRepository.findAllByStoreId(storeId);
-        } else {
-            menus = menuRepository.findAllByStoreIdAndIsDeletedFalse(storeId);
-        }
-
-        if (menus.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // 4. 메뉴 ID 추출
-        List<UUID> menuIds = menus.stream().map(MenuEntity::getId).toList();
-
-        // 5. 옵션 일괄 조회 (쿼리 2 - N+1 방지)
-        List<MenuOptionEntity> allOptions;
-        if (isAdmin) {
-            allOptions = menuOptionRepository.findAllByMenuIdIn(menuIds);
-        } else {
-            // 오너는 여기서 걸러져서 "삭제 안 된 옵션"만 가져옴
-            allOptions = menuOptionRepository.findAllByMenuIdInAndIsDeletedFalse(menuIds);
-        }
-
-        // 6. 그룹화 (메모리 작업)
-        Map<UUID, List<MenuOptionEntity>> optionsMap = allOptions.stream()
-                .collect(Collectors.groupingBy(opt -> opt.getMenu().getId()));
-
-        // 7. DTO 변환
-        return menus.stream()
-                .map(menu -> {
-                    List<MenuOptionEntity> options = optionsMap.getOrDefault(menu.getId(), Collections.emptyList());
-                    return MenuAdminResponseDto.of(menu, options, userRole);
-                })
+        // 메뉴 + 옵션 + 원산지 (쿼리 3번 고정, N+1 방지)
+        return menuGraphLoader.loadStoreMenus(storeId, isAdmin, fields).stream()
+                .map(graph -> MenuAdminResponseDto.of(graph, userRole))
                 .collect(Collectors.toList());
     }
 
     // [손님] 메뉴 조회
     @Transactional(readOnly = true)
     public List<MenuPublicResponseDto> getMenusForCustomer(UUID storeId) {
+        return getMenusForCustomer(storeId, FieldSelection.ALL);
+    }
 
-        List<MenuEntity> menus = menuRepository.findAllActiveMenus(storeId);
-
-        if (menus.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // 2. 메뉴 ID 추출
-        List<UUID> menuIds = menus.stream().map(MenuEntity::getId).toList();
-
-        // 3. 옵션 일괄 조회 (삭제 안 된 것만)
-        List<MenuOptionEntity> allOptions = menuOptionRepository.findAllByMenuIdInAndIsDeletedFalse(menuIds);
-
-        // 4. 그룹화
-        Map<UUID, List<MenuOptionEntity>> optionsMap = allOptions.stream()
-                .collect(Collectors.groupingBy(opt -> opt.getMenu().getId()));
-
-        return menus.stream()
-                .map(menu -> {
-                        List<MenuOptionEntity> options = optionsMap.getOrDefault(menu.getId(), Collections.emptyList());
-                    return MenuPublicResponseDto.of(menu, options);
-                }).collect(Collectors.toList());
+    private List<MenuPublicResponseDto> getMenusForCustomer(UUID storeId, FieldSelection fields) {
+        // 노출 메뉴 + 삭제 안 된 옵션/원산지 (쿼리 3번 고정)
+        return menuGraphLoader.loadActiveMenus(storeId, fields).stream()
+                .map(MenuPublicResponseDto::of)
+                .collect(Collectors.toList());
     }
 
     // 통합 메뉴 상세 조회
     @Transactional(readOnly = true)
     @Override
-    public MenuResponseDto getMenuDetail(UUID storeId, UUID menuId, Integer userId, Role userRole) {
+    public MenuResponseDto getMenuDetail(
+            UUID storeId, UUID menuId, Integer userId, Role userRole, FieldSelection fields) {
 
         // 관리자 권한(사장, 매니저, 마스터)이면 Admin용 로직 호출
         if (userRole == Role.OWNER || userRole == Role.MANAGER || userRole == Role.MASTER) {
             // 관리자용
-            return getMenuDetailForAdmin(storeId, menuId, userId, userRole);
+            return getMenuDetailForAdmin(storeId, menuId, userId, userRole, fields);
         }
 
         // 손님용
-        return getMenuDetailForCustomer(menuId);
+        return getMenuDetailForCustomer(storeId, menuId, fields);
     }
 
     // [관리자용] 메뉴 상세 조회
-    private MenuAdminResponseDto getMenuDetailForAdmin(UUID storeId, UUID menuId, Integer userId, Role userRole) {
+    private MenuAdminResponseDto getMenuDetailForAdmin(
+            UUID storeId, UUID menuId, Integer userId, Role userRole, FieldSelection fields) {
         // 가게 조회
         StoreEntity store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new IllegalArgumentException("가게가 존재하지 않습니다."));
@@ -153,7 +141,6 @@ public class MenuServiceImpl implements MenuService {
         validateOwner(store, userId, userRole, "본인 가게의 메뉴만 조회할 수 있습니다.");
 
         MenuEntity menu;
-        List<MenuOptionEntity> options;
 
         boolean isAdmin = userRole == Role.MANAGER || userRole == Role.MASTER;
 
@@ -161,29 +148,25 @@ public class MenuServiceImpl implements MenuService {
             // 관리자: 삭제된 것도 포함 조회
             menu = menuRepository.findByStoreIdAndId(storeId, menuId)
                     .orElseThrow(() -> new IllegalArgumentException("해당 메뉴가 존재하지 않습니다."));
-
-            options = menuOptionRepository.findAllByMenuId(menuId);
         } else {
             // 점주
             menu = menuRepository.findByStoreIdAndIdAndIsDeletedFalse(storeId, menuId)
                     .orElseThrow(() -> new IllegalArgumentException("해당 메뉴가 존재하지 않거나 삭제되었습니다."));
-
-            options = menuOptionRepository.findAllByMenuIdAndIsDeletedFalse(menuId);
         }
 
-        return MenuAdminResponseDto.of(menu, options, userRole);
+        // 옵션/원산지는 로더로 함께 조회 (관리자는 삭제된 것 포함, fields로 뺀 연관은 조회하지 않음)
+        return MenuAdminResponseDto.of(menuGraphLoader.attach(menu, isAdmin, fields), userRole);
     }
 
     // [손님용] 메뉴 상세 조회
-    private MenuPublicResponseDto getMenuDetailForCustomer(UUID menuId) {
-        // 손님은 활성 메뉴만 조회 가능
-        MenuEntity menu = menuRepository.findActiveMenuById(menuId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 메뉴가 존재하지 않습니다."));
-
-        // 옵션 별도 조회 (삭제 안 된 것만)
-        List<MenuOptionEntity> options = menuOptionRepository.findAllByMenuIdAndIsDeletedFalse(menuId);
-
-        return MenuPublicResponseDto.of(menu, options);
+    private MenuPublicResponseDto getMenuDetailForCustomer(UUID storeId, UUID menuId, FieldSelection fields) {
+        // 손님은 해당 가게의 활성 메뉴만 조회 가능
+        // (응답 ETag가 경로의 가게 버전이라 다른 가게 메뉴가 조회되면 그 가게 변경이 캐시에 반영되지 않음)
+        MenuEntity menu = menuRepository.findActiveMenuByIdAndStoreId(menuId, storeId)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 메뉴가 존재하지 않습니다."));
+
+        // 옵션/원산지 별도 조회 (삭제 안 된 것만, fields로 뺀 연관은 조회하지 않음)
+        return MenuPublicResponseDto.of(menuGraphLoader.attach(menu, false, fields));
     }
 
     // 4. 메뉴 생성
@@ -199,10 +182,133 @@ public class MenuServiceImpl implements MenuService {
 
         MenuEntity menu = request.toEntity(store);
         menuRepository.save(menu);
+        eventPublisher.publishEvent(MenuChangedEvent.of(storeId, menu.getId()));
 
         return new CreateMenuResponseDto(menu);
     }
 
+    // 4-1. 메뉴 대량 등록/수정 (client_key 기준 upsert, 요청 전체가 한 트랜잭션)
+    // 권한 확인과 기존 메뉴/옵션/원산지 조회는 요청 전체에 대해 한 번씩, 새 행은 saveAll로 모아 JDBC batch insert
+    @Transactional
+    public BulkUpsertMenuResponseDto upsertMenus(
+            UUID storeId, BulkUpsertMenuRequestDto request, Integer userId, Role userRole) {
+
+        // 1) 가게 조회 + 권한 확인 (한 번만)
+        StoreEntity store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new IllegalArgumentException("가게가 존재하지 않습니다."));
+        validateOwner(store, userId, userRole, "본인 가게에서만 메뉴를 등록할 수 있습니다.");
+
+        Set<String> clientKeys = new HashSet<>();
+        for (BulkUpsertMenuRequestDto.MenuItem item : request.menus()) {
+            if (!clientKeys.add(item.clientKey())) {
+                throw new IllegalArgumentException("client_key가 중복되었습니다: " + item.clientKey());
+            }
+        }
+
+        // 2) 기존 메뉴 조회 (삭제된 메뉴 포함, 같은 키로 다시 올리면 복구)
+        Map<String, MenuEntity> existing = menuRepository.findAllByStoreIdAndClientKeyIn(storeId, clientKeys).stream()
+                .collect(Collectors.toMap(MenuEntity::getClientKey, Function.identity()));
+
+        // 3) 옵션/원산지를 보낸 기존 메뉴만 현재 옵션/원산지를 IN 쿼리 한 번씩 조회
+        List<UUID> optionMenuIds = existingMenuIds(request, existing, item -> item.options() != null);
+        Map<UUID, List<MenuOptionEntity>> currentOptions = optionMenuIds.isEmpty()
+                ? Map.of()
+                : menuOptionRepository.findAllByMenuIdInAndIsDeletedFalse(optionMenuIds).stream()
+                        .collect(Collectors.groupingBy(option -> option.getMenu().getId()));
+        List<UUID> originMenuIds = existingMenuIds(request, existing, item -> item.origins() != null);
+        Map<UUID, List<OriginEntity>> currentOrigins = originMenuIds.isEmpty()
+                ? Map.of()
+                : originRepository.findAllByMenuIdInAndIsDeletedFalse(originMenuIds).stream()
+                        .collect(Collectors.groupingBy(origin -> origin.getMenu().getId()));
+
+        // 4) 메모리에서 생성/수정 (기존 엔티티는 변경 감지, 새 엔티티만 모아서 저장)
+        List<MenuEntity> newMenus = new ArrayList<>();
+        List<MenuOptionEntity> newOptions = new ArrayList<>();
+        List<OriginEntity> newOrigins = new ArrayList<>();
+        Map<String, MenuEntity> menusByKey = new LinkedHashMap<>();
+        for (BulkUpsertMenuRequestDto.MenuItem item : request.menus()) {
+            MenuEntity menu = existing.get(item.clientKey());
+            if (menu == null) {
+                menu = item.toEntity(store);
+                newMenus.add(menu);
+            } else {
+                if (menu.getIsDeleted()) {
+                    menu.restore();
+                }
+                menu.updateMenu(item.name(), item.price(), item.category(), item.description(), item.imageUrl());
+                if (item.isAvailable() != null) {
+                    menu.changeAvailable(item.isAvailable());
+                }
+                menu.updateBy(userId);
+            }
+            menusByKey.put(item.clientKey(), menu);
+
+            if (item.options() != null) {
+                syncOptions(menu, item.options(), currentOptions.getOrDefault(menu.getId(), List.of()), userId, newOptions);
+            }
+            if (item.origins() != null) {
+                syncOrigins(menu, item.origins(), currentOrigins.getOrDefault(menu.getId(), List.of()), userId, newOrigins);
+            }
+        }
+
+        // 5) 일괄 저장 (메뉴 -> 옵션/원산지 순서로 batch insert)
+        menuRepository.saveAll(newMenus);
+        menuOptionRepository.saveAll(newOptions);
+        originRepository.saveAll(newOrigins);
+
+        List<UUID> menuIds = menusByKey.values().stream().map(MenuEntity::getId).toList();
+        eventPublisher.publishEvent(MenuChangedEvent.of(storeId, menuIds));
+
+        return BulkUpsertMenuResponseDto.of(menusByKey.entrySet().stream()
+                .map(entry -> new BulkUpsertMenuResponseDto.Result(
+                        entry.getKey(), entry.getValue().getId(), !existing.containsKey(entry.getKey())))
+                .toList());
+    }
+
+    // 4-2. 매장 메뉴 복사 (원본 매장 -> 대상 매장들, 메뉴/옵션/원산지를 INSERT ... SELECT 한 문장으로 복사)
+    // 엔티티를 읽지 않으므로 메뉴 수와 상관없이 검증 쿼리 + 복사 쿼리 한 번
+    @Transactional
+    public CopyMenuResponseDto copyMenus(
+            UUID sourceStoreId, CopyMenuRequestDto request, Integer userId, Role userRole) {
+
+        // 1) 원본 가게 조회 + 권한 확인
+        StoreEntity source = storeRepository.findById(sourceStoreId)
+                .orElseThrow(() -> new IllegalArgumentException("가게가 존재하지 않습니다."));
+        validateOwner(source, userId, userRole, "본인 가게의 메뉴만 복사할 수 있습니다.");
+
+        // 2) 대상 가게 검증 (중복 제거, 원본 제외, 모두 존재, 오너는 모두 본인 가게)
+        List<UUID> targetStoreIds = request.targetStoreIds().stream().distinct().toList();
+        if (targetStoreIds.contains(sourceStoreId)) {
+            throw new IllegalArgumentException("원본 가게로는 메뉴를 복사할 수 없습니다.");
+        }
+        Set<UUID> activeIds = new HashSet<>(storeRepository.findActiveIdsByIdIn(targetStoreIds));
+        for (UUID targetStoreId : targetStoreIds) {
+            if (!activeIds.contains(targetStoreId)) {
+                throw new IllegalArgumentException("가게가 존재하지 않습니다: " + targetStoreId);
+            }
+            if (userRole == Role.OWNER && !storeMembershipService.isMember(userId, targetStoreId)) {
+                throw new AccessDeniedException("본인 가게로만 메뉴를 복사할 수 있습니다.");
+            }
+        }
+
+        // 3) 복사 (DB 안에서 한 문장으로 실행, 생성된 메뉴 id만 돌려받음)
+        // client_key가 겹치는 메뉴는 쿼리에서 건너뛰므로, 그래도 남는 유니크 충돌은 동시 수정으로 보고 409로 돌려준다
+        List<MenuCopyRepository.CopiedMenu> rows;
+        try {
+            rows = menuCopyRepository.copyActiveMenus(sourceStoreId, targetStoreIds, LocalDateTime.now(), userId);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateResourceException("대상 가게에 이미 같은 메뉴가 있어 복사할 수 없습니다. 다시 시도해주세요.", e);
+        }
+        Map<UUID, List<UUID>> copied = rows.stream()
+                .collect(Collectors.groupingBy(
+                        MenuCopyRepository.CopiedMenu::getStoreId,
+                        Collectors.mapping(MenuCopyRepository.CopiedMenu::getMenuId, Collectors.toList())));
+
+        copied.forEach((storeId, menuIds) -> eventPublisher.publishEvent(MenuChangedEvent.of(storeId, menuIds)));
+
+        return CopyMenuResponseDto.of(targetStoreIds, copied);
+    }
+
     // 5. 메뉴 수정
     @Transactional
     public MenuAdminResponseDto updateMenu(UUID storeId, UUID menuId, UpdateMenuRequestDto request, Integer userId, Role userRole) {
@@ -236,20 +342,13 @@ public class MenuServiceImpl implements MenuService {
         if (request.isAvailable() != null) {
             menu.changeAvailable(request.isAvailable());
         }
+        eventPublisher.publishEvent(MenuChangedEvent.of(storeId, menuId));
 
-        List<MenuOptionEntity> options;
+        // 관리자: 삭제된 옵션/원산지 포함 '전부', 점주: '살아있는 것만'
         boolean isAdmin = userRole == Role.MASTER || userRole == Role.MANAGER;
 
-        if (isAdmin) {
-            // 관리자: 삭제된 옵션 포함 '전부' 조회
-            options = menuOptionRepository.findAllByMenuId(menu.getId());
-        } else {
-            // 점주: 삭제된 옵션 제외하고 '살아있는 것만' 조회
-            options = menuOptionRepository.findAllByMenuIdAndIsDeletedFalse(menu.getId());
-        }
-
         // 5) DTO 내부로 로직 이동됨
-        return MenuAdminResponseDto.of(menu, options, userRole);
+        return MenuAdminResponseDto.of(menuGraphLoader.attach(menu, isAdmin), userRole);
     }
 
     // 6. 메뉴 삭제
@@ -269,6 +368,7 @@ public class MenuServiceImpl implements MenuService {
         validateOwner(menu.getStore(), userId, userRole, "본인 가게의 메뉴만 삭제할 수 있습니다.");
 
         menu.softDelete(userId);
+        eventPublisher.publishEvent(MenuChangedEvent.of(menu.getStore().getId(), menuId));
     }
 
     // 7. 메뉴 숨김
@@ -289,20 +389,81 @@ public class MenuServiceImpl implements MenuService {
 
         // 숨김 처리
         menu.changeHidden(request.isHidden());
+        eventPublisher.publishEvent(MenuChangedEvent.of(menu.getStore().getId(), menuId));
     }
 
-    // Helper - 유저의 소속 가게 검증
-    private void validateOwner(StoreEntity store, Integer userId, Role userRole, String errorMessage) {
-        if (userRole == Role.OWNER) {
+    // Helper - 요청 항목 중 조건에 맞는 기존 메뉴 id
+    private List<UUID> existingMenuIds(
+            BulkUpsertMenuRequestDto request,
+            Map<String, MenuEntity> existing,
+            Predicate<BulkUpsertMenuRequestDto.MenuItem> condition) {
+        return request.menus().stream()
+                .filter(condition)
+                .map(item -> existing.get(item.clientKey()))
+                .filter(Objects::nonNull)
+                .map(MenuEntity::getId)
+                .toList();
+    }
 
-            // StoreEntity가 가지고 있는 User 목록(store.getUsers())을 순회하며
-            // 현재 로그인한 userId와 일치하는지 확인
-            boolean isMyStore = store.getUsers().stream()
-                    .anyMatch(storeUser -> storeUser.getUser().getId().equals(userId));
+    // Helper - 옵션을 요청 목록으로 맞춤 (이름이 같으면 수정, 없으면 생성, 빠진 옵션은 삭제)
+    private void syncOptions(
+            MenuEntity menu,
+            List<BulkUpsertMenuRequestDto.OptionItem> items,
+            List<MenuOptionEntity> current,
+            Integer userId,
+            List<MenuOptionEntity> created) {
+        Map<String, MenuOptionEntity> byName = new LinkedHashMap<>();
+        current.forEach(option -> byName.putIfAbsent(option.getName(), option));
+        Set<MenuOptionEntity> kept = new HashSet<>();
+
+        for (BulkUpsertMenuRequestDto.OptionItem item : items) {
+            MenuOptionEntity option = byName.get(item.name());
+            if (option == null || kept.contains(option)) {
+                created.add(item.toEntity(menu));
+                continue;
+            }
+            option.updateOption(item.name(), item.price(), item.detail());
+            if (item.isAvailable() != null) {
+                option.changeAvailable(item.isAvailable());
+            }
+            option.updateBy(userId);
+            kept.add(option);
+        }
+        current.stream()
+                .filter(option -> !kept.contains(option))
+                .forEach(option -> option.softDelete(userId));
+    }
 
-            if (!isMyStore) {
-                throw new AccessDeniedException(errorMessage);
+    // Helper - 원산지를 요청 목록으로 맞춤 (재료명이 같으면 원산지 수정, 없으면 생성, 빠진 원산지는 삭제)
+    private void syncOrigins(
+            MenuEntity menu,
+            List<BulkUpsertMenuRequestDto.OriginItem> items,
+            List<OriginEntity> current,
+            Integer userId,
+            List<OriginEntity> created) {
+        Map<String, OriginEntity> byIngredient = new LinkedHashMap<>();
+        current.forEach(origin -> byIngredient.putIfAbsent(origin.getIngredientName(), origin));
+        Set<OriginEntity> kept = new HashSet<>();
+
+        for (BulkUpsertMenuRequestDto.OriginItem item : items) {
+            OriginEntity origin = byIngredient.get(item.ingredientName());
+            if (origin == null || kept.contains(origin)) {
+                created.add(item.toEntity(menu));
+                continue;
             }
+            origin.updateInfo(item.originName(), item.ingredientName());
+            origin.updateBy(userId);
+            kept.add(origin);
+        }
+        current.stream()
+                .filter(origin -> !kept.contains(origin))
+                .forEach(origin -> origin.softDelete(userId));
+    }
+
+    // Helper - 유저의 소속 가게 검증 (StoreMembershipService 캐시 조회, 매장 직원 그래프를 로딩하지 않음)
+    private void validateOwner(StoreEntity store, Integer userId, Role userRole, String errorMessage) {
+        if (userRole == Role.OWNER && !storeMembershipService.isMember(userId, store.getId())) {
+            throw new AccessDeniedException(errorMessage);
         }
     }
 }
@@ -0,0 +1,24 @@
+package com.example.Spot.menu.domain;
+
+import java.util.UUID;
+
+// 메뉴/옵션 하나의 품절·숨김 상태 (메뉴면 itemId == menuId, 옵션이면 itemId는 옵션 id)
+// 메뉴의 is_available/is_hidden은 null일 수 있어 null은 기본값(판매 중, 노출)으로 본다
+public record MenuAvailability(
+        UUID itemId,
+        UUID menuId,
+        Boolean available,
+        Boolean hidden
+) {
+    public boolean isOption() {
+        return !itemId.equals(menuId);
+    }
+
+    public boolean isAvailable() {
+        return !Boolean.FALSE.equals(available);
+    }
+
+    public boolean isHidden() {
+        return Boolean.TRUE.equals(hidden);
+    }
+}
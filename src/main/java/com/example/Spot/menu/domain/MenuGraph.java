@@ -0,0 +1,15 @@
+package com.example.Spot.menu.domain;
+
+import java.util.List;
+
+import com.example.Spot.menu.domain.entity.MenuEntity;
+import com.example.Spot.menu.domain.entity.MenuOptionEntity;
+import com.example.Spot.menu.domain.entity.OriginEntity;
+
+// 메뉴 하나와 함께 응답에 필요한 옵션/원산지 (MenuGraphLoader가 IN 쿼리로 채워서 반환)
+public record MenuGraph(
+        MenuEntity menu,
+        List<MenuOptionEntity> options,
+        List<OriginEntity> origins
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.Spot.menu.domain;
+
+import java.util.UUID;
+
+// 가격 일괄 조정 대상 한 건 (메뉴면 itemId == menuId, 옵션이면 itemId는 옵션 id)
+public record MenuPriceItem(
+        UUID itemId,
+        UUID menuId
+) {
+}
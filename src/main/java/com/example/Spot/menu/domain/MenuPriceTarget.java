@@ -0,0 +1,7 @@
+package com.example.Spot.menu.domain;
+
+// 가격 일괄 조정 대상 (p_menu_price_snapshot.item_type)
+public enum MenuPriceTarget {
+    MENU,
+    OPTION
+}
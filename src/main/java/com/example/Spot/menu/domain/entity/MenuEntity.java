@@ -17,6 +17,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,7 +25,13 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "p_menu")
+@Table(
+        name = "p_menu",
+        uniqueConstraints = {
+                // 대량 등록/수정(upsert) 시 매장 안에서 메뉴를 찾는 외부 키 (프랜차이즈 POS/본사 메뉴 코드 등)
+                @UniqueConstraint(name = "uk_menu_store_client_key", columnNames = {"store_id", "client_key"})
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MenuEntity extends UpdateBaseEntity {
 
@@ -57,6 +64,10 @@ public class MenuEntity extends UpdateBaseEntity {
     @Column(name = "image_url")
     private String imageUrl;
 
+    // 클라이언트가 지정한 메뉴 식별 키 (대량 upsert용, 선택)
+    @Column(name = "client_key", length = 100)
+    private String clientKey;
+
     // 품절 여부 체크
     @Column(name = "is_available")
     private Boolean isAvailable = true;
@@ -69,7 +80,8 @@ public class MenuEntity extends UpdateBaseEntity {
     private List<MenuOptionEntity> options = new ArrayList<>();
 
     @Builder
-    public MenuEntity(StoreEntity store, String name, String category, Integer price, String description, String imageUrl, List<MenuOptionEntity> options) {
+    public MenuEntity(StoreEntity store, String name, String category, Integer price, String description, String imageUrl,
+                      List<MenuOptionEntity> options, String clientKey) {
         this.store = store;
         this.name = name;
         this.category = category;
@@ -77,6 +89,7 @@ public class MenuEntity extends UpdateBaseEntity {
         this.description = description;
         this.imageUrl = imageUrl;
         this.options = (options != null) ? options : new ArrayList<>();
+        this.clientKey = clientKey;
     }
 
     public void updateMenu(String name, Integer price, String category, String description, String imageUrl) {
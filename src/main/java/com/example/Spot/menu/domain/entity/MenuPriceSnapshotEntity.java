@@ -0,0 +1,57 @@
+package com.example.Spot.menu.domain.entity;
+
+import java.util.UUID;
+
+import com.example.Spot.global.common.BaseEntity;
+import com.example.Spot.menu.domain.MenuPriceTarget;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 가격 일괄 조정 전 가격 (되돌리기용)
+// 행은 MenuPriceRepository의 조정 쿼리가 UPDATE와 같은 문장에서 INSERT ... SELECT로 만들고, 되돌리면 삭제한다
+@Entity
+@Getter
+@Table(
+        name = "p_menu_price_snapshot",
+        indexes = @Index(name = "idx_menu_price_snapshot_adjustment", columnList = "adjustment_id")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MenuPriceSnapshotEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "adjustment_id", nullable = false)
+    private UUID adjustmentId;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "item_type", nullable = false, length = 10)
+    private MenuPriceTarget itemType;
+
+    @Column(name = "item_id", nullable = false)
+    private UUID itemId;
+
+    @Column(name = "menu_id", nullable = false)
+    private UUID menuId;
+
+    @Column(name = "previous_price", nullable = false)
+    private Integer previousPrice;
+
+    @Column(name = "adjusted_price", nullable = false)
+    private Integer adjustedPrice;
+}
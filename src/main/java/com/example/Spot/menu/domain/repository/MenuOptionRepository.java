@@ -1,10 +1,14 @@
 package com.example.Spot.menu.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.Spot.menu.domain.MenuPriceItem;
 import com.example.Spot.menu.domain.entity.MenuOptionEntity;
 
 public interface MenuOptionRepository extends JpaRepository<MenuOptionEntity, UUID> {
@@ -20,4 +24,22 @@ public interface MenuOptionRepository extends JpaRepository<MenuOptionEntity, UU
 
     // [가게, 손님용] 특정 메뉴의 활성 옵션만 조회
     List<MenuOptionEntity> findAllByMenuIdAndIsDeletedFalse(UUID menuId);
+
+    // [가격 일괄 조정] 대상 옵션 id와 메뉴 id (삭제되지 않은 메뉴의 옵션만, category는 메뉴 카테고리)
+    @Query("SELECT new com.example.Spot.menu.domain.MenuPriceItem(o.id, m.id) " +
+            "FROM MenuOptionEntity o JOIN o.menu m " +
+            "WHERE m.store.id = :storeId AND m.isDeleted = false AND o.isDeleted = false " +
+            "AND (:category IS NULL OR m.category = :category)")
+    List<MenuPriceItem> findPriceItems(@Param("storeId") UUID storeId, @Param("category") String category);
+
+    // [가격 일괄 조정] 지정한 옵션 중 이 매장의 삭제되지 않은 옵션
+    @Query("SELECT new com.example.Spot.menu.domain.MenuPriceItem(o.id, m.id) " +
+            "FROM MenuOptionEntity o JOIN o.menu m " +
+            "WHERE m.store.id = :storeId AND m.isDeleted = false AND o.isDeleted = false AND o.id IN :ids " +
+            "AND (:category IS NULL OR m.category = :category)")
+    List<MenuPriceItem> findPriceItemsByIdIn(
+            @Param("storeId") UUID storeId,
+            @Param("category") String category,
+            @Param("ids") Collection<UUID> ids
+    );
 }
@@ -0,0 +1,14 @@
+package com.example.Spot.menu.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.Spot.menu.domain.entity.MenuPriceSnapshotEntity;
+
+public interface MenuPriceSnapshotRepository extends JpaRepository<MenuPriceSnapshotEntity, UUID> {
+
+    // 되돌리기 전 조정 내역 확인 (대상 종류, 건수, 변경 이벤트용 메뉴 id)
+    List<MenuPriceSnapshotEntity> findAllByAdjustmentIdAndStoreId(UUID adjustmentId, UUID storeId);
+}
@@ -1,5 +1,6 @@
 package com.example.Spot.menu.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.example.Spot.menu.domain.MenuPriceItem;
 import com.example.Spot.menu.domain.entity.MenuEntity;
 
 public interface MenuRepository extends JpaRepository<MenuEntity, UUID> {
@@ -16,15 +18,16 @@ public interface MenuRepository extends JpaRepository<MenuEntity, UUID> {
     @Query("select m from MenuEntity m where m.store.id = :storeId AND m.isDeleted = false AND m.isHidden = false")
     List<MenuEntity> findAllActiveMenus(@Param("storeId") UUID storeId);
 
-    // [손님용] 메뉴 상세 조회
+    // [손님용] 메뉴 상세 조회 (경로의 가게 메뉴만 - 다른 가게 메뉴는 조회되지 않음)
     // 1. DISTINCT: 1:N 조인 시 데이터 중복 방지 (JPA 엔티티 중복 제거)
     // 2. 옵션이 없는 메뉴도 조회되어야 하므로 'LEFT' 사용
     // [추가해야 할 기능] LEFT JOIN FETCH m.options: 메뉴를 가져올 때 옵션들도 '한 번에' 가져옴 (N+1 방지)
     @Query("SELECT DISTINCT m FROM MenuEntity m " +
             "WHERE m.id = :menuId " +
+            "AND m.store.id = :storeId " +
             "AND m.isDeleted = false " +
             "AND m.isHidden = false")
-    Optional<MenuEntity> findActiveMenuById(@Param("menuId") UUID menuId);
+    Optional<MenuEntity> findActiveMenuByIdAndStoreId(@Param("menuId") UUID menuId, @Param("storeId") UUID storeId);
 
     // [가게용] 메뉴 전체 조회 (삭제 X, 숨김 O)
     List<MenuEntity> findAllByStoreIdAndIsDeletedFalse(UUID storeId);
@@ -37,4 +40,23 @@ public interface MenuRepository extends JpaRepository<MenuEntity, UUID> {
 
     // [관리자용] 메뉴 상세 조회 (삭제 여부 상관없음)
     Optional<MenuEntity> findByStoreIdAndId(UUID storeId, UUID menuId);
+
+    // [대량 upsert] client_key로 기존 메뉴 조회 (삭제된 메뉴 포함 - 같은 키로 다시 올리면 복구)
+    List<MenuEntity> findAllByStoreIdAndClientKeyIn(UUID storeId, Collection<String> clientKeys);
+
+    // [가격 일괄 조정] 대상 메뉴 id (엔티티를 읽지 않음, category가 null이면 매장 전체)
+    @Query("SELECT new com.example.Spot.menu.domain.MenuPriceItem(m.id, m.id) FROM MenuEntity m " +
+            "WHERE m.store.id = :storeId AND m.isDeleted = false " +
+            "AND (:category IS NULL OR m.category = :category)")
+    List<MenuPriceItem> findPriceItems(@Param("storeId") UUID storeId, @Param("category") String category);
+
+    // [가격 일괄 조정] 지정한 메뉴 중 이 매장의 삭제되지 않은 메뉴 id
+    @Query("SELECT new com.example.Spot.menu.domain.MenuPriceItem(m.id, m.id) FROM MenuEntity m " +
+            "WHERE m.store.id = :storeId AND m.isDeleted = false AND m.id IN :ids " +
+            "AND (:category IS NULL OR m.category = :category)")
+    List<MenuPriceItem> findPriceItemsByIdIn(
+            @Param("storeId") UUID storeId,
+            @Param("category") String category,
+            @Param("ids") Collection<UUID> ids
+    );
 }
@@ -0,0 +1,18 @@
+package com.example.Spot.menu.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.Spot.menu.domain.entity.OriginEntity;
+
+public interface OriginRepository extends JpaRepository<OriginEntity, UUID> {
+
+    // [가게, 손님용] 여러 메뉴의 원산지 조회 (삭제된 원산지 제외)
+    List<OriginEntity> findAllByMenuIdInAndIsDeletedFalse(Collection<UUID> menuIds);
+
+    // [관리자용] 여러 메뉴의 원산지 조회
+    List<OriginEntity> findAllByMenuIdIn(Collection<UUID> menuIds);
+}
@@ -0,0 +1,127 @@
+package com.example.Spot.menu.infrastructure.availability;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.example.Spot.menu.domain.MenuAvailability;
+
+// 매장 하나의 메뉴/옵션 품절·숨김 상태
+// 항목(메뉴, 옵션)마다 슬롯 번호를 주고 판매 가능/숨김 여부를 BitSet 두 개로 보관한다 (삭제된 항목의 슬롯은 재사용)
+// 변경된 메뉴의 현재 상태를 apply하면 실제로 바뀐 항목만 돌려주므로, 가격/이름 수정처럼 상태가 그대로면 알릴 것이 없다
+// 동기화는 호출하는 쪽(MenuAvailabilityService)의 lock에 맡긴다
+public class StoreAvailabilityBoard {
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final List<MenuAvailability> items = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet present = new BitSet();
+    private final BitSet available = new BitSet();
+    private final BitSet hidden = new BitSet();
+    private long version = 0;
+
+    public record Snapshot(long version, List<UUID> unavailableIds, List<UUID> hiddenIds) {
+    }
+
+    public record Diff(long version, List<MenuAvailability> changed, List<UUID> removedIds) {
+        public boolean isEmpty() {
+            return changed.isEmpty() && removedIds.isEmpty();
+        }
+    }
+
+    public void load(Collection<MenuAvailability> rows) {
+        slots.clear();
+        items.clear();
+        freeSlots.clear();
+        present.clear();
+        available.clear();
+        hidden.clear();
+        rows.forEach(this::put);
+        version++;
+    }
+
+    // menuIds: 다시 읽은 메뉴, rows: 그 메뉴들과 옵션들의 현재 상태 (rows에 없는 기존 항목은 삭제된 것으로 처리)
+    public Diff apply(Set<UUID> menuIds, Collection<MenuAvailability> rows) {
+        List<MenuAvailability> changed = new ArrayList<>();
+        Set<UUID> seen = new HashSet<>();
+        for (MenuAvailability row : rows) {
+            seen.add(row.itemId());
+            Integer slot = slots.get(row.itemId());
+            if (slot == null || available.get(slot) != row.isAvailable() || hidden.get(slot) != row.isHidden()) {
+                changed.add(row);
+            }
+            put(row);
+        }
+
+        List<UUID> removedIds = new ArrayList<>();
+        for (int slot = present.nextSetBit(0); slot >= 0; slot = present.nextSetBit(slot + 1)) {
+            MenuAvailability item = items.get(slot);
+            if (menuIds.contains(item.menuId()) && !seen.contains(item.itemId())) {
+                removedIds.add(item.itemId());
+            }
+        }
+        removedIds.forEach(this::remove);
+
+        if (!changed.isEmpty() || !removedIds.isEmpty()) {
+            version++;
+        }
+        return new Diff(version, changed, removedIds);
+    }
+
+    public Snapshot snapshot() {
+        List<UUID> unavailableIds = new ArrayList<>();
+        List<UUID> hiddenIds = new ArrayList<>();
+        for (int slot = present.nextSetBit(0); slot >= 0; slot = present.nextSetBit(slot + 1)) {
+            if (!available.get(slot)) {
+                unavailableIds.add(items.get(slot).itemId());
+            }
+            if (hidden.get(slot)) {
+                hiddenIds.add(items.get(slot).itemId());
+            }
+        }
+        return new Snapshot(version, unavailableIds, hiddenIds);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    private void put(MenuAvailability row) {
+        Integer slot = slots.get(row.itemId());
+        if (slot == null) {
+            slot = freeSlots.isEmpty() ? items.size() : freeSlots.pop();
+            slots.put(row.itemId(), slot);
+        }
+        if (slot == items.size()) {
+            items.add(row);
+        } else {
+            items.set(slot, row);
+        }
+        present.set(slot);
+        available.set(slot, row.isAvailable());
+        hidden.set(slot, row.isHidden());
+    }
+
+    private void remove(UUID itemId) {
+        Integer slot = slots.remove(itemId);
+        if (slot == null) {
+            return;
+        }
+        present.clear(slot);
+        available.clear(slot);
+        hidden.clear(slot);
+        freeSlots.push(slot);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.Spot.menu.infrastructure.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.Spot.menu.domain.MenuAvailability;
+import com.example.Spot.menu.domain.entity.MenuEntity;
+
+// 품절/숨김 실시간 구독용 조회 (엔티티를 만들지 않고 상태 컬럼만, 삭제된 메뉴/옵션 제외)
+public interface MenuAvailabilityRepository extends Repository<MenuEntity, UUID> {
+
+    @Query("SELECT new com.example.Spot.menu.domain.MenuAvailability(m.id, m.id, m.isAvailable, m.isHidden) " +
+            "FROM MenuEntity m WHERE m.store.id = :storeId AND m.isDeleted = false")
+    List<MenuAvailability> findMenusByStoreId(@Param("storeId") UUID storeId);
+
+    @Query("SELECT new com.example.Spot.menu.domain.MenuAvailability(o.id, m.id, o.isAvailable, o.isHidden) " +
+            "FROM MenuOptionEntity o JOIN o.menu m " +
+            "WHERE m.store.id = :storeId AND m.isDeleted = false AND o.isDeleted = false")
+    List<MenuAvailability> findOptionsByStoreId(@Param("storeId") UUID storeId);
+
+    @Query("SELECT new com.example.Spot.menu.domain.MenuAvailability(m.id, m.id, m.isAvailable, m.isHidden) " +
+            "FROM MenuEntity m WHERE m.store.id = :storeId AND m.id IN :menuIds AND m.isDeleted = false")
+    List<MenuAvailability> findMenusByIdIn(
+            @Param("storeId") UUID storeId,
+            @Param("menuIds") Collection<UUID> menuIds
+    );
+
+    @Query("SELECT new com.example.Spot.menu.domain.MenuAvailability(o.id, m.id, o.isAvailable, o.isHidden) " +
+            "FROM MenuOptionEntity o JOIN o.menu m " +
+            "WHERE m.store.id = :storeId AND m.id IN :menuIds AND m.isDeleted = false AND o.isDeleted = false")
+    List<MenuAvailability> findOptionsByMenuIdIn(
+            @Param("storeId") UUID storeId,
+            @Param("menuIds") Collection<UUID> menuIds
+    );
+}
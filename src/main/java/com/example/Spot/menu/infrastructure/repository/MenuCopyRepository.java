@@ -0,0 +1,61 @@
+package com.example.Spot.menu.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.Spot.menu.domain.entity.MenuEntity;
+
+// 매장 메뉴 복사 (PostgreSQL 전용 native 쿼리)
+// 원본 매장의 삭제되지 않은 메뉴/옵션/원산지를 대상 매장들로 INSERT ... SELECT 한 문장으로 복사한다 (엔티티 로딩 없음)
+// - src: (원본 메뉴, 대상 매장)마다 새 메뉴 id를 한 번만 만들어 두고(MATERIALIZED) 메뉴/옵션/원산지 INSERT가 같이 사용
+// - 부모/자식 INSERT가 한 문장이라 FK 검사는 문장 끝에서 통과한다
+// - client_key가 있는 메뉴는 대상 매장에 같은 키가 이미 있으면 건너뛴다 (ON CONFLICT DO NOTHING - 동시에 같은 복사가 실행돼도 마찬가지)
+//   옵션/원산지는 실제로 INSERT된 메뉴(menus RETURNING)에만 복사한다
+// - client_key가 없는 메뉴는 구분할 방법이 없으므로, 같은 복사를 다시 실행하면 그대로 한 번 더 복사된다
+public interface MenuCopyRepository extends Repository<MenuEntity, UUID> {
+
+    interface CopiedMenu {
+        UUID getStoreId();
+
+        UUID getMenuId();
+    }
+
+    @Query(value = "WITH src AS MATERIALIZED ( " +
+            "    SELECT m.menu_id AS source_id, t.id AS target_id, gen_random_uuid() AS new_id " +
+            "    FROM p_menu m " +
+            "    JOIN p_store t ON t.id IN (:targetStoreIds) AND t.is_deleted = false " +
+            "    WHERE m.store_id = :sourceStoreId AND m.is_deleted = false " +
+            "), menus AS ( " +
+            "    INSERT INTO p_menu (menu_id, store_id, name, category, price, description, image_url, client_key, " +
+            "        is_available, is_hidden, is_deleted, created_at, created_by) " +
+            "    SELECT s.new_id, s.target_id, m.name, m.category, m.price, m.description, m.image_url, m.client_key, " +
+            "        m.is_available, m.is_hidden, false, :now, :userId " +
+            "    FROM src s JOIN p_menu m ON m.menu_id = s.source_id " +
+            "    ON CONFLICT DO NOTHING " +
+            "    RETURNING menu_id " +
+            "), copied AS ( " +
+            "    SELECT s.source_id, s.new_id, s.target_id FROM src s JOIN menus c ON c.menu_id = s.new_id " +
+            "), options AS ( " +
+            "    INSERT INTO p_menu_option (option_id, menu_id, name, detail, price, is_available, is_hidden, " +
+            "        is_deleted, created_at, created_by) " +
+            "    SELECT gen_random_uuid(), s.new_id, o.name, o.detail, o.price, o.is_available, o.is_hidden, " +
+            "        false, :now, :userId " +
+            "    FROM copied s JOIN p_menu_option o ON o.menu_id = s.source_id AND o.is_deleted = false " +
+            "), origins AS ( " +
+            "    INSERT INTO p_origin (id, menu_id, origin_name, ingredient_name, is_deleted, created_at, created_by) " +
+            "    SELECT gen_random_uuid(), s.new_id, r.origin_name, r.ingredient_name, false, :now, :userId " +
+            "    FROM copied s JOIN p_origin r ON r.menu_id = s.source_id AND r.is_deleted = false " +
+            ") " +
+            "SELECT s.target_id AS \"storeId\", s.new_id AS \"menuId\" FROM copied s",
+            nativeQuery = true)
+    List<CopiedMenu> copyActiveMenus(@Param("sourceStoreId") UUID sourceStoreId,
+                                     @Param("targetStoreIds") Collection<UUID> targetStoreIds,
+                                     @Param("now") LocalDateTime now,
+                                     @Param("userId") Integer userId);
+}
@@ -0,0 +1,88 @@
+package com.example.Spot.menu.infrastructure.repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.global.presentation.FieldSelection;
+import com.example.Spot.menu.domain.MenuGraph;
+import com.example.Spot.menu.domain.entity.MenuEntity;
+import com.example.Spot.menu.domain.entity.MenuOptionEntity;
+import com.example.Spot.menu.domain.entity.OriginEntity;
+import com.example.Spot.menu.domain.repository.MenuOptionRepository;
+import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.menu.domain.repository.OriginRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// 메뉴 + 옵션 + 원산지를 메뉴 수와 상관없이 고정된 쿼리 수로 조회
+// - 메뉴 1번 + 옵션 IN 1번 + 원산지 IN 1번 (메뉴가 없으면 메뉴 쿼리 1번, fields로 뺀 연관은 조회하지 않음)
+// - 메뉴 엔티티의 지연 로딩 컬렉션(menu.getOptions())은 쓰지 않는다
+// 메뉴를 읽는 모든 경로(메뉴 API, 매장 상세, 델타 동기화)가 이 로더를 사용한다
+@Component
+@RequiredArgsConstructor
+public class MenuGraphLoader {
+
+    private final MenuRepository menuRepository;
+    private final MenuOptionRepository menuOptionRepository;
+    private final OriginRepository originRepository;
+
+    // [손님용] 노출 메뉴 (삭제/숨김 제외, 삭제된 옵션/원산지 제외)
+    public List<MenuGraph> loadActiveMenus(UUID storeId) {
+        return loadActiveMenus(storeId, FieldSelection.ALL);
+    }
+
+    public List<MenuGraph> loadActiveMenus(UUID storeId, FieldSelection fields) {
+        return attach(menuRepository.findAllActiveMenus(storeId), false, fields);
+    }
+
+    // [가게/관리자용] includeDeleted면 삭제된 메뉴/옵션/원산지까지
+    public List<MenuGraph> loadStoreMenus(UUID storeId, boolean includeDeleted, FieldSelection fields) {
+        List<MenuEntity> menus = includeDeleted
+                ? menuRepository.findAllByStoreId(storeId)
+                : menuRepository.findAllByStoreIdAndIsDeletedFalse(storeId);
+        return attach(menus, includeDeleted, fields);
+    }
+
+    // 이미 조회한 메뉴 하나에 옵션/원산지를 붙임 (상세 조회, 수정 응답)
+    public MenuGraph attach(MenuEntity menu, boolean includeDeleted) {
+        return attach(menu, includeDeleted, FieldSelection.ALL);
+    }
+
+    public MenuGraph attach(MenuEntity menu, boolean includeDeleted, FieldSelection fields) {
+        return attach(List.of(menu), includeDeleted, fields).get(0);
+    }
+
+    // 이미 조회한 메뉴 목록에 옵션/원산지를 붙임 (메뉴 순서 유지)
+    public List<MenuGraph> attach(List<MenuEntity> menus, boolean includeDeleted, FieldSelection fields) {
+        if (menus.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> menuIds = menus.stream().map(MenuEntity::getId).toList();
+
+        Map<UUID, List<MenuOptionEntity>> optionsMap = !fields.includes("options")
+                ? Map.of()
+                : (includeDeleted
+                        ? menuOptionRepository.findAllByMenuIdIn(menuIds)
+                        : menuOptionRepository.findAllByMenuIdInAndIsDeletedFalse(menuIds)).stream()
+                        .collect(Collectors.groupingBy(option -> option.getMenu().getId()));
+
+        Map<UUID, List<OriginEntity>> originsMap = !fields.includes("origins")
+                ? Map.of()
+                : (includeDeleted
+                        ? originRepository.findAllByMenuIdIn(menuIds)
+                        : originRepository.findAllByMenuIdInAndIsDeletedFalse(menuIds)).stream()
+                        .collect(Collectors.groupingBy(origin -> origin.getMenu().getId()));
+
+        return menus.stream()
+                .map(menu -> new MenuGraph(
+                        menu,
+                        optionsMap.getOrDefault(menu.getId(), Collections.emptyList()),
+                        originsMap.getOrDefault(menu.getId(), Collections.emptyList())))
+                .toList();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.Spot.menu.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.Spot.menu.domain.entity.MenuEntity;
+
+// 메뉴/옵션 가격 일괄 조정과 되돌리기 (PostgreSQL 전용 native 쿼리)
+// - 조정: 대상 행을 잠그고(FOR UPDATE) 이전 가격을 읽은 뒤, UPDATE 한 번 + 이전/조정 가격을 p_menu_price_snapshot에 INSERT (한 문장)
+//   새 가격 = GREATEST(0, ROUND(이전 가격 * rate) + amount) - 비율 조정은 amount = 0, 금액 조정은 rate = 1
+// - 되돌리기: 스냅샷을 DELETE ... RETURNING 하면서 가격이 아직 조정 값 그대로인 행만 이전 가격으로 UPDATE (이후 수정한 가격은 유지)
+//   조정 이후 삭제된 메뉴/옵션(옵션은 메뉴가 삭제된 경우 포함)은 건드리지 않는다
+// 영속성 컨텍스트를 거치지 않으므로 실행 전 flush, 실행 후 clear
+public interface MenuPriceRepository extends Repository<MenuEntity, UUID> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "WITH target AS ( " +
+            "    SELECT m.menu_id AS item_id, m.price AS previous_price " +
+            "    FROM p_menu m " +
+            "    WHERE m.menu_id IN (:ids) AND m.store_id = :storeId AND m.is_deleted = false " +
+            "    FOR UPDATE " +
+            "), updated AS ( " +
+            "    UPDATE p_menu m " +
+            "    SET price = GREATEST(0, CAST(ROUND(t.previous_price * :rate) AS INTEGER) + :amount), " +
+            "        updated_at = :now, updated_by = :userId " +
+            "    FROM target t WHERE m.menu_id = t.item_id " +
+            "    RETURNING m.menu_id AS item_id, m.price AS adjusted_price " +
+            ") " +
+            "INSERT INTO p_menu_price_snapshot (id, adjustment_id, store_id, item_type, item_id, menu_id, " +
+            "    previous_price, adjusted_price, created_at, created_by) " +
+            "SELECT gen_random_uuid(), :adjustmentId, :storeId, 'MENU', t.item_id, t.item_id, " +
+            "    t.previous_price, u.adjusted_price, :now, :userId " +
+            "FROM target t JOIN updated u ON u.item_id = t.item_id",
+            nativeQuery = true)
+    int adjustMenuPrices(@Param("adjustmentId") UUID adjustmentId,
+                         @Param("storeId") UUID storeId,
+                         @Param("ids") Collection<UUID> ids,
+                         @Param("rate") BigDecimal rate,
+                         @Param("amount") int amount,
+                         @Param("now") LocalDateTime now,
+                         @Param("userId") Integer userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "WITH target AS ( " +
+            "    SELECT o.option_id AS item_id, o.menu_id, o.price AS previous_price " +
+            "    FROM p_menu_option o JOIN p_menu m ON m.menu_id = o.menu_id " +
+            "    WHERE o.option_id IN (:ids) AND m.store_id = :storeId " +
+            "    AND m.is_deleted = false AND o.is_deleted = false " +
+            "    FOR UPDATE OF o " +
+            "), updated AS ( " +
+            "    UPDATE p_menu_option o " +
+            "    SET price = GREATEST(0, CAST(ROUND(t.previous_price * :rate) AS INTEGER) + :amount), " +
+            "        updated_at = :now, updated_by = :userId " +
+            "    FROM target t WHERE o.option_id = t.item_id " +
+            "    RETURNING o.option_id AS item_id, o.price AS adjusted_price " +
+            ") " +
+            "INSERT INTO p_menu_price_snapshot (id, adjustment_id, store_id, item_type, item_id, menu_id, " +
+            "    previous_price, adjusted_price, created_at, created_by) " +
+            "SELECT gen_random_uuid(), :adjustmentId, :storeId, 'OPTION', t.item_id, t.menu_id, " +
+            "    t.previous_price, u.adjusted_price, :now, :userId " +
+            "FROM target t JOIN updated u ON u.item_id = t.item_id",
+            nativeQuery = true)
+    int adjustOptionPrices(@Param("adjustmentId") UUID adjustmentId,
+                           @Param("storeId") UUID storeId,
+                           @Param("ids") Collection<UUID> ids,
+                           @Param("rate") BigDecimal rate,
+                           @Param("amount") int amount,
+                           @Param("now") LocalDateTime now,
+                           @Param("userId") Integer userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "WITH snap AS ( " +
+            "    DELETE FROM p_menu_price_snapshot s " +
+            "    WHERE s.adjustment_id = :adjustmentId AND s.store_id = :storeId AND s.item_type = 'MENU' " +
+            "    RETURNING s.item_id, s.previous_price, s.adjusted_price " +
+            ") " +
+            "UPDATE p_menu m SET price = snap.previous_price, updated_at = :now, updated_by = :userId " +
+            "FROM snap WHERE m.menu_id = snap.item_id AND m.price = snap.adjusted_price AND m.is_deleted = false",
+            nativeQuery = true)
+    int rollbackMenuPrices(@Param("adjustmentId") UUID adjustmentId,
+                           @Param("storeId") UUID storeId,
+                           @Param("now") LocalDateTime now,
+                           @Param("userId") Integer userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "WITH snap AS ( " +
+            "    DELETE FROM p_menu_price_snapshot s " +
+            "    WHERE s.adjustment_id = :adjustmentId AND s.store_id = :storeId AND s.item_type = 'OPTION' " +
+            "    RETURNING s.item_id, s.menu_id, s.previous_price, s.adjusted_price " +
+            ") " +
+            "UPDATE p_menu_option o SET price = snap.previous_price, updated_at = :now, updated_by = :userId " +
+            "FROM snap JOIN p_menu m ON m.menu_id = snap.menu_id " +
+            "WHERE o.option_id = snap.item_id AND o.price = snap.adjusted_price " +
+            "AND o.is_deleted = false AND m.is_deleted = false",
+            nativeQuery = true)
+    int rollbackOptionPrices(@Param("adjustmentId") UUID adjustmentId,
+                             @Param("storeId") UUID storeId,
+                             @Param("now") LocalDateTime now,
+                             @Param("userId") Integer userId);
+}
@@ -0,0 +1,41 @@
+package com.example.Spot.menu.infrastructure.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.Spot.menu.domain.entity.MenuEntity;
+import com.example.Spot.menu.infrastructure.search.MenuSearchDocument;
+
+// 메뉴 검색 색인 적재용 조회 (엔티티를 만들지 않고 필요한 컬럼만 조회)
+// 색인 대상: 승인/미삭제 매장의 삭제/숨김되지 않은 메뉴
+public interface MenuSearchRepository extends Repository<MenuEntity, UUID> {
+
+    String SELECT_DOCUMENT = "SELECT new com.example.Spot.menu.infrastructure.search.MenuSearchDocument(" +
+            "m.id, s.id, s.name, s.regionCode, m.name, m.category, m.description, m.price) " +
+            "FROM MenuEntity m JOIN m.store s " +
+            "WHERE m.isDeleted = false AND m.isHidden = false " +
+            "AND s.isDeleted = false AND s.status = 'APPROVED' ";
+
+    @Query(SELECT_DOCUMENT)
+    List<MenuSearchDocument> findAllDocuments();
+
+    @Query(SELECT_DOCUMENT + "AND m.id IN :ids")
+    List<MenuSearchDocument> findDocumentsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query(SELECT_DOCUMENT + "AND s.id IN :storeIds")
+    List<MenuSearchDocument> findDocumentsByStoreIdIn(@Param("storeIds") Collection<UUID> storeIds);
+
+    // 색인이 준비되기 전 대체 검색 (LIKE 스캔, 이름 일치 우선)
+    @Query(SELECT_DOCUMENT +
+            "AND (m.name LIKE CONCAT('%', :keyword, '%') " +
+            "OR m.category LIKE CONCAT('%', :keyword, '%') " +
+            "OR m.description LIKE CONCAT('%', :keyword, '%')) " +
+            "ORDER BY CASE WHEN m.name LIKE CONCAT('%', :keyword, '%') THEN 0 ELSE 1 END, m.name")
+    List<MenuSearchDocument> searchDocuments(@Param("keyword") String keyword, Pageable pageable);
+}
@@ -0,0 +1,22 @@
+package com.example.Spot.menu.infrastructure.search;
+
+import java.util.Collection;
+import java.util.UUID;
+
+// 메뉴 검색 색인에 올라가는 메뉴 정보 (JPQL 생성자 표현식으로 바로 조회)
+// 승인/미삭제 매장의 삭제/숨김되지 않은 메뉴만 색인하므로, 조회 시에는 서비스 지역만 확인한다
+public record MenuSearchDocument(
+        UUID id,
+        UUID storeId,
+        String storeName,
+        String regionCode,
+        String name,
+        String category,
+        String description,
+        Integer price
+) {
+    // 일반 유저에게 노출 가능한 메뉴인지 (관리자는 지역과 상관없이 조회 가능)
+    public boolean isVisibleTo(boolean isAdmin, Collection<String> regionCodes) {
+        return isAdmin || regionCodes.contains(regionCode);
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.Spot.menu.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.global.infrastructure.search.HangulText;
+import com.example.Spot.global.infrastructure.search.NgramIndex;
+
+// 매장 간 메뉴 검색 색인 (메뉴명/카테고리/설명)
+// StoreSearchIndex와 같은 방식: 자모/초성 n-gram으로 후보를 좁히고 원문(자모/초성) 포함 여부로 최종 확인
+// 매장 상태가 바뀌면 매장 단위로 다시 올리므로 매장 id -> 메뉴 id 목록도 함께 관리한다
+@Component
+public class MenuSearchIndex {
+
+    private static final int SCORE_NAME_PREFIX = 4;
+    private static final int SCORE_NAME = 3;
+    private static final int SCORE_CATEGORY = 2;
+    private static final int SCORE_DESCRIPTION = 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<UUID, Set<UUID>> menuIdsByStore = new HashMap<>();
+    private final NgramIndex<UUID> jamoIndex = new NgramIndex<>();
+    private final NgramIndex<UUID> chosungIndex = new NgramIndex<>();
+    private volatile boolean ready = false;
+
+    private record Entry(
+            MenuSearchDocument document,
+            String nameJamo,
+            String categoryJamo,
+            String descriptionJamo,
+            String nameChosung,
+            String categoryChosung
+    ) {
+        static Entry of(MenuSearchDocument document) {
+            return new Entry(
+                    document,
+                    HangulText.toJamo(document.name()),
+                    HangulText.toJamo(document.category()),
+                    HangulText.toJamo(document.description()),
+                    HangulText.toChosung(document.name()),
+                    HangulText.toChosung(document.category())
+            );
+        }
+
+        // 초성 검색은 메뉴명/카테고리만 (설명까지 초성으로 맞추면 엉뚱한 결과가 너무 많아짐)
+        int score(String query, boolean chosung) {
+            String name = chosung ? nameChosung : nameJamo;
+            String category = chosung ? categoryChosung : categoryJamo;
+            if (name.startsWith(query)) {
+                return SCORE_NAME_PREFIX;
+            }
+            if (name.contains(query)) {
+                return SCORE_NAME;
+            }
+            if (category.contains(query)) {
+                return SCORE_CATEGORY;
+            }
+            if (!chosung && descriptionJamo.contains(query)) {
+                return SCORE_DESCRIPTION;
+            }
+            return 0;
+        }
+    }
+
+    private record Hit(MenuSearchDocument document, int score) {
+    }
+
+    // 시작 시점 전체 색인이 끝났는지 (끝나기 전에는 DB 검색으로 대체)
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuild(Collection<MenuSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            menuIdsByStore.clear();
+            jamoIndex.clear();
+            chosungIndex.clear();
+            documents.forEach(this::putInternal);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(MenuSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            putInternal(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID menuId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(menuId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 매장의 메뉴를 documents로 교체 (매장 승인/삭제/이름 변경 등)
+    public void replaceStore(UUID storeId, Collection<MenuSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            Set<UUID> menuIds = menuIdsByStore.get(storeId);
+            if (menuIds != null) {
+                List.copyOf(menuIds).forEach(this::removeInternal);
+            }
+            documents.forEach(this::putInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어와 일치하는 메뉴를 관련도 순으로 반환 (메뉴명 접두어 > 메뉴명 > 카테고리 > 설명, 같은 점수면 짧은 이름 우선)
+    public List<MenuSearchDocument> search(String keyword, Predicate<MenuSearchDocument> filter) {
+        boolean chosung = HangulText.isChosungQuery(keyword);
+        String query = chosung ? HangulText.normalize(keyword) : HangulText.toJamo(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<UUID> candidates = (chosung ? chosungIndex : jamoIndex).candidates(query);
+            for (UUID id : candidates) {
+                Entry entry = entries.get(id);
+                if (entry == null || !filter.test(entry.document())) {
+                    continue;
+                }
+                int score = entry.score(query, chosung);
+                if (score > 0) {
+                    hits.add(new Hit(entry.document(), score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return hits.stream()
+                .sorted(Comparator.comparingInt(Hit::score).reversed()
+                        .thenComparingInt(hit -> hit.document().name().length())
+                        .thenComparing(hit -> hit.document().id()))
+                .map(Hit::document)
+                .toList();
+    }
+
+    private void putInternal(MenuSearchDocument document) {
+        Entry previous = entries.get(document.id());
+        if (previous != null && !previous.document().storeId().equals(document.storeId())) {
+            removeInternal(document.id());
+        }
+
+        Entry entry = Entry.of(document);
+        entries.put(document.id(), entry);
+        menuIdsByStore.computeIfAbsent(document.storeId(), id -> new HashSet<>()).add(document.id());
+        jamoIndex.put(document.id(), List.of(entry.nameJamo(), entry.categoryJamo(), entry.descriptionJamo()));
+        chosungIndex.put(document.id(), List.of(entry.nameChosung(), entry.categoryChosung()));
+    }
+
+    private void removeInternal(UUID menuId) {
+        Entry entry = entries.remove(menuId);
+        if (entry != null) {
+            Set<UUID> menuIds = menuIdsByStore.get(entry.document().storeId());
+            if (menuIds != null) {
+                menuIds.remove(menuId);
+                if (menuIds.isEmpty()) {
+                    menuIdsByStore.remove(entry.document().storeId());
+                }
+            }
+        }
+        jamoIndex.remove(menuId);
+        chosungIndex.remove(menuId);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.Spot.menu.infrastructure.search;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.Spot.menu.application.event.MenuChangedEvent;
+import com.example.Spot.menu.infrastructure.repository.MenuSearchRepository;
+import com.example.Spot.store.application.event.StoreChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// MenuSearchIndex 적재/갱신 담당
+// - 애플리케이션 시작 시 전체 재색인
+// - 메뉴 변경(MenuServiceImpl 등) 커밋 뒤 변경된 메뉴만 다시 읽어 반영
+// - 매장 변경 커밋 뒤 해당 매장 메뉴를 통째로 다시 반영 (승인/삭제/이름 변경)
+// - 전체 재색인 중에 들어온 변경은 바로 반영하지 않고 모아 두었다가 재색인이 끝난 뒤 다시 읽어 반영한다
+//   (재색인이 먼저 읽은 옛 데이터가 그 사이 반영된 변경을 덮어쓰지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuSearchIndexer {
+
+    private final MenuSearchRepository menuSearchRepository;
+    private final MenuSearchIndex menuSearchIndex;
+
+    // 재색인 중에만 null이 아님 (rebuildLock으로 보호)
+    private final Object rebuildLock = new Object();
+    private Set<UUID> pendingMenuIds;
+    private Set<UUID> pendingStoreIds;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (rebuildLock) {
+            pendingMenuIds = new HashSet<>();
+            pendingStoreIds = new HashSet<>();
+        }
+        Set<UUID> menuIds;
+        Set<UUID> storeIds;
+        try {
+            menuSearchIndex.rebuild(menuSearchRepository.findAllDocuments());
+        } finally {
+            synchronized (rebuildLock) {
+                menuIds = pendingMenuIds;
+                storeIds = pendingStoreIds;
+                pendingMenuIds = null;
+                pendingStoreIds = null;
+            }
+        }
+        // 재색인 중에 커밋된 변경을 DB에서 다시 읽어 반영
+        if (!storeIds.isEmpty()) {
+            applyStores(storeIds);
+        }
+        if (!menuIds.isEmpty()) {
+            applyMenus(menuIds);
+        }
+        log.info("[MenuSearchIndex] {}개 메뉴 색인 완료 ({}ms, 재색인 중 변경 메뉴 {}개, 매장 {}개 재반영)",
+                menuSearchIndex.size(), System.currentTimeMillis() - start, menuIds.size(), storeIds.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChanged(MenuChangedEvent event) {
+        synchronized (rebuildLock) {
+            if (pendingMenuIds != null) {
+                pendingMenuIds.addAll(event.menuIds());
+                return;
+            }
+        }
+        applyMenus(event.menuIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (event.storeIds().isEmpty()) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            if (pendingStoreIds != null) {
+                pendingStoreIds.addAll(event.storeIds());
+                return;
+            }
+        }
+        applyStores(event.storeIds());
+    }
+
+    private void applyMenus(Collection<UUID> menuIds) {
+        List<MenuSearchDocument> documents = menuSearchRepository.findDocumentsByIdIn(menuIds);
+
+        Set<UUID> missing = new HashSet<>(menuIds);
+        for (MenuSearchDocument document : documents) {
+            menuSearchIndex.upsert(document);
+            missing.remove(document.id());
+        }
+        // 삭제/숨김 처리되었거나 색인 대상이 아닌 매장의 메뉴는 색인에서 제거
+        missing.forEach(menuSearchIndex::remove);
+    }
+
+    private void applyStores(Collection<UUID> storeIds) {
+        Map<UUID, List<MenuSearchDocument>> documents = menuSearchRepository
+                .findDocumentsByStoreIdIn(storeIds).stream()
+                .collect(Collectors.groupingBy(MenuSearchDocument::storeId));
+        for (UUID storeId : storeIds) {
+            menuSearchIndex.replaceStore(storeId, documents.getOrDefault(storeId, List.of()));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.Spot.menu.presentation.controller;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,21 +11,38 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.Spot.global.common.Role;
 import com.example.Spot.global.presentation.ApiResponse;
+import com.example.Spot.global.presentation.FieldSelection;
+import com.example.Spot.global.presentation.JsonBody;
 import com.example.Spot.global.presentation.code.GeneralSuccessCode;
 import com.example.Spot.infra.auth.security.CustomUserDetails;
+import com.example.Spot.menu.application.service.MenuAvailabilityService;
+import com.example.Spot.menu.application.service.MenuPriceService;
 import com.example.Spot.menu.application.service.MenuService;
+import com.example.Spot.menu.presentation.dto.request.AdjustMenuPriceRequestDto;
+import com.example.Spot.menu.presentation.dto.request.BulkUpsertMenuRequestDto;
+import com.example.Spot.menu.presentation.dto.request.CopyMenuRequestDto;
 import com.example.Spot.menu.presentation.dto.request.CreateMenuRequestDto;
 import com.example.Spot.menu.presentation.dto.request.UpdateMenuHiddenRequestDto;
 import com.example.Spot.menu.presentation.dto.request.UpdateMenuRequestDto;
+import com.example.Spot.menu.presentation.dto.response.AdjustMenuPriceResponseDto;
+import com.example.Spot.menu.presentation.dto.response.BulkUpsertMenuResponseDto;
+import com.example.Spot.menu.presentation.dto.response.CopyMenuResponseDto;
 import com.example.Spot.menu.presentation.dto.response.CreateMenuResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuAdminResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuResponseDto;
+import com.example.Spot.menu.presentation.dto.response.RollbackMenuPriceResponseDto;
+import com.example.Spot.store.application.service.StoreContentVersionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -35,34 +53,61 @@ import lombok.RequiredArgsConstructor;
 public class MenuController {
 
     private final MenuService menuService;
+    private final MenuPriceService menuPriceService;
+    private final MenuAvailabilityService menuAvailabilityService;
+    private final StoreContentVersionService storeContentVersionService;
+    private final ObjectMapper objectMapper;
 
     // 메뉴 전체 조회
     @GetMapping
-    public ApiResponse<List<? extends MenuResponseDto>> getMenus(
+    public ApiResponse<JsonBody<List<? extends MenuResponseDto>>> getMenus(
             @PathVariable UUID storeId,
-            @AuthenticationPrincipal CustomUserDetails principal
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal CustomUserDetails principal,
+            WebRequest webRequest
     ) {
 
         Integer userId = principal.getUserId();
         Role userRole = principal.getUserRole();
 
-        List<? extends MenuResponseDto> data = menuService.getMenus(storeId, userId, userRole);
-        return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, data);
+        // 손님: 매장 콘텐츠 버전이 그대로면 메뉴 조회/직렬화 없이 304
+        if (isNotModifiedForCustomer(storeId, userRole, webRequest)) {
+            return null;
+        }
+
+        FieldSelection selection = FieldSelection.parse(fields);
+
+        List<? extends MenuResponseDto> data = menuService.getMenus(storeId, userId, userRole, selection);
+        return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, selection.apply(objectMapper, data));
+    }
+
+    // 메뉴/옵션 품절·숨김 실시간 구독 (SSE: snapshot 이후 변경분만 availability로 전송)
+    @GetMapping(value = "/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability(@PathVariable UUID storeId) {
+        return menuAvailabilityService.subscribe(storeId);
     }
 
     // 메뉴 상세 조회
     @GetMapping("/{menuId}")
-    public ApiResponse<MenuResponseDto> getMenuDetail(
+    public ApiResponse<JsonBody<MenuResponseDto>> getMenuDetail(
             @PathVariable UUID storeId,
             @PathVariable UUID menuId,
-            @AuthenticationPrincipal CustomUserDetails principal
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal CustomUserDetails principal,
+            WebRequest webRequest
     ) {
 
         Integer userId = principal.getUserId();
         Role userRole = principal.getUserRole();
 
-        MenuResponseDto response = menuService.getMenuDetail(storeId, menuId, userId, userRole);
-        return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, response);
+        if (isNotModifiedForCustomer(storeId, userRole, webRequest)) {
+            return null;
+        }
+
+        // fields에 options/origins가 없으면 해당 연관은 조회하지 않는다
+        FieldSelection selection = FieldSelection.parse(fields);
+        MenuResponseDto response = menuService.getMenuDetail(storeId, menuId, userId, userRole, selection);
+        return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, selection.apply(objectMapper, response));
     }
 
     // 메뉴 생성
@@ -82,6 +127,74 @@ public class MenuController {
         return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, data);
     }
 
+    // 메뉴 대량 등록/수정 (client_key 기준 upsert)
+    @PreAuthorize("hasAnyRole('MASTER', 'MANAGER', 'OWNER')")
+    @PutMapping("/bulk")
+    public ApiResponse<BulkUpsertMenuResponseDto> upsertMenus(
+            @PathVariable UUID storeId,
+            @Valid @RequestBody BulkUpsertMenuRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+
+        Integer userId = principal.getUserId();
+        Role userRole = principal.getUserRole();
+
+        BulkUpsertMenuResponseDto data = menuService.upsertMenus(storeId, request, userId, userRole);
+
+        return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, data);
+    }
+
+    // 매장 메뉴 복사 (이 매장의 메뉴/옵션/원산지를 대상 매장들로)
+    @PreAuthorize("hasAnyRole('MASTER', 'MANAGER', 'OWNER')")
+    @PostMapping("/copy")
+    public ApiResponse<CopyMenuResponseDto> copyMenus(
+            @PathVariable UUID storeId,
+            @Valid @RequestBody CopyMenuRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+
+        Integer userId = principal.getUserId();
+        Role userRole = principal.getUserRole();
+
+        CopyMenuResponseDto data = menuService.copyMenus(storeId, request, userId, userRole);
+
+        return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, data);
+    }
+
+    // 메뉴/옵션 가격 일괄 조정
+    @PreAuthorize("hasAnyRole('MASTER', 'MANAGER', 'OWNER')")
+    @PatchMapping("/prices")
+    public ApiResponse<AdjustMenuPriceResponseDto> adjustPrices(
+            @PathVariable UUID storeId,
+            @Valid @RequestBody AdjustMenuPriceRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+
+        Integer userId = principal.getUserId();
+        Role userRole = principal.getUserRole();
+
+        AdjustMenuPriceResponseDto data = menuPriceService.adjustPrices(storeId, request, userId, userRole);
+
+        return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, data);
+    }
+
+    // 가격 일괄 조정 되돌리기
+    @PreAuthorize("hasAnyRole('MASTER', 'MANAGER', 'OWNER')")
+    @PostMapping("/prices/{adjustmentId}/rollback")
+    public ApiResponse<RollbackMenuPriceResponseDto> rollbackPrices(
+            @PathVariable UUID storeId,
+            @PathVariable UUID adjustmentId,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+
+        Integer userId = principal.getUserId();
+        Role userRole = principal.getUserRole();
+
+        RollbackMenuPriceResponseDto data = menuPriceService.rollbackPrices(storeId, adjustmentId, userId, userRole);
+
+        return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, data);
+    }
+
     // 메뉴 변경
     @PreAuthorize("hasAnyRole('MASTER', 'MANAGER', 'OWNER')")
     @PatchMapping("/{menuId}")
@@ -131,4 +244,11 @@ public class MenuController {
 
         return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, "해당 메뉴를 숨김 처리하였습니다.");
     }
+
+    // 손님용 응답만 ETag 사용 (관리자 응답은 삭제/숨김 메뉴를 포함해 사용자마다 다르다)
+    // ETag 헤더는 checkNotModified가 응답에 붙인다
+    private boolean isNotModifiedForCustomer(UUID storeId, Role userRole, WebRequest webRequest) {
+        return userRole == Role.CUSTOMER
+                && webRequest.checkNotModified(storeContentVersionService.getETag(storeId));
+    }
 }
@@ -0,0 +1,37 @@
+package com.example.Spot.menu.presentation.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.Spot.menu.domain.MenuPriceTarget;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+// 메뉴/옵션 가격 일괄 조정
+// - mode=PERCENT: value%만큼 조정 (예: 10 -> 10% 인상, -10 -> 10% 인하, 원 단위 반올림)
+// - mode=AMOUNT: value원만큼 조정 (예: 500, -500)
+// 조정 결과가 0원보다 작으면 0원, category/ids를 생략하면 매장 전체 메뉴(옵션)
+public record AdjustMenuPriceRequestDto(
+        @NotNull(message = "조정 대상은 필수입니다.")
+        MenuPriceTarget target,
+
+        @NotNull(message = "조정 방식은 필수입니다.")
+        Mode mode,
+
+        @NotNull(message = "조정 값은 필수입니다.")
+        Integer value,
+
+        // 메뉴 카테고리 (옵션 조정이면 해당 카테고리 메뉴의 옵션)
+        String category,
+
+        // 대상 메뉴 id (target=OPTION이면 옵션 id)
+        @Size(max = 1000, message = "한 번에 최대 1000개까지 지정할 수 있습니다.")
+        List<@NotNull UUID> ids
+) {
+
+    public enum Mode {
+        PERCENT,
+        AMOUNT
+    }
+}
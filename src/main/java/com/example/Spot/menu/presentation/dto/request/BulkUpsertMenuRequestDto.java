@@ -0,0 +1,113 @@
+package com.example.Spot.menu.presentation.dto.request;
+
+import java.util.List;
+
+import com.example.Spot.menu.domain.entity.MenuEntity;
+import com.example.Spot.menu.domain.entity.MenuOptionEntity;
+import com.example.Spot.menu.domain.entity.OriginEntity;
+import com.example.Spot.store.domain.entity.StoreEntity;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+// 메뉴 대량 등록/수정 (client_key가 같은 메뉴가 있으면 수정, 없으면 생성)
+// options/origins를 보내면 해당 메뉴의 옵션/원산지를 이 목록으로 맞춘다 (이름이 같으면 수정, 없으면 생성, 빠진 것은 삭제)
+// options/origins를 생략(null)하면 기존 옵션/원산지는 그대로 둔다
+public record BulkUpsertMenuRequestDto(
+        @NotEmpty(message = "메뉴 목록은 비어 있을 수 없습니다.")
+        @Size(max = 500, message = "한 번에 최대 500개 메뉴까지 등록할 수 있습니다.")
+        List<@Valid @NotNull MenuItem> menus
+) {
+
+    public record MenuItem(
+            @NotBlank(message = "client_key는 필수입니다.")
+            @Size(max = 100, message = "client_key는 100자 이하여야 합니다.")
+            @JsonProperty("client_key")
+            String clientKey,
+
+            @NotBlank(message = "메뉴명은 필수입니다.")
+            String name,
+
+            @NotBlank(message = "카테고리는 필수입니다.")
+            String category,
+
+            @NotNull(message = "가격은 필수입니다.")
+            @Min(value = 0, message = "가격은 0원 이상이어야 합니다.")
+            Integer price,
+
+            String description,
+
+            @JsonProperty("image_url")
+            String imageUrl,
+
+            @JsonProperty("is_available")
+            Boolean isAvailable,
+
+            List<@Valid @NotNull OptionItem> options,
+
+            List<@Valid @NotNull OriginItem> origins
+    ) {
+        public MenuEntity toEntity(StoreEntity store) {
+            MenuEntity menu = MenuEntity.builder()
+                    .store(store)
+                    .name(this.name)
+                    .category(this.category)
+                    .price(this.price)
+                    .description(this.description)
+                    .imageUrl(this.imageUrl)
+                    .clientKey(this.clientKey)
+                    .build();
+            if (this.isAvailable != null) {
+                menu.changeAvailable(this.isAvailable);
+            }
+            return menu;
+        }
+    }
+
+    public record OptionItem(
+            @NotBlank(message = "옵션명은 필수입니다.")
+            String name,
+
+            String detail,
+
+            @NotNull(message = "옵션 가격은 필수입니다.")
+            @Min(value = 0, message = "옵션 가격은 0원 이상이어야 합니다.")
+            Integer price,
+
+            @JsonProperty("is_available")
+            Boolean isAvailable
+    ) {
+        public MenuOptionEntity toEntity(MenuEntity menu) {
+            return MenuOptionEntity.builder()
+                    .menu(menu)
+                    .name(this.name)
+                    .detail(this.detail)
+                    .price(this.price)
+                    .isAvailable(this.isAvailable)
+                    .build();
+        }
+    }
+
+    public record OriginItem(
+            @NotBlank(message = "원산지는 필수입니다.")
+            @JsonProperty("origin_name")
+            String originName,
+
+            @NotBlank(message = "재료명은 필수입니다.")
+            @JsonProperty("ingredient_name")
+            String ingredientName
+    ) {
+        public OriginEntity toEntity(MenuEntity menu) {
+            return OriginEntity.builder()
+                    .menu(menu)
+                    .originName(this.originName)
+                    .ingredientName(this.ingredientName)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.Spot.menu.presentation.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+// 매장 메뉴 복사 (원본 매장의 메뉴/옵션/원산지를 대상 매장들로 복사)
+public record CopyMenuRequestDto(
+        @NotEmpty(message = "대상 매장 목록은 비어 있을 수 없습니다.")
+        @Size(max = 100, message = "한 번에 최대 100개 매장으로 복사할 수 있습니다.")
+        @JsonProperty("target_store_ids")
+        List<@NotNull UUID> targetStoreIds
+) {
+}
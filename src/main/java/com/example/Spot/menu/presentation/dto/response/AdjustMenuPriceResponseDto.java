@@ -0,0 +1,17 @@
+package com.example.Spot.menu.presentation.dto.response;
+
+import java.util.UUID;
+
+import com.example.Spot.menu.domain.MenuPriceTarget;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// adjustment_id로 이 조정을 되돌릴 수 있다
+public record AdjustMenuPriceResponseDto(
+        @JsonProperty("adjustment_id")
+        UUID adjustmentId,
+
+        MenuPriceTarget target,
+
+        int adjusted
+) {
+}
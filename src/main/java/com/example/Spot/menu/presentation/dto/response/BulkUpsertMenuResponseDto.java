@@ -0,0 +1,31 @@
+package com.example.Spot.menu.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record BulkUpsertMenuResponseDto(
+        int created,
+
+        int updated,
+
+        List<Result> menus
+) {
+
+    public record Result(
+            @JsonProperty("client_key")
+            String clientKey,
+
+            @JsonProperty("menu_id")
+            UUID menuId,
+
+            boolean created
+    ) {
+    }
+
+    public static BulkUpsertMenuResponseDto of(List<Result> results) {
+        int created = (int) results.stream().filter(Result::created).count();
+        return new BulkUpsertMenuResponseDto(created, results.size() - created, results);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.Spot.menu.presentation.dto.response;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CopyMenuResponseDto(
+        int copied,
+
+        List<StoreResult> stores
+) {
+
+    public record StoreResult(
+            @JsonProperty("store_id")
+            UUID storeId,
+
+            int copied
+    ) {
+    }
+
+    // 대상 매장 순서대로, 복사된 메뉴가 없는 매장(이미 같은 client_key가 있는 경우 등)은 0
+    public static CopyMenuResponseDto of(List<UUID> targetStoreIds, Map<UUID, List<UUID>> copiedMenuIds) {
+        List<StoreResult> stores = targetStoreIds.stream()
+                .map(storeId -> new StoreResult(storeId, copiedMenuIds.getOrDefault(storeId, List.of()).size()))
+                .toList();
+        return new CopyMenuResponseDto(stores.stream().mapToInt(StoreResult::copied).sum(), stores);
+    }
+}
@@ -6,8 +6,10 @@ import java.util.List;
 import java.util.UUID;
 
 import com.example.Spot.global.common.Role;
+import com.example.Spot.menu.domain.MenuGraph;
 import com.example.Spot.menu.domain.entity.MenuEntity;
 import com.example.Spot.menu.domain.entity.MenuOptionEntity;
+import com.example.Spot.menu.domain.entity.OriginEntity;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -29,6 +31,8 @@ public record MenuAdminResponseDto(
 
         List<MenuOptionAdminResponseDto> options,
 
+        List<OriginResponseDto> origins,
+
         @JsonProperty("is_available")
         Boolean isAvailable,
 
@@ -58,8 +62,17 @@ public record MenuAdminResponseDto(
 
 ) implements MenuResponseDto {
 
+    public static MenuAdminResponseDto of(MenuGraph graph, Role userRole) {
+        return of(graph.menu(), graph.options(), graph.origins(), userRole);
+    }
+
     // 정적 팩토리 메서드
     public static MenuAdminResponseDto of(MenuEntity menu, List<MenuOptionEntity> options, Role userRole) {
+        return of(menu, options, Collections.emptyList(), userRole);
+    }
+
+    public static MenuAdminResponseDto of(
+            MenuEntity menu, List<MenuOptionEntity> options, List<OriginEntity> origins, Role userRole) {
 
         // 받아온 options 리스트를 그대로 DTO로 변환
         List<MenuOptionAdminResponseDto> optionDtos = (options != null)
@@ -98,6 +111,7 @@ public record MenuAdminResponseDto(
                 menu.getDescription(),
                 menu.getImageUrl(),
                 optionDtos,
+                origins.stream().map(OriginResponseDto::from).toList(),
                 menu.getIsAvailable(),
                 menu.getIsDeleted(),
                 menu.getIsHidden(),
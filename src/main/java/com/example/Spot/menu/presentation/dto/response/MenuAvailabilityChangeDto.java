@@ -0,0 +1,53 @@
+package com.example.Spot.menu.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.Spot.menu.domain.MenuAvailability;
+import com.example.Spot.menu.infrastructure.availability.StoreAvailabilityBoard;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// 품절/숨김 상태가 바뀐 메뉴/옵션 (SSE event: availability)
+// 처음 보는 id는 새로 생긴 메뉴/옵션이므로 필요하면 메뉴 목록을 다시 조회한다
+public record MenuAvailabilityChangeDto(
+        long version,
+
+        List<Item> changes,
+
+        @JsonProperty("removed_ids")
+        List<UUID> removedIds
+) {
+
+    public record Item(
+            UUID id,
+
+            @JsonProperty("menu_id")
+            UUID menuId,
+
+            String type,
+
+            @JsonProperty("is_available")
+            boolean isAvailable,
+
+            @JsonProperty("is_hidden")
+            boolean isHidden
+    ) {
+        public static Item from(MenuAvailability availability) {
+            return new Item(
+                    availability.itemId(),
+                    availability.menuId(),
+                    availability.isOption() ? "OPTION" : "MENU",
+                    availability.isAvailable(),
+                    availability.isHidden()
+            );
+        }
+    }
+
+    public static MenuAvailabilityChangeDto from(StoreAvailabilityBoard.Diff diff) {
+        return new MenuAvailabilityChangeDto(
+                diff.version(),
+                diff.changed().stream().map(Item::from).toList(),
+                diff.removedIds()
+        );
+    }
+}
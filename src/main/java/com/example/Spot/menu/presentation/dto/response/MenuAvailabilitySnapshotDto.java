@@ -0,0 +1,23 @@
+package com.example.Spot.menu.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.Spot.menu.infrastructure.availability.StoreAvailabilityBoard;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// 품절/숨김 구독 시작 시 보내는 현재 상태 (SSE event: snapshot)
+// 목록에 없는 메뉴/옵션은 판매 중이고 노출 상태
+public record MenuAvailabilitySnapshotDto(
+        long version,
+
+        @JsonProperty("unavailable_ids")
+        List<UUID> unavailableIds,
+
+        @JsonProperty("hidden_ids")
+        List<UUID> hiddenIds
+) {
+    public static MenuAvailabilitySnapshotDto from(StoreAvailabilityBoard.Snapshot snapshot) {
+        return new MenuAvailabilitySnapshotDto(snapshot.version(), snapshot.unavailableIds(), snapshot.hiddenIds());
+    }
+}
@@ -4,8 +4,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
+import com.example.Spot.menu.domain.MenuGraph;
 import com.example.Spot.menu.domain.entity.MenuEntity;
 import com.example.Spot.menu.domain.entity.MenuOptionEntity;
+import com.example.Spot.menu.domain.entity.OriginEntity;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public record MenuPublicResponseDto(
@@ -26,11 +28,21 @@ public record MenuPublicResponseDto(
         @JsonProperty("is_available")
         Boolean isAvailable,
 
-        List<MenuOptionPublicResponseDto> options
+        List<MenuOptionPublicResponseDto> options,
+
+        List<OriginResponseDto> origins
 ) implements MenuResponseDto {
 
+    public static MenuPublicResponseDto of(MenuGraph graph) {
+        return of(graph.menu(), graph.options(), graph.origins());
+    }
+
     // 정적 팩토리 메서드
     public static MenuPublicResponseDto of(MenuEntity menu, List<MenuOptionEntity> options) {
+        return of(menu, options, Collections.emptyList());
+    }
+
+    public static MenuPublicResponseDto of(MenuEntity menu, List<MenuOptionEntity> options, List<OriginEntity> origins) {
         // 옵션 변환 로직 (Null Safe)
         List<MenuOptionPublicResponseDto> optionDtos = (options != null)
                 ? options.stream()
@@ -46,7 +58,8 @@ public record MenuPublicResponseDto(
                 menu.getDescription(),
                 menu.getImageUrl(),
                 menu.getIsAvailable(),
-                optionDtos
+                optionDtos,
+                origins.stream().map(OriginResponseDto::from).toList()
         );
     }
 }
@@ -0,0 +1,27 @@
+package com.example.Spot.menu.presentation.dto.response;
+
+import java.util.UUID;
+
+import com.example.Spot.menu.domain.entity.OriginEntity;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OriginResponseDto(
+        @JsonProperty("origin_id")
+        UUID id,
+
+        @JsonProperty("origin_name")
+        String originName,
+
+        @JsonProperty("ingredient_name")
+        String ingredientName
+) {
+    public static OriginResponseDto from(OriginEntity entity) {
+        return new OriginResponseDto(
+                entity.getId(),
+                entity.getOriginName(),
+                entity.getIngredientName()
+        );
+    }
+}
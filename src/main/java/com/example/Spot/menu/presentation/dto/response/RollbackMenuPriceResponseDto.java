@@ -0,0 +1,16 @@
+package com.example.Spot.menu.presentation.dto.response;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// skipped: 조정 이후 가격을 다시 수정해서 되돌리지 않은 건수
+public record RollbackMenuPriceResponseDto(
+        @JsonProperty("adjustment_id")
+        UUID adjustmentId,
+
+        int restored,
+
+        int skipped
+) {
+}
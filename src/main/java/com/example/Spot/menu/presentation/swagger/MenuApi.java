@@ -6,16 +6,26 @@ import java.util.UUID;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.Spot.global.presentation.ApiResponse;
+import com.example.Spot.global.presentation.JsonBody;
 import com.example.Spot.infra.auth.security.CustomUserDetails;
+import com.example.Spot.menu.presentation.dto.request.AdjustMenuPriceRequestDto;
+import com.example.Spot.menu.presentation.dto.request.BulkUpsertMenuRequestDto;
+import com.example.Spot.menu.presentation.dto.request.CopyMenuRequestDto;
 import com.example.Spot.menu.presentation.dto.request.CreateMenuRequestDto;
 import com.example.Spot.menu.presentation.dto.request.UpdateMenuHiddenRequestDto;
 import com.example.Spot.menu.presentation.dto.request.UpdateMenuRequestDto;
+import com.example.Spot.menu.presentation.dto.response.AdjustMenuPriceResponseDto;
+import com.example.Spot.menu.presentation.dto.response.BulkUpsertMenuResponseDto;
+import com.example.Spot.menu.presentation.dto.response.CopyMenuResponseDto;
 import com.example.Spot.menu.presentation.dto.response.CreateMenuResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuAdminResponseDto;
-import com.example.Spot.menu.presentation.dto.response.MenuPublicResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuResponseDto;
+import com.example.Spot.menu.presentation.dto.response.RollbackMenuPriceResponseDto;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -25,22 +35,43 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "메뉴", description = "메뉴 관리 API")
 public interface MenuApi {
 
-    @Operation(summary = "메뉴 전체 조회", description = "특정 매장의 모든 메뉴를 조회합니다. 권한에 따라 숨김 메뉴 포함 여부가 결정됩니다.")
+    @Operation(summary = "메뉴 전체 조회", description = "특정 매장의 모든 메뉴를 조회합니다. 권한에 따라 숨김 메뉴 포함 여부가 결정됩니다. "
+            + "fields에 options가 없으면 옵션은 조회하지 않습니다. "
+            + "손님 응답에는 매장 콘텐츠 버전 ETag가 붙고, If-None-Match가 같으면 304를 반환합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "매장을 찾을 수 없음")
     })
-    ApiResponse<List<? extends MenuResponseDto>> getMenus(
+    ApiResponse<JsonBody<List<? extends MenuResponseDto>>> getMenus(
             @Parameter(description = "매장 ID") @PathVariable UUID storeId,
-            @AuthenticationPrincipal CustomUserDetails user);
+            @Parameter(description = "응답에 포함할 필드 (콤마 구분, 예: menu_id,name,price). 생략 시 전체") @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal CustomUserDetails user,
+            @Parameter(hidden = true) WebRequest webRequest);
+
+    @Operation(summary = "메뉴 품절/숨김 실시간 구독", description = "매장 메뉴/옵션의 품절·숨김 변경을 SSE로 받습니다. "
+            + "연결 직후 snapshot 이벤트(품절/숨김 id 목록)를 보내고, 이후에는 상태가 바뀐 항목만 availability 이벤트로 보냅니다. "
+            + "이벤트 id는 매장별 버전입니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "구독 시작"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "매장을 찾을 수 없음")
+    })
+    SseEmitter streamAvailability(@Parameter(description = "매장 ID") @PathVariable UUID storeId);
 
-    @Operation(summary = "메뉴 상세 조회", description = "특정 메뉴의 상세 정보를 조회합니다.")
+    @Operation(summary = "메뉴 상세 조회", description = "특정 메뉴의 상세 정보를 조회합니다. "
+            + "fields에 options/origins가 없으면 옵션/원산지는 조회하지 않습니다. "
+            + "손님 응답에는 매장 콘텐츠 버전 ETag가 붙고, If-None-Match가 같으면 304를 반환합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "메뉴를 찾을 수 없음")
     })
-    ApiResponse<MenuPublicResponseDto> getMenuDetail(
-            @Parameter(description = "메뉴 ID") @PathVariable UUID menuId);
+    ApiResponse<JsonBody<MenuResponseDto>> getMenuDetail(
+            @Parameter(description = "매장 ID") @PathVariable UUID storeId,
+            @Parameter(description = "메뉴 ID") @PathVariable UUID menuId,
+            @Parameter(description = "응답에 포함할 필드 (콤마 구분, 예: menu_id,name,options). 생략 시 전체") @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal CustomUserDetails user,
+            @Parameter(hidden = true) WebRequest webRequest);
 
     @Operation(summary = "메뉴 생성", description = "새로운 메뉴를 생성합니다.")
     @ApiResponses({
@@ -53,6 +84,56 @@ public interface MenuApi {
             @RequestBody CreateMenuRequestDto request,
             @AuthenticationPrincipal CustomUserDetails user);
 
+    @Operation(summary = "메뉴 대량 등록/수정", description = "client_key가 같은 메뉴가 있으면 수정하고 없으면 생성합니다(최대 500개, 한 트랜잭션). "
+            + "options/origins를 보내면 해당 메뉴의 옵션/원산지를 그 목록으로 맞추고, 생략하면 그대로 둡니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "처리 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (client_key 중복 등)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    ApiResponse<BulkUpsertMenuResponseDto> upsertMenus(
+            @Parameter(description = "매장 ID") @PathVariable UUID storeId,
+            @RequestBody BulkUpsertMenuRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails user);
+
+    @Operation(summary = "매장 메뉴 복사", description = "매장의 삭제되지 않은 메뉴/옵션/원산지를 대상 매장들로 복사합니다(최대 100개 매장, 한 트랜잭션). "
+            + "client_key가 있는 메뉴는 대상 매장에 같은 키가 이미 있으면 건너뜁니다. "
+            + "client_key가 없는 메뉴는 다시 실행하면 한 번 더 복사되므로, 반복 실행하려면 원본 메뉴에 client_key를 지정하세요.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "복사 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (원본 매장 포함, 없는 매장 등)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "동시 복사 등으로 대상 매장의 메뉴와 충돌")
+    })
+    ApiResponse<CopyMenuResponseDto> copyMenus(
+            @Parameter(description = "원본 매장 ID") @PathVariable UUID storeId,
+            @RequestBody CopyMenuRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails user);
+
+    @Operation(summary = "가격 일괄 조정", description = "메뉴 또는 옵션 가격을 비율(PERCENT)/금액(AMOUNT)으로 한 번에 조정합니다. "
+            + "category/ids로 대상을 좁힐 수 있고, 응답의 adjustment_id로 되돌릴 수 있습니다. 0원 미만은 0원으로 맞춥니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조정 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (조정 값 범위, 없는 대상 등)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    ApiResponse<AdjustMenuPriceResponseDto> adjustPrices(
+            @Parameter(description = "매장 ID") @PathVariable UUID storeId,
+            @RequestBody AdjustMenuPriceRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails user);
+
+    @Operation(summary = "가격 일괄 조정 되돌리기", description = "가격 일괄 조정 이전 가격으로 되돌립니다. "
+            + "조정 이후 다시 수정한 가격은 그대로 두고 skipped로 알려줍니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "되돌리기 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "조정 내역 없음 (이미 되돌린 경우 포함)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    ApiResponse<RollbackMenuPriceResponseDto> rollbackPrices(
+            @Parameter(description = "매장 ID") @PathVariable UUID storeId,
+            @Parameter(description = "가격 조정 ID") @PathVariable UUID adjustmentId,
+            @AuthenticationPrincipal CustomUserDetails user);
+
     @Operation(summary = "메뉴 수정", description = "메뉴 정보를 수정합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수정 성공"),
@@ -0,0 +1,7 @@
+package com.example.Spot.review.application.event;
+
+import java.util.UUID;
+
+// 리뷰가 작성/수정/삭제된 매장 (커밋 후 매장 인기 점수 갱신용)
+public record ReviewChangedEvent(UUID storeId) {
+}
@@ -2,12 +2,14 @@ package com.example.Spot.review.application.service;
 
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.Spot.review.application.event.ReviewChangedEvent;
 import com.example.Spot.review.domain.entity.ReviewEntity;
 import com.example.Spot.review.domain.repository.ReviewRepository;
 import com.example.Spot.review.presentation.dto.request.ReviewCreateRequest;
@@ -30,6 +32,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReviewResponse createReview(ReviewCreateRequest request, Integer userId) {
@@ -52,6 +55,7 @@ public class ReviewService {
 
         review.validateRating();
         ReviewEntity savedReview = reviewRepository.save(review);
+        eventPublisher.publishEvent(new ReviewChangedEvent(store.getId()));
 
         return ReviewResponse.fromEntity(savedReview);
     }
@@ -83,6 +87,7 @@ public class ReviewService {
 
         review.updateReview(request.rating(), request.content(), userId);
         review.validateRating();
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getStore().getId()));
 
         return ReviewResponse.fromEntity(review);
     }
@@ -98,5 +103,6 @@ public class ReviewService {
         }
 
         review.softDelete(userId);
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getStore().getId()));
     }
 }
@@ -0,0 +1,19 @@
+package com.example.Spot.store.application.event;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+// 매장 정보(생성/수정/삭제/상태 변경)가 바뀌었을 때 발행
+// 검색 색인 등 메모리에 들고 있는 매장 데이터는 커밋 이후 이 이벤트로 갱신한다
+public record StoreChangedEvent(
+        Set<UUID> storeIds
+) {
+    public static StoreChangedEvent of(UUID storeId) {
+        return new StoreChangedEvent(Set.of(storeId));
+    }
+
+    public static StoreChangedEvent of(Collection<UUID> storeIds) {
+        return new StoreChangedEvent(Set.copyOf(storeIds));
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.Spot.store.application.event;
+
+import java.util.UUID;
+
+// 매장 soft delete 트랜잭션이 커밋되면 하위 데이터 삭제 작업(jobId)을 시작하기 위한 이벤트
+public record StoreDeletionRequestedEvent(UUID jobId) {
+}
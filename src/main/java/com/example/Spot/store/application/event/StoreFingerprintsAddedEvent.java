@@ -0,0 +1,18 @@
+package com.example.Spot.store.application.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+// 새로 저장된 매장 지문 (매장 생성/대량 등록, 주소/매장명 수정)
+// StoreFingerprintFilter는 커밋 이후 이 이벤트로 Bloom 필터에 추가한다 (롤백된 지문은 넣지 않음)
+public record StoreFingerprintsAddedEvent(
+        Set<String> fingerprints
+) {
+    public static StoreFingerprintsAddedEvent of(String fingerprint) {
+        return new StoreFingerprintsAddedEvent(Set.of(fingerprint));
+    }
+
+    public static StoreFingerprintsAddedEvent of(Collection<String> fingerprints) {
+        return new StoreFingerprintsAddedEvent(Set.copyOf(fingerprints));
+    }
+}
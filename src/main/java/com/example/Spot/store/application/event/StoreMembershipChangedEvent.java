@@ -0,0 +1,14 @@
+package com.example.Spot.store.application.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+// 매장 소속(p_store_user)이 바뀐 유저들 (매장 생성, 직원 추가/삭제)
+// StoreMembershipService의 권한 캐시는 커밋 이후 이 이벤트로 비운다
+public record StoreMembershipChangedEvent(
+        Set<Integer> userIds
+) {
+    public static StoreMembershipChangedEvent of(Collection<Integer> userIds) {
+        return new StoreMembershipChangedEvent(Set.copyOf(userIds));
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.Spot.store.application.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.Spot.menu.application.event.MenuChangedEvent;
+import com.example.Spot.global.presentation.FieldSelection;
+import com.example.Spot.menu.domain.entity.MenuEntity;
+import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.menu.infrastructure.repository.MenuGraphLoader;
+import com.example.Spot.menu.presentation.dto.response.MenuPublicResponseDto;
+import com.example.Spot.store.application.event.StoreChangedEvent;
+import com.example.Spot.store.domain.CatalogChangeType;
+import com.example.Spot.store.domain.StoreCategoryName;
+import com.example.Spot.store.domain.StoreRegion;
+import com.example.Spot.store.domain.StoreSummary;
+import com.example.Spot.store.domain.entity.CatalogChangeEntity;
+import com.example.Spot.store.domain.entity.CatalogSequenceEntity;
+import com.example.Spot.store.domain.repository.CatalogChangeRepository;
+import com.example.Spot.store.domain.repository.CatalogSequenceRepository;
+import com.example.Spot.store.domain.repository.StoreCategoryRepository;
+import com.example.Spot.store.domain.repository.StoreRepository;
+import com.example.Spot.store.infrastructure.repository.StoreSearchRepository;
+import com.example.Spot.store.infrastructure.search.StoreSearchDocument;
+import com.example.Spot.store.presentation.dto.response.CatalogSyncResponse;
+import com.example.Spot.store.presentation.dto.response.StoreListResponse;
+
+import lombok.RequiredArgsConstructor;
+
+// 매장/메뉴 델타 동기화
+// - 기록: StoreChangedEvent/MenuChangedEvent가 발행된 트랜잭션의 커밋 직전에 변경 로그(p_catalog_change)를 남긴다
+//   seq는 카운터 행을 잠그고 발급하므로 커밋 순서대로 증가하고, 클라이언트는 마지막 seq만 기억하면 된다
+// - 조회: since 이후 로그를 seq 순으로 읽어 같은 항목은 한 번만, 현재 상태(또는 삭제 표시)로 내려준다
+// 리스너는 발행한 트랜잭션 안에서 실행되어야 하므로 클래스 단위 @Transactional을 두지 않는다
+@Service
+@RequiredArgsConstructor
+public class CatalogSyncService {
+
+    private static final String SEQUENCE_NAME = "catalog";
+
+    @Value("${service.active-regions}")
+    private List<String> activeRegions;
+
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final CatalogSequenceRepository catalogSequenceRepository;
+    private final StoreRepository storeRepository;
+    private final StoreCategoryRepository storeCategoryRepository;
+    private final StoreSearchRepository storeSearchRepository;
+    private final MenuRepository menuRepository;
+    private final MenuGraphLoader menuGraphLoader;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onStoreChanged(StoreChangedEvent event) {
+        Map<UUID, UUID> storeIds = new LinkedHashMap<>();
+        event.storeIds().forEach(storeId -> storeIds.put(storeId, storeId));
+        record(CatalogChangeType.STORE, storeIds);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMenuChanged(MenuChangedEvent event) {
+        Map<UUID, UUID> menuIds = new LinkedHashMap<>();
+        event.menuIds().forEach(menuId -> menuIds.put(menuId, event.storeId()));
+        record(CatalogChangeType.MENU, menuIds);
+    }
+
+    // 현재 버전 (since 없이 처음 동기화를 시작할 때 사용)
+    @Transactional(readOnly = true)
+    public long currentVersion() {
+        return catalogSequenceRepository.findById(SEQUENCE_NAME)
+                .map(CatalogSequenceEntity::getLastSeq)
+                .orElse(0L);
+    }
+
+    // since 이후 변경분 (손님에게 노출되는 기준: 승인/미삭제/서비스 지역 매장, 미삭제/미숨김 메뉴)
+    // since가 없으면 현재 버전만 반환 - 전체 목록은 기존 목록 API로 받은 뒤 이 버전부터 동기화
+    @Transactional(readOnly = true)
+    public CatalogSyncResponse getChanges(Long since, int size) {
+        if (since == null) {
+            return CatalogSyncResponse.empty(currentVersion());
+        }
+
+        List<CatalogChangeEntity> changes = catalogChangeRepository.findBySeqGreaterThanOrderBySeqAsc(
+                since, PageRequest.ofSize(size + 1));
+        boolean hasMore = changes.size() > size;
+        List<CatalogChangeEntity> page = hasMore ? changes.subList(0, size) : changes;
+        if (page.isEmpty()) {
+            return CatalogSyncResponse.empty(since);
+        }
+
+        // 같은 항목이 여러 번 바뀌었으면 한 번만 (현재 상태를 내려주므로 순서는 상관없음)
+        Set<UUID> changedStoreIds = new HashSet<>();
+        Map<UUID, UUID> changedMenus = new LinkedHashMap<>();
+        for (CatalogChangeEntity change : page) {
+            if (change.getEntityType() == CatalogChangeType.STORE) {
+                changedStoreIds.add(change.getEntityId());
+            } else {
+                changedMenus.put(change.getEntityId(), change.getStoreId());
+            }
+        }
+
+        Set<UUID> visibleStoreIds = findVisibleStoreIds(union(changedStoreIds, changedMenus.values()));
+
+        List<UUID> deletedStoreIds = changedStoreIds.stream()
+                .filter(id -> !visibleStoreIds.contains(id))
+                .toList();
+        List<StoreListResponse> stores = loadStores(changedStoreIds.stream()
+                .filter(visibleStoreIds::contains)
+                .toList());
+
+        List<MenuPublicResponseDto> menus = loadMenus(changedMenus.keySet(), visibleStoreIds);
+        Set<UUID> liveMenuIds = menus.stream().map(MenuPublicResponseDto::id).collect(Collectors.toSet());
+        List<UUID> deletedMenuIds = changedMenus.keySet().stream()
+                .filter(id -> !liveMenuIds.contains(id))
+                .toList();
+
+        long version = page.get(page.size() - 1).getSeq();
+        return new CatalogSyncResponse(version, hasMore, stores, menus, deletedStoreIds, deletedMenuIds);
+    }
+
+    // 커밋 직전에 호출: 카운터 행을 잠그고 항목마다 seq 발급 (entityId -> storeId)
+    private void record(CatalogChangeType type, Map<UUID, UUID> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        CatalogSequenceEntity sequence = catalogSequenceRepository.findByNameForUpdate(SEQUENCE_NAME)
+                .orElseGet(() -> catalogSequenceRepository.save(new CatalogSequenceEntity(SEQUENCE_NAME)));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CatalogChangeEntity> changes = new ArrayList<>(entities.size());
+        entities.forEach((entityId, storeId) ->
+                changes.add(new CatalogChangeEntity(sequence.next(), type, entityId, storeId, now)));
+        catalogChangeRepository.saveAll(changes);
+    }
+
+    private Set<UUID> findVisibleStoreIds(Set<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> regionCodes = StoreRegion.normalizeAll(activeRegions);
+        return storeSearchRepository.findDocumentsByIdIn(storeIds).stream()
+                .filter(document -> document.isVisibleTo(false, regionCodes))
+                .map(StoreSearchDocument::id)
+                .collect(Collectors.toSet());
+    }
+
+    private List<StoreListResponse> loadStores(List<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<String>> categoryNames = storeCategoryRepository.findCategoryNamesByStoreIdIn(storeIds).stream()
+                .collect(Collectors.groupingBy(StoreCategoryName::storeId,
+                        Collectors.mapping(StoreCategoryName::categoryName, Collectors.toList())));
+        List<StoreSummary> summaries = storeRepository.findSummariesByIdIn(storeIds);
+        return summaries.stream()
+                .map(store -> StoreListResponse.of(store, categoryNames.getOrDefault(store.id(), List.of())))
+                .toList();
+    }
+
+    // 노출 가능한 메뉴만 옵션/원산지와 함께 (옵션/원산지는 IN 쿼리 한 번씩)
+    private List<MenuPublicResponseDto> loadMenus(Collection<UUID> menuIds, Set<UUID> visibleStoreIds) {
+        if (menuIds.isEmpty()) {
+            return List.of();
+        }
+        List<MenuEntity> menus = menuRepository.findAllById(menuIds).stream()
+                .filter(menu -> !menu.getIsDeleted() && !Boolean.TRUE.equals(menu.getIsHidden()))
+                .filter(menu -> visibleStoreIds.contains(menu.getStore().getId()))
+                .toList();
+        return menuGraphLoader.attach(menus, false, FieldSelection.ALL).stream()
+                .map(MenuPublicResponseDto::of)
+                .toList();
+    }
+
+    private static Set<UUID> union(Collection<UUID> a, Collection<UUID> b) {
+        Set<UUID> result = new HashSet<>(a);
+        result.addAll(b);
+        return result;
+    }
+}
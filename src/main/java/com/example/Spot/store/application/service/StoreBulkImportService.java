@@ -0,0 +1,235 @@
+package com.example.Spot.store.application.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.example.Spot.global.presentation.advice.DuplicateResourceException;
+import com.example.Spot.store.presentation.dto.request.StoreBulkRow;
+import com.example.Spot.store.presentation.dto.request.StoreCreateRequest;
+import com.example.Spot.store.presentation.dto.response.StoreBulkResultResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 매장 대량 등록 (NDJSON / CSV 스트리밍)
+// 입력을 한 줄씩 읽어 CHUNK_SIZE 단위로 StoreService.createStoresBulk에 넘기고, 결과를 바로 NDJSON으로 내보낸다
+// 한 번에 메모리에 올라가는 것은 청크 하나뿐이라 파일 크기와 상관없이 메모리 사용량이 일정하다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreBulkImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String CSV_LIST_DELIMITER = "\\|";
+
+    private final StoreService storeService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    public void importStores(InputStream in, Format format, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        // CSV는 첫 줄을 헤더로 사용 (컬럼 순서 자유)
+        int lineNumber = 0;
+        Map<String, Integer> header = null;
+        if (format == Format.CSV) {
+            String headerLine = reader.readLine();
+            lineNumber++;
+            if (headerLine == null) {
+                return;
+            }
+            header = parseCsvHeader(headerLine);
+        }
+
+        List<StoreBulkRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                StoreCreateRequest request = format == Format.CSV
+                        ? parseCsvRow(line, header)
+                        : objectMapper.readValue(line, StoreCreateRequest.class);
+                validate(request);
+                chunk.add(new StoreBulkRow(lineNumber, request));
+            } catch (JsonProcessingException e) {
+                write(out, StoreBulkResultResponse.failed(lineNumber, "잘못된 형식입니다: " + e.getOriginalMessage()));
+            } catch (RuntimeException e) {
+                write(out, StoreBulkResultResponse.failed(lineNumber, e.getMessage()));
+            }
+
+            if (chunk.size() == CHUNK_SIZE) {
+                flushChunk(chunk, out);
+            }
+        }
+        flushChunk(chunk, out);
+    }
+
+    // 청크 하나를 한 트랜잭션으로 등록하고 결과를 내보냄
+    // 저장 단계에서 청크가 실패하면(동시에 등록된 같은 매장 등) 행마다 따로 다시 등록해 실패한 행만 골라낸다
+    private void flushChunk(List<StoreBulkRow> chunk, OutputStream out) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<StoreBulkResultResponse> results;
+        try {
+            results = storeService.createStoresBulk(chunk);
+        } catch (RuntimeException e) {
+            log.warn("[StoreBulkImport] 청크 등록 실패, 행 단위로 다시 등록 (line {} ~ {}): {}",
+                    chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), e.getMessage());
+            results = chunk.stream().map(this::createRow).toList();
+        }
+
+        for (StoreBulkResultResponse result : results) {
+            write(out, result);
+        }
+        out.flush();
+        chunk.clear();
+    }
+
+    private StoreBulkResultResponse createRow(StoreBulkRow row) {
+        try {
+            return storeService.createStoresBulk(List.of(row)).get(0);
+        } catch (DuplicateResourceException e) {
+            return StoreBulkResultResponse.failed(row.line(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("[StoreBulkImport] 행 등록 실패 (line {})", row.line(), e);
+            return StoreBulkResultResponse.failed(row.line(), "등록 중 오류가 발생했습니다.");
+        }
+    }
+
+    private void validate(StoreCreateRequest request) {
+        Set<ConstraintViolation<StoreCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private void write(OutputStream out, StoreBulkResultResponse result) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Map<String, Integer> parseCsvHeader(String line) {
+        List<String> columns = splitCsvLine(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim(), i);
+        }
+        return header;
+    }
+
+    // 컬럼: name, roadAddress, addressDetail, phoneNumber, openTime, closeTime, categoryNames(| 구분), ownerId, chefId,
+    //       latitude, longitude (선택)
+    private StoreCreateRequest parseCsvRow(String line, Map<String, Integer> header) {
+        List<String> values = splitCsvLine(line);
+        return StoreCreateRequest.builder()
+                .name(column(values, header, "name"))
+                .roadAddress(column(values, header, "roadAddress"))
+                .addressDetail(column(values, header, "addressDetail"))
+                .phoneNumber(column(values, header, "phoneNumber"))
+                .openTime(parseTime(column(values, header, "openTime")))
+                .closeTime(parseTime(column(values, header, "closeTime")))
+                .categoryNames(parseList(column(values, header, "categoryNames")))
+                .ownerId(parseInteger(column(values, header, "ownerId")))
+                .chefId(parseInteger(column(values, header, "chefId")))
+                .latitude(parseDouble(column(values, header, "latitude")))
+                .longitude(parseDouble(column(values, header, "longitude")))
+                .build();
+    }
+
+    private String column(List<String> values, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private LocalTime parseTime(String value) {
+        return value == null ? null : LocalTime.parse(value);
+    }
+
+    private Integer parseInteger(String value) {
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    private Double parseDouble(String value) {
+        return value == null ? null : Double.valueOf(value);
+    }
+
+    private List<String> parseList(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(CSV_LIST_DELIMITER))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+
+    // 큰따옴표로 감싼 값("a,b")과 이스케이프된 따옴표("")를 지원하는 한 줄 CSV 분리
+    private List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
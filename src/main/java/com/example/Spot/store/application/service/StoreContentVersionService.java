@@ -0,0 +1,49 @@
+package com.example.Spot.store.application.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.Spot.menu.application.event.MenuChangedEvent;
+import com.example.Spot.store.application.event.StoreChangedEvent;
+import com.example.Spot.store.domain.repository.StoreRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// 매장 콘텐츠 버전 (p_store.content_version) - 매장 상세/메뉴 조회 응답의 ETag
+// - 매장/메뉴/옵션 변경 이벤트가 발행된 트랜잭션의 커밋 직전에 +1 (변경과 같은 트랜잭션이라 커밋되면 버전도 함께 반영)
+// - 조회는 버전을 먼저 읽고 본문을 만들기 때문에, 그 사이 변경이 커밋되어도 ETag가 본문보다 새 버전을 가리키지 않는다
+// 리스너는 발행한 트랜잭션 안에서 실행되어야 하므로 클래스 단위 @Transactional을 두지 않는다
+@Service
+@RequiredArgsConstructor
+public class StoreContentVersionService {
+
+    private final StoreRepository storeRepository;
+
+    // 버전 행을 p_catalog_sequence보다 먼저 잠그도록 다른 BEFORE_COMMIT 리스너보다 앞에 실행 (잠금 순서 고정)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (!event.storeIds().isEmpty()) {
+            storeRepository.incrementContentVersion(event.storeIds());
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMenuChanged(MenuChangedEvent event) {
+        storeRepository.incrementContentVersion(List.of(event.storeId()));
+    }
+
+    // 강한 ETag 값 (따옴표는 WebRequest.checkNotModified가 붙인다), 매장이 없으면 null
+    public String getETag(UUID storeId) {
+        return storeRepository.findContentVersionById(storeId)
+                .map(version -> storeId + "-" + version)
+                .orElse(null);
+    }
+}
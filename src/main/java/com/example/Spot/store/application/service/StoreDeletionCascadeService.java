@@ -0,0 +1,203 @@
+package com.example.Spot.store.application.service;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.Spot.menu.application.event.MenuChangedEvent;
+import com.example.Spot.store.application.event.StoreDeletionRequestedEvent;
+import com.example.Spot.store.domain.StoreDeletionStage;
+import com.example.Spot.store.domain.StoreDeletionStatus;
+import com.example.Spot.store.domain.entity.StoreDeletionJobEntity;
+import com.example.Spot.store.domain.repository.StoreDeletionJobRepository;
+import com.example.Spot.store.infrastructure.repository.StoreCascadeRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 매장 삭제 후속 처리: 매장의 메뉴 옵션 -> 원산지 -> 메뉴 -> 리뷰를 BATCH_SIZE 단위로 soft delete
+// - 매장 삭제 트랜잭션에서는 작업(p_store_deletion_job)만 기록하고, 커밋 후 백그라운드 스레드에서 실행
+// - 배치 하나 = 트랜잭션 하나 (id 조회 + 벌크 UPDATE + 진행 상황 기록), 큰 매장도 긴 트랜잭션이 생기지 않는다
+// - 메뉴/옵션/원산지 배치마다 MenuChangedEvent를 발행해 상세 캐시, 콘텐츠 버전, 변경 로그, 품절 현황이 배치 커밋 후 갱신되게 한다
+// - 완료되지 않은 작업은 애플리케이션 시작 시 이어서 진행, 실패(FAILED)한 작업은 주기적으로 다시 실행
+// - MAX_ATTEMPTS번 실패한 작업은 ABANDONED로 두고 더 이상 재시도하지 않는다 (진행 상황 조회로 실패 사유 확인)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreDeletionCascadeService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Set<StoreDeletionStatus> UNFINISHED =
+            EnumSet.of(StoreDeletionStatus.PENDING, StoreDeletionStatus.RUNNING, StoreDeletionStatus.FAILED);
+
+    private final StoreDeletionJobRepository storeDeletionJobRepository;
+    private final StoreCascadeRepository storeCascadeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 삭제 작업이 DB를 과하게 점유하지 않도록 전용 스레드 하나에서 순서대로 실행
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "store-deletion-cascade");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 실행 대기/실행 중인 작업 (재시도 스케줄이 같은 작업을 여러 번 넣지 않도록)
+    private final Set<UUID> queuedJobIds = ConcurrentHashMap.newKeySet();
+
+    // 매장 삭제 트랜잭션 안에서 호출: 작업을 기록하고 커밋 후 실행되도록 이벤트 발행
+    @Transactional(propagation = Propagation.MANDATORY)
+    public UUID request(UUID storeId, Integer userId) {
+        StoreDeletionJobEntity job = storeDeletionJobRepository.save(new StoreDeletionJobEntity(storeId, userId));
+        eventPublisher.publishEvent(new StoreDeletionRequestedEvent(job.getId()));
+        return job.getId();
+    }
+
+    // 진행 상황 조회용: 매장의 가장 최근 삭제 작업
+    @Transactional(readOnly = true)
+    public Optional<StoreDeletionJobEntity> findLatestJob(UUID storeId) {
+        return storeDeletionJobRepository.findFirstByStoreIdOrderByCreatedAtDesc(storeId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeletionRequested(StoreDeletionRequestedEvent event) {
+        submit(event.jobId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        List<StoreDeletionJobEntity> jobs = storeDeletionJobRepository.findAllByStatusIn(UNFINISHED);
+        if (!jobs.isEmpty()) {
+            log.info("[StoreDeletionCascade] 완료되지 않은 작업 {}건 재개", jobs.size());
+        }
+        jobs.forEach(job -> submit(job.getId()));
+    }
+
+    @Scheduled(cron = "${store.deletion.retry-cron:0 */5 * * * *}")
+    public void retryFailed() {
+        List<StoreDeletionJobEntity> jobs =
+                storeDeletionJobRepository.findAllByStatusIn(EnumSet.of(StoreDeletionStatus.FAILED));
+        if (!jobs.isEmpty()) {
+            log.info("[StoreDeletionCascade] 실패한 작업 {}건 재시도", jobs.size());
+        }
+        jobs.forEach(job -> submit(job.getId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(UUID jobId) {
+        if (!queuedJobIds.add(jobId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    queuedJobIds.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queuedJobIds.remove(jobId);
+            // 종료 중에는 작업이 PENDING으로 남고 다음 시작 시 재개된다
+            log.warn("[StoreDeletionCascade] 작업 등록 실패 (jobId={})", jobId);
+        }
+    }
+
+    // 작업 하나를 끝까지 실행 (백그라운드 스레드에서 호출, 중단되면 다음 시작 시 현재 단계부터 재개)
+    public void run(UUID jobId) {
+        int batches = 0;
+        try {
+            boolean finished = false;
+            while (!finished && !Thread.currentThread().isInterrupted()) {
+                finished = Boolean.TRUE.equals(transactionTemplate.execute(status -> processBatch(jobId)));
+                batches++;
+            }
+            log.info("[StoreDeletionCascade] 작업 종료 (jobId={}, 배치 {}회)", jobId, batches);
+        } catch (RuntimeException e) {
+            log.error("[StoreDeletionCascade] 작업 실패 (jobId={})", jobId, e);
+            transactionTemplate.executeWithoutResult(status -> storeDeletionJobRepository.findById(jobId)
+                    .ifPresent(job -> {
+                        job.fail(e.getMessage(), MAX_ATTEMPTS);
+                        if (job.isAbandoned()) {
+                            log.error("[StoreDeletionCascade] {}회 실패로 재시도 중단 (jobId={})", MAX_ATTEMPTS, jobId);
+                        }
+                    }));
+        }
+    }
+
+    // 배치 하나 처리, 작업이 끝났으면 true
+    private boolean processBatch(UUID jobId) {
+        StoreDeletionJobEntity job = storeDeletionJobRepository.findByIdForUpdate(jobId).orElse(null);
+        if (job == null || job.isFinished() || job.isAbandoned()) {
+            return true;
+        }
+        if (job.getStatus() != StoreDeletionStatus.RUNNING) {
+            job.start();
+        }
+
+        PageRequest batch = PageRequest.ofSize(BATCH_SIZE);
+        UUID storeId = job.getStoreId();
+        LocalDateTime now = LocalDateTime.now();
+        Integer deletedBy = job.getRequestedBy();
+
+        StoreDeletionStage stage = job.getStage();
+        List<UUID> ids = switch (stage) {
+            case MENU_OPTION -> storeCascadeRepository.findActiveMenuOptionIds(storeId, batch);
+            case ORIGIN -> storeCascadeRepository.findActiveOriginIds(storeId, batch);
+            case MENU -> storeCascadeRepository.findActiveMenuIds(storeId, batch);
+            case REVIEW -> storeCascadeRepository.findActiveReviewIds(storeId, batch);
+            case DONE -> List.of();
+        };
+
+        // 현재 단계에 남은 행이 없으면 다음 단계로 (마지막 단계면 완료)
+        if (ids.isEmpty()) {
+            job.advance();
+            return job.isFinished();
+        }
+
+        int updated = switch (stage) {
+            case MENU_OPTION -> storeCascadeRepository.softDeleteMenuOptions(ids, now, deletedBy);
+            case ORIGIN -> storeCascadeRepository.softDeleteOrigins(ids, now, deletedBy);
+            case MENU -> storeCascadeRepository.softDeleteMenus(ids, now, deletedBy);
+            case REVIEW -> storeCascadeRepository.softDeleteReviews(ids, now, deletedBy);
+            case DONE -> 0;
+        };
+        job.recordProgress(updated);
+
+        List<UUID> changedMenuIds = switch (stage) {
+            case MENU_OPTION -> storeCascadeRepository.findMenuIdsByOptionIdIn(ids);
+            case ORIGIN -> storeCascadeRepository.findMenuIdsByOriginIdIn(ids);
+            case MENU -> ids;
+            case REVIEW, DONE -> List.of();
+        };
+        if (!changedMenuIds.isEmpty()) {
+            eventPublisher.publishEvent(MenuChangedEvent.of(storeId, changedMenuIds));
+        }
+        return false;
+    }
+}
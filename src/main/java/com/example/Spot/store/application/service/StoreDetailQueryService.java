@@ -0,0 +1,23 @@
+package com.example.Spot.store.application.service;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.example.Spot.store.infrastructure.cache.StoreDetailCache;
+
+import lombok.RequiredArgsConstructor;
+
+// 손님용 매장 상세 조회 (직렬화된 응답 캐시 사용)
+// 캐시 hit 시 트랜잭션/커넥션을 잡지 않도록 StoreService와 분리하고, miss일 때만 StoreService를 호출한다
+@Service
+@RequiredArgsConstructor
+public class StoreDetailQueryService {
+
+    private final StoreService storeService;
+    private final StoreDetailCache storeDetailCache;
+
+    public byte[] getPublicStoreDetailsJson(UUID storeId) {
+        return storeDetailCache.getOrLoad(storeId, () -> storeService.getStoreDetails(storeId, null));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.Spot.store.application.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.Spot.store.application.event.StoreChangedEvent;
+import com.example.Spot.store.application.event.StoreMembershipChangedEvent;
+import com.example.Spot.store.domain.repository.StoreUserRepository;
+import com.example.Spot.user.domain.Role;
+
+import lombok.RequiredArgsConstructor;
+
+// 매장 소속 조회 (StoreService, MenuServiceImpl, MenuOptionServiceImpl 공통 권한 체크)
+// userId -> 소속 매장 id 목록을 메모리에 들고 있어서, 권한 체크마다 store.getUsers() 그래프를 로딩하지 않는다
+// - 역할(OWNER 등)은 캐시하지 않는다: 호출하는 쪽이 이미 확인한 역할(DB/JWT)을 넘긴다
+// - 유저별로 처음 조회할 때 DB에서 읽고, TTL이 지나면 다시 읽는다 (유저 수는 MAX_USERS로 제한)
+// - 소속이 바뀌면(StoreMembershipChangedEvent) 해당 유저, 매장이 바뀌면(StoreChangedEvent - 삭제 등) 그 매장 소속 유저 항목을 커밋 이후 비운다
+@Service
+@RequiredArgsConstructor
+public class StoreMembershipService {
+
+    private static final long TTL_MILLIS = 10 * 60 * 1000L;
+    private static final int MAX_USERS = 10_000;
+
+    private final StoreUserRepository storeUserRepository;
+
+    private final Map<Integer, Entry> membershipsByUser = new ConcurrentHashMap<>();
+
+    private record Entry(Set<UUID> storeIds, long loadedAt) {
+        boolean isExpired(long now) {
+            return now - loadedAt > TTL_MILLIS;
+        }
+    }
+
+    // 매장 직원(OWNER, CHEF 등)인지
+    public boolean isMember(Integer userId, UUID storeId) {
+        if (userId == null || storeId == null) {
+            return false;
+        }
+        return storeIds(userId).contains(storeId);
+    }
+
+    // 매장의 OWNER인지 (role은 호출하는 쪽에서 조회한 유저 역할)
+    public boolean isOwner(Integer userId, Role role, UUID storeId) {
+        return role == Role.OWNER && isMember(userId, storeId);
+    }
+
+    public void evict(Integer userId) {
+        membershipsByUser.remove(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMembershipChanged(StoreMembershipChangedEvent event) {
+        event.userIds().forEach(this::evict);
+    }
+
+    // 삭제된 매장은 소속 조회에서 빠지므로 그 매장을 들고 있는 유저 항목을 비운다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreChanged(StoreChangedEvent event) {
+        membershipsByUser.values().removeIf(entry -> event.storeIds().stream().anyMatch(entry.storeIds()::contains));
+    }
+
+    public int size() {
+        return membershipsByUser.size();
+    }
+
+    // compute 안에서 로딩하므로, 로딩 중에 들어온 evict는 로딩이 끝난 뒤에 적용된다 (옛 데이터가 남지 않음)
+    private Set<UUID> storeIds(Integer userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = membershipsByUser.compute(userId, (id, current) -> current == null || current.isExpired(now)
+                ? new Entry(Set.copyOf(storeUserRepository.findStoreIdsByUserId(id)), now)
+                : current);
+        if (membershipsByUser.size() > MAX_USERS) {
+            trim(now);
+        }
+        return entry.storeIds();
+    }
+
+    // 만료된 항목부터 지우고, 그래도 넘치면 남은 항목을 순서 없이 지운다
+    private void trim(long now) {
+        membershipsByUser.values().removeIf(entry -> entry.isExpired(now));
+        Iterator<Integer> iterator = membershipsByUser.keySet().iterator();
+        while (membershipsByUser.size() > MAX_USERS && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.Spot.store.application.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.Spot.review.application.event.ReviewChangedEvent;
+import com.example.Spot.store.infrastructure.repository.StoreRankingRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 매장 인기 점수(p_store.popularity_score) 갱신
+// - 리뷰 변경: 커밋 후 해당 매장만 바로 갱신
+// - 완료 주문 수는 주문 서비스가 기록하므로 주기 작업에서 전체 매장을 BATCH_SIZE 단위로 다시 집계
+// - 배치 하나 = 트랜잭션 하나 (집계 UPDATE + 점수 UPDATE), p_store 전체를 오래 잠그지 않는다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreRankingService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final StoreRankingRepository storeRankingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        List<UUID> ids = List.of(event.storeId());
+        storeRankingRepository.refreshReviewAggregates(ids);
+        storeRankingRepository.refreshScores(ids);
+    }
+
+    @Scheduled(cron = "${store.ranking.refresh-cron:0 */10 * * * *}")
+    public void refreshAll() {
+        long start = System.currentTimeMillis();
+        int total = 0;
+        try {
+            UUID after = FIRST_ID;
+            List<UUID> ids;
+            do {
+                UUID cursor = after;
+                ids = transactionTemplate.execute(status -> refreshBatch(cursor));
+                total += ids.size();
+                if (!ids.isEmpty()) {
+                    after = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == BATCH_SIZE);
+            log.info("[StoreRanking] {}개 매장 인기 점수 갱신 ({}ms)", total, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("[StoreRanking] 인기 점수 갱신 실패 ({}개 매장까지 완료)", total, e);
+        }
+    }
+
+    // after 다음 id부터 BATCH_SIZE개 매장을 갱신하고 처리한 id를 반환
+    private List<UUID> refreshBatch(UUID after) {
+        List<UUID> ids = storeRankingRepository.findIdsAfter(after, PageRequest.ofSize(BATCH_SIZE));
+        if (!ids.isEmpty()) {
+            storeRankingRepository.refreshAggregates(ids);
+            storeRankingRepository.refreshScores(ids);
+        }
+        return ids;
+    }
+}
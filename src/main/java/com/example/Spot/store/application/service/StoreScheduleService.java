@@ -0,0 +1,213 @@
+package com.example.Spot.store.application.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.Spot.store.application.event.StoreChangedEvent;
+import com.example.Spot.store.domain.StoreSchedule;
+import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.entity.StoreHolidayEntity;
+import com.example.Spot.store.domain.entity.StoreOpeningHoursEntity;
+import com.example.Spot.store.domain.repository.StoreHolidayRepository;
+import com.example.Spot.store.domain.repository.StoreOpeningHoursRepository;
+import com.example.Spot.store.domain.repository.StoreRepository;
+import com.example.Spot.store.infrastructure.schedule.StoreScheduleIndex;
+import com.example.Spot.store.presentation.dto.request.StoreScheduleRequest;
+import com.example.Spot.store.presentation.dto.response.StoreScheduleResponse;
+import com.example.Spot.user.domain.Role;
+import com.example.Spot.user.domain.entity.UserEntity;
+import com.example.Spot.user.domain.repository.UserRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 매장 영업 일정 (요일별 여러 구간 + 날짜별 휴무/특별 영업)
+// - 일정이 있는 매장은 StoreSchedule로 컴파일해 StoreScheduleIndex에 올려두고 영업 여부를 O(log n)으로 판단
+// - 일정이 없는 매장은 기존 openTime/closeTime을 매일 같은 일정으로 본다
+// - 목록 영업시간 필터(StoreRepository.OPEN_AT_CONDITION)는 같은 규칙을 SQL로 판단한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreScheduleService {
+
+    private final StoreRepository storeRepository;
+    private final StoreOpeningHoursRepository storeOpeningHoursRepository;
+    private final StoreHolidayRepository storeHolidayRepository;
+    private final StoreScheduleIndex storeScheduleIndex;
+    private final StoreMembershipService storeMembershipService;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 1. 영업 일정 조회 (휴무일은 오늘 이후만)
+    @Transactional(readOnly = true)
+    public StoreScheduleResponse getSchedule(UUID storeId) {
+        storeRepository.findById(storeId)
+                .filter(store -> !store.getIsDeleted())
+                .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
+
+        return StoreScheduleResponse.of(
+                storeOpeningHoursRepository.findAllByStoreIdOrderByDayOfWeekAscOpenTimeAsc(storeId),
+                storeHolidayRepository.findAllByStoreIdAndHolidayDateGreaterThanEqualOrderByHolidayDateAscOpenTimeAsc(
+                        storeId, LocalDate.now()));
+    }
+
+    // 2. 영업 일정 전체 교체 (OWNER 본인 매장, MANAGER, MASTER)
+    @Transactional
+    public void replaceSchedule(UUID storeId, StoreScheduleRequest request, Integer userId) {
+        UserEntity currentUser = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        boolean isAdmin = currentUser.getRole() == Role.MASTER || currentUser.getRole() == Role.MANAGER;
+        if (!isAdmin && !storeMembershipService.isOwner(userId, currentUser.getRole(), storeId)) {
+            throw new AccessDeniedException("해당 매장에 대한 관리 권한이 없습니다.");
+        }
+        StoreEntity store = storeRepository.findByIdForManagement(storeId, isAdmin)
+                .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없거나 접근 권한이 없습니다."));
+
+        LocalDate today = LocalDate.now();
+        for (StoreScheduleRequest.Holiday holiday : request.holidays()) {
+            if (holiday.date().isBefore(today)) {
+                throw new IllegalArgumentException("지난 날짜는 휴무일로 등록할 수 없습니다: " + holiday.date());
+            }
+        }
+
+        // 기존 일정은 DELETE 한 번씩으로 지우고 새로 저장
+        storeOpeningHoursRepository.deleteAllByStoreId(storeId);
+        storeHolidayRepository.deleteAllByStoreId(storeId);
+        storeOpeningHoursRepository.saveAll(request.weekly().stream()
+                .map(window -> StoreOpeningHoursEntity.builder()
+                        .store(store)
+                        .dayOfWeek(window.dayOfWeek())
+                        .openTime(window.openTime())
+                        .closeTime(window.closeTime())
+                        .build())
+                .toList());
+        storeHolidayRepository.saveAll(request.holidays().stream()
+                .map(holiday -> StoreHolidayEntity.builder()
+                        .store(store)
+                        .holidayDate(holiday.date())
+                        .openTime(holiday.openTime())
+                        .closeTime(holiday.closeTime())
+                        .build())
+                .toList());
+
+        store.updateHasSchedule(!request.weekly().isEmpty() || !request.holidays().isEmpty());
+        eventPublisher.publishEvent(StoreChangedEvent.of(storeId));
+    }
+
+    // 3. 특정 시각에 영업 중인지
+    @Transactional(readOnly = true)
+    public boolean isOpenAt(UUID storeId, LocalDateTime at) {
+        return scheduleOf(storeId).isOpenAt(at);
+    }
+
+    // 4. 주문 픽업 시간 검증 - 영업시간이 아니면 예외
+    @Transactional(readOnly = true)
+    public void validatePickupTime(UUID storeId, LocalDateTime pickupTime) {
+        if (!isOpenAt(storeId, pickupTime)) {
+            throw new IllegalArgumentException("선택한 픽업 시간은 매장 영업시간이 아닙니다.");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        storeScheduleIndex.rebuild(compile(
+                storeRepository.findAllByHasScheduleTrue(),
+                storeOpeningHoursRepository.findAll(),
+                storeHolidayRepository.findAllByHolidayDateGreaterThanEqual(LocalDate.now().minusDays(1))));
+        log.info("[StoreScheduleIndex] {}개 매장 영업 일정 적재 완료 ({}ms)",
+                storeScheduleIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreChanged(StoreChangedEvent event) {
+        Map<UUID, StoreSchedule> compiled = compile(storeRepository.findAllById(event.storeIds()));
+        for (UUID storeId : event.storeIds()) {
+            StoreSchedule schedule = compiled.get(storeId);
+            if (schedule != null) {
+                storeScheduleIndex.put(storeId, schedule);
+            } else {
+                storeScheduleIndex.remove(storeId);
+            }
+        }
+    }
+
+    // 색인에 없으면(일정 없는 매장 또는 색인 적재 전) DB에서 바로 컴파일
+    private StoreSchedule scheduleOf(UUID storeId) {
+        StoreSchedule cached = storeScheduleIndex.get(storeId);
+        if (cached != null) {
+            return cached;
+        }
+        StoreEntity store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
+        if (!store.isHasSchedule()) {
+            return StoreSchedule.daily(store.getOpenTime(), store.getCloseTime());
+        }
+        return compile(List.of(store)).get(storeId);
+    }
+
+    // 일정 보유 매장만 컴파일 (IN 쿼리 두 번)
+    private Map<UUID, StoreSchedule> compile(Collection<StoreEntity> stores) {
+        List<StoreEntity> scheduled = stores.stream().filter(StoreEntity::isHasSchedule).toList();
+        if (scheduled.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> ids = scheduled.stream().map(StoreEntity::getId).toList();
+        return compile(
+                scheduled,
+                storeOpeningHoursRepository.findAllByStoreIdIn(ids),
+                storeHolidayRepository.findAllByStoreIdInAndHolidayDateGreaterThanEqual(
+                        ids, LocalDate.now().minusDays(1)));
+    }
+
+    // 전날 휴무일도 포함 (전날 시작해서 자정을 넘기는 영업 판단에 필요)
+    private Map<UUID, StoreSchedule> compile(
+            List<StoreEntity> stores, List<StoreOpeningHoursEntity> hours, List<StoreHolidayEntity> holidays) {
+        Map<UUID, List<StoreOpeningHoursEntity>> hoursByStore = hours.stream()
+                .collect(Collectors.groupingBy(h -> h.getStore().getId()));
+        Map<UUID, List<StoreHolidayEntity>> holidaysByStore = holidays.stream()
+                .collect(Collectors.groupingBy(h -> h.getStore().getId()));
+
+        Map<UUID, StoreSchedule> compiled = new HashMap<>();
+        for (StoreEntity store : stores) {
+            compiled.put(store.getId(), toSchedule(
+                    store,
+                    hoursByStore.getOrDefault(store.getId(), List.of()),
+                    holidaysByStore.getOrDefault(store.getId(), List.of())));
+        }
+        return compiled;
+    }
+
+    // 휴무(시간 없는 행)만 있는 날짜는 빈 구간 = 하루 휴무, 주간 구간이 없으면 openTime/closeTime을 매일 적용
+    private StoreSchedule toSchedule(
+            StoreEntity store, List<StoreOpeningHoursEntity> hours, List<StoreHolidayEntity> holidays) {
+        Map<LocalDate, List<StoreSchedule.TimeRange>> overrides = holidays.stream()
+                .collect(Collectors.groupingBy(StoreHolidayEntity::getHolidayDate,
+                        Collectors.filtering(holiday -> !holiday.isClosedAllDay(),
+                                Collectors.mapping(StoreHolidayEntity::toTimeRange, Collectors.toList()))));
+
+        if (hours.isEmpty()) {
+            return StoreSchedule.daily(store.getOpenTime(), store.getCloseTime()).withOverrides(overrides);
+        }
+        return StoreSchedule.of(
+                hours.stream().collect(Collectors.groupingBy(StoreOpeningHoursEntity::getDayOfWeek,
+                        Collectors.mapping(StoreOpeningHoursEntity::toTimeRange, Collectors.toList()))),
+                overrides);
+    }
+}
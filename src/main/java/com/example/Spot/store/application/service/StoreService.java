@@ -1,29 +1,76 @@
 package com.example.Spot.store.application.service;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.Spot.global.infrastructure.geo.GeoGrid;
+import com.example.Spot.global.presentation.FieldSelection;
 import com.example.Spot.global.presentation.advice.DuplicateResourceException;
-import com.example.Spot.menu.domain.entity.MenuEntity;
-import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.menu.infrastructure.repository.MenuGraphLoader;
+import com.example.Spot.menu.infrastructure.repository.MenuSearchRepository;
+import com.example.Spot.menu.infrastructure.search.MenuSearchDocument;
+import com.example.Spot.menu.infrastructure.search.MenuSearchIndex;
 import com.example.Spot.menu.presentation.dto.response.MenuPublicResponseDto;
+import com.example.Spot.store.application.event.StoreChangedEvent;
+import com.example.Spot.store.application.event.StoreFingerprintsAddedEvent;
+import com.example.Spot.store.application.event.StoreMembershipChangedEvent;
+import com.example.Spot.store.domain.StoreCategoryName;
+import com.example.Spot.store.domain.StoreFingerprint;
+import com.example.Spot.store.domain.StoreOpenAt;
+import com.example.Spot.store.domain.StoreRegion;
+import com.example.Spot.store.domain.StoreStatus;
+import com.example.Spot.store.domain.StoreSummary;
 import com.example.Spot.store.domain.entity.CategoryEntity;
 import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.entity.StoreUserEntity;
 import com.example.Spot.store.domain.repository.CategoryRepository;
+import com.example.Spot.store.domain.repository.StoreCategoryRepository;
 import com.example.Spot.store.domain.repository.StoreRepository;
+import com.example.Spot.store.domain.repository.StoreUserRepository;
+import com.example.Spot.store.infrastructure.dedup.StoreFingerprintFilter;
+import com.example.Spot.store.infrastructure.search.StoreSearchDocument;
+import com.example.Spot.store.infrastructure.search.StoreSearchIndex;
+import com.example.Spot.store.presentation.dto.request.StoreBulkRow;
 import com.example.Spot.store.presentation.dto.request.StoreCreateRequest;
+import com.example.Spot.store.presentation.dto.request.StoreCursor;
+import com.example.Spot.store.presentation.dto.request.StoreStatusBulkUpdateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUpdateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUserUpdateRequest;
+import com.example.Spot.store.presentation.dto.response.StoreBulkResultResponse;
+import com.example.Spot.store.presentation.dto.response.StoreCursorResponse;
+import com.example.Spot.store.presentation.dto.response.StoreDeletionProgressResponse;
 import com.example.Spot.store.presentation.dto.response.StoreDetailResponse;
 import com.example.Spot.store.presentation.dto.response.StoreListResponse;
+import com.example.Spot.store.presentation.dto.response.StoreMenuSearchResponse;
+import com.example.Spot.store.presentation.dto.response.StoreNearbyResponse;
+import com.example.Spot.store.presentation.dto.response.StoreStatusBulkUpdateResponse;
 import com.example.Spot.user.domain.Role;
 import com.example.Spot.user.domain.entity.UserEntity;
 import com.example.Spot.user.domain.repository.UserRepository;
@@ -36,25 +83,40 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class StoreService {
 
+    private static final int MAX_BATCH_IDS = 100;
+    // 메뉴 검색: 매장별로 보여줄 매칭 메뉴 수, 색인 준비 전 DB 대체 검색에서 읽을 최대 메뉴 수
+    private static final int MENU_SEARCH_MENUS_PER_STORE = 5;
+    private static final int MENU_SEARCH_FALLBACK_LIMIT = 500;
+
     @Value("${service.active-regions}")
     private List<String> activeRegions;
 
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
-    private final MenuRepository menuRepository;
+    private final StoreCategoryRepository storeCategoryRepository;
+    private final MenuGraphLoader menuGraphLoader;
+    private final StoreSearchIndex storeSearchIndex;
+    private final MenuSearchIndex menuSearchIndex;
+    private final MenuSearchRepository menuSearchRepository;
+    private final StoreFingerprintFilter storeFingerprintFilter;
+    private final StoreMembershipService storeMembershipService;
+    private final StoreDeletionCascadeService storeDeletionCascadeService;
+    private final StoreUserRepository storeUserRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 1. 매장 생성
     @Transactional
     public UUID createStore(StoreCreateRequest dto, Integer userId) {
         
-        // 1.0 중복 체크: 도로명주소 + 상세주소 + 매장명( soft delete 제외)
-        if (storeRepository.existsByRoadAddressAndAddressDetailAndNameAndIsDeletedFalse(
-                dto.roadAddress(), dto.addressDetail(), dto.name())) {
-            throw new DuplicateResourceException(
-                    String.format("이미 존재하는 매장입니다. (주소: %s %s, 매장명: %s)",
-                        dto.roadAddress(), dto.addressDetail(), dto.name())
-            );
+        // 1.0 중복 체크: 도로명주소 + 상세주소 + 매장명 지문 (soft delete 제외)
+        // Bloom 필터에 없으면 확실히 새 매장이므로 DB 조회를 생략한다
+        String fingerprint = StoreFingerprint.of(dto.roadAddress(), dto.addressDetail(), dto.name());
+        String duplicateMessage = String.format("이미 존재하는 매장입니다. (주소: %s %s, 매장명: %s)",
+                dto.roadAddress(), dto.addressDetail(), dto.name());
+        if (storeFingerprintFilter.mightExist(fingerprint)
+                && storeRepository.existsByFingerprintAndIsDeletedFalse(fingerprint)) {
+            throw new DuplicateResourceException(duplicateMessage);
         }
         
         // 1.1 DTO에 넘겨줄 카테고리 리스트를 생성
@@ -75,40 +137,181 @@ public class StoreService {
         store.addStoreUser(owner);
         store.addStoreUser(chef);
 
-        return storeRepository.save(store).getId();
+        // 1.4 저장 (동시에 같은 매장이 등록되면 지문 유니크 인덱스에서 걸러진다, 다른 제약 위반은 그대로 던짐)
+        UUID storeId;
+        try {
+            storeId = storeRepository.saveAndFlush(store).getId();
+        } catch (DataIntegrityViolationException e) {
+            if (isFingerprintConflict(e)) {
+                throw new DuplicateResourceException(duplicateMessage, e);
+            }
+            throw e;
+        }
+        eventPublisher.publishEvent(StoreChangedEvent.of(storeId));
+        eventPublisher.publishEvent(StoreFingerprintsAddedEvent.of(fingerprint));
+        eventPublisher.publishEvent(StoreMembershipChangedEvent.of(List.of(owner.getId(), chef.getId())));
+        return storeId;
+    }
+
+    // 1-1. 매장 대량 등록 (한 번 호출 = 한 청크 = 한 트랜잭션)
+    // 카테고리/유저/중복 여부를 청크 단위로 한 번에 조회하고, insert는 JDBC batch로 처리
+    // 검증 단계의 행 단위 오류는 해당 행만 실패로 기록하고 나머지는 계속 등록한다
+    // 저장 단계 오류(동시에 등록된 같은 매장 등)는 메서드 안에서 flush해 바로 던진다 - 호출하는 쪽이 행 단위로 다시 시도
+    @Transactional
+    public List<StoreBulkResultResponse> createStoresBulk(List<StoreBulkRow> rows) {
+        List<StoreCreateRequest> requests = rows.stream().map(StoreBulkRow::request).toList();
+
+        // 1-1.1 참조 데이터 일괄 조회
+        Map<String, CategoryEntity> categoryMap = categoryRepository.findAllByNameIn(
+                        requests.stream().flatMap(dto -> dto.categoryNames().stream()).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(CategoryEntity::getName, Function.identity(), (a, b) -> a));
+        Map<Integer, UserEntity> userMap = userRepository.findAllById(
+                        requests.stream().flatMap(dto -> Stream.of(dto.ownerId(), dto.chefId())).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+
+        // 1-1.2 중복 체크: Bloom 필터가 "있을 수도 있음"이라고 답한 지문만 DB에서 한 번에 확인
+        Map<Integer, String> fingerprints = rows.stream()
+                .collect(Collectors.toMap(StoreBulkRow::line, row -> StoreFingerprint.of(
+                        row.request().roadAddress(), row.request().addressDetail(), row.request().name())));
+        Set<String> candidates = fingerprints.values().stream()
+                .filter(storeFingerprintFilter::mightExist)
+                .collect(Collectors.toSet());
+        Set<String> existingFingerprints = candidates.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(storeRepository.findActiveFingerprintsIn(candidates));
+
+        // 1-1.3 행별 검증 후 엔티티 생성 (파일 안에서 중복된 행도 existingFingerprints로 걸러짐)
+        List<StoreBulkResultResponse> failures = new ArrayList<>();
+        Map<Integer, StoreEntity> storesByLine = new LinkedHashMap<>();
+        for (StoreBulkRow row : rows) {
+            StoreCreateRequest dto = row.request();
+            try {
+                String fingerprint = fingerprints.get(row.line());
+                if (existingFingerprints.contains(fingerprint)) {
+                    throw new DuplicateResourceException("이미 존재하는 매장입니다.");
+                }
+                List<CategoryEntity> categories = dto.categoryNames().stream()
+                        .map(name -> Optional.ofNullable(categoryMap.get(name))
+                                .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다.: " + name)))
+                        .toList();
+                UserEntity owner = Optional.ofNullable(userMap.get(dto.ownerId()))
+                        .orElseThrow(() -> new EntityNotFoundException("오너를 찾을 수 없습니다: " + dto.ownerId()));
+                UserEntity chef = Optional.ofNullable(userMap.get(dto.chefId()))
+                        .orElseThrow(() -> new EntityNotFoundException("셰프를 찾을 수 없습니다: " + dto.chefId()));
+
+                StoreEntity store = dto.toEntity(categories);
+                store.addStoreUser(owner);
+                store.addStoreUser(chef);
+                storesByLine.put(row.line(), store);
+                existingFingerprints.add(fingerprint);
+            } catch (DuplicateResourceException | EntityNotFoundException | IllegalArgumentException e) {
+                failures.add(StoreBulkResultResponse.failed(row.line(), e.getMessage()));
+            }
+        }
+
+        // 1-1.4 일괄 저장 (batch insert, 지문 유니크 인덱스 위반은 중복으로 변환)
+        try {
+            storeRepository.saveAll(storesByLine.values());
+            storeRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (isFingerprintConflict(e)) {
+                throw new DuplicateResourceException("이미 존재하는 매장입니다.", e);
+            }
+            throw e;
+        }
+
+        List<StoreBulkResultResponse> results = new ArrayList<>(failures);
+        storesByLine.forEach((line, store) -> results.add(StoreBulkResultResponse.created(line, store.getId())));
+        results.sort(Comparator.comparingInt(StoreBulkResultResponse::line));
+
+        if (!storesByLine.isEmpty()) {
+            eventPublisher.publishEvent(StoreChangedEvent.of(
+                    storesByLine.values().stream().map(StoreEntity::getId).toList()));
+            eventPublisher.publishEvent(StoreFingerprintsAddedEvent.of(
+                    storesByLine.values().stream().map(StoreEntity::getFingerprint).toList()));
+            eventPublisher.publishEvent(StoreMembershipChangedEvent.of(
+                    storesByLine.values().stream()
+                            .flatMap(store -> store.getUsers().stream())
+                            .map(storeUser -> storeUser.getUser().getId())
+                            .collect(Collectors.toSet())));
+        }
+        return results;
     }
 
     // 2. 매장 상세 조회
     public StoreDetailResponse getStoreDetails(UUID storeId, Integer userId) {
+        return getStoreDetails(storeId, userId, FieldSelection.ALL);
+    }
 
+    // fields=로 고르지 않은 연관(직원, 카테고리, 메뉴)은 조회하지 않는다
+    public StoreDetailResponse getStoreDetails(UUID storeId, Integer userId, FieldSelection fields) {
         // 2.1 유저 조회 및 권한 확인 (인증되지 않은 사용자는 null)
-        boolean isAdmin = false;
-        if (userId != null) {
-            UserEntity currentUser = getValidatedUser(userId);
-            isAdmin = checkIsAdmin(currentUser);
-        }
+        return getStoreDetails(storeId, isAdmin(userId), fields);
+    }
 
-        // 2.2 레포지토리 호출
-        StoreEntity store = storeRepository.findByIdWithDetails(storeId, isAdmin)
+    // 관리자 여부를 이미 확인한 경우 (컨트롤러의 캐시/ETag 분기와 같은 판단을 그대로 사용)
+    public StoreDetailResponse getStoreDetails(UUID storeId, boolean isAdmin, FieldSelection fields) {
+        // 2.2 레포지토리 호출 (직원 정보가 필요할 때만 직원/카테고리 fetch join)
+        boolean withStaff = fields.includes("owner") || fields.includes("chefs");
+        StoreEntity store = (withStaff
+                ? storeRepository.findByIdWithDetails(storeId, isAdmin)
+                : storeRepository.findByIdForManagement(storeId, isAdmin))
                 .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
 
         // 2.3 서비스 가능 지역인지 검증
         if (!isAdmin) {
-            validateServiceRegion(store.getRoadAddress());
+            validateServiceRegion(store.getRegionCode());
         }
 
-        // 2.4 메뉴 목록 조회
-        List<MenuEntity> menuEntities = menuRepository.findAllActiveMenus(storeId);
-        List<MenuPublicResponseDto> menus = menuEntities.stream()
-                .map(menu -> MenuPublicResponseDto.of(menu, menu.getOptions()))
-                .toList();
+        // 2.4 메뉴 목록 조회 (옵션은 메뉴별 지연 로딩 대신 한 번에 조회)
+        List<MenuPublicResponseDto> menus = fields.includes("menus") ? loadPublicMenus(storeId) : null;
 
         // 2.5 Entity를 DTO(Response)로 변환하여 반환
-        return StoreDetailResponse.fromEntity(store, menus);
+        if (withStaff) {
+            return StoreDetailResponse.fromEntity(store, menus);
+        }
+        List<String> categoryNames = fields.includes("categoryNames")
+                ? storeCategoryRepository.findCategoryNamesByStoreIdIn(List.of(storeId)).stream()
+                        .map(StoreCategoryName::categoryName)
+                        .toList()
+                : null;
+        return StoreDetailResponse.withoutStaff(store, categoryNames, menus);
+    }
+
+    // 관리자(MASTER/MANAGER)인지 - 역할은 DB 기준 (인증되지 않은 사용자는 null)
+    public boolean isAdmin(Integer userId) {
+        return userId != null && checkIsAdmin(getValidatedUser(userId));
+    }
+
+    // 2-1. 여러 매장 한 번에 조회 (즐겨찾기/최근 본 매장)
+    // 매장 목록 컬럼 IN 쿼리 + 카테고리 IN 쿼리 두 번으로 처리, 요청한 순서대로 반환 (조회할 수 없는 매장은 제외)
+    public List<StoreListResponse> getStoresByIds(List<UUID> storeIds, Integer userId) {
+        boolean isAdmin = false;
+        if (userId != null) {
+            UserEntity currentUser = getValidatedUser(userId);
+            isAdmin = checkIsAdmin(currentUser);
+        }
+
+        List<UUID> ids = List.copyOf(new LinkedHashSet<>(storeIds));
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_IDS + "개 매장까지 조회할 수 있습니다.");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, StoreSummary> storeMap = storeRepository.findVisibleSummariesByIdIn(
+                        ids, isAdmin, getServiceRegionCodes()).stream()
+                .collect(Collectors.toMap(StoreSummary::id, Function.identity()));
+        return toListResponses(ids.stream()
+                .map(storeMap::get)
+                .filter(Objects::nonNull)
+                .toList());
     }
 
     // 3. 매장 전체 조회
-    public Page<StoreListResponse> getAllStores(Integer userId, Pageable pageable) {
+    public Page<StoreListResponse> getAllStores(Integer userId, LocalTime openAt, Pageable pageable) {
         // 3.1 사용자의 권한 확인 (인증되지 않은 사용자는 null)
         boolean isAdmin = false;
         if (userId != null) {
@@ -116,12 +319,35 @@ public class StoreService {
             isAdmin = checkIsAdmin(currentUser);
         }
 
-        // 3.2 레포지토리 호출 (관리자는 삭제된 것 포함)
-        Page<StoreEntity> stores = storeRepository.findAllByRole(isAdmin, pageable);
+        // 3.2 레포지토리 호출 (관리자는 삭제된 것 포함, 일반 유저는 서비스 지역 필터를 SQL에서 처리)
+        // openAt이 있으면 해당 시각에 영업 중인 매장만 (영업시간 필터도 SQL에서 처리)
+        StoreOpenAt open = StoreOpenAt.of(openAt);
+        Page<StoreSummary> stores = isAdmin
+                ? storeRepository.findAllByRole(true, open.minute(), open.time(),
+                        open.today(), open.todayOfWeek(), open.yesterday(), open.yesterdayOfWeek(), pageable)
+                : storeRepository.findAllInRegions(getServiceRegionCodes(), open.minute(), open.time(),
+                        open.today(), open.todayOfWeek(), open.yesterday(), open.yesterdayOfWeek(), pageable);
+
+        return toListResponses(stores);
+    }
+
+    // 3-1. 매장 전체 조회 (커서 기반)
+    public StoreCursorResponse getStoresByCursor(Integer userId, LocalTime openAt, String cursor, int size) {
+        boolean isAdmin = false;
+        if (userId != null) {
+            UserEntity currentUser = getValidatedUser(userId);
+            isAdmin = checkIsAdmin(currentUser);
+        }
 
-        // 3.3 서비스지역 기반 필터링 페이지네이션
-        return convertToPageResponse(stores, isAdmin, pageable);
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개의 id만 조회
+        StoreCursor after = StoreCursor.decode(cursor);
+        StoreOpenAt open = StoreOpenAt.of(openAt);
+        List<UUID> ids = storeRepository.findIdsAfterCursor(
+                isAdmin, getServiceRegionCodes(), open.minute(), open.time(),
+                open.today(), open.todayOfWeek(), open.yesterday(), open.yesterdayOfWeek(),
+                after.createdAt(), after.id(), PageRequest.ofSize(size + 1));
 
+        return toCursorResponse(ids, size);
     }
 
     // 4. 매장 기본 정보 수정
@@ -130,6 +356,10 @@ public class StoreService {
         // 4.1 [공통 로직] 조회 + 관리자 스위치 + 소유권 검증
         UserEntity currentUser = getValidatedUser(userId);
         StoreEntity store = findStoreWithAuthority(storeId, currentUser);
+        boolean clearLocation = Boolean.TRUE.equals(request.clearLocation());
+        if (clearLocation && (request.latitude() != null || request.longitude() != null)) {
+            throw new IllegalArgumentException("좌표 삭제와 좌표 입력은 함께 요청할 수 없습니다.");
+        }
         
         // 4.2 카테고리 이름 리스트를 엔티티 리스트로 변환
         List<CategoryEntity> categories = null;
@@ -140,7 +370,19 @@ public class StoreService {
                     .toList();
         }
         
-        // 4.3 엔티티 내부 메서드 호출
+        // 4.3 주소/매장명이 바뀌면 변경 후 지문으로 중복 체크 (엔티티를 바꾸기 전에 확인)
+        String fingerprint = StoreFingerprint.of(
+                Objects.requireNonNullElse(request.roadAddress(), store.getRoadAddress()),
+                Objects.requireNonNullElse(request.addressDetail(), store.getAddressDetail()),
+                Objects.requireNonNullElse(request.name(), store.getName()));
+        boolean fingerprintChanged = !fingerprint.equals(store.getFingerprint());
+        if (fingerprintChanged
+                && storeFingerprintFilter.mightExist(fingerprint)
+                && storeRepository.existsByFingerprintAndIsDeletedFalseAndIdNot(fingerprint, storeId)) {
+            throw new DuplicateResourceException("같은 주소에 같은 이름의 매장이 이미 존재합니다.");
+        }
+
+        // 4.4 엔티티 내부 메서드 호출
         store.updateStoreDetails(
                 request.name(),
                 request.roadAddress(),
@@ -150,6 +392,16 @@ public class StoreService {
                 request.closeTime(),
                 categories
         );
+        // 좌표는 보낸 경우에만 변경, clearLocation이면 삭제 (검색 색인의 주변 매장 격자에서는 StoreChangedEvent로 빠짐)
+        if (clearLocation) {
+            store.clearLocation();
+        } else if (request.latitude() != null || request.longitude() != null) {
+            store.updateLocation(request.latitude(), request.longitude());
+        }
+        if (fingerprintChanged) {
+            eventPublisher.publishEvent(StoreFingerprintsAddedEvent.of(fingerprint));
+        }
+        eventPublisher.publishEvent(StoreChangedEvent.of(storeId));
     }
     
     // 5. 매장 직원 정보 수정
@@ -158,23 +410,51 @@ public class StoreService {
         UserEntity currentUser = getValidatedUser(userId);
         StoreEntity store = findStoreWithAuthority(storeId, currentUser);
         
+        // 5.1 대상 유저 일괄 조회 (IN 쿼리 한 번)
+        Set<Integer> targetIds = request.changes().stream()
+                .map(StoreUserUpdateRequest.UserChange::userId)
+                .collect(Collectors.toSet());
+        Map<Integer, UserEntity> targetUsers = userRepository.findAllById(targetIds).stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+        targetIds.stream()
+                .filter(id -> !targetUsers.containsKey(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new EntityNotFoundException("유저를 찾을 수 없습니다: " + id);
+                });
+
+        // 5.2 현재 직원과 비교해 추가/삭제 대상 계산 (같은 유저가 여러 번 나오면 마지막 요청 기준)
+        Set<Integer> currentStaffIds = new HashSet<>(storeUserRepository.findUserIdsByStoreId(storeId));
+        Set<Integer> toAdd = new LinkedHashSet<>();
+        Set<Integer> toRemove = new HashSet<>();
         for (StoreUserUpdateRequest.UserChange change : request.changes()) {
-            UserEntity targetUser = userRepository.findById(change.userId())
-                    .orElseThrow(() -> new EntityNotFoundException("유저를 찾을 . 없습니다: " + change.userId()));
-            
             if (change.action() == StoreUserUpdateRequest.Action.ADD) {
-                // 중복 체크
-                boolean alreadyStaff = store.getUsers().stream()
-                        .anyMatch(su -> su.getUser().getId().equals(change.userId()));
-                
-                if (!alreadyStaff) {
-                    // targetUser가 이미 내부에 자신의 Role을 가지고 있으므로 그대로 등록
-                    store.addStoreUser(targetUser);
+                toRemove.remove(change.userId());
+                if (!currentStaffIds.contains(change.userId())) {
+                    toAdd.add(change.userId());
                 }
             } else if (change.action() == StoreUserUpdateRequest.Action.REMOVE) {
-                store.getUsers().removeIf(su -> su.getUser().getId().equals(change.userId()));
+                toAdd.remove(change.userId());
+                if (currentStaffIds.contains(change.userId())) {
+                    toRemove.add(change.userId());
+                }
             }
         }
+
+        // 5.3 삭제는 DELETE 한 번, 추가는 batch insert
+        if (!toRemove.isEmpty()) {
+            storeUserRepository.deleteAllByStoreIdAndUserIdIn(storeId, toRemove);
+        }
+        if (!toAdd.isEmpty()) {
+            // targetUser가 이미 내부에 자신의 Role을 가지고 있으므로 그대로 등록
+            storeUserRepository.saveAll(toAdd.stream()
+                    .map(id -> StoreUserEntity.builder().store(store).user(targetUsers.get(id)).build())
+                    .toList());
+        }
+        // 매장 상세의 사장/셰프 정보가 바뀌므로 캐시 갱신 대상, 소속이 바뀐 유저는 권한 캐시 갱신 대상
+        eventPublisher.publishEvent(StoreChangedEvent.of(storeId));
+        eventPublisher.publishEvent(StoreMembershipChangedEvent.of(
+                request.changes().stream().map(StoreUserUpdateRequest.UserChange::userId).toList()));
     }
 
     // 6. 매장 삭제
@@ -191,22 +471,32 @@ public class StoreService {
             store = storeRepository.findByIdWithDetails(storeId, true)
                     .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
         } else {
-            // OWNER는 모든 상태(PENDING, APPROVED, REJECTED)의 자신의 가게 조회 가능
-            store = storeRepository.findByIdWithDetailsForOwner(storeId)
-                    .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
-
-            // OWNER 본인 확인
-            boolean isRealOwner = store.getUsers().stream()
-                    .anyMatch(su -> su.getUser().getId().equals(currentUser.getId())
-                            && su.getUser().getRole() == Role.OWNER);
-
-            if (!isRealOwner) {
+            // OWNER 본인 확인 (소속 캐시 조회)
+            if (!storeMembershipService.isOwner(currentUser.getId(), currentUser.getRole(), storeId)) {
                 throw new AccessDeniedException("해당 매장에 대한 관리 권한이 없습니다.");
             }
+
+            // OWNER는 모든 상태(PENDING, APPROVED, REJECTED)의 자신의 가게 삭제 가능
+            store = storeRepository.findByIdAndIsDeletedFalse(storeId)
+                    .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
         }
 
-        // 6.3 소프트 삭제
+        // 6.3 소프트 삭제 (메뉴/옵션/원산지/리뷰는 커밋 후 백그라운드에서 배치로 soft delete)
         store.softDelete(userId);
+        storeDeletionCascadeService.request(storeId, userId);
+        eventPublisher.publishEvent(StoreChangedEvent.of(storeId));
+    }
+
+    // 6-1. 매장 삭제 후속 처리 진행 상황 조회 (관리자 또는 해당 매장 OWNER)
+    public StoreDeletionProgressResponse getDeletionProgress(UUID storeId, Integer userId) {
+        UserEntity currentUser = getValidatedUser(userId);
+        if (!checkIsAdmin(currentUser) && !storeMembershipService.isOwner(currentUser.getId(), currentUser.getRole(), storeId)) {
+            throw new AccessDeniedException("해당 매장에 대한 관리 권한이 없습니다.");
+        }
+
+        return storeDeletionCascadeService.findLatestJob(storeId)
+                .map(StoreDeletionProgressResponse::fromEntity)
+                .orElseThrow(() -> new EntityNotFoundException("매장 삭제 작업을 찾을 수 없습니다."));
     }
     
     // 7. 매장 이름으로 검색
@@ -218,11 +508,139 @@ public class StoreService {
             isAdmin = checkIsAdmin(currentUser);
         }
 
-        // 7.2 레포지토리 호출
-        Page<StoreEntity> stores = storeRepository.searchByName(keyword, isAdmin, pageable);
+        // 7.2 색인이 아직 준비되지 않았다면 DB 검색으로 대체
+        if (!storeSearchIndex.isReady()) {
+            Page<StoreSummary> stores = isAdmin
+                    ? storeRepository.searchByName(keyword, true, pageable)
+                    : storeRepository.searchByNameInRegions(keyword, getServiceRegionCodes(), pageable);
+            return toListResponses(stores);
+        }
+
+        // 7.3 메모리 색인에서 관련도 순으로 매칭된 매장 id 조회 후 해당 페이지만 DB에서 로딩
+        List<UUID> matchedIds = searchIndex(keyword, isAdmin).stream()
+                .map(StoreSearchDocument::id)
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), matchedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), matchedIds.size());
+        List<StoreListResponse> content = toListResponses(loadStoresInOrder(matchedIds.subList(from, to)));
+
+        return new PageImpl<>(content, pageable, matchedIds.size());
+    }
+
+    // 7-1. 매장 이름으로 검색 (커서 기반)
+    public StoreCursorResponse searchStoresByCursor(String keyword, Integer userId, String cursor, int size) {
+        boolean isAdmin = false;
+        if (userId != null) {
+            UserEntity currentUser = getValidatedUser(userId);
+            isAdmin = checkIsAdmin(currentUser);
+        }
+
+        StoreCursor after = StoreCursor.decode(cursor);
+        if (!storeSearchIndex.isReady()) {
+            List<UUID> ids = storeRepository.searchIdsByNameAfterCursor(
+                    keyword, isAdmin, getServiceRegionCodes(), after.createdAt(), after.id(), PageRequest.ofSize(size + 1));
+            return toCursorResponse(ids, size);
+        }
+
+        // 색인 결과를 (created_at, id) 역순으로 정렬한 뒤 커서 이후 size + 1개만 사용
+        // id는 DB(uuid)와 같은 순서가 되도록 문자열로 비교
+        Comparator<StoreSearchDocument> newestFirst = Comparator
+                .comparing(StoreSearchDocument::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(document -> document.id().toString(), Comparator.reverseOrder());
+        StoreSearchDocument afterDocument = new StoreSearchDocument(
+                after.id(), null, null, null, false, null, after.createdAt(), null, null);
+
+        List<UUID> ids = searchIndex(keyword, isAdmin).stream()
+                .filter(document -> newestFirst.compare(document, afterDocument) > 0)
+                .sorted(newestFirst)
+                .limit(size + 1L)
+                .map(StoreSearchDocument::id)
+                .toList();
 
-        // 7.3 서비스지역 기반 필터링 페이지네이션
-        return convertToPageResponse(stores, isAdmin, pageable);
+        return toCursorResponse(ids, size);
+    }
+
+    // 7-1-1. 메뉴 이름/카테고리/설명으로 매장 검색 (매장별 매칭 메뉴 포함, 색인 결과만으로 응답 - DB 조회 없음)
+    public List<StoreMenuSearchResponse> searchStoresByMenu(String keyword, Integer userId, int size) {
+        boolean isAdmin = false;
+        if (userId != null) {
+            UserEntity currentUser = getValidatedUser(userId);
+            isAdmin = checkIsAdmin(currentUser);
+        }
+        List<String> regionCodes = getServiceRegionCodes();
+
+        // 관련도 순 메뉴 (색인이 준비되기 전에는 LIKE 검색으로 대체)
+        boolean admin = isAdmin;
+        List<MenuSearchDocument> menus = menuSearchIndex.isReady()
+                ? menuSearchIndex.search(keyword, document -> document.isVisibleTo(admin, regionCodes))
+                : menuSearchRepository.searchDocuments(keyword, PageRequest.ofSize(MENU_SEARCH_FALLBACK_LIMIT)).stream()
+                        .filter(document -> document.isVisibleTo(admin, regionCodes))
+                        .toList();
+
+        // 매장 순서 = 매장에서 가장 관련도 높은 메뉴의 순서, 매장별 최대 MENU_SEARCH_MENUS_PER_STORE개
+        Map<UUID, List<MenuSearchDocument>> menusByStore = new LinkedHashMap<>();
+        for (MenuSearchDocument menu : menus) {
+            List<MenuSearchDocument> storeMenus = menusByStore.get(menu.storeId());
+            if (storeMenus == null) {
+                if (menusByStore.size() >= size) {
+                    continue;
+                }
+                storeMenus = new ArrayList<>();
+                menusByStore.put(menu.storeId(), storeMenus);
+            }
+            if (storeMenus.size() < MENU_SEARCH_MENUS_PER_STORE) {
+                storeMenus.add(menu);
+            }
+        }
+
+        return menusByStore.values().stream()
+                .map(storeMenus -> new StoreMenuSearchResponse(
+                        storeMenus.get(0).storeId(),
+                        storeMenus.get(0).storeName(),
+                        storeMenus.stream().map(StoreMenuSearchResponse.MenuItem::from).toList()))
+                .toList();
+    }
+
+    // 7-2. 주변 매장 조회 (radiusMeters 이내, 가까운 순)
+    public List<StoreNearbyResponse> getNearbyStores(
+            Integer userId, double latitude, double longitude, int radiusMeters, int size) {
+        boolean isAdmin = false;
+        if (userId != null) {
+            UserEntity currentUser = getValidatedUser(userId);
+            isAdmin = checkIsAdmin(currentUser);
+        }
+        List<String> regionCodes = getServiceRegionCodes();
+
+        // 7-2.1 메모리 격자 색인에서 가까운 순 size개 (색인이 준비되기 전에는 좌표 인덱스로 사각형 범위만 조회)
+        List<GeoGrid.Hit<UUID>> hits;
+        if (storeSearchIndex.isReady()) {
+            boolean admin = isAdmin;
+            hits = storeSearchIndex.nearest(latitude, longitude, radiusMeters, size,
+                    document -> document.isVisibleTo(admin, regionCodes));
+        } else {
+            double latitudeDelta = GeoGrid.latitudeDegrees(radiusMeters);
+            double longitudeDelta = GeoGrid.longitudeDegrees(radiusMeters, latitude);
+            hits = storeRepository.findLocationsWithinBox(
+                            latitude - latitudeDelta, latitude + latitudeDelta,
+                            longitude - longitudeDelta, longitude + longitudeDelta,
+                            isAdmin, regionCodes).stream()
+                    .map(location -> new GeoGrid.Hit<>(location.id(), GeoGrid.distanceMeters(
+                            latitude, longitude, location.latitude(), location.longitude())))
+                    .filter(hit -> hit.distanceMeters() <= radiusMeters)
+                    .sorted(Comparator.comparingDouble(GeoGrid.Hit::distanceMeters))
+                    .limit(size)
+                    .toList();
+        }
+
+        // 7-2.2 해당 매장만 목록 컬럼으로 조회해 거리와 함께 반환
+        Map<UUID, Double> distances = hits.stream()
+                .collect(Collectors.toMap(GeoGrid.Hit::key, GeoGrid.Hit::distanceMeters));
+        List<StoreListResponse> stores = toListResponses(
+                loadStoresInOrder(hits.stream().map(GeoGrid.Hit::key).toList()));
+        return stores.stream()
+                .map(store -> new StoreNearbyResponse(store, Math.round(distances.get(store.id()))))
+                .toList();
     }
 
     // 8. 내 가게 목록 조회 (OWNER, CHEF)
@@ -234,11 +652,7 @@ public class StoreService {
             throw new AccessDeniedException("OWNER 또는 CHEF만 가게를 조회할 수 있습니다.");
         }
 
-        List<StoreEntity> stores = storeRepository.findAllByOwnerId(userId);
-
-        return stores.stream()
-                .map(StoreListResponse::fromEntity)
-                .toList();
+        return toListResponses(storeRepository.findAllByOwnerId(userId));
     }
 
     // 9. 가게 승인 상태 변경 (MANAGER, MASTER만 가능)
@@ -251,11 +665,54 @@ public class StoreService {
             throw new AccessDeniedException("관리자만 가게 승인 상태를 변경할 수 있습니다.");
         }
 
-        // 가게 조회 (관리자는 삭제된 가게도 조회 가능)
-        StoreEntity store = storeRepository.findByIdWithDetails(storeId, true)
+        // 가게 조회 (관리자는 삭제된 가게도 조회 가능, 상태만 바꾸므로 직원/카테고리는 로딩하지 않음)
+        StoreEntity store = storeRepository.findByIdForManagement(storeId, true)
                 .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
 
         store.updateStatus(status);
+        eventPublisher.publishEvent(StoreChangedEvent.of(storeId));
+    }
+
+    // 10. 승인 대기 매장 목록 (MANAGER, MASTER만 가능, 오래된 순 커서 조회)
+    public StoreCursorResponse getPendingStores(Integer userId, String cursor, int size) {
+        if (!checkIsAdmin(getValidatedUser(userId))) {
+            throw new AccessDeniedException("관리자만 승인 대기 매장을 조회할 수 있습니다.");
+        }
+
+        StoreCursor after = StoreCursor.decode(cursor, StoreCursor.FIRST_ASC);
+        List<StoreSummary> stores = storeRepository.findPendingAfterCursor(
+                after.createdAt(), after.id(), PageRequest.ofSize(size + 1));
+
+        boolean hasNext = stores.size() > size;
+        return toCursorPage(hasNext ? stores.subList(0, size) : stores, hasNext);
+    }
+
+    // 11. 승인 대기 매장 일괄 승인/반려 (MANAGER, MASTER만 가능)
+    // 매장을 하나씩 로딩하지 않고 UPDATE 한 번으로 처리, 이미 처리된 매장은 건너뛴다
+    @Transactional
+    public StoreStatusBulkUpdateResponse updatePendingStoreStatus(StoreStatusBulkUpdateRequest request, Integer userId) {
+        if (!checkIsAdmin(getValidatedUser(userId))) {
+            throw new AccessDeniedException("관리자만 가게 승인 상태를 변경할 수 있습니다.");
+        }
+        if (request.status() == StoreStatus.PENDING) {
+            throw new IllegalArgumentException("승인(APPROVED) 또는 거부(REJECTED)로만 변경할 수 있습니다.");
+        }
+
+        Set<UUID> requestedIds = new LinkedHashSet<>(request.storeIds());
+        List<UUID> pendingIds = storeRepository.findPendingIdsByIdIn(requestedIds);
+        if (pendingIds.isEmpty()) {
+            return new StoreStatusBulkUpdateResponse(0, List.copyOf(requestedIds));
+        }
+
+        int updatedCount = storeRepository.updatePendingStatusByIdIn(
+                pendingIds, request.status(), LocalDateTime.now(), userId);
+        eventPublisher.publishEvent(StoreChangedEvent.of(pendingIds));
+
+        Set<UUID> pendingIdSet = new HashSet<>(pendingIds);
+        List<UUID> skippedIds = requestedIds.stream()
+                .filter(id -> !pendingIdSet.contains(id))
+                .toList();
+        return new StoreStatusBulkUpdateResponse(updatedCount, skippedIds);
     }
     
     // ----- [공통 검증 로직] -----
@@ -268,31 +725,24 @@ public class StoreService {
     private StoreEntity findStoreWithAuthority(UUID storeId, UserEntity currentUser) {
         boolean isAdmin = checkIsAdmin(currentUser);
 
+        // 관리자가 아닐 경우에만 '진짜 주인'인지 확인 (소속 캐시 조회, 매장 로딩 전에 차단)
+        if (!isAdmin && !storeMembershipService.isOwner(currentUser.getId(), currentUser.getRole(), storeId)) {
+            throw new AccessDeniedException("해당 매장에 대한 관리 권한이 없습니다.");
+        }
+
         // 레포지토리를 이용한 매장 조회
-        StoreEntity store = storeRepository.findByIdWithDetails(storeId, isAdmin)
+        return storeRepository.findByIdForManagement(storeId, isAdmin)
                 .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없거나 접근 권한이 없습니다."));
-
-        // 관리자가 아닐 경우에만 '진짜 주인'인지 추가 확인
-        if (!isAdmin) {
-            boolean isRealOwner = store.getUsers().stream()
-                    .anyMatch(su -> su.getUser().getId().equals(currentUser.getId())
-                            && su.getUser().getRole() == Role.OWNER);
-
-            if (!isRealOwner) {
-                throw new AccessDeniedException("해당 매장에 대한 관리 권한이 없습니다.");
-            }
-        }
-        return store;
     }
     
-    // 3. 서비스 가능한 지역 여부 확인
-    private boolean isServiceable(String roadAddress) {
-        return activeRegions.stream().anyMatch(roadAddress::contains);
+    // 3. 서비스 가능한 지역 코드 목록 (설정값을 StoreEntity.regionCode와 같은 규칙으로 정규화)
+    private List<String> getServiceRegionCodes() {
+        return StoreRegion.normalizeAll(activeRegions);
     }
     
     // 4. 서비스 지역 검증(예외 발생) - 상세 조회에서 서비스 불가능 지역일 경우 접근 차단 후 에러 메시지 출력
-    private void validateServiceRegion(String roadAddress) {
-        if (!isServiceable(roadAddress)) {
+    private void validateServiceRegion(String regionCode) {
+        if (regionCode == null || !getServiceRegionCodes().contains(regionCode)) {
             throw new AccessDeniedException("현재 픽업 서비스가 제공되지 않는 지역의 매장입니다.");
         }
     }
@@ -303,19 +753,79 @@ public class StoreService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
     }
     
-    // 6. 서비스지역기반 필터링 공통 메서드
-    private Page<StoreListResponse> convertToPageResponse(Page<StoreEntity> stores, boolean isAdmin, Pageable pageable) {
-        if (isAdmin) {
-            return stores.map(StoreListResponse::fromEntity);
-        }
-        List<StoreListResponse> filteredContent = stores.getContent().stream()
-                .filter(store -> {
-                    boolean serviceable = isServiceable(store.getRoadAddress());
-                    return serviceable;
-                })
-                .map(StoreListResponse::fromEntity)
+    // 6. 커서 기반 조회 공통: 해당 페이지 매장을 조회하고 다음 커서 생성
+    private StoreCursorResponse toCursorResponse(List<UUID> ids, int size) {
+        boolean hasNext = ids.size() > size;
+        List<UUID> pageIds = hasNext ? ids.subList(0, size) : ids;
+        return toCursorPage(loadStoresInOrder(pageIds), hasNext);
+    }
+
+    private StoreCursorResponse toCursorPage(List<StoreSummary> stores, boolean hasNext) {
+        String nextCursor = null;
+        if (hasNext && !stores.isEmpty()) {
+            StoreSummary last = stores.get(stores.size() - 1);
+            nextCursor = new StoreCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return new StoreCursorResponse(
+                toListResponses(stores),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    // 7. id 목록으로 매장 목록 컬럼을 한 번에 조회하고 요청한 id 순서대로 정렬
+    private List<StoreSummary> loadStoresInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, StoreSummary> storeMap = storeRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(StoreSummary::id, Function.identity()));
+        return ids.stream()
+                .map(storeMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 8. 목록 프로젝션에 카테고리 이름을 붙여 응답으로 변환 (페이지 단위로 IN 쿼리 한 번)
+    private List<StoreListResponse> toListResponses(List<StoreSummary> stores) {
+        if (stores.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<String>> categoryNames = storeCategoryRepository.findCategoryNamesByStoreIdIn(
+                        stores.stream().map(StoreSummary::id).toList()).stream()
+                .collect(Collectors.groupingBy(StoreCategoryName::storeId,
+                        Collectors.mapping(StoreCategoryName::categoryName, Collectors.toList())));
+        return stores.stream()
+                .map(store -> StoreListResponse.of(store, categoryNames.getOrDefault(store.id(), List.of())))
                 .toList();
+    }
 
-        return new PageImpl<>(filteredContent, pageable, filteredContent.size());
+    private Page<StoreListResponse> toListResponses(Page<StoreSummary> stores) {
+        return new PageImpl<>(toListResponses(stores.getContent()), stores.getPageable(), stores.getTotalElements());
+    }
+
+    // 9. 검색 색인 조회 (일반 유저는 승인/미삭제/서비스 지역 매장만)
+    private List<StoreSearchDocument> searchIndex(String keyword, boolean isAdmin) {
+        List<String> regionCodes = getServiceRegionCodes();
+        return storeSearchIndex.search(keyword, document -> document.isVisibleTo(isAdmin, regionCodes));
+    }
+
+    // 10. 손님에게 노출되는 메뉴 목록 (옵션은 IN 쿼리 한 번)
+    private List<MenuPublicResponseDto> loadPublicMenus(UUID storeId) {
+        return menuGraphLoader.loadActiveMenus(storeId).stream()
+                .map(MenuPublicResponseDto::of)
+                .toList();
+    }
+
+    // 11. 제약 위반이 매장 지문 유니크 인덱스에서 난 것인지 (H2는 이름 뒤에 테이블/컬럼 정보가 붙음)
+    private static boolean isFingerprintConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName() != null
+                        && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(StoreFingerprint.UNIQUE_INDEX);
+            }
+        }
+        return false;
     }
 }
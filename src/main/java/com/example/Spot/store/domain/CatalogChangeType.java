@@ -0,0 +1,8 @@
+package com.example.Spot.store.domain;
+
+// 변경 로그(p_catalog_change) 대상 종류
+// 메뉴 옵션 변경은 MENU로 기록하고, 동기화 시 메뉴를 옵션 목록과 함께 다시 내려준다
+public enum CatalogChangeType {
+    STORE,
+    MENU
+}
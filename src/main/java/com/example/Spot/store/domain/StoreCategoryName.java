@@ -0,0 +1,10 @@
+package com.example.Spot.store.domain;
+
+import java.util.UUID;
+
+// 매장 id와 카테고리 이름 (목록 페이지의 카테고리를 한 번에 모으기 위한 프로젝션)
+public record StoreCategoryName(
+        UUID storeId,
+        String categoryName
+) {
+}
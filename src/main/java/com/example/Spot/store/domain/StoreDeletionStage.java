@@ -0,0 +1,14 @@
+package com.example.Spot.store.domain;
+
+// 매장 삭제 후속 처리 단계 (자식 -> 부모 순서로 soft delete)
+public enum StoreDeletionStage {
+    MENU_OPTION,    // 메뉴 옵션
+    ORIGIN,         // 원산지
+    MENU,           // 메뉴
+    REVIEW,         // 리뷰
+    DONE;           // 완료
+
+    public StoreDeletionStage next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
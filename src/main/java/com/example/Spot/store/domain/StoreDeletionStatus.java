@@ -0,0 +1,9 @@
+package com.example.Spot.store.domain;
+
+public enum StoreDeletionStatus {
+    PENDING,    // 대기 (커밋 직후 실행 예정)
+    RUNNING,    // 진행 중
+    COMPLETED,  // 완료
+    FAILED,     // 실패 (주기적으로, 또는 재시작 시 이어서 진행)
+    ABANDONED   // 실패 횟수 초과로 중단 (자동 재시도 없음, last_error 확인 후 수동 처리)
+}
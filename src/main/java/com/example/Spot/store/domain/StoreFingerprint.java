@@ -0,0 +1,41 @@
+package com.example.Spot.store.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.Locale;
+
+// 매장 중복 판단용 지문: 도로명주소 + 상세주소 + 매장명을 정규화한 뒤 SHA-256 (hex 64자)
+// 정규화: NFC + 소문자 + 공백 제거 (예: "서울시  강남구" == "서울시강남구", "ABC치킨" == "abc치킨")
+// add_store_fingerprint.sql의 백필 SQL과 같은 규칙을 유지해야 한다
+public final class StoreFingerprint {
+
+    // 삭제되지 않은 매장끼리 지문이 유일하도록 거는 부분 유니크 인덱스 (add_store_fingerprint.sql)
+    public static final String UNIQUE_INDEX = "uk_store_fingerprint_active";
+
+    private static final char SEPARATOR = '\u001F';
+
+    private StoreFingerprint() {
+    }
+
+    public static String of(String roadAddress, String addressDetail, String name) {
+        String key = normalize(roadAddress) + SEPARATOR + normalize(addressDetail) + SEPARATOR + normalize(name);
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s", "");
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.Spot.store.domain;
+
+import java.util.UUID;
+
+// 매장 id와 좌표 (주변 매장 조회를 DB로 대체할 때 사용하는 프로젝션)
+public record StoreLocation(
+        UUID id,
+        double latitude,
+        double longitude
+) {
+}
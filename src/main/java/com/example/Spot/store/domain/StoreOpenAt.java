@@ -0,0 +1,40 @@
+package com.example.Spot.store.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+
+// 목록 영업시간 필터 값 (StoreRepository.OPEN_AT_CONDITION의 파라미터)
+// - minute: 일정 없는 매장의 open_minute/close_minute 비교용 (null이면 필터 없음)
+// - time/today/yesterday: 일정 있는 매장은 당일 구간과 전날 시작해 자정을 넘긴 구간을 함께 본다
+public record StoreOpenAt(
+        Integer minute,
+        LocalTime time,
+        LocalDate today,
+        LocalDate yesterday
+) {
+
+    public static final StoreOpenAt ANY = new StoreOpenAt(null, null, null, null);
+
+    // 오늘 openAt 시각 (openAt이 없으면 필터 없음)
+    public static StoreOpenAt of(LocalTime openAt) {
+        return openAt == null ? ANY : of(LocalDate.now().atTime(openAt));
+    }
+
+    // 분 단위로 비교 (종료 분까지 영업 중으로 보는 규칙과 맞춤)
+    public static StoreOpenAt of(LocalDateTime at) {
+        LocalTime time = at.toLocalTime().truncatedTo(ChronoUnit.MINUTES);
+        return new StoreOpenAt(time.getHour() * 60 + time.getMinute(), time,
+                at.toLocalDate(), at.toLocalDate().minusDays(1));
+    }
+
+    public DayOfWeek todayOfWeek() {
+        return today == null ? null : today.getDayOfWeek();
+    }
+
+    public DayOfWeek yesterdayOfWeek() {
+        return yesterday == null ? null : yesterday.getDayOfWeek();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.Spot.store.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// 도로명주소의 시/도 단위를 정규화된 지역 코드로 변환
+// 예: "서울특별시 종로구 사직로 161" -> "서울", "경기도 성남시 ..." -> "경기"
+public final class StoreRegion {
+
+    private static final Map<String, String> REGION_ALIASES = Map.ofEntries(
+            Map.entry("서울특별시", "서울"),
+            Map.entry("부산광역시", "부산"),
+            Map.entry("대구광역시", "대구"),
+            Map.entry("인천광역시", "인천"),
+            Map.entry("광주광역시", "광주"),
+            Map.entry("대전광역시", "대전"),
+            Map.entry("울산광역시", "울산"),
+            Map.entry("세종특별자치시", "세종"),
+            Map.entry("경기도", "경기"),
+            Map.entry("강원도", "강원"),
+            Map.entry("강원특별자치도", "강원"),
+            Map.entry("충청북도", "충북"),
+            Map.entry("충청남도", "충남"),
+            Map.entry("전라북도", "전북"),
+            Map.entry("전북특별자치도", "전북"),
+            Map.entry("전라남도", "전남"),
+            Map.entry("경상북도", "경북"),
+            Map.entry("경상남도", "경남"),
+            Map.entry("제주도", "제주"),
+            Map.entry("제주특별자치도", "제주")
+    );
+
+    // 긴 접미사부터 제거해야 "특별자치시"가 "시"보다 먼저 처리된다
+    private static final List<String> REGION_SUFFIXES = List.of(
+            "특별자치시", "특별자치도", "특별시", "광역시", "도", "시"
+    );
+
+    private StoreRegion() {
+    }
+
+    public static String normalize(String roadAddress) {
+        if (roadAddress == null || roadAddress.isBlank()) {
+            return null;
+        }
+
+        String first = roadAddress.trim().split("\\s+")[0];
+        String alias = REGION_ALIASES.get(first);
+        if (alias != null) {
+            return alias;
+        }
+
+        for (String suffix : REGION_SUFFIXES) {
+            if (first.length() > suffix.length() && first.endsWith(suffix)) {
+                return first.substring(0, first.length() - suffix.length());
+            }
+        }
+        return first;
+    }
+
+    // 설정값(service.active-regions)도 같은 규칙으로 정규화해서 비교
+    public static List<String> normalizeAll(Collection<String> regions) {
+        return regions.stream()
+                .map(StoreRegion::normalize)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.Spot.store.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 매장 주간 영업 일정을 요일별 정렬 구간 배열로 컴파일한 값 (불변)
+// - 구간은 해당 날짜 자정 기준 분 [시작, 종료) 쌍을 이어 붙인 int[] (겹치는 구간은 병합)
+// - 자정을 넘기는 영업(18:00 ~ 02:00)은 시작한 날의 구간으로 두고 종료를 1440 이후로 저장
+// - 특정 날짜 예외(휴무/특별 영업)는 그 날짜에 시작하는 구간을 통째로 대체 (빈 배열 = 휴무)
+// - 종료 시각도 영업 중으로 본다 (StoreEntity.isOpenAt, StoreRepository.OPEN_AT_CONDITION과 같은 규칙)
+// isOpenAt은 당일/전날 구간 배열 두 개를 이진 탐색하므로 O(log n)
+public final class StoreSchedule {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int[] CLOSED = new int[0];
+
+    public static final StoreSchedule ALWAYS_OPEN = daily(null, null);
+
+    private final int[][] weekly;
+    private final Map<LocalDate, int[]> overrides;
+
+    private StoreSchedule(int[][] weekly, Map<LocalDate, int[]> overrides) {
+        this.weekly = weekly;
+        this.overrides = overrides;
+    }
+
+    public record TimeRange(LocalTime openTime, LocalTime closeTime) {
+    }
+
+    // 매일 같은 영업시간 (기존 openTime/closeTime, 비어 있으면 24시간 영업)
+    public static StoreSchedule daily(LocalTime openTime, LocalTime closeTime) {
+        int[] intervals = openTime == null || closeTime == null
+                ? new int[] {0, MINUTES_PER_DAY}
+                : compile(List.of(new TimeRange(openTime, closeTime)));
+        int[][] weekly = new int[7][];
+        Arrays.fill(weekly, intervals);
+        return new StoreSchedule(weekly, Map.of());
+    }
+
+    // weekly에 없는 요일은 휴무, overrides의 날짜는 주간 일정 대신 해당 구간으로 영업 (빈 목록 = 휴무)
+    public static StoreSchedule of(
+            Map<DayOfWeek, ? extends Collection<TimeRange>> weekly,
+            Map<LocalDate, ? extends Collection<TimeRange>> overrides) {
+        int[][] compiledWeekly = new int[7][];
+        for (DayOfWeek day : DayOfWeek.values()) {
+            Collection<TimeRange> ranges = weekly.get(day);
+            compiledWeekly[day.ordinal()] = ranges == null ? CLOSED : compile(ranges);
+        }
+        return new StoreSchedule(compiledWeekly, compileOverrides(overrides));
+    }
+
+    // 주간 일정은 그대로 두고 날짜 예외만 바꾼 일정
+    public StoreSchedule withOverrides(Map<LocalDate, ? extends Collection<TimeRange>> overrides) {
+        return new StoreSchedule(weekly, compileOverrides(overrides));
+    }
+
+    public boolean isOpenAt(LocalDateTime at) {
+        int minute = at.getHour() * 60 + at.getMinute();
+        LocalDate date = at.toLocalDate();
+        // 당일 시작 구간 + 전날 시작해서 자정을 넘긴 구간
+        return contains(intervalsOn(date), minute)
+                || contains(intervalsOn(date.minusDays(1)), minute + MINUTES_PER_DAY);
+    }
+
+    private int[] intervalsOn(LocalDate date) {
+        int[] override = overrides.get(date);
+        return override != null ? override : weekly[date.getDayOfWeek().ordinal()];
+    }
+
+    // 시작 <= minute 인 마지막 구간을 이진 탐색 (병합된 구간이라 종료도 시작 순서로 정렬되어 있음)
+    private static boolean contains(int[] intervals, int minute) {
+        int low = 0;
+        int high = intervals.length / 2 - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (intervals[mid * 2] <= minute) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found >= 0 && minute < intervals[found * 2 + 1];
+    }
+
+    private static Map<LocalDate, int[]> compileOverrides(Map<LocalDate, ? extends Collection<TimeRange>> overrides) {
+        Map<LocalDate, int[]> compiled = new HashMap<>();
+        overrides.forEach((date, ranges) -> compiled.put(date, compile(ranges)));
+        return Map.copyOf(compiled);
+    }
+
+    private static int[] compile(Collection<TimeRange> ranges) {
+        int[][] pairs = ranges.stream()
+                .map(StoreSchedule::toInterval)
+                .sorted(Comparator.comparingInt(pair -> pair[0]))
+                .toArray(int[][]::new);
+
+        int[] merged = new int[pairs.length * 2];
+        int size = 0;
+        for (int[] pair : pairs) {
+            if (size > 0 && pair[0] <= merged[size - 1]) {
+                merged[size - 1] = Math.max(merged[size - 1], pair[1]);
+            } else {
+                merged[size++] = pair[0];
+                merged[size++] = pair[1];
+            }
+        }
+        return Arrays.copyOf(merged, size);
+    }
+
+    // 종료가 시작보다 이르거나 같으면 다음 날 종료 (같으면 24시간), 종료 분까지 포함하므로 +1
+    private static int[] toInterval(TimeRange range) {
+        int open = range.openTime().getHour() * 60 + range.openTime().getMinute();
+        int close = range.closeTime().getHour() * 60 + range.closeTime().getMinute();
+        if (close <= open) {
+            close += MINUTES_PER_DAY;
+        }
+        return new int[] {open, close + 1};
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.Spot.store.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 목록 조회용 매장 컬럼 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않는다)
+public record StoreSummary(
+        UUID id,
+        String name,
+        String roadAddress,
+        String addressDetail,
+        String phoneNumber,
+        StoreStatus status,
+        boolean isDeleted,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,75 @@
+package com.example.Spot.store.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+import com.example.Spot.store.domain.CatalogChangeType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 매장/메뉴 변경 로그 (델타 동기화용)
+// seq는 CatalogSequenceEntity에서 커밋 직전에 발급하므로 커밋 순서와 seq 순서가 같다
+// id를 직접 넣는 엔티티라 Persistable로 새 행임을 알려준다 (save가 merge로 가서 행마다 SELECT하지 않도록)
+@Entity
+@Getter
+@Table(name = "p_catalog_change")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatalogChangeEntity implements Persistable<Long> {
+
+    @Id
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private CatalogChangeType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public CatalogChangeEntity(long seq, CatalogChangeType entityType, UUID entityId, UUID storeId, LocalDateTime changedAt) {
+        this.seq = seq;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.storeId = storeId;
+        this.changedAt = changedAt;
+    }
+
+    @Override
+    public Long getId() {
+        return seq;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
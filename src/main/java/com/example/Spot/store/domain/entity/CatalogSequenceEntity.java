@@ -0,0 +1,33 @@
+package com.example.Spot.store.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 변경 로그 seq 발급용 카운터 (행 하나)
+// 발급하는 트랜잭션이 커밋될 때까지 행 잠금을 잡고 있으므로, 낮은 seq가 높은 seq보다 늦게 커밋되는 일이 없다
+@Entity
+@Getter
+@Table(name = "p_catalog_sequence")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatalogSequenceEntity {
+
+    @Id
+    @Column(length = 30)
+    private String name;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+
+    public CatalogSequenceEntity(String name) {
+        this.name = name;
+    }
+
+    public long next() {
+        return ++this.lastSeq;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.Spot.store.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.example.Spot.global.common.BaseEntity;
+import com.example.Spot.store.domain.StoreDeletionStage;
+import com.example.Spot.store.domain.StoreDeletionStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 매장 삭제 후속 처리(메뉴/옵션/원산지/리뷰 soft delete) 작업
+// 배치 하나를 처리할 때마다 같은 트랜잭션에서 진행 상황을 기록하므로, 중단돼도 현재 단계부터 이어서 진행할 수 있다
+@Entity
+@Getter
+@Table(
+        name = "p_store_deletion_job",
+        indexes = {
+                @Index(name = "idx_store_deletion_job_store_id", columnList = "store_id"),
+                @Index(name = "idx_store_deletion_job_status", columnList = "status")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreDeletionJobEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    // 하위 데이터의 deleted_by로 기록할 유저 (매장을 삭제한 유저)
+    @Column(name = "requested_by", nullable = false)
+    private Integer requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StoreDeletionStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StoreDeletionStage stage;
+
+    @Column(name = "deleted_menu_options", nullable = false)
+    private long deletedMenuOptions;
+
+    @Column(name = "deleted_origins", nullable = false)
+    private long deletedOrigins;
+
+    @Column(name = "deleted_menus", nullable = false)
+    private long deletedMenus;
+
+    @Column(name = "deleted_reviews", nullable = false)
+    private long deletedReviews;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 실패한 실행 횟수 (maxAttempts에 도달하면 ABANDONED)
+    @Column(name = "failed_attempts", nullable = false)
+    private int failedAttempts;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public StoreDeletionJobEntity(UUID storeId, Integer requestedBy) {
+        this.storeId = storeId;
+        this.requestedBy = requestedBy;
+        this.status = StoreDeletionStatus.PENDING;
+        this.stage = StoreDeletionStage.values()[0];
+    }
+
+    public boolean isFinished() {
+        return this.status == StoreDeletionStatus.COMPLETED;
+    }
+
+    public boolean isAbandoned() {
+        return this.status == StoreDeletionStatus.ABANDONED;
+    }
+
+    public void start() {
+        this.status = StoreDeletionStatus.RUNNING;
+        this.lastError = null;
+    }
+
+    // 현재 단계에서 soft delete한 행 수를 누적
+    public void recordProgress(int count) {
+        switch (this.stage) {
+            case MENU_OPTION -> this.deletedMenuOptions += count;
+            case ORIGIN -> this.deletedOrigins += count;
+            case MENU -> this.deletedMenus += count;
+            case REVIEW -> this.deletedReviews += count;
+            case DONE -> {
+            }
+        }
+    }
+
+    // 현재 단계에 남은 행이 없으면 다음 단계로
+    public void advance() {
+        this.stage = this.stage.next();
+        if (this.stage == StoreDeletionStage.DONE) {
+            this.status = StoreDeletionStatus.COMPLETED;
+            this.completedAt = LocalDateTime.now();
+        }
+    }
+
+    // 실패 기록, maxAttempts번째 실패면 더 이상 재시도하지 않도록 ABANDONED
+    public void fail(String message, int maxAttempts) {
+        this.failedAttempts++;
+        this.status = this.failedAttempts >= maxAttempts ? StoreDeletionStatus.ABANDONED : StoreDeletionStatus.FAILED;
+        this.lastError = message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -9,6 +9,8 @@ import java.util.UUID;
 
 import com.example.Spot.global.common.UpdateBaseEntity;
 import com.example.Spot.review.domain.entity.ReviewEntity;
+import com.example.Spot.store.domain.StoreFingerprint;
+import com.example.Spot.store.domain.StoreRegion;
 import com.example.Spot.store.domain.StoreStatus;
 import com.example.Spot.user.domain.entity.UserEntity;
 
@@ -21,6 +23,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -31,7 +34,21 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "p_store")
+@Table(
+        name = "p_store",
+        indexes = {
+                // 서비스 지역 + 승인 상태 기반 목록 조회용
+                @Index(name = "idx_store_region_status", columnList = "region_code, status, is_deleted"),
+                // 커서(키셋) 기반 목록 조회용
+                @Index(name = "idx_store_created_at_id", columnList = "created_at, id"),
+                // 승인 대기열(PENDING) 오래된 순 조회용
+                @Index(name = "idx_store_status_created_at_id", columnList = "status, created_at, id"),
+                // 주변 매장 조회(위경도 사각형 범위)용 - 메모리 색인이 준비되기 전에만 사용
+                @Index(name = "idx_store_latitude_longitude", columnList = "latitude, longitude"),
+                // 인기순(sort=POPULAR) 목록 조회용
+                @Index(name = "idx_store_popularity_score_id", columnList = "popularity_score, id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StoreEntity extends UpdateBaseEntity {
 
@@ -45,6 +62,10 @@ public class StoreEntity extends UpdateBaseEntity {
     @Column(name = "road_address", nullable = false)
     private String roadAddress; // 예: 서울특별시 종로구 사직로 161 //
 
+    // roadAddress에서 추출한 시/도 코드 (예: 서울, 경기) - 생성/수정 시점에만 계산 //
+    @Column(name = "region_code", length = 20)
+    private String regionCode;
+
     @Column(name = "address_detail", nullable = false)
     private String addressDetail;
 
@@ -57,10 +78,53 @@ public class StoreEntity extends UpdateBaseEntity {
     @Column(name = "close_time")
     private LocalTime closeTime;
 
+    // openTime/closeTime을 자정 기준 분(0~1439)으로 변환한 값 - 영업시간 필터를 SQL에서 처리하기 위함 //
+    @Column(name = "open_minute")
+    private Integer openMinute;
+
+    @Column(name = "close_minute")
+    private Integer closeMinute;
+
+    // 요일별 영업 구간/휴무일(p_store_opening_hours, p_store_holiday)이 있는 매장인지 //
+    // true면 openTime/closeTime 대신 StoreScheduleService의 컴파일된 일정으로 영업 여부를 판단 //
+    @Column(name = "has_schedule", nullable = false)
+    private boolean hasSchedule;
+
+    // 매장 좌표 (WGS84, 선택 입력) - 주변 매장 조회용 //
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private StoreStatus status;
 
+    // 중복 매장 판단용 지문 (정규화한 주소 + 매장명의 SHA-256) - 생성/수정 시점에만 계산 //
+    // 삭제되지 않은 매장끼리 유일 (add_store_fingerprint.sql의 uk_store_fingerprint_active) //
+    @Column(name = "fingerprint", length = 64)
+    private String fingerprint;
+
+    // 인기 점수 집계 (리뷰 수/별점 합계/완료 주문 수 -> popularity_score) //
+    // StoreRankingService의 벌크 UPDATE로만 갱신하므로 엔티티 수정 시 덮어쓰지 않도록 updatable = false //
+    @Column(name = "review_count", nullable = false, updatable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private long ratingSum;
+
+    @Column(name = "completed_order_count", nullable = false, updatable = false)
+    private long completedOrderCount;
+
+    @Column(name = "popularity_score", nullable = false, updatable = false)
+    private double popularityScore;
+
+    // 매장 콘텐츠 버전 (매장/메뉴/옵션 변경 트랜잭션마다 +1) - 조회 응답 ETag용 //
+    // StoreContentVersionService의 벌크 UPDATE로만 올리므로 updatable = false //
+    @Column(name = "content_version", nullable = false, updatable = false)
+    private long contentVersion;
+
     @OneToMany(
             mappedBy = "store",
             cascade = CascadeType.ALL,  // Store가 저장/수정될 때 연결 정보도 함께 저장/수정 //
@@ -92,14 +156,20 @@ public class StoreEntity extends UpdateBaseEntity {
             String addressDetail,
             String phoneNumber,
             LocalTime openTime,
-            LocalTime closeTime
+            LocalTime closeTime,
+            Double latitude,
+            Double longitude
     ) {
         this.name = name;
         this.roadAddress = roadAddress;
+        this.regionCode = StoreRegion.normalize(roadAddress);
         this.addressDetail = addressDetail;
         this.phoneNumber = phoneNumber;
         this.openTime = openTime;
         this.closeTime = closeTime;
+        syncOpenMinutes();
+        syncFingerprint();
+        updateLocation(latitude, longitude);
 
         this.status = StoreStatus.PENDING;
     }
@@ -137,6 +207,7 @@ public class StoreEntity extends UpdateBaseEntity {
         }
         if (roadAddress != null) {
             this.roadAddress = roadAddress;
+            this.regionCode = StoreRegion.normalize(roadAddress);
         }
         if (addressDetail != null) {
             this.addressDetail = addressDetail;
@@ -150,6 +221,8 @@ public class StoreEntity extends UpdateBaseEntity {
         if (closeTime != null) {
             this.closeTime = closeTime;
         }
+        syncOpenMinutes();
+        syncFingerprint();
 
         if (categories != null) {
             this.storeCategoryMaps.clear(); // 기존 연결 해제(orphanRemova l=true 작동)
@@ -185,7 +258,46 @@ public class StoreEntity extends UpdateBaseEntity {
         }
     }
 
+    // 위도/경도는 함께 설정하거나 함께 비워야 한다
+    public void updateLocation(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("위도와 경도는 함께 입력해야 합니다.");
+        }
+        if (latitude != null && (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)) {
+            throw new IllegalArgumentException("좌표 범위가 올바르지 않습니다.");
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    // 좌표 삭제 (주변 매장 조회 대상에서 빠짐)
+    public void clearLocation() {
+        this.latitude = null;
+        this.longitude = null;
+    }
+
+    public void updateHasSchedule(boolean hasSchedule) {
+        this.hasSchedule = hasSchedule;
+    }
+
+    public boolean hasLocation() {
+        return this.latitude != null && this.longitude != null;
+    }
+
     public void updateStatus(StoreStatus status) {
         this.status = status;
     }
+
+    public static Integer toMinuteOfDay(LocalTime time) {
+        return time == null ? null : time.getHour() * 60 + time.getMinute();
+    }
+
+    private void syncFingerprint() {
+        this.fingerprint = StoreFingerprint.of(this.roadAddress, this.addressDetail, this.name);
+    }
+
+    private void syncOpenMinutes() {
+        this.openMinute = toMinuteOfDay(this.openTime);
+        this.closeMinute = toMinuteOfDay(this.closeTime);
+    }
 }
@@ -0,0 +1,70 @@
+package com.example.Spot.store.domain.entity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import com.example.Spot.store.domain.StoreSchedule;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 특정 날짜의 영업 예외 - 해당 날짜에 시작하는 주간 영업 구간을 대체한다
+// openTime/closeTime이 비어 있으면 하루 휴무, 있으면 그 시간만 영업 (한 날짜에 여러 행 가능)
+@Entity
+@Getter
+@Table(
+        name = "p_store_holiday",
+        indexes = @Index(name = "idx_store_holiday_store_date", columnList = "store_id, holiday_date")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreHolidayEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "store_id", nullable = false)
+    private StoreEntity store;
+
+    @Column(name = "holiday_date", nullable = false)
+    private LocalDate holidayDate;
+
+    @Column(name = "open_time")
+    private LocalTime openTime;
+
+    @Column(name = "close_time")
+    private LocalTime closeTime;
+
+    @Builder
+    public StoreHolidayEntity(StoreEntity store, LocalDate holidayDate, LocalTime openTime, LocalTime closeTime) {
+        if ((openTime == null) != (closeTime == null)) {
+            throw new IllegalArgumentException("특별 영업시간은 시작과 종료를 함께 입력해야 합니다.");
+        }
+        this.store = store;
+        this.holidayDate = holidayDate;
+        this.openTime = openTime;
+        this.closeTime = closeTime;
+    }
+
+    public boolean isClosedAllDay() {
+        return openTime == null;
+    }
+
+    public StoreSchedule.TimeRange toTimeRange() {
+        return new StoreSchedule.TimeRange(openTime, closeTime);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.Spot.store.domain.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import com.example.Spot.store.domain.StoreSchedule;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 매장 주간 영업 구간 (요일마다 여러 개 가능 - 브레이크 타임, 주말 영업시간 등)
+// closeTime이 openTime보다 이르면 다음 날 closeTime까지 영업
+// 일정은 통째로 교체하므로 soft delete 없이 행을 지우고 다시 저장한다
+@Entity
+@Getter
+@Table(
+        name = "p_store_opening_hours",
+        indexes = @Index(name = "idx_store_opening_hours_store", columnList = "store_id, day_of_week")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreOpeningHoursEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "store_id", nullable = false)
+    private StoreEntity store;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false, length = 10)
+    private DayOfWeek dayOfWeek;
+
+    @Column(name = "open_time", nullable = false)
+    private LocalTime openTime;
+
+    @Column(name = "close_time", nullable = false)
+    private LocalTime closeTime;
+
+    @Builder
+    public StoreOpeningHoursEntity(StoreEntity store, DayOfWeek dayOfWeek, LocalTime openTime, LocalTime closeTime) {
+        this.store = store;
+        this.dayOfWeek = dayOfWeek;
+        this.openTime = openTime;
+        this.closeTime = closeTime;
+    }
+
+    public StoreSchedule.TimeRange toTimeRange() {
+        return new StoreSchedule.TimeRange(openTime, closeTime);
+    }
+}
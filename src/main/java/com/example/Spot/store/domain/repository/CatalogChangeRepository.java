@@ -0,0 +1,14 @@
+package com.example.Spot.store.domain.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.Spot.store.domain.entity.CatalogChangeEntity;
+
+public interface CatalogChangeRepository extends JpaRepository<CatalogChangeEntity, Long> {
+
+    // since 이후 변경 로그 (PK 순서 그대로 조회)
+    List<CatalogChangeEntity> findBySeqGreaterThanOrderBySeqAsc(long since, Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package com.example.Spot.store.domain.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.Spot.store.domain.entity.CatalogSequenceEntity;
+
+import jakarta.persistence.LockModeType;
+
+public interface CatalogSequenceRepository extends JpaRepository<CatalogSequenceEntity, String> {
+
+    // seq 발급용: 커밋까지 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CatalogSequenceEntity s WHERE s.name = :name")
+    Optional<CatalogSequenceEntity> findByNameForUpdate(@Param("name") String name);
+}
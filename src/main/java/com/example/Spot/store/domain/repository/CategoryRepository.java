@@ -1,5 +1,6 @@
 package com.example.Spot.store.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,6 +23,9 @@ public interface CategoryRepository extends JpaRepository<CategoryEntity, UUID>
 
     // test
     Optional<CategoryEntity> findByName(String name);
+
+    // 대량 등록: 여러 카테고리를 한 번에 조회
+    List<CategoryEntity> findAllByNameIn(Collection<String> names);
     // soft delete 컬럼(isDeleted)이 UpdateBaseEntity에 있다고 가정
     List<CategoryEntity> findByIsDeletedFalse();
 }
@@ -1,5 +1,6 @@
 package com.example.Spot.store.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.example.Spot.store.domain.StoreCategoryName;
 import com.example.Spot.store.domain.entity.CategoryEntity;
 import com.example.Spot.store.domain.entity.StoreCategoryEntity;
 import com.example.Spot.store.domain.entity.StoreEntity;
@@ -25,6 +27,16 @@ public interface StoreCategoryRepository extends JpaRepository<StoreCategoryEnti
     """)
     List<StoreCategoryEntity> findAllActiveByCategoryIdWithStore(@Param("categoryId") UUID categoryId);
 
+    // Store - 목록 페이지에 포함된 매장들의 카테고리 이름을 한 번에 조회 (등록 순)
+    @Query("""
+        select new com.example.Spot.store.domain.StoreCategoryName(scm.store.id, c.name)
+        from StoreCategoryEntity scm
+        join scm.category c
+        where scm.store.id in :storeIds
+        order by scm.createdAt
+    """)
+    List<StoreCategoryName> findCategoryNamesByStoreIdIn(@Param("storeIds") Collection<UUID> storeIds);
+
     // Store
     List<StoreCategoryEntity> findByCategoryAndIsDeletedFalse(CategoryEntity category);
 
@@ -0,0 +1,30 @@
+package com.example.Spot.store.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.Spot.store.domain.StoreDeletionStatus;
+import com.example.Spot.store.domain.entity.StoreDeletionJobEntity;
+
+import jakarta.persistence.LockModeType;
+
+public interface StoreDeletionJobRepository extends JpaRepository<StoreDeletionJobEntity, UUID> {
+
+    // 배치 처리용: 같은 작업을 여러 스레드/인스턴스가 동시에 진행하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM StoreDeletionJobEntity j WHERE j.id = :id")
+    Optional<StoreDeletionJobEntity> findByIdForUpdate(@Param("id") UUID id);
+
+    // 재시작 시 이어서 진행할 작업
+    List<StoreDeletionJobEntity> findAllByStatusIn(Collection<StoreDeletionStatus> statuses);
+
+    // 진행 상황 조회용: 매장의 가장 최근 삭제 작업
+    Optional<StoreDeletionJobEntity> findFirstByStoreIdOrderByCreatedAtDesc(UUID storeId);
+}
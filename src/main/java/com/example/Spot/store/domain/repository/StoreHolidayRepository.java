@@ -0,0 +1,31 @@
+package com.example.Spot.store.domain.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.Spot.store.domain.entity.StoreHolidayEntity;
+
+@Repository
+public interface StoreHolidayRepository extends JpaRepository<StoreHolidayEntity, UUID> {
+
+    List<StoreHolidayEntity> findAllByStoreIdAndHolidayDateGreaterThanEqualOrderByHolidayDateAscOpenTimeAsc(
+            UUID storeId, LocalDate from);
+
+    // 일정 컴파일용: 지난 날짜는 영업 판단에 쓰이지 않으므로 from 이후만 조회
+    List<StoreHolidayEntity> findAllByStoreIdInAndHolidayDateGreaterThanEqual(Collection<UUID> storeIds, LocalDate from);
+
+    List<StoreHolidayEntity> findAllByHolidayDateGreaterThanEqual(LocalDate from);
+
+    // 일정 교체용 일괄 삭제 (DELETE 한 번)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM StoreHolidayEntity h WHERE h.store.id = :storeId")
+    int deleteAllByStoreId(@Param("storeId") UUID storeId);
+}
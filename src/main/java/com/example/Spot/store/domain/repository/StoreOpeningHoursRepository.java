@@ -0,0 +1,27 @@
+package com.example.Spot.store.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.Spot.store.domain.entity.StoreOpeningHoursEntity;
+
+@Repository
+public interface StoreOpeningHoursRepository extends JpaRepository<StoreOpeningHoursEntity, UUID> {
+
+    List<StoreOpeningHoursEntity> findAllByStoreIdOrderByDayOfWeekAscOpenTimeAsc(UUID storeId);
+
+    // 일정 컴파일용: 여러 매장의 영업 구간을 한 번에 조회
+    List<StoreOpeningHoursEntity> findAllByStoreIdIn(Collection<UUID> storeIds);
+
+    // 일정 교체용 일괄 삭제 (DELETE 한 번)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM StoreOpeningHoursEntity h WHERE h.store.id = :storeId")
+    int deleteAllByStoreId(@Param("storeId") UUID storeId);
+}
@@ -1,28 +1,116 @@
 package com.example.Spot.store.domain.repository;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.Spot.store.domain.StoreLocation;
+import com.example.Spot.store.domain.StoreStatus;
+import com.example.Spot.store.domain.StoreSummary;
 import com.example.Spot.store.domain.entity.StoreEntity;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface StoreRepository extends JpaRepository<StoreEntity, UUID> {
 
+    // 일정 보유 매장의 영업 여부 (StoreSchedule.isOpenAt과 같은 규칙, 매장마다 인덱스를 타는 EXISTS 몇 번)
+    // - 그날의 구간: 날짜 예외(p_store_holiday)가 있으면 그 구간만, 없으면 요일 구간(p_store_opening_hours),
+    //   요일 구간이 하나도 없으면 매장 기본 영업시간
+    // - 당일 시작한 구간(자정을 넘기면 시작 이후 전부) + 전날 시작해 자정을 넘긴 구간(종료 이전)
+    String SCHEDULE_OPEN_CONDITION = "(" +
+            "EXISTS (SELECT h.id FROM StoreHolidayEntity h WHERE h.store = s AND h.holidayDate = :today " +
+            "AND ((h.openTime < h.closeTime AND :openTime BETWEEN h.openTime AND h.closeTime) " +
+            "OR (h.openTime >= h.closeTime AND :openTime >= h.openTime))) " +
+            "OR (NOT EXISTS (SELECT h.id FROM StoreHolidayEntity h WHERE h.store = s AND h.holidayDate = :today) " +
+            "AND (EXISTS (SELECT w.id FROM StoreOpeningHoursEntity w WHERE w.store = s AND w.dayOfWeek = :todayOfWeek " +
+            "AND ((w.openTime < w.closeTime AND :openTime BETWEEN w.openTime AND w.closeTime) " +
+            "OR (w.openTime >= w.closeTime AND :openTime >= w.openTime))) " +
+            "OR (NOT EXISTS (SELECT w.id FROM StoreOpeningHoursEntity w WHERE w.store = s) " +
+            "AND (s.openMinute IS NULL OR s.closeMinute IS NULL " +
+            "OR (s.openMinute < s.closeMinute AND :openMinute BETWEEN s.openMinute AND s.closeMinute) " +
+            "OR (s.openMinute >= s.closeMinute AND :openMinute >= s.openMinute))))) " +
+            "OR EXISTS (SELECT h.id FROM StoreHolidayEntity h WHERE h.store = s AND h.holidayDate = :yesterday " +
+            "AND h.openTime >= h.closeTime AND :openTime <= h.closeTime) " +
+            "OR (NOT EXISTS (SELECT h.id FROM StoreHolidayEntity h WHERE h.store = s AND h.holidayDate = :yesterday) " +
+            "AND (EXISTS (SELECT w.id FROM StoreOpeningHoursEntity w WHERE w.store = s " +
+            "AND w.dayOfWeek = :yesterdayOfWeek AND w.openTime >= w.closeTime AND :openTime <= w.closeTime) " +
+            "OR (NOT EXISTS (SELECT w.id FROM StoreOpeningHoursEntity w WHERE w.store = s) " +
+            "AND s.openMinute >= s.closeMinute AND :openMinute <= s.closeMinute))))";
+
+    // 영업시간 필터: :openMinute(0~1439)에 영업 중인 매장 (null이면 필터 없음, 파라미터는 StoreOpenAt 값)
+    // - 인덱스를 쓰지 않는 행 단위 조건: 상태/지역 등 다른 조건으로 좁혀진 행을 DB에서 걸러 애플리케이션 필터링만 없앤 것
+    // - 요일별 일정이 없는 매장은 open_minute/close_minute 비교
+    //   open_minute >= close_minute 이면 자정을 넘기는 영업 (예: 18:00 ~ 02:00)
+    //   영업시간이 비어 있는 매장은 24시간 영업으로 간주 (StoreEntity.isOpenAt과 동일한 규칙)
+    // - 요일별 일정이 있는 매장(has_schedule)은 SCHEDULE_OPEN_CONDITION으로 일정 테이블을 직접 확인
+    String OPEN_AT_CONDITION = "(:openMinute IS NULL " +
+            "OR (s.hasSchedule = false AND (s.openMinute IS NULL OR s.closeMinute IS NULL " +
+            "OR (s.openMinute < s.closeMinute AND :openMinute BETWEEN s.openMinute AND s.closeMinute) " +
+            "OR (s.openMinute >= s.closeMinute AND (:openMinute >= s.openMinute OR :openMinute <= s.closeMinute)))) " +
+            "OR (s.hasSchedule = true AND " + SCHEDULE_OPEN_CONDITION + "))";
+
+    // 목록 조회는 StoreSummary 컬럼 프로젝션으로 반환 (카테고리는 StoreCategoryRepository.findCategoryNamesByStoreIdIn으로 따로 조회)
+    // fetch join이 없으므로 페이징(LIMIT/OFFSET)도 SQL에서 그대로 처리된다
+
     // 기본 조회
-    @Query("SELECT s FROM StoreEntity s " +
-            "LEFT JOIN FETCH s.storeCategoryMaps sc " +
-            "LEFT JOIN FETCH sc.category " +
-            "WHERE (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED'))")
-    Page<StoreEntity> findAllByRole(@Param("isAdmin") boolean isAdmin, Pageable pageable);
-    
+    @Query(value = "SELECT new com.example.Spot.store.domain.StoreSummary(" +
+            "s.id, s.name, s.roadAddress, s.addressDetail, s.phoneNumber, s.status, s.isDeleted, s.createdAt) " +
+            "FROM StoreEntity s " +
+            "WHERE (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED')) " +
+            "AND " + OPEN_AT_CONDITION,
+            countQuery = "SELECT COUNT(s) FROM StoreEntity s " +
+                    "WHERE (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED')) " +
+                    "AND " + OPEN_AT_CONDITION)
+    Page<StoreSummary> findAllByRole(
+            @Param("isAdmin") boolean isAdmin,
+            @Param("openMinute") Integer openMinute,
+            @Param("openTime") LocalTime openTime,
+            @Param("today") LocalDate today,
+            @Param("todayOfWeek") DayOfWeek todayOfWeek,
+            @Param("yesterday") LocalDate yesterday,
+            @Param("yesterdayOfWeek") DayOfWeek yesterdayOfWeek,
+            Pageable pageable
+    );
+
+    // 일반 유저용 조회: 서비스 지역 필터를 SQL에서 처리 (region_code 인덱스 사용)
+    @Query(value = "SELECT new com.example.Spot.store.domain.StoreSummary(" +
+            "s.id, s.name, s.roadAddress, s.addressDetail, s.phoneNumber, s.status, s.isDeleted, s.createdAt) " +
+            "FROM StoreEntity s " +
+            "WHERE s.isDeleted = false AND s.status = 'APPROVED' " +
+            "AND s.regionCode IN :regions " +
+            "AND " + OPEN_AT_CONDITION,
+            countQuery = "SELECT COUNT(s) FROM StoreEntity s " +
+                    "WHERE s.isDeleted = false AND s.status = 'APPROVED' " +
+                    "AND s.regionCode IN :regions " +
+                    "AND " + OPEN_AT_CONDITION)
+    Page<StoreSummary> findAllInRegions(
+            @Param("regions") List<String> regions,
+            @Param("openMinute") Integer openMinute,
+            @Param("openTime") LocalTime openTime,
+            @Param("today") LocalDate today,
+            @Param("todayOfWeek") DayOfWeek todayOfWeek,
+            @Param("yesterday") LocalDate yesterday,
+            @Param("yesterdayOfWeek") DayOfWeek yesterdayOfWeek,
+            Pageable pageable
+    );
+
     // 상세 조회: or을 통해 권한 혹은 소프트제거 여부에 따른 조회범위 설정
     @Query("SELECT s FROM StoreEntity s " +
             "LEFT JOIN FETCH s.storeCategoryMaps sc " +
@@ -33,33 +121,188 @@ public interface StoreRepository extends JpaRepository<StoreEntity, UUID> {
             "AND (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED'))")
     Optional<StoreEntity> findByIdWithDetails(@Param("id") UUID id, @Param("isAdmin") boolean isAdmin);
 
+    // 수정용 조회: 권한 체크는 StoreMembershipService에서 하므로 직원/유저 그래프는 fetch하지 않는다
+    @Query("SELECT s FROM StoreEntity s " +
+            "WHERE s.id = :id " +
+            "AND (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED'))")
+    Optional<StoreEntity> findByIdForManagement(@Param("id") UUID id, @Param("isAdmin") boolean isAdmin);
+
     // 검색 기능
-    @Query("SELECT DISTINCT s FROM StoreEntity s " +
-            "LEFT JOIN FETCH s.storeCategoryMaps sc " +
-            "LEFT JOIN FETCH sc.category " +
+    @Query(value = "SELECT new com.example.Spot.store.domain.StoreSummary(" +
+            "s.id, s.name, s.roadAddress, s.addressDetail, s.phoneNumber, s.status, s.isDeleted, s.createdAt) " +
+            "FROM StoreEntity s " +
             "WHERE s.name LIKE %:keyword% " +
-            "AND (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED'))")
-    Page<StoreEntity> searchByName(@Param("keyword") String keyword, @Param("isAdmin") boolean isAdmin, Pageable pageable);
+            "AND (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED'))",
+            countQuery = "SELECT COUNT(s) FROM StoreEntity s " +
+                    "WHERE s.name LIKE %:keyword% " +
+                    "AND (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED'))")
+    Page<StoreSummary> searchByName(@Param("keyword") String keyword, @Param("isAdmin") boolean isAdmin, Pageable pageable);
+
+    // 일반 유저용 검색: 서비스 지역 필터 포함
+    @Query(value = "SELECT new com.example.Spot.store.domain.StoreSummary(" +
+            "s.id, s.name, s.roadAddress, s.addressDetail, s.phoneNumber, s.status, s.isDeleted, s.createdAt) " +
+            "FROM StoreEntity s " +
+            "WHERE s.name LIKE %:keyword% " +
+            "AND s.isDeleted = false AND s.status = 'APPROVED' " +
+            "AND s.regionCode IN :regions",
+            countQuery = "SELECT COUNT(s) FROM StoreEntity s " +
+                    "WHERE s.name LIKE %:keyword% " +
+                    "AND s.isDeleted = false AND s.status = 'APPROVED' " +
+                    "AND s.regionCode IN :regions")
+    Page<StoreSummary> searchByNameInRegions(
+            @Param("keyword") String keyword,
+            @Param("regions") List<String> regions,
+            Pageable pageable
+    );
+
+    // 커서 기반 목록 조회 1단계: (created_at, id) 키셋 기준으로 다음 페이지의 id만 조회
+    // fetch join 없이 LIMIT이 SQL에 그대로 적용되므로 페이지 깊이와 상관없이 비용이 일정하다
+    @Query("SELECT s.id FROM StoreEntity s " +
+            "WHERE (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED' AND s.regionCode IN :regions)) " +
+            "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+            "AND " + OPEN_AT_CONDITION + " " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<UUID> findIdsAfterCursor(
+            @Param("isAdmin") boolean isAdmin,
+            @Param("regions") List<String> regions,
+            @Param("openMinute") Integer openMinute,
+            @Param("openTime") LocalTime openTime,
+            @Param("today") LocalDate today,
+            @Param("todayOfWeek") DayOfWeek todayOfWeek,
+            @Param("yesterday") LocalDate yesterday,
+            @Param("yesterdayOfWeek") DayOfWeek yesterdayOfWeek,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    // 영업 일정 색인 적재용: 요일별 일정/휴무일이 있는 매장
+    List<StoreEntity> findAllByHasScheduleTrue();
+
+    // 주변 매장 조회 대체용: 위경도 사각형 범위 안의 매장 좌표 (거리 계산/정렬은 서비스에서)
+    @Query("SELECT new com.example.Spot.store.domain.StoreLocation(s.id, s.latitude, s.longitude) " +
+            "FROM StoreEntity s " +
+            "WHERE s.latitude BETWEEN :minLatitude AND :maxLatitude " +
+            "AND s.longitude BETWEEN :minLongitude AND :maxLongitude " +
+            "AND (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED' AND s.regionCode IN :regions))")
+    List<StoreLocation> findLocationsWithinBox(
+            @Param("minLatitude") double minLatitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLongitude") double maxLongitude,
+            @Param("isAdmin") boolean isAdmin,
+            @Param("regions") Collection<String> regions
+    );
+
+    // 커서 기반 검색 1단계
+    @Query("SELECT s.id FROM StoreEntity s " +
+            "WHERE s.name LIKE %:keyword% " +
+            "AND (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED' AND s.regionCode IN :regions)) " +
+            "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<UUID> searchIdsByNameAfterCursor(
+            @Param("keyword") String keyword,
+            @Param("isAdmin") boolean isAdmin,
+            @Param("regions") List<String> regions,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    // 커서 기반 조회 2단계: 해당 페이지 매장들의 목록 컬럼을 한 번에 조회
+    @Query("SELECT new com.example.Spot.store.domain.StoreSummary(" +
+            "s.id, s.name, s.roadAddress, s.addressDetail, s.phoneNumber, s.status, s.isDeleted, s.createdAt) " +
+            "FROM StoreEntity s " +
+            "WHERE s.id IN :ids")
+    List<StoreSummary> findSummariesByIdIn(@Param("ids") List<UUID> ids);
+
+    // 여러 매장 한 번에 조회: 권한/서비스 지역 규칙을 SQL에서 한 번에 적용 (조건에 맞지 않는 id는 결과에서 빠진다)
+    @Query("SELECT new com.example.Spot.store.domain.StoreSummary(" +
+            "s.id, s.name, s.roadAddress, s.addressDetail, s.phoneNumber, s.status, s.isDeleted, s.createdAt) " +
+            "FROM StoreEntity s " +
+            "WHERE s.id IN :ids " +
+            "AND (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED' AND s.regionCode IN :regions))")
+    List<StoreSummary> findVisibleSummariesByIdIn(
+            @Param("ids") Collection<UUID> ids,
+            @Param("isAdmin") boolean isAdmin,
+            @Param("regions") Collection<String> regions
+    );
+
+    // 승인 대기열 1단계: 오래된 순 (created_at, id) 키셋으로 PENDING 매장 조회 (관리자용)
+    @Query("SELECT new com.example.Spot.store.domain.StoreSummary(" +
+            "s.id, s.name, s.roadAddress, s.addressDetail, s.phoneNumber, s.status, s.isDeleted, s.createdAt) " +
+            "FROM StoreEntity s " +
+            "WHERE s.status = 'PENDING' AND s.isDeleted = false " +
+            "AND (s.createdAt > :createdAt OR (s.createdAt = :createdAt AND s.id > :id)) " +
+            "ORDER BY s.createdAt ASC, s.id ASC")
+    List<StoreSummary> findPendingAfterCursor(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    // 승인 대기열 2단계: 요청한 매장 중 아직 PENDING인 매장의 id
+    @Query("SELECT s.id FROM StoreEntity s " +
+            "WHERE s.id IN :ids AND s.status = 'PENDING' AND s.isDeleted = false")
+    List<UUID> findPendingIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // 메뉴 복사 대상 확인: 요청한 매장 중 삭제되지 않은 매장의 id
+    @Query("SELECT s.id FROM StoreEntity s WHERE s.id IN :ids AND s.isDeleted = false")
+    List<UUID> findActiveIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // 승인 대기열 3단계: PENDING 매장 상태를 UPDATE 한 번으로 변경
+    // 벌크 UPDATE는 Auditing을 거치지 않으므로 updatedAt/updatedBy를 직접 지정한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StoreEntity s " +
+            "SET s.status = :status, s.updatedAt = :updatedAt, s.updatedBy = :updatedBy " +
+            "WHERE s.id IN :ids AND s.status = 'PENDING' AND s.isDeleted = false")
+    int updatePendingStatusByIdIn(
+            @Param("ids") Collection<UUID> ids,
+            @Param("status") StoreStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("updatedBy") Integer updatedBy
+    );
+
+    // ETag 확인용: 엔티티를 읽지 않고 콘텐츠 버전만 조회
+    @Query("SELECT s.contentVersion FROM StoreEntity s WHERE s.id = :id")
+    Optional<Long> findContentVersionById(@Param("id") UUID id);
+
+    // 매장/메뉴/옵션 변경 커밋 직전에 콘텐츠 버전 +1 (같은 트랜잭션의 변경을 먼저 flush)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StoreEntity s SET s.contentVersion = s.contentVersion + 1 WHERE s.id IN :ids")
+    int incrementContentVersion(@Param("ids") Collection<UUID> ids);
 
     // 특정 유저가 담당하는 매장 조회 (중간 테이블 Join)
     // Owner/Chef는 자신의 모든 가게를 조회 (PENDING, APPROVED, REJECTED 모두 포함)
-    @Query("SELECT DISTINCT s FROM StoreEntity s " +
-            "LEFT JOIN FETCH s.storeCategoryMaps sc " +
-            "LEFT JOIN FETCH sc.category " +
+    @Query("SELECT new com.example.Spot.store.domain.StoreSummary(" +
+            "s.id, s.name, s.roadAddress, s.addressDetail, s.phoneNumber, s.status, s.isDeleted, s.createdAt) " +
+            "FROM StoreEntity s " +
             "JOIN s.users su " +
             "JOIN su.user u " +
             "WHERE u.id = :userId " +
             "AND u.role IN ('OWNER', 'CHEF') " +
             "AND s.isDeleted = false")
-    List<StoreEntity> findAllByOwnerId(@Param("userId") Integer userId);
-
-    // 주소와 매장명이 같은 삭제되지 않은 매장이 존재하는지 확인
-    // soft delete된 매장은 제외
-    boolean existsByRoadAddressAndAddressDetailAndNameAndIsDeletedFalse(
-            String roadAddress,
-            String addressDetail,
-            String name
-    );
+    List<StoreSummary> findAllByOwnerId(@Param("userId") Integer userId);
+
+    // 주소와 매장명이 같은(지문이 같은) 삭제되지 않은 매장이 존재하는지 확인
+    // soft delete된 매장은 제외 (uk_store_fingerprint_active 인덱스 사용)
+    boolean existsByFingerprintAndIsDeletedFalse(String fingerprint);
+
+    // 수정용 중복 체크: 자기 자신은 제외
+    boolean existsByFingerprintAndIsDeletedFalseAndIdNot(String fingerprint, UUID id);
+
+    // 대량 등록용 중복 체크: 후보 지문 중 이미 사용 중인 지문을 한 번에 조회
+    @Query("SELECT s.fingerprint FROM StoreEntity s " +
+            "WHERE s.isDeleted = false AND s.fingerprint IN :fingerprints")
+    List<String> findActiveFingerprintsIn(@Param("fingerprints") Collection<String> fingerprints);
+
+    // Bloom 필터 적재용: 삭제되지 않은 매장 지문 전체를 스트리밍 (트랜잭션 안에서 호출)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.fingerprint FROM StoreEntity s " +
+            "WHERE s.isDeleted = false AND s.fingerprint IS NOT NULL")
+    Stream<String> streamActiveFingerprints();
+
+    long countByIsDeletedFalse();
     
     // category-repo
     // 삭제되지 않은 가게 전체 조회
@@ -1,9 +1,13 @@
 package com.example.Spot.store.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.Spot.store.domain.entity.StoreUserEntity;
@@ -20,4 +24,18 @@ public interface StoreUserRepository extends JpaRepository<StoreUserEntity, UUID
     
     // 특정 유저의 첫 번째 매장 조회 (CHEF, MANAGER는 하나만 가짐)
     StoreUserEntity findFirstByUser_Id(Integer userId);
+
+    // 직원 변경용: 매장에 소속된 유저 ID만 조회
+    @Query("SELECT su.user.id FROM StoreUserEntity su WHERE su.store.id = :storeId")
+    List<Integer> findUserIdsByStoreId(@Param("storeId") UUID storeId);
+
+    // 직원 일괄 삭제 (DELETE 한 번)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM StoreUserEntity su WHERE su.store.id = :storeId AND su.user.id IN :userIds")
+    int deleteAllByStoreIdAndUserIdIn(@Param("storeId") UUID storeId, @Param("userIds") Collection<Integer> userIds);
+
+    // 권한 체크용: 유저가 소속된 (삭제되지 않은) 매장 ID만 조회 (엔티티 그래프 로딩 없음)
+    @Query("SELECT su.store.id FROM StoreUserEntity su " +
+            "WHERE su.user.id = :userId AND su.store.isDeleted = false")
+    List<UUID> findStoreIdsByUserId(@Param("userId") Integer userId);
 }
@@ -0,0 +1,115 @@
+package com.example.Spot.store.infrastructure.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.Spot.menu.application.event.MenuChangedEvent;
+import com.example.Spot.store.application.event.StoreChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// 손님용 매장 상세 응답(JSON 직렬화 결과) 캐시
+// - hit: DB 조회/직렬화 없이 byte[]를 그대로 응답
+// - 매장/메뉴/옵션 변경 트랜잭션이 커밋되면 해당 매장 항목을 제거
+// - TTL이 지나면 다시 읽고, 매장 수는 MAX_STORES로 제한한다
+// - 조회 도중 변경이 커밋된 경우 옛 데이터를 다시 넣지 않도록, 조회 중인 매장에만 로딩 토큰을 두고
+//   evict가 토큰을 지우면 그 조회 결과는 저장하지 않는다 (조회가 끝나면 토큰도 지우므로 따로 쌓이지 않음)
+@Component
+@RequiredArgsConstructor
+public class StoreDetailCache {
+
+    private static final long TTL_MILLIS = 10 * 60 * 1000L;
+    private static final int MAX_STORES = 2_000;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<UUID, Object> loading = new ConcurrentHashMap<>();
+
+    private record Entry(byte[] json, long loadedAt) {
+        boolean isExpired(long now) {
+            return now - loadedAt > TTL_MILLIS;
+        }
+    }
+
+    public byte[] getOrLoad(UUID storeId, Supplier<?> loader) {
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(storeId);
+        if (cached != null && !cached.isExpired(now)) {
+            return cached.json();
+        }
+
+        Object token = new Object();
+        loading.put(storeId, token);
+        byte[] json;
+        try {
+            json = serialize(loader.get());
+        } catch (RuntimeException e) {
+            loading.remove(storeId, token);
+            throw e;
+        }
+        putIfFresh(storeId, token, new Entry(json, now));
+        if (entries.size() > MAX_STORES) {
+            trim(System.currentTimeMillis());
+        }
+        return json;
+    }
+
+    public void evict(UUID storeId) {
+        loading.remove(storeId);
+        entries.remove(storeId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreChanged(StoreChangedEvent event) {
+        event.storeIds().forEach(this::evict);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChanged(MenuChangedEvent event) {
+        evict(event.storeId());
+    }
+
+    // 내 로딩 토큰이 그대로일 때만 저장하고 토큰을 지운다 (토큰 확인과 저장을 매장 단위로 원자적으로 처리)
+    // 그 사이 evict되었거나 다른 조회가 새로 시작됐으면 저장하지 않는다
+    private void putIfFresh(UUID storeId, Object token, Entry entry) {
+        loading.computeIfPresent(storeId, (id, current) -> {
+            if (current != token) {
+                return current;
+            }
+            entries.put(id, entry);
+            return null;
+        });
+    }
+
+    // 만료된 항목부터 지우고, 그래도 넘치면 남은 항목을 순서 없이 지운다
+    private void trim(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        Iterator<UUID> iterator = entries.keySet().iterator();
+        while (entries.size() > MAX_STORES && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("매장 상세 응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.Spot.store.infrastructure.dedup;
+
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.Spot.global.infrastructure.bloom.BloomFilter;
+import com.example.Spot.store.application.event.StoreFingerprintsAddedEvent;
+import com.example.Spot.store.domain.repository.StoreRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 삭제되지 않은 매장 지문(StoreFingerprint)의 Bloom 필터
+// - 애플리케이션 시작 시 전체 적재, 이후 생성/수정된 매장 지문을 커밋 이후 추가 (StoreFingerprintsAddedEvent)
+// - mightExist가 false면 DB 중복 조회를 생략한다 (true일 때만 DB 확인)
+// - 삭제된 매장은 빼지 않으므로 오탐만 늘어날 뿐 누락은 없다. 최종 보장은 uk_store_fingerprint_active 유니크 인덱스
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreFingerprintFilter {
+
+    private static final long MIN_EXPECTED_INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final StoreRepository storeRepository;
+
+    // 적재가 끝나기 전에는 null (항상 "있을 수도 있음"으로 답해 DB를 확인하게 한다)
+    private volatile BloomFilter filter;
+    // 적재 중에 추가된 지문도 새 필터에 들어가도록 함께 기록
+    private volatile BloomFilter loading;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long count = storeRepository.countByIsDeletedFalse();
+
+        // 재시작 전까지 늘어날 매장을 고려해 현재 개수의 2배로 크기를 잡는다
+        BloomFilter next = new BloomFilter(Math.max(count * 2, MIN_EXPECTED_INSERTIONS), FALSE_POSITIVE_RATE);
+        loading = next;
+        try (Stream<String> fingerprints = storeRepository.streamActiveFingerprints()) {
+            fingerprints.forEach(next::put);
+        }
+        filter = next;
+        loading = null;
+
+        log.info("[StoreFingerprintFilter] {}개 매장 지문 적재 완료 ({}ms)", count, System.currentTimeMillis() - start);
+    }
+
+    public boolean mightExist(String fingerprint) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(fingerprint);
+    }
+
+    public void add(String fingerprint) {
+        BloomFilter next = loading;
+        if (next != null) {
+            next.put(fingerprint);
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(fingerprint);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFingerprintsAdded(StoreFingerprintsAddedEvent event) {
+        event.fingerprints().forEach(this::add);
+    }
+}
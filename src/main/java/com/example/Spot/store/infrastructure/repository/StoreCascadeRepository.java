@@ -0,0 +1,70 @@
+package com.example.Spot.store.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.Spot.store.domain.entity.StoreEntity;
+
+// 매장 삭제 후속 처리용 배치 조회/수정 (엔티티를 로딩하지 않고 id 조회 + 벌크 UPDATE)
+// 모든 UPDATE는 is_deleted = false 조건을 포함하므로 같은 배치를 다시 실행해도 안전하다
+public interface StoreCascadeRepository extends Repository<StoreEntity, UUID> {
+
+    // 메뉴 옵션
+    @Query("SELECT o.id FROM MenuOptionEntity o WHERE o.menu.store.id = :storeId AND o.isDeleted = false")
+    List<UUID> findActiveMenuOptionIds(@Param("storeId") UUID storeId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MenuOptionEntity o SET o.isDeleted = true, o.deletedAt = :now, o.deletedBy = :deletedBy " +
+            "WHERE o.id IN :ids AND o.isDeleted = false")
+    int softDeleteMenuOptions(@Param("ids") Collection<UUID> ids,
+                              @Param("now") LocalDateTime now,
+                              @Param("deletedBy") Integer deletedBy);
+
+    // 변경 이벤트용: 배치로 지운 옵션/원산지가 속한 메뉴
+    @Query("SELECT DISTINCT o.menu.id FROM MenuOptionEntity o WHERE o.id IN :ids")
+    List<UUID> findMenuIdsByOptionIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT DISTINCT o.menu.id FROM OriginEntity o WHERE o.id IN :ids")
+    List<UUID> findMenuIdsByOriginIdIn(@Param("ids") Collection<UUID> ids);
+
+    // 원산지
+    @Query("SELECT o.id FROM OriginEntity o WHERE o.menu.store.id = :storeId AND o.isDeleted = false")
+    List<UUID> findActiveOriginIds(@Param("storeId") UUID storeId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OriginEntity o SET o.isDeleted = true, o.deletedAt = :now, o.deletedBy = :deletedBy " +
+            "WHERE o.id IN :ids AND o.isDeleted = false")
+    int softDeleteOrigins(@Param("ids") Collection<UUID> ids,
+                          @Param("now") LocalDateTime now,
+                          @Param("deletedBy") Integer deletedBy);
+
+    // 메뉴
+    @Query("SELECT m.id FROM MenuEntity m WHERE m.store.id = :storeId AND m.isDeleted = false")
+    List<UUID> findActiveMenuIds(@Param("storeId") UUID storeId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MenuEntity m SET m.isDeleted = true, m.deletedAt = :now, m.deletedBy = :deletedBy " +
+            "WHERE m.id IN :ids AND m.isDeleted = false")
+    int softDeleteMenus(@Param("ids") Collection<UUID> ids,
+                        @Param("now") LocalDateTime now,
+                        @Param("deletedBy") Integer deletedBy);
+
+    // 리뷰
+    @Query("SELECT r.id FROM ReviewEntity r WHERE r.store.id = :storeId AND r.isDeleted = false")
+    List<UUID> findActiveReviewIds(@Param("storeId") UUID storeId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ReviewEntity r SET r.isDeleted = true, r.deletedAt = :now, r.deletedBy = :deletedBy " +
+            "WHERE r.id IN :ids AND r.isDeleted = false")
+    int softDeleteReviews(@Param("ids") Collection<UUID> ids,
+                          @Param("now") LocalDateTime now,
+                          @Param("deletedBy") Integer deletedBy);
+}
@@ -0,0 +1,57 @@
+package com.example.Spot.store.infrastructure.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.Spot.store.domain.entity.StoreEntity;
+
+// 매장 인기 점수 집계용 벌크 UPDATE (p_review / p_order를 매 요청마다 조인하지 않도록 p_store에 미리 계산)
+// p_order는 주문 서비스가 같은 DB에 기록하는 테이블이라 엔티티 없이 native 쿼리로 집계한다
+public interface StoreRankingRepository extends Repository<StoreEntity, UUID> {
+
+    // 점수 = 베이지안 평균 별점 (리뷰가 적은 매장은 PRIOR_MEAN 쪽으로 보정) + ORDER_WEIGHT * ln(1 + 완료 주문 수)
+    String PRIOR_MEAN = "3.5";
+    String PRIOR_WEIGHT = "10";
+    String ORDER_WEIGHT = "0.5";
+
+    @Query("SELECT s.id FROM StoreEntity s WHERE s.id > :after ORDER BY s.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    // 1단계: 리뷰/주문 집계 (삭제되지 않은 리뷰, COMPLETED 주문)
+    @Modifying
+    @Query(value = "UPDATE p_store s SET " +
+            "review_count = (SELECT COUNT(*) FROM p_review r WHERE r.store_id = s.id AND r.is_deleted = false), " +
+            "rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM p_review r " +
+            "WHERE r.store_id = s.id AND r.is_deleted = false), " +
+            "completed_order_count = (SELECT COUNT(*) FROM p_order o " +
+            "WHERE o.store_id = s.id AND o.order_status = 'COMPLETED') " +
+            "WHERE s.id IN (:ids)",
+            nativeQuery = true)
+    int refreshAggregates(@Param("ids") Collection<UUID> ids);
+
+    // 리뷰만 바뀐 경우 (리뷰 작성/수정/삭제 직후)
+    @Modifying
+    @Query(value = "UPDATE p_store s SET " +
+            "review_count = (SELECT COUNT(*) FROM p_review r WHERE r.store_id = s.id AND r.is_deleted = false), " +
+            "rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM p_review r " +
+            "WHERE r.store_id = s.id AND r.is_deleted = false) " +
+            "WHERE s.id IN (:ids)",
+            nativeQuery = true)
+    int refreshReviewAggregates(@Param("ids") Collection<UUID> ids);
+
+    // 2단계: 집계 컬럼으로 점수 계산
+    @Modifying
+    @Query(value = "UPDATE p_store SET popularity_score = " +
+            "(" + PRIOR_MEAN + " * " + PRIOR_WEIGHT + " + rating_sum) / (" + PRIOR_WEIGHT + " + review_count) " +
+            "+ " + ORDER_WEIGHT + " * LN(1 + completed_order_count) " +
+            "WHERE id IN (:ids)",
+            nativeQuery = true)
+    int refreshScores(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,26 @@
+package com.example.Spot.store.infrastructure.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.infrastructure.search.StoreSearchDocument;
+
+// 검색 색인 적재용 조회 (엔티티를 만들지 않고 필요한 컬럼만 조회)
+public interface StoreSearchRepository extends Repository<StoreEntity, UUID> {
+
+    @Query("SELECT new com.example.Spot.store.infrastructure.search.StoreSearchDocument(" +
+            "s.id, s.name, s.roadAddress, s.status, s.isDeleted, s.regionCode, s.createdAt, s.latitude, s.longitude) " +
+            "FROM StoreEntity s")
+    List<StoreSearchDocument> findAllDocuments();
+
+    @Query("SELECT new com.example.Spot.store.infrastructure.search.StoreSearchDocument(" +
+            "s.id, s.name, s.roadAddress, s.status, s.isDeleted, s.regionCode, s.createdAt, s.latitude, s.longitude) " +
+            "FROM StoreEntity s WHERE s.id IN :ids")
+    List<StoreSearchDocument> findDocumentsByIdIn(@Param("ids") Collection<UUID> ids);
+}
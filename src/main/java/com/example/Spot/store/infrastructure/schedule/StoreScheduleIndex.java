@@ -0,0 +1,39 @@
+package com.example.Spot.store.infrastructure.schedule;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.store.domain.StoreSchedule;
+
+// 요일별 일정이 있는 매장(has_schedule)의 컴파일된 영업 일정 메모리 색인
+// 적재/갱신은 StoreScheduleService가 담당 (시작 시 전체, 매장 변경 커밋 후 해당 매장만)
+// 픽업 시간 검증 등 매장 하나의 판단용 - 목록 영업시간 필터는 StoreRepository.OPEN_AT_CONDITION이 일정 테이블을 직접 본다
+@Component
+public class StoreScheduleIndex {
+
+    private final Map<UUID, StoreSchedule> schedules = new ConcurrentHashMap<>();
+
+    public StoreSchedule get(UUID storeId) {
+        return schedules.get(storeId);
+    }
+
+    public void put(UUID storeId, StoreSchedule schedule) {
+        schedules.put(storeId, schedule);
+    }
+
+    public void remove(UUID storeId) {
+        schedules.remove(storeId);
+    }
+
+    public void rebuild(Map<UUID, StoreSchedule> compiled) {
+        schedules.keySet().retainAll(compiled.keySet());
+        schedules.putAll(compiled);
+    }
+
+    public int size() {
+        return schedules.size();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.Spot.store.infrastructure.search;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+import com.example.Spot.store.domain.StoreStatus;
+
+// 검색 색인에 올라가는 매장 정보 (JPQL 생성자 표현식으로 바로 조회)
+public record StoreSearchDocument(
+        UUID id,
+        String name,
+        String roadAddress,
+        StoreStatus status,
+        boolean isDeleted,
+        String regionCode,
+        LocalDateTime createdAt,
+        Double latitude,
+        Double longitude
+) {
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+    // 일반 유저에게 노출 가능한 매장인지 (관리자는 모두 조회 가능)
+    public boolean isVisibleTo(boolean isAdmin, Collection<String> regionCodes) {
+        if (isAdmin) {
+            return true;
+        }
+        return !isDeleted && status == StoreStatus.APPROVED && regionCodes.contains(regionCode);
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.Spot.store.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.global.infrastructure.geo.GeoGrid;
+import com.example.Spot.global.infrastructure.search.HangulText;
+import com.example.Spot.global.infrastructure.search.NgramIndex;
+
+// 매장 이름/도로명주소 메모리 검색 색인
+// - 일반 검색어: 자모 단위 n-gram ("치키" 입력 중에도 "치킨" 매칭)
+// - 초성 검색어: 초성 n-gram ("ㅊㅋ" -> "치킨")
+// 후보는 n-gram 교집합으로 좁히고, 원문(자모/초성) 포함 여부로 최종 확인한다
+// 좌표가 있는 매장은 위경도 격자(GeoGrid)에도 올려 주변 매장 조회에 사용한다
+@Component
+public class StoreSearchIndex {
+
+    private static final int SCORE_NAME_PREFIX = 3;
+    private static final int SCORE_NAME = 2;
+    private static final int SCORE_ADDRESS = 1;
+    // 격자 한 칸 = 0.01도 (위도 방향 약 1.1km)
+    private static final double GEO_CELL_DEGREES = 0.01;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final NgramIndex<UUID> jamoIndex = new NgramIndex<>();
+    private final NgramIndex<UUID> chosungIndex = new NgramIndex<>();
+    private final GeoGrid<UUID> geoGrid = new GeoGrid<>(GEO_CELL_DEGREES);
+    private volatile boolean ready = false;
+
+    private record Entry(
+            StoreSearchDocument document,
+            String nameJamo,
+            String addressJamo,
+            String nameChosung,
+            String addressChosung
+    ) {
+        static Entry of(StoreSearchDocument document) {
+            return new Entry(
+                    document,
+                    HangulText.toJamo(document.name()),
+                    HangulText.toJamo(document.roadAddress()),
+                    HangulText.toChosung(document.name()),
+                    HangulText.toChosung(document.roadAddress())
+            );
+        }
+
+        int score(String query, boolean chosung) {
+            String name = chosung ? nameChosung : nameJamo;
+            String address = chosung ? addressChosung : addressJamo;
+            if (name.startsWith(query)) {
+                return SCORE_NAME_PREFIX;
+            }
+            if (name.contains(query)) {
+                return SCORE_NAME;
+            }
+            if (address.contains(query)) {
+                return SCORE_ADDRESS;
+            }
+            return 0;
+        }
+    }
+
+    private record Hit(StoreSearchDocument document, int score) {
+    }
+
+    // 시작 시점 전체 색인이 끝났는지 (끝나기 전에는 DB 검색으로 대체)
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuild(Collection<StoreSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            jamoIndex.clear();
+            chosungIndex.clear();
+            geoGrid.clear();
+            documents.forEach(this::putInternal);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(StoreSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            putInternal(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID storeId) {
+        lock.writeLock().lock();
+        try {
+            entries.remove(storeId);
+            jamoIndex.remove(storeId);
+            chosungIndex.remove(storeId);
+            geoGrid.remove(storeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어와 일치하는 매장을 관련도 순으로 반환 (이름 접두어 > 이름 포함 > 주소 포함, 같은 점수면 짧은 이름 우선)
+    public List<StoreSearchDocument> search(String keyword, Predicate<StoreSearchDocument> filter) {
+        boolean chosung = HangulText.isChosungQuery(keyword);
+        String query = chosung ? HangulText.normalize(keyword) : HangulText.toJamo(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<UUID> candidates = (chosung ? chosungIndex : jamoIndex).candidates(query);
+            for (UUID id : candidates) {
+                Entry entry = entries.get(id);
+                if (entry == null || !filter.test(entry.document())) {
+                    continue;
+                }
+                int score = entry.score(query, chosung);
+                if (score > 0) {
+                    hits.add(new Hit(entry.document(), score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return hits.stream()
+                .sorted(Comparator.comparingInt(Hit::score).reversed()
+                        .thenComparingInt(hit -> hit.document().name().length())
+                        .thenComparing(hit -> hit.document().id()))
+                .map(Hit::document)
+                .toList();
+    }
+
+    // (latitude, longitude)에서 radiusMeters 이내 매장을 가까운 순으로 최대 limit개 (테이블 스캔 없이 격자 탐색)
+    public List<GeoGrid.Hit<UUID>> nearest(double latitude, double longitude, double radiusMeters, int limit,
+                                           Predicate<StoreSearchDocument> filter) {
+        lock.readLock().lock();
+        try {
+            return geoGrid.nearest(latitude, longitude, radiusMeters, limit, id -> {
+                Entry entry = entries.get(id);
+                return entry != null && filter.test(entry.document());
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putInternal(StoreSearchDocument document) {
+        Entry entry = Entry.of(document);
+        entries.put(document.id(), entry);
+        jamoIndex.put(document.id(), List.of(entry.nameJamo(), entry.addressJamo()));
+        chosungIndex.put(document.id(), List.of(entry.nameChosung(), entry.addressChosung()));
+        if (document.hasLocation()) {
+            geoGrid.put(document.id(), document.latitude(), document.longitude());
+        } else {
+            geoGrid.remove(document.id());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.Spot.store.infrastructure.search;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.Spot.store.application.event.StoreChangedEvent;
+import com.example.Spot.store.infrastructure.repository.StoreSearchRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// StoreSearchIndex 적재/갱신 담당
+// - 애플리케이션 시작 시 전체 재색인
+// - 매장 변경 트랜잭션이 커밋된 뒤 변경된 매장만 다시 읽어 반영
+// - 전체 재색인 중에 들어온 변경은 모아 두었다가 재색인이 끝난 뒤 다시 읽어 반영한다
+//   (재색인이 먼저 읽은 옛 데이터가 그 사이 반영된 변경을 덮어쓰지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndexer {
+
+    private final StoreSearchRepository storeSearchRepository;
+    private final StoreSearchIndex storeSearchIndex;
+
+    // 재색인 중에만 null이 아님 (rebuildLock으로 보호)
+    private final Object rebuildLock = new Object();
+    private Set<UUID> pendingStoreIds;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (rebuildLock) {
+            pendingStoreIds = new HashSet<>();
+        }
+        Set<UUID> storeIds;
+        try {
+            storeSearchIndex.rebuild(storeSearchRepository.findAllDocuments());
+        } finally {
+            synchronized (rebuildLock) {
+                storeIds = pendingStoreIds;
+                pendingStoreIds = null;
+            }
+        }
+        // 재색인 중에 커밋된 변경을 DB에서 다시 읽어 반영
+        if (!storeIds.isEmpty()) {
+            applyStores(storeIds);
+        }
+        log.info("[StoreSearchIndex] {}개 매장 색인 완료 ({}ms, 재색인 중 변경 매장 {}개 재반영)",
+                storeSearchIndex.size(), System.currentTimeMillis() - start, storeIds.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (event.storeIds().isEmpty()) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            if (pendingStoreIds != null) {
+                pendingStoreIds.addAll(event.storeIds());
+                return;
+            }
+        }
+        applyStores(event.storeIds());
+    }
+
+    private void applyStores(Collection<UUID> storeIds) {
+        List<StoreSearchDocument> documents = storeSearchRepository.findDocumentsByIdIn(storeIds);
+
+        Set<UUID> missing = new HashSet<>(storeIds);
+        for (StoreSearchDocument document : documents) {
+            storeSearchIndex.upsert(document);
+            missing.remove(document.id());
+        }
+        // hard delete 등으로 사라진 매장은 색인에서도 제거
+        missing.forEach(storeSearchIndex::remove);
+    }
+}
@@ -1,11 +1,17 @@
 package com.example.Spot.store.presentation.controller;
 
+import java.io.InputStream;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -14,20 +20,42 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.Spot.global.presentation.FieldSelection;
+import com.example.Spot.global.presentation.JsonBody;
 import com.example.Spot.infra.auth.security.CustomUserDetails;
+import com.example.Spot.store.application.service.CatalogSyncService;
+import com.example.Spot.store.application.service.StoreBulkImportService;
+import com.example.Spot.store.application.service.StoreContentVersionService;
+import com.example.Spot.store.application.service.StoreDetailQueryService;
+import com.example.Spot.store.application.service.StoreScheduleService;
 import com.example.Spot.store.application.service.StoreService;
 import com.example.Spot.store.domain.StoreStatus;
 import com.example.Spot.store.presentation.dto.request.StoreCreateRequest;
+import com.example.Spot.store.presentation.dto.request.StoreListSort;
+import com.example.Spot.store.presentation.dto.request.StoreScheduleRequest;
+import com.example.Spot.store.presentation.dto.request.StoreStatusBulkUpdateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUpdateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUserUpdateRequest;
+import com.example.Spot.store.presentation.dto.response.CatalogSyncResponse;
+import com.example.Spot.store.presentation.dto.response.StoreCursorResponse;
+import com.example.Spot.store.presentation.dto.response.StoreDeletionProgressResponse;
 import com.example.Spot.store.presentation.dto.response.StoreDetailResponse;
 import com.example.Spot.store.presentation.dto.response.StoreListResponse;
+import com.example.Spot.store.presentation.dto.response.StoreMenuSearchResponse;
+import com.example.Spot.store.presentation.dto.response.StoreNearbyResponse;
+import com.example.Spot.store.presentation.dto.response.StoreScheduleResponse;
+import com.example.Spot.store.presentation.dto.response.StoreStatusBulkUpdateResponse;
 import com.example.Spot.store.presentation.swagger.StoreApi;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +67,12 @@ import lombok.RequiredArgsConstructor;
 public class StoreController implements StoreApi {
     
     private final StoreService storeService;
+    private final StoreDetailQueryService storeDetailQueryService;
+    private final StoreBulkImportService storeBulkImportService;
+    private final CatalogSyncService catalogSyncService;
+    private final StoreScheduleService storeScheduleService;
+    private final StoreContentVersionService storeContentVersionService;
+    private final ObjectMapper objectMapper;
 
 //    @Override
 //    @PostMapping
@@ -63,6 +97,22 @@ public class StoreController implements StoreApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(storeId);
     }
 
+    @Override
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", "text/csv"}, produces = "application/x-ndjson")
+    @PreAuthorize("hasAnyRole('MASTER','OWNER','MANAGER')")
+    public ResponseEntity<StreamingResponseBody> createStoresBulk(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        StoreBulkImportService.Format format = contentType.startsWith("text/csv")
+                ? StoreBulkImportService.Format.CSV
+                : StoreBulkImportService.Format.NDJSON;
+        StreamingResponseBody stream = out -> storeBulkImportService.importStores(body, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(stream);
+    }
+
 
 
     @GetMapping("/my")
@@ -75,13 +125,39 @@ public class StoreController implements StoreApi {
     }
 
     @Override
-    @GetMapping("/{storeId}")
-    public ResponseEntity<StoreDetailResponse> getStoreDetails(
-            @PathVariable UUID storeId,
+    @GetMapping("/batch")
+    public ResponseEntity<List<StoreListResponse>> getStoresByIds(
+            @RequestParam List<UUID> ids,
             @AuthenticationPrincipal CustomUserDetails principal
     ) {
         Integer userId = principal != null ? principal.getUserId() : null;
-        return ResponseEntity.ok(storeService.getStoreDetails(storeId, userId));
+        return ResponseEntity.ok(storeService.getStoresByIds(ids, userId));
+    }
+
+    @Override
+    @GetMapping("/{storeId}")
+    public ResponseEntity<JsonBody<StoreDetailResponse>> getStoreDetails(
+            @PathVariable UUID storeId,
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal CustomUserDetails principal,
+            WebRequest webRequest
+    ) {
+        FieldSelection selection = FieldSelection.parse(fields);
+        // 관리자 여부는 서비스와 같은 기준(DB 역할)으로 한 번만 판단
+        boolean admin = principal != null && storeService.isAdmin(principal.getUserId());
+
+        // 손님/비로그인: If-None-Match가 현재 콘텐츠 버전과 같으면 버전 조회 한 번으로 304 (본문 생성/직렬화 생략)
+        if (!admin && webRequest.checkNotModified(storeContentVersionService.getETag(storeId))) {
+            return null;
+        }
+
+        // 손님/비로그인 + 전체 필드: 직렬화된 캐시 응답 (관리자는 삭제/미승인 매장도 봐야 하므로 매번 조회)
+        if (!admin && selection.isAll()) {
+            return ResponseEntity.ok(JsonBody.raw(storeDetailQueryService.getPublicStoreDetailsJson(storeId)));
+        }
+
+        // 필드 선택: 필요한 연관만 조회하고 선택한 필드만 직렬화
+        return ResponseEntity.ok(selection.apply(objectMapper, storeService.getStoreDetails(storeId, admin, selection)));
     }
 
     @Override
@@ -89,11 +165,25 @@ public class StoreController implements StoreApi {
     public ResponseEntity<Page<StoreListResponse>> getAllStores(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime openAt,
+            @RequestParam(defaultValue = "DEFAULT") StoreListSort sort,
             @AuthenticationPrincipal CustomUserDetails principal
     ) {
         Integer userId = principal != null ? principal.getUserId() : null;
-        Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(storeService.getAllStores(userId, pageable));
+        Pageable pageable = PageRequest.of(page, size, sort.toSort());
+        return ResponseEntity.ok(storeService.getAllStores(userId, openAt, pageable));
+    }
+    
+    @Override
+    @GetMapping("/scroll")
+    public ResponseEntity<StoreCursorResponse> getStoresByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime openAt,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        Integer userId = principal != null ? principal.getUserId() : null;
+        return ResponseEntity.ok(storeService.getStoresByCursor(userId, openAt, cursor, size));
     }
     
     @Override
@@ -122,6 +212,25 @@ public class StoreController implements StoreApi {
         return ResponseEntity.noContent().build();
     }
     
+    @Override
+    @GetMapping("/{storeId}/schedule")
+    public ResponseEntity<StoreScheduleResponse> getStoreSchedule(@PathVariable UUID storeId) {
+        return ResponseEntity.ok(storeScheduleService.getSchedule(storeId));
+    }
+
+    @Override
+    @PutMapping("/{storeId}/schedule")
+    @PreAuthorize("hasAnyRole('MASTER','OWNER','MANAGER')")
+    public ResponseEntity<Void> replaceStoreSchedule(
+            @PathVariable UUID storeId,
+            @Valid @RequestBody StoreScheduleRequest request,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        Integer userId = principal.getUserId();
+        storeScheduleService.replaceSchedule(storeId, request, userId);
+        return ResponseEntity.noContent().build();
+    }
+
     @Override
     @DeleteMapping("/{storeId}")
     @PreAuthorize("hasAnyRole('MASTER','OWNER','MANAGER')")
@@ -134,6 +243,17 @@ public class StoreController implements StoreApi {
         return ResponseEntity.noContent().build();
     }
 
+    @Override
+    @GetMapping("/{storeId}/deletion")
+    @PreAuthorize("hasAnyRole('MASTER','OWNER','MANAGER')")
+    public ResponseEntity<StoreDeletionProgressResponse> getDeletionProgress(
+            @PathVariable UUID storeId,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        Integer userId = principal.getUserId();
+        return ResponseEntity.ok(storeService.getDeletionProgress(storeId, userId));
+    }
+
     @PatchMapping("/{storeId}/status")
     @PreAuthorize("hasAnyRole('MASTER','MANAGER')")
     public ResponseEntity<Void> updateStoreStatus(
@@ -146,6 +266,29 @@ public class StoreController implements StoreApi {
         return ResponseEntity.noContent().build();
     }
 
+    @Override
+    @GetMapping("/pending")
+    @PreAuthorize("hasAnyRole('MASTER','MANAGER')")
+    public ResponseEntity<StoreCursorResponse> getPendingStores(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        Integer userId = principal.getUserId();
+        return ResponseEntity.ok(storeService.getPendingStores(userId, cursor, size));
+    }
+
+    @Override
+    @PatchMapping("/pending/status")
+    @PreAuthorize("hasAnyRole('MASTER','MANAGER')")
+    public ResponseEntity<StoreStatusBulkUpdateResponse> updatePendingStoreStatus(
+            @Valid @RequestBody StoreStatusBulkUpdateRequest request,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        Integer userId = principal.getUserId();
+        return ResponseEntity.ok(storeService.updatePendingStoreStatus(request, userId));
+    }
+
     @Override
     @GetMapping("/search")
     public ResponseEntity<Page<StoreListResponse>> searchStores(
@@ -158,4 +301,49 @@ public class StoreController implements StoreApi {
         Pageable pageable = PageRequest.of(page, size);
         return ResponseEntity.ok(storeService.searchStoresByName(keyword, userId, pageable));
     }
+
+    @Override
+    @GetMapping("/search/scroll")
+    public ResponseEntity<StoreCursorResponse> searchStoresByCursor(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        Integer userId = principal != null ? principal.getUserId() : null;
+        return ResponseEntity.ok(storeService.searchStoresByCursor(keyword, userId, cursor, size));
+    }
+
+    @Override
+    @GetMapping("/search/menus")
+    public ResponseEntity<List<StoreMenuSearchResponse>> searchStoresByMenu(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        Integer userId = principal != null ? principal.getUserId() : null;
+        return ResponseEntity.ok(storeService.searchStoresByMenu(keyword, userId, size));
+    }
+
+    @Override
+    @GetMapping("/nearby")
+    public ResponseEntity<List<StoreNearbyResponse>> getNearbyStores(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "3000") int radius,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        Integer userId = principal != null ? principal.getUserId() : null;
+        return ResponseEntity.ok(storeService.getNearbyStores(userId, lat, lng, radius, size));
+    }
+
+    @Override
+    @GetMapping("/changes")
+    public ResponseEntity<CatalogSyncResponse> getCatalogChanges(
+            @RequestParam(required = false) Long since,
+            @RequestParam(defaultValue = "200") int size
+    ) {
+        return ResponseEntity.ok(catalogSyncService.getChanges(since, size));
+    }
 }
@@ -0,0 +1,8 @@
+package com.example.Spot.store.presentation.dto.request;
+
+// 대량 등록 파일의 한 줄 (line: 1부터 시작하는 파일 내 줄 번호, 결과 응답에 그대로 사용)
+public record StoreBulkRow(
+        int line,
+        StoreCreateRequest request
+) {
+}
@@ -0,0 +1,53 @@
+package com.example.Spot.store.presentation.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+// 커서 기반 목록 조회용 정렬 키 (created_at DESC, id DESC)
+// 클라이언트에는 Base64(URL-safe) 문자열로 전달된다
+public record StoreCursor(
+        LocalDateTime createdAt,
+        UUID id
+) {
+    // 첫 페이지 조회용: 모든 매장보다 "뒤"에 있는 값
+    public static final StoreCursor FIRST = new StoreCursor(
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+            UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff")
+    );
+
+    // 오래된 순(created_at ASC, id ASC) 조회의 첫 페이지용: 모든 매장보다 "앞"에 있는 값
+    public static final StoreCursor FIRST_ASC = new StoreCursor(
+            LocalDateTime.of(1970, 1, 1, 0, 0),
+            UUID.fromString("00000000-0000-0000-0000-000000000000")
+    );
+
+    private static final String DELIMITER = "|";
+
+    public static StoreCursor decode(String cursor) {
+        return decode(cursor, FIRST);
+    }
+
+    public static StoreCursor decode(String cursor, StoreCursor first) {
+        if (cursor == null || cursor.isBlank()) {
+            return first;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(DELIMITER);
+            return new StoreCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    UUID.fromString(raw.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.Spot.store.presentation.dto.request;
+
+import org.springframework.data.domain.Sort;
+
+// 매장 목록 정렬 기준
+public enum StoreListSort {
+    DEFAULT,  // 정렬 없음 (기존 동작)
+    POPULAR;  // 인기 점수 높은 순 (idx_store_popularity_score_id)
+
+    public Sort toSort() {
+        if (this == POPULAR) {
+            return Sort.by(Sort.Order.desc("popularityScore"), Sort.Order.desc("id"));
+        }
+        return Sort.unsorted();
+    }
+}
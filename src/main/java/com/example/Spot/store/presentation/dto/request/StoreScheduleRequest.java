@@ -0,0 +1,31 @@
+package com.example.Spot.store.presentation.dto.request;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+// 매장 영업 일정 전체 교체 요청
+// weekly: 요일별 영업 구간 (같은 요일 여러 개 가능, closeTime이 openTime보다 이르면 다음 날 종료)
+// holidays: 날짜별 예외 (시간이 비어 있으면 휴무, 있으면 그 시간만 영업)
+// 둘 다 비우면 기존 openTime/closeTime 기준으로 돌아간다
+public record StoreScheduleRequest(
+        @NotNull @Size(max = 50) List<@Valid @NotNull OpeningWindow> weekly,
+        @NotNull @Size(max = 100) List<@Valid @NotNull Holiday> holidays
+) {
+    public record OpeningWindow(
+            @NotNull DayOfWeek dayOfWeek,
+            @NotNull LocalTime openTime,
+            @NotNull LocalTime closeTime
+    ) {}
+
+    public record Holiday(
+            @NotNull LocalDate date,
+            LocalTime openTime,
+            LocalTime closeTime
+    ) {}
+}
@@ -0,0 +1,17 @@
+package com.example.Spot.store.presentation.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.Spot.store.domain.StoreStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+// 승인 대기 매장 일괄 승인/반려 요청 (status는 APPROVED 또는 REJECTED)
+public record StoreStatusBulkUpdateRequest(
+        @NotEmpty @Size(max = 1000) List<UUID> storeIds,
+        @NotNull StoreStatus status
+) {
+}
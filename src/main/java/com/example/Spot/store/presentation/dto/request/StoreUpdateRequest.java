@@ -3,6 +3,9 @@ package com.example.Spot.store.presentation.dto.request;
 import java.time.LocalTime;
 import java.util.List;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+
 public record StoreUpdateRequest(
         
     String name,
@@ -11,6 +14,10 @@ public record StoreUpdateRequest(
     String phoneNumber,
     LocalTime openTime,
     LocalTime closeTime,
-    List<String> categoryNames
+    List<String> categoryNames,
+    @DecimalMin("-90.0") @DecimalMax("90.0") Double latitude,
+    @DecimalMin("-180.0") @DecimalMax("180.0") Double longitude,
+    // true면 좌표를 지운다 (latitude/longitude와 함께 보낼 수 없음)
+    Boolean clearLocation
 ) {}
 
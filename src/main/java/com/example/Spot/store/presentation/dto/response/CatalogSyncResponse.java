@@ -0,0 +1,23 @@
+package com.example.Spot.store.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.Spot.menu.presentation.dto.response.MenuPublicResponseDto;
+
+// 델타 동기화 응답
+// - version: 다음 요청의 since로 전달 (hasMore면 바로 이어서 요청)
+// - stores/menus: 생성 또는 수정된 항목의 현재 상태 (메뉴는 옵션 목록 포함)
+// - deleted*: 삭제되었거나 더 이상 노출되지 않는 항목 (클라이언트에서 제거)
+public record CatalogSyncResponse(
+        long version,
+        boolean hasMore,
+        List<StoreListResponse> stores,
+        List<MenuPublicResponseDto> menus,
+        List<UUID> deletedStoreIds,
+        List<UUID> deletedMenuIds
+) {
+    public static CatalogSyncResponse empty(long version) {
+        return new CatalogSyncResponse(version, false, List.of(), List.of(), List.of(), List.of());
+    }
+}
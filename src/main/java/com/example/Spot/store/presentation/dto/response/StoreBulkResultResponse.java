@@ -0,0 +1,24 @@
+package com.example.Spot.store.presentation.dto.response;
+
+import java.util.UUID;
+
+// 대량 등록 결과 (입력 한 줄당 하나, NDJSON으로 스트리밍)
+public record StoreBulkResultResponse(
+        int line,
+        Status status,
+        UUID storeId,       // 생성된 매장 ID (실패 시 null)
+        String message      // 실패 사유 (성공 시 null)
+) {
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    public static StoreBulkResultResponse created(int line, UUID storeId) {
+        return new StoreBulkResultResponse(line, Status.CREATED, storeId, null);
+    }
+
+    public static StoreBulkResultResponse failed(int line, String message) {
+        return new StoreBulkResultResponse(line, Status.FAILED, null, message);
+    }
+}
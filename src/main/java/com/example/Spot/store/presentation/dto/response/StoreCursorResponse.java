@@ -0,0 +1,10 @@
+package com.example.Spot.store.presentation.dto.response;
+
+import java.util.List;
+
+public record StoreCursorResponse(
+        List<StoreListResponse> content,
+        String nextCursor,   // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+        boolean hasNext
+) {
+}
@@ -0,0 +1,41 @@
+package com.example.Spot.store.presentation.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.example.Spot.store.domain.StoreDeletionStage;
+import com.example.Spot.store.domain.StoreDeletionStatus;
+import com.example.Spot.store.domain.entity.StoreDeletionJobEntity;
+
+// 매장 삭제 후속 처리 진행 상황
+public record StoreDeletionProgressResponse(
+        UUID jobId,
+        UUID storeId,
+        StoreDeletionStatus status,
+        StoreDeletionStage stage,       // 현재 처리 중인 단계 (완료 시 DONE)
+        long deletedMenuOptions,
+        long deletedOrigins,
+        long deletedMenus,
+        long deletedReviews,
+        String lastError,               // 실패 사유 (FAILED/ABANDONED일 때만)
+        int failedAttempts,             // 실패 횟수 (일정 횟수를 넘으면 ABANDONED로 재시도 중단)
+        LocalDateTime requestedAt,
+        LocalDateTime completedAt
+) {
+    public static StoreDeletionProgressResponse fromEntity(StoreDeletionJobEntity job) {
+        return new StoreDeletionProgressResponse(
+                job.getId(),
+                job.getStoreId(),
+                job.getStatus(),
+                job.getStage(),
+                job.getDeletedMenuOptions(),
+                job.getDeletedOrigins(),
+                job.getDeletedMenus(),
+                job.getDeletedReviews(),
+                job.getLastError(),
+                job.getFailedAttempts(),
+                job.getCreatedAt(),
+                job.getCompletedAt()
+        );
+    }
+}
@@ -27,6 +27,27 @@ public record StoreDetailResponse(
 ) {
     public record StaffInfo(Integer userId, String name, Role role) {}
 
+    // 직원 정보 없이 변환 (fields=로 owner/chefs를 고르지 않은 경우, users 연관을 건드리지 않는다)
+    public static StoreDetailResponse withoutStaff(
+            StoreEntity store, List<String> categoryNames, List<MenuPublicResponseDto> menus) {
+        return new StoreDetailResponse(
+                store.getId(),
+                store.getName(),
+                store.getRoadAddress(),
+                store.getAddressDetail(),
+                store.getPhoneNumber(),
+                store.getOpenTime(),
+                store.getCloseTime(),
+                categoryNames,
+                null,
+                null,
+                menus,
+                store.getIsDeleted(),
+                store.getCreatedAt(),
+                store.getUpdatedAt()
+        );
+    }
+
     public static StoreDetailResponse fromEntity(StoreEntity store, List<MenuPublicResponseDto> menus) {
         StaffInfo ownerInfo = store.getUsers().stream()
                 .filter(su -> su.getUser().getRole() == Role.OWNER)
@@ -4,7 +4,7 @@ import java.util.List;
 import java.util.UUID;
 
 import com.example.Spot.store.domain.StoreStatus;
-import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.StoreSummary;
 
 public record StoreListResponse (
 
@@ -17,19 +17,17 @@ public record StoreListResponse (
     StoreStatus status,
     boolean isDeleted
 ) {
-    // Entity -> DTO 변환 메서드
-    public static StoreListResponse fromEntity(StoreEntity store) {
+    // 목록 프로젝션 + 카테고리 이름 -> DTO 변환 메서드
+    public static StoreListResponse of(StoreSummary store, List<String> categoryNames) {
         return new StoreListResponse(
-                store.getId(),
-                store.getName(),
-                store.getRoadAddress(),
-                store.getAddressDetail(),
-                store.getPhoneNumber(),
-                store.getStoreCategoryMaps().stream()
-                        .map(map -> map.getCategory().getName())
-                        .toList(),
-                store.getStatus(),
-                store.getIsDeleted()
+                store.id(),
+                store.name(),
+                store.roadAddress(),
+                store.addressDetail(),
+                store.phoneNumber(),
+                categoryNames,
+                store.status(),
+                store.isDeleted()
         );
     }
 }
@@ -0,0 +1,25 @@
+package com.example.Spot.store.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.Spot.menu.infrastructure.search.MenuSearchDocument;
+
+// 메뉴 검색 결과 (매칭된 메뉴가 있는 매장 + 매장별 매칭 메뉴, 관련도 순)
+public record StoreMenuSearchResponse(
+        UUID storeId,
+        String storeName,
+        List<MenuItem> menus
+) {
+
+    public record MenuItem(
+            UUID menuId,
+            String name,
+            String category,
+            Integer price
+    ) {
+        public static MenuItem from(MenuSearchDocument document) {
+            return new MenuItem(document.id(), document.name(), document.category(), document.price());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.Spot.store.presentation.dto.response;
+
+// 주변 매장 목록 항목 (기준 좌표로부터의 거리 포함, 미터 단위 반올림)
+public record StoreNearbyResponse(
+        StoreListResponse store,
+        long distanceMeters
+) {
+}
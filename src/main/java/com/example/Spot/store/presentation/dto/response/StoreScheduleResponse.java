@@ -0,0 +1,41 @@
+package com.example.Spot.store.presentation.dto.response;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import com.example.Spot.store.domain.entity.StoreHolidayEntity;
+import com.example.Spot.store.domain.entity.StoreOpeningHoursEntity;
+
+public record StoreScheduleResponse(
+        List<OpeningWindow> weekly,
+        List<Holiday> holidays
+) {
+    public record OpeningWindow(
+            DayOfWeek dayOfWeek,
+            LocalTime openTime,
+            LocalTime closeTime
+    ) {
+        public static OpeningWindow from(StoreOpeningHoursEntity entity) {
+            return new OpeningWindow(entity.getDayOfWeek(), entity.getOpenTime(), entity.getCloseTime());
+        }
+    }
+
+    public record Holiday(
+            LocalDate date,
+            LocalTime openTime,
+            LocalTime closeTime
+    ) {
+        public static Holiday from(StoreHolidayEntity entity) {
+            return new Holiday(entity.getHolidayDate(), entity.getOpenTime(), entity.getCloseTime());
+        }
+    }
+
+    public static StoreScheduleResponse of(List<StoreOpeningHoursEntity> weekly, List<StoreHolidayEntity> holidays) {
+        return new StoreScheduleResponse(
+                weekly.stream().map(OpeningWindow::from).toList(),
+                holidays.stream().map(Holiday::from).toList()
+        );
+    }
+}
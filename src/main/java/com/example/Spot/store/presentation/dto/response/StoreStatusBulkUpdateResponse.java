@@ -0,0 +1,11 @@
+package com.example.Spot.store.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+// 일괄 승인/반려 결과
+public record StoreStatusBulkUpdateResponse(
+        int updatedCount,
+        List<UUID> skippedStoreIds   // 없거나 삭제됐거나 이미 처리된(PENDING이 아닌) 매장
+) {
+}
@@ -1,27 +1,54 @@
 package com.example.Spot.store.presentation.swagger;
 
+import java.io.InputStream;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.Spot.global.presentation.JsonBody;
 import com.example.Spot.infra.auth.security.CustomUserDetails;
 import com.example.Spot.store.presentation.dto.request.StoreCreateRequest;
+import com.example.Spot.store.presentation.dto.request.StoreListSort;
+import com.example.Spot.store.presentation.dto.request.StoreScheduleRequest;
+import com.example.Spot.store.presentation.dto.request.StoreStatusBulkUpdateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUpdateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUserUpdateRequest;
+import com.example.Spot.store.presentation.dto.response.CatalogSyncResponse;
+import com.example.Spot.store.presentation.dto.response.StoreBulkResultResponse;
+import com.example.Spot.store.presentation.dto.response.StoreCursorResponse;
+import com.example.Spot.store.presentation.dto.response.StoreDeletionProgressResponse;
 import com.example.Spot.store.presentation.dto.response.StoreDetailResponse;
 import com.example.Spot.store.presentation.dto.response.StoreListResponse;
+import com.example.Spot.store.presentation.dto.response.StoreMenuSearchResponse;
+import com.example.Spot.store.presentation.dto.response.StoreNearbyResponse;
+import com.example.Spot.store.presentation.dto.response.StoreScheduleResponse;
+import com.example.Spot.store.presentation.dto.response.StoreStatusBulkUpdateResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 
 @Tag(name = "매장", description = "매장 관리 API")
 public interface StoreApi {
@@ -37,28 +64,71 @@ public interface StoreApi {
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
     );
 
+    @Operation(summary = "매장 대량 등록",
+            description = "NDJSON(한 줄에 매장 생성 요청 하나) 또는 CSV(첫 줄 헤더, categoryNames는 | 로 구분) 본문을 스트리밍으로 받아 "
+                    + "줄마다 등록 결과를 NDJSON으로 스트리밍합니다. 실패한 줄은 사유와 함께 반환되고 나머지는 계속 등록됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 시작 (줄별 결과는 응답 본문으로 스트리밍)",
+                    content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = StoreBulkResultResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    ResponseEntity<StreamingResponseBody> createStoresBulk(
+            @Parameter(hidden = true) @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(hidden = true) InputStream body
+    );
 
-    @Operation(summary = "매장 상세 조회", description = "특정 매장의 상세 정보를 조회합니다.")
+    @Operation(summary = "매장 상세 조회", description = "특정 매장의 상세 정보를 조회합니다. 손님 응답은 캐시되며 매장/메뉴 변경 시 갱신됩니다. "
+            + "fields로 필요한 필드만 고르면 선택하지 않은 직원/카테고리/메뉴는 조회하지 않습니다. "
+            + "손님 응답에는 매장 콘텐츠 버전 ETag가 붙고, If-None-Match가 같으면 304를 반환합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = StoreDetailResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "매장을 찾을 수 없음")
     })
-    ResponseEntity<StoreDetailResponse> getStoreDetails(
+    ResponseEntity<JsonBody<StoreDetailResponse>> getStoreDetails(
             @Parameter(description = "매장 ID") @PathVariable UUID storeId,
+            @Parameter(description = "응답에 포함할 필드 (콤마 구분, 예: id,name,menus). 생략 시 전체") @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal,
+            @Parameter(hidden = true) WebRequest webRequest
+    );
+
+    @Operation(summary = "매장 여러 개 조회", description = "매장 id 목록(최대 100개)을 한 번에 조회합니다. 요청한 순서대로 반환하며, 존재하지 않거나 조회 권한이 없는 매장은 제외됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "id 개수 초과")
+    })
+    ResponseEntity<List<StoreListResponse>> getStoresByIds(
+            @Parameter(description = "매장 ID 목록 (콤마 구분, 최대 100개)") @RequestParam @Size(min = 1, max = 100) List<UUID> ids,
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
     );
 
-    @Operation(summary = "매장 전체 조회", description = "모든 매장 목록을 페이지네이션으로 조회합니다.")
+    @Operation(summary = "매장 전체 조회", description = "모든 매장 목록을 페이지네이션으로 조회합니다. openAt을 주면 해당 시각에 영업 중인 매장만 조회합니다. sort=POPULAR면 미리 계산된 인기 점수 순으로 정렬합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공")
     })
     ResponseEntity<Page<StoreListResponse>> getAllStores(
             @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "영업 중인지 확인할 시각 (HH:mm, 예: 21:30)") @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime openAt,
+            @Parameter(description = "정렬 기준 (DEFAULT, POPULAR: 리뷰 별점/완료 주문 수 기반 인기순)") @RequestParam(defaultValue = "DEFAULT") StoreListSort sort,
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
     );
 
-    @Operation(summary = "매장 정보 수정", description = "매장 기본 정보를 수정합니다.")
+    @Operation(summary = "매장 전체 조회 (커서)", description = "생성일 역순으로 매장 목록을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청에 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    ResponseEntity<StoreCursorResponse> getStoresByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @Parameter(description = "영업 중인지 확인할 시각 (HH:mm, 예: 21:30)") @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime openAt,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
+    );
+
+    @Operation(summary = "매장 정보 수정", description = "매장 기본 정보를 수정합니다. 보내지 않은 필드는 그대로 둡니다. "
+            + "좌표는 latitude/longitude를 함께 보내 변경하고, clearLocation=true로 지울 수 있습니다(주변 매장 조회에서 빠짐).")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "수정 성공"),
             @ApiResponse(responseCode = "403", description = "권한 없음"),
@@ -82,6 +152,30 @@ public interface StoreApi {
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
     );
 
+    @Operation(summary = "매장 영업 일정 조회", description = "요일별 영업 구간과 오늘 이후의 휴무/특별 영업일을 조회합니다. 비어 있으면 매장 기본 영업시간(openTime/closeTime)을 매일 적용합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "매장을 찾을 수 없음")
+    })
+    ResponseEntity<StoreScheduleResponse> getStoreSchedule(
+            @Parameter(description = "매장 ID") @PathVariable UUID storeId
+    );
+
+    @Operation(summary = "매장 영업 일정 교체",
+            description = "요일별 영업 구간(하루 여러 개, 자정을 넘기는 구간 가능)과 날짜별 휴무/특별 영업을 통째로 교체합니다. "
+                    + "휴무일에 시간을 비우면 하루 휴무, 시간을 넣으면 그날은 해당 시간만 영업합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "교체 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 일정 (지난 날짜 등)"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "404", description = "매장을 찾을 수 없음")
+    })
+    ResponseEntity<Void> replaceStoreSchedule(
+            @Parameter(description = "매장 ID") @PathVariable UUID storeId,
+            @Valid @RequestBody StoreScheduleRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
+    );
+
     @Operation(summary = "매장 삭제", description = "매장을 삭제합니다. (Soft Delete)")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "삭제 성공"),
@@ -93,6 +187,42 @@ public interface StoreApi {
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
     );
 
+    @Operation(summary = "매장 삭제 진행 상황", description = "매장 삭제 후 메뉴/옵션/원산지/리뷰를 백그라운드에서 삭제하는 작업의 진행 상황을 조회합니다. "
+            + "실패한 작업은 주기적으로 다시 실행하며, 여러 번 실패하면 ABANDONED 상태로 재시도를 멈춥니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "404", description = "삭제 작업을 찾을 수 없음")
+    })
+    ResponseEntity<StoreDeletionProgressResponse> getDeletionProgress(
+            @Parameter(description = "매장 ID") @PathVariable UUID storeId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
+    );
+
+    @Operation(summary = "승인 대기 매장 목록", description = "PENDING 매장을 등록 오래된 순으로 커서 기반 조회합니다. (관리자 전용)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    ResponseEntity<StoreCursorResponse> getPendingStores(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 200)") @RequestParam(defaultValue = "50") @Min(1) @Max(200) int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
+    );
+
+    @Operation(summary = "승인 대기 매장 일괄 승인/반려",
+            description = "여러 PENDING 매장의 상태를 한 번에 APPROVED 또는 REJECTED로 변경합니다. 이미 처리된 매장은 건너뜁니다. (관리자 전용)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "변경 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    ResponseEntity<StoreStatusBulkUpdateResponse> updatePendingStoreStatus(
+            @Valid @RequestBody StoreStatusBulkUpdateRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
+    );
+
     @Operation(summary = "매장 검색", description = "매장 이름으로 검색합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "검색 성공")
@@ -103,4 +233,51 @@ public interface StoreApi {
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "50") int size,
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
     );
+
+    @Operation(summary = "매장 검색 (커서)", description = "매장 이름으로 검색하고 결과를 커서 기반으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    ResponseEntity<StoreCursorResponse> searchStoresByCursor(
+            @Parameter(description = "검색 키워드") @RequestParam String keyword,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
+    );
+
+    @Operation(summary = "메뉴로 매장 검색", description = "메뉴 이름/카테고리/설명으로 여러 매장의 메뉴를 검색하고, "
+            + "매칭된 매장을 관련도 순으로 매장별 매칭 메뉴(최대 5개)와 함께 반환합니다. 초성 검색을 지원합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공")
+    })
+    ResponseEntity<List<StoreMenuSearchResponse>> searchStoresByMenu(
+            @Parameter(description = "검색 키워드 (예: 마라탕, ㅁㄹㅌ)") @RequestParam String keyword,
+            @Parameter(description = "최대 매장 수 (최대 100)") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
+    );
+
+    @Operation(summary = "주변 매장 조회", description = "기준 좌표(lat, lng)에서 radius(m) 이내의 매장을 가까운 순으로 조회합니다. 좌표가 등록된 매장만 대상입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 좌표 또는 반경")
+    })
+    ResponseEntity<List<StoreNearbyResponse>> getNearbyStores(
+            @Parameter(description = "기준 위도") @RequestParam @DecimalMin("-90.0") @DecimalMax("90.0") double lat,
+            @Parameter(description = "기준 경도") @RequestParam @DecimalMin("-180.0") @DecimalMax("180.0") double lng,
+            @Parameter(description = "반경 (m, 최대 20000)") @RequestParam(defaultValue = "3000") @Min(1) @Max(20000) int radius,
+            @Parameter(description = "최대 개수 (최대 100)") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
+    );
+
+    @Operation(summary = "매장/메뉴 변경분 동기화",
+            description = "since(이전 응답의 version) 이후 생성/수정된 매장과 메뉴(옵션 포함), 삭제되었거나 더 이상 노출되지 않는 항목의 id를 변경 순서대로 반환합니다. "
+                    + "since를 생략하면 현재 version만 반환합니다. hasMore가 true면 응답의 version으로 이어서 요청합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    ResponseEntity<CatalogSyncResponse> getCatalogChanges(
+            @Parameter(description = "이전 응답의 version (처음이면 생략)") @RequestParam(required = false) @Min(0) Long since,
+            @Parameter(description = "한 번에 읽을 변경 로그 수 (최대 1000)") @RequestParam(defaultValue = "200") @Min(1) @Max(1000) int size
+    );
 }
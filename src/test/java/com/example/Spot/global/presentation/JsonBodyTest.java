@@ -0,0 +1,37 @@
+package com.example.Spot.global.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class JsonBodyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private record Sample(String id, String name, int price) {
+    }
+
+    @Test
+    @DisplayName("값, 필드 선택 결과, 캐시된 JSON을 같은 타입으로 감싸 직렬화한다")
+    void serialize() throws Exception {
+        Sample sample = new Sample("m1", "마라탕", 9000);
+
+        assertThat(objectMapper.writeValueAsString(JsonBody.of(sample)))
+                .isEqualTo("{\"id\":\"m1\",\"name\":\"마라탕\",\"price\":9000}");
+        assertThat(objectMapper.writeValueAsString(FieldSelection.parse("id,price").apply(objectMapper, sample)))
+                .isEqualTo("{\"id\":\"m1\",\"price\":9000}");
+
+        // 캐시된 바이트는 다른 객체 안에서도 그대로 값 자리에 들어간다
+        byte[] cached = objectMapper.writeValueAsBytes(sample);
+        assertThat(new String(cached, StandardCharsets.UTF_8))
+                .isEqualTo(objectMapper.writeValueAsString(JsonBody.raw(cached)));
+        assertThat(objectMapper.writeValueAsString(Map.of("result", JsonBody.raw(cached))))
+                .isEqualTo("{\"result\":{\"id\":\"m1\",\"name\":\"마라탕\",\"price\":9000}}");
+    }
+}
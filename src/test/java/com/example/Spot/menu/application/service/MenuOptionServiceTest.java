@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.example.Spot.infra.auth.security.CustomUserDetails;
@@ -27,6 +28,7 @@ import com.example.Spot.menu.presentation.dto.request.UpdateMenuOptionHiddenRequ
 import com.example.Spot.menu.presentation.dto.request.UpdateMenuOptionRequestDto;
 import com.example.Spot.menu.presentation.dto.response.CreateMenuOptionResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuOptionAdminResponseDto;
+import com.example.Spot.store.application.service.StoreMembershipService;
 import com.example.Spot.store.domain.entity.StoreEntity;
 import com.example.Spot.store.domain.repository.StoreRepository;
 import com.example.Spot.user.domain.Role;
@@ -46,6 +48,12 @@ class MenuOptionServiceTest {
     @Mock
     private StoreRepository storeRepository;
 
+    @Mock
+    private StoreMembershipService storeMembershipService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MenuOptionServiceImpl menuOptionService;
 
@@ -63,6 +71,7 @@ class MenuOptionServiceTest {
         CreateMenuOptionRequestDto request = new CreateMenuOptionRequestDto("밥 추가", "200g", 2000);
 
         given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
+        given(storeMembershipService.isMember(user.getUserEntity().getId(), storeId)).willReturn(true);
         given(menuRepository.findByStoreIdAndId(storeId, menuId)).willReturn(Optional.of(menu));
         given(menuOptionRepository.save(any(MenuOptionEntity.class))).willAnswer(invocation -> invocation.getArgument(0));
 
@@ -98,6 +107,7 @@ class MenuOptionServiceTest {
         UpdateMenuOptionRequestDto request = new UpdateMenuOptionRequestDto("수정된옵션", "설명수정", 2000, false);
 
         given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
+        given(storeMembershipService.isMember(user.getUserEntity().getId(), storeId)).willReturn(true);
         given(menuRepository.findByStoreIdAndId(storeId, menuId)).willReturn(Optional.of(menu));
         given(menuOptionRepository.findById(optionId)).willReturn(Optional.of(option));
 
@@ -133,6 +143,7 @@ class MenuOptionServiceTest {
         UpdateMenuOptionHiddenRequestDto request = new UpdateMenuOptionHiddenRequestDto(true);
 
         given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
+        given(storeMembershipService.isMember(user.getUserEntity().getId(), storeId)).willReturn(true);
         given(menuRepository.findByStoreIdAndId(storeId, menuId)).willReturn(Optional.of(menu));
         given(menuOptionRepository.findById(optionId)).willReturn(Optional.of(option));
 
@@ -168,6 +179,7 @@ class MenuOptionServiceTest {
         UpdateMenuOptionHiddenRequestDto request = new UpdateMenuOptionHiddenRequestDto(true);
 
         given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
+        given(storeMembershipService.isMember(user.getUserEntity().getId(), storeId)).willReturn(true);
         given(menuRepository.findByStoreIdAndId(storeId, menuId)).willReturn(Optional.of(createMenuEntity(store, "요청 메뉴", 100, menuId)));
         given(menuOptionRepository.findById(optionId)).willReturn(Optional.of(option));
 
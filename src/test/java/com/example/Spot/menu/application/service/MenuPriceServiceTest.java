@@ -0,0 +1,151 @@
+package com.example.Spot.menu.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.Spot.global.common.Role;
+import com.example.Spot.menu.application.event.MenuChangedEvent;
+import com.example.Spot.menu.domain.MenuPriceItem;
+import com.example.Spot.menu.domain.MenuPriceTarget;
+import com.example.Spot.menu.domain.repository.MenuOptionRepository;
+import com.example.Spot.menu.domain.repository.MenuPriceSnapshotRepository;
+import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.menu.infrastructure.repository.MenuPriceRepository;
+import com.example.Spot.menu.presentation.dto.request.AdjustMenuPriceRequestDto;
+import com.example.Spot.menu.presentation.dto.response.AdjustMenuPriceResponseDto;
+import com.example.Spot.store.application.service.StoreMembershipService;
+import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.repository.StoreRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MenuPriceServiceTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private MenuOptionRepository menuOptionRepository;
+
+    @Mock
+    private MenuPriceRepository menuPriceRepository;
+
+    @Mock
+    private MenuPriceSnapshotRepository menuPriceSnapshotRepository;
+
+    @Mock
+    private StoreMembershipService storeMembershipService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private MenuPriceServiceImpl menuPriceService;
+
+    @Test
+    @DisplayName("[가격 일괄 조정] 옵션 10% 인하는 UPDATE 한 번으로 실행하고 옵션의 메뉴로 변경 이벤트를 발행한다")
+    void 옵션_비율_조정_테스트() {
+        // given
+        UUID storeId = UUID.randomUUID();
+        UUID menuId = UUID.randomUUID();
+        UUID optionA = UUID.randomUUID();
+        UUID optionB = UUID.randomUUID();
+        given(storeRepository.findById(storeId)).willReturn(Optional.of(createStoreEntity(storeId)));
+        given(menuOptionRepository.findPriceItems(storeId, "한식"))
+                .willReturn(List.of(new MenuPriceItem(optionA, menuId), new MenuPriceItem(optionB, menuId)));
+        given(menuPriceRepository.adjustOptionPrices(any(), eq(storeId), eq(List.of(optionA, optionB)),
+                any(), anyInt(), any(), eq(1))).willReturn(2);
+
+        AdjustMenuPriceRequestDto request = new AdjustMenuPriceRequestDto(
+                MenuPriceTarget.OPTION, AdjustMenuPriceRequestDto.Mode.PERCENT, -10, "한식", null);
+
+        // when
+        AdjustMenuPriceResponseDto result = menuPriceService.adjustPrices(storeId, request, 1, Role.MASTER);
+
+        // then - 비율 조정은 rate 0.90, amount 0
+        assertThat(result.adjusted()).isEqualTo(2);
+        ArgumentCaptor<BigDecimal> rate = ArgumentCaptor.forClass(BigDecimal.class);
+        verify(menuPriceRepository).adjustOptionPrices(eq(result.adjustmentId()), eq(storeId), any(),
+                rate.capture(), eq(0), any(), eq(1));
+        assertThat(rate.getValue()).isEqualByComparingTo("0.9");
+
+        ArgumentCaptor<MenuChangedEvent> event = ArgumentCaptor.forClass(MenuChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().menuIds()).containsExactly(menuId);
+    }
+
+    @Test
+    @DisplayName("[가격 일괄 조정] 지정한 메뉴 중 이 매장에 없는 메뉴가 있으면 조정하지 않는다")
+    void 없는_메뉴_가격_조정_실패_테스트() {
+        // given
+        UUID storeId = UUID.randomUUID();
+        UUID menuId = UUID.randomUUID();
+        UUID otherStoreMenuId = UUID.randomUUID();
+        List<UUID> ids = List.of(menuId, otherStoreMenuId);
+        given(storeRepository.findById(storeId)).willReturn(Optional.of(createStoreEntity(storeId)));
+        given(menuRepository.findPriceItemsByIdIn(storeId, null, ids))
+                .willReturn(List.of(new MenuPriceItem(menuId, menuId)));
+
+        AdjustMenuPriceRequestDto request = new AdjustMenuPriceRequestDto(
+                MenuPriceTarget.MENU, AdjustMenuPriceRequestDto.Mode.AMOUNT, 500, null, ids);
+
+        // when & then
+        assertThatThrownBy(() -> menuPriceService.adjustPrices(storeId, request, 1, Role.MASTER))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(menuPriceRepository, never()).adjustMenuPrices(any(), any(), any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("[가격 일괄 조정] 지정한 메뉴가 카테고리 필터로만 빠졌으면 카테고리 오류로 알려준다")
+    void 카테고리가_다른_메뉴_가격_조정_실패_테스트() {
+        // given
+        UUID storeId = UUID.randomUUID();
+        UUID koreanMenuId = UUID.randomUUID();
+        UUID japaneseMenuId = UUID.randomUUID();
+        List<UUID> ids = List.of(koreanMenuId, japaneseMenuId);
+        given(storeRepository.findById(storeId)).willReturn(Optional.of(createStoreEntity(storeId)));
+        given(menuRepository.findPriceItemsByIdIn(storeId, "한식", ids))
+                .willReturn(List.of(new MenuPriceItem(koreanMenuId, koreanMenuId)));
+        given(menuRepository.findPriceItemsByIdIn(storeId, null, ids))
+                .willReturn(List.of(new MenuPriceItem(koreanMenuId, koreanMenuId),
+                        new MenuPriceItem(japaneseMenuId, japaneseMenuId)));
+
+        AdjustMenuPriceRequestDto request = new AdjustMenuPriceRequestDto(
+                MenuPriceTarget.MENU, AdjustMenuPriceRequestDto.Mode.AMOUNT, 500, "한식", ids);
+
+        // when & then
+        assertThatThrownBy(() -> menuPriceService.adjustPrices(storeId, request, 1, Role.MASTER))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("카테고리");
+        verify(menuPriceRepository, never()).adjustMenuPrices(any(), any(), any(), any(), anyInt(), any(), any());
+    }
+
+    private StoreEntity createStoreEntity(UUID storeId) {
+        StoreEntity store = StoreEntity.builder().build();
+        ReflectionTestUtils.setField(store, "id", storeId);
+        return store;
+    }
+}
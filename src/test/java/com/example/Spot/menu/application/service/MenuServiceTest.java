@@ -1,7 +1,12 @@
 package com.example.Spot.menu.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -11,20 +16,37 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.example.Spot.global.presentation.FieldSelection;
+import com.example.Spot.global.presentation.advice.DuplicateResourceException;
+import com.example.Spot.menu.application.event.MenuChangedEvent;
 import com.example.Spot.menu.domain.entity.MenuEntity;
+import com.example.Spot.menu.domain.entity.MenuOptionEntity;
 import com.example.Spot.menu.domain.repository.MenuOptionRepository;
 import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.menu.domain.repository.OriginRepository;
+import com.example.Spot.menu.infrastructure.repository.MenuCopyRepository;
+import com.example.Spot.menu.infrastructure.repository.MenuGraphLoader;
+import com.example.Spot.menu.presentation.dto.request.BulkUpsertMenuRequestDto;
+import com.example.Spot.menu.presentation.dto.request.CopyMenuRequestDto;
+import com.example.Spot.menu.presentation.dto.response.BulkUpsertMenuResponseDto;
+import com.example.Spot.menu.presentation.dto.response.CopyMenuResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuAdminResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuResponseDto;
+import com.example.Spot.store.application.service.StoreMembershipService;
 import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.repository.StoreRepository;
 import com.example.Spot.user.domain.Role;
 import com.example.Spot.user.domain.entity.UserEntity;
 
@@ -37,9 +59,31 @@ class MenuServiceTest {
     @Mock
     private MenuRepository menuRepository;
 
+    @Mock
+    private OriginRepository originRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private MenuCopyRepository menuCopyRepository;
+
+    @Mock
+    private StoreMembershipService storeMembershipService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MenuServiceImpl menuService;
 
+    @BeforeEach
+    void setUp() {
+        // 옵션/원산지는 실제 로더가 mock 리포지토리로 조회
+        ReflectionTestUtils.setField(menuService, "menuGraphLoader",
+                new MenuGraphLoader(menuRepository, menuOptionRepository, originRepository));
+    }
+
     @Test
     @DisplayName("[관리자용] 삭제 및 숨김 메뉴를 포함한 모든 메뉴 조회 테스트")
     void 관리자용_메뉴_조회_테스트() {
@@ -127,11 +171,13 @@ class MenuServiceTest {
         ReflectionTestUtils.setField(menu, "isHidden", true);
 
         // 메뉴 조회 Mocking
-        given(menuRepository.findActiveMenuById(menuId))
+        given(menuRepository.findActiveMenuByIdAndStoreId(menuId, storeId))
                 .willReturn(Optional.of(menu));
 
-        // 상세 조회 시 옵션도 같이 가져오므로 빈 리스트라도 리턴해줘야 함
-        given(menuOptionRepository.findAllByMenuIdAndIsDeletedFalse(menuId))
+        // 상세 조회 시 옵션/원산지도 같이 가져오므로 빈 리스트라도 리턴해줘야 함
+        given(menuOptionRepository.findAllByMenuIdInAndIsDeletedFalse(List.of(menuId)))
+                .willReturn(Collections.emptyList());
+        given(originRepository.findAllByMenuIdInAndIsDeletedFalse(List.of(menuId)))
                 .willReturn(Collections.emptyList());
 
         MenuResponseDto result = menuService.getMenuDetail(storeId, menuId, 0, Role.CUSTOMER);
@@ -139,11 +185,161 @@ class MenuServiceTest {
         assertThat(result.name()).isEqualTo("육전물막국수");
         assertThat(result.price()).isEqualTo(13000);
 
-        verify(menuRepository, times(1)).findActiveMenuById(menuId);
-        verify(menuOptionRepository, times(1)).findAllByMenuIdAndIsDeletedFalse(menuId);
+        verify(menuRepository, times(1)).findActiveMenuByIdAndStoreId(menuId, storeId);
+        verify(menuOptionRepository, times(1)).findAllByMenuIdInAndIsDeletedFalse(List.of(menuId));
+        verify(originRepository, times(1)).findAllByMenuIdInAndIsDeletedFalse(List.of(menuId));
+    }
+
+    @Test
+    @DisplayName("[손님용] 메뉴 상세 조회 - fields에 없는 옵션/원산지는 조회하지 않는다")
+    void 메뉴_상세_조회_필드_선택_테스트() {
+        UUID storeId = UUID.randomUUID();
+        UUID menuId = UUID.randomUUID();
+        MenuEntity menu = createMenuEntity(createStoreEntity(storeId), "육전물막국수", 13000, menuId);
+        ReflectionTestUtils.setField(menu, "id", menuId);
+        given(menuRepository.findActiveMenuByIdAndStoreId(menuId, storeId)).willReturn(Optional.of(menu));
+
+        MenuResponseDto result = menuService.getMenuDetail(
+                storeId, menuId, 0, Role.CUSTOMER, FieldSelection.parse("menu_id,name,price"));
+
+        assertThat(result.name()).isEqualTo("육전물막국수");
+        verify(menuOptionRepository, never()).findAllByMenuIdInAndIsDeletedFalse(any());
+        verify(originRepository, never()).findAllByMenuIdInAndIsDeletedFalse(any());
+    }
+
+    @Test
+    @DisplayName("[대량 등록] client_key가 있으면 수정하고 옵션을 요청 목록으로 맞추며, 없으면 새로 만든다")
+    @SuppressWarnings("unchecked")
+    void 메뉴_대량_upsert_테스트() {
+        // given
+        UUID storeId = UUID.randomUUID();
+        StoreEntity store = createStoreEntity(storeId);
+        MenuEntity existing = createMenuEntity(store, "물막국수", 11000, UUID.randomUUID());
+        ReflectionTestUtils.setField(existing, "clientKey", "NOODLE-1");
+        MenuOptionEntity normal = MenuOptionEntity.builder().menu(existing).name("보통").price(0).build();
+        MenuOptionEntity large = MenuOptionEntity.builder().menu(existing).name("곱빼기").price(2000).build();
+
+        given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
+        given(menuRepository.findAllByStoreIdAndClientKeyIn(any(), any())).willReturn(List.of(existing));
+        given(menuOptionRepository.findAllByMenuIdInAndIsDeletedFalse(List.of(existing.getId())))
+                .willReturn(List.of(normal, large));
+        given(menuRepository.saveAll(any())).willAnswer(invocation -> {
+            List<MenuEntity> menus = invocation.getArgument(0);
+            menus.forEach(menu -> ReflectionTestUtils.setField(menu, "id", UUID.randomUUID()));
+            return menus;
+        });
+
+        BulkUpsertMenuRequestDto request = new BulkUpsertMenuRequestDto(List.of(
+                new BulkUpsertMenuRequestDto.MenuItem("NOODLE-1", "물막국수", "한식", 12000, null, null, null,
+                        List.of(new BulkUpsertMenuRequestDto.OptionItem("보통", null, 500, null),
+                                new BulkUpsertMenuRequestDto.OptionItem("사리 추가", null, 1000, null)),
+                        null),
+                new BulkUpsertMenuRequestDto.MenuItem("NOODLE-2", "비빔막국수", "한식", 12000, null, null, null,
+                        null,
+                        List.of(new BulkUpsertMenuRequestDto.OriginItem("국내산", "메밀")))));
+
+        // when
+        BulkUpsertMenuResponseDto result = menuService.upsertMenus(storeId, request, 1, Role.MASTER);
+
+        // then
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.menus().get(0).menuId()).isEqualTo(existing.getId());
+        assertThat(existing.getPrice()).isEqualTo(12000);
+
+        // 이름이 같은 옵션은 수정, 빠진 옵션은 삭제, 새 옵션만 저장
+        assertThat(normal.getPrice()).isEqualTo(500);
+        assertThat(large.getIsDeleted()).isTrue();
+        ArgumentCaptor<List<MenuOptionEntity>> newOptions = ArgumentCaptor.forClass(List.class);
+        verify(menuOptionRepository).saveAll(newOptions.capture());
+        assertThat(newOptions.getValue()).extracting(MenuOptionEntity::getName).containsExactly("사리 추가");
+
+        // 원산지를 보낸 기존 메뉴가 없으므로 현재 원산지는 조회하지 않는다
+        verify(originRepository, never()).findAllByMenuIdInAndIsDeletedFalse(any());
+        ArgumentCaptor<MenuChangedEvent> event = ArgumentCaptor.forClass(MenuChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().menuIds()).hasSize(2).contains(existing.getId());
+    }
+
+    @Test
+    @DisplayName("[메뉴 복사] 복사 쿼리 한 번으로 복사하고 대상 매장마다 변경 이벤트를 발행한다")
+    void 매장_메뉴_복사_테스트() {
+        // given
+        UUID sourceId = UUID.randomUUID();
+        UUID targetA = UUID.randomUUID();
+        UUID targetB = UUID.randomUUID();
+        UUID menuA1 = UUID.randomUUID();
+        UUID menuA2 = UUID.randomUUID();
+        List<UUID> targets = List.of(targetA, targetB);
+
+        given(storeRepository.findById(sourceId)).willReturn(Optional.of(createStoreEntity(sourceId)));
+        given(storeRepository.findActiveIdsByIdIn(targets)).willReturn(targets);
+        given(menuCopyRepository.copyActiveMenus(eq(sourceId), eq(targets), any(), eq(1)))
+                .willReturn(List.of(copiedMenu(targetA, menuA1), copiedMenu(targetA, menuA2)));
+
+        // when
+        CopyMenuResponseDto result = menuService.copyMenus(sourceId, new CopyMenuRequestDto(targets), 1, Role.MASTER);
+
+        // then - 대상 B는 이미 같은 client_key 메뉴만 있어 복사된 메뉴가 없다
+        assertThat(result.copied()).isEqualTo(2);
+        assertThat(result.stores()).extracting(CopyMenuResponseDto.StoreResult::copied).containsExactly(2, 0);
+        ArgumentCaptor<MenuChangedEvent> event = ArgumentCaptor.forClass(MenuChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().storeId()).isEqualTo(targetA);
+        assertThat(event.getValue().menuIds()).containsExactlyInAnyOrder(menuA1, menuA2);
+    }
+
+    @Test
+    @DisplayName("[메뉴 복사] 없는 대상 매장이 있으면 복사하지 않는다")
+    void 없는_매장으로_메뉴_복사_실패_테스트() {
+        // given
+        UUID sourceId = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+
+        given(storeRepository.findById(sourceId)).willReturn(Optional.of(createStoreEntity(sourceId)));
+        given(storeRepository.findActiveIdsByIdIn(List.of(missing))).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> menuService.copyMenus(
+                sourceId, new CopyMenuRequestDto(List.of(missing)), 1, Role.MASTER))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(menuCopyRepository, never()).copyActiveMenus(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("[메뉴 복사] 동시 복사로 유니크 충돌이 나면 중복(409)으로 던지고 이벤트를 발행하지 않는다")
+    void 메뉴_복사_충돌_테스트() {
+        // given
+        UUID sourceId = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        List<UUID> targets = List.of(target);
+
+        given(storeRepository.findById(sourceId)).willReturn(Optional.of(createStoreEntity(sourceId)));
+        given(storeRepository.findActiveIdsByIdIn(targets)).willReturn(targets);
+        willThrow(new DataIntegrityViolationException("uk_menu_store_client_key"))
+                .given(menuCopyRepository).copyActiveMenus(eq(sourceId), eq(targets), any(), eq(1));
+
+        // when & then
+        assertThatThrownBy(() -> menuService.copyMenus(sourceId, new CopyMenuRequestDto(targets), 1, Role.MASTER))
+                .isInstanceOf(DuplicateResourceException.class);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     // Helper
+    private MenuCopyRepository.CopiedMenu copiedMenu(UUID storeId, UUID menuId) {
+        return new MenuCopyRepository.CopiedMenu() {
+            @Override
+            public UUID getStoreId() {
+                return storeId;
+            }
+
+            @Override
+            public UUID getMenuId() {
+                return menuId;
+            }
+        };
+    }
+
     private StoreEntity createStoreEntity(UUID storeId) {
         StoreEntity store = StoreEntity.builder().build();
         ReflectionTestUtils.setField(store, "id", storeId);
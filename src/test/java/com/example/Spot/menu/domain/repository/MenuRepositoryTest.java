@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.tuple;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.example.Spot.menu.domain.MenuPriceItem;
 import com.example.Spot.menu.domain.entity.MenuEntity;
 import com.example.Spot.store.domain.entity.StoreEntity;
 import com.example.Spot.store.domain.repository.StoreRepository; // StoreRepository 필요import org.springframework.test.util.ReflectionTestUtils;
@@ -88,12 +90,18 @@ class MenuRepositoryTest {
     @Test
     @DisplayName("[손님] 메뉴 상세 조회")
     void 메뉴_상세_조회_테스트() {
-        MenuEntity foundMenu = menuRepository.findActiveMenuById(savedMenu.getId())
+        MenuEntity foundMenu = menuRepository.findActiveMenuByIdAndStoreId(savedMenu.getId(), savedStore.getId())
                 .orElseThrow(() -> new IllegalArgumentException("해당 메뉴가 존재하지 않습니다."));
 
         assertThat(foundMenu.getName()).isEqualTo("육전막국수");
     }
 
+    @Test
+    @DisplayName("[손님] 메뉴 상세 조회 - 다른 가게 경로로는 조회되지 않는다")
+    void 다른_가게_메뉴_상세_조회() {
+        assertThat(menuRepository.findActiveMenuByIdAndStoreId(savedMenu.getId(), UUID.randomUUID())).isEmpty();
+    }
+
     @Test
     @DisplayName("[손님] 메뉴 조회")
     void 주문_가능한_메뉴_조회() {
@@ -137,4 +145,37 @@ class MenuRepositoryTest {
                 .containsExactly(tuple("육전막국수", true, false));
 
     }
+
+    @Test
+    @DisplayName("[가격 일괄 조정] 카테고리로 대상 메뉴 id만 조회 (삭제된 메뉴 제외)")
+    void 가격_조정_대상_조회_테스트() {
+        // [Given] 다른 카테고리 메뉴, 같은 카테고리의 삭제된 메뉴
+        MenuEntity other = MenuEntity.builder()
+                .store(savedStore)
+                .name("가라아게덮밥")
+                .price(10000)
+                .category("일식")
+                .build();
+        MenuEntity deleted = MenuEntity.builder()
+                .store(savedStore)
+                .name("비빔막국수")
+                .price(11000)
+                .category("한식")
+                .build();
+        deleted.softDelete(0);
+        for (MenuEntity menu : List.of(other, deleted)) {
+            ReflectionTestUtils.setField(menu, "createdBy", 123);
+            ReflectionTestUtils.setField(menu, "createdAt", LocalDateTime.now());
+            menuRepository.save(menu);
+        }
+
+        // [When]
+        List<MenuPriceItem> korean = menuRepository.findPriceItems(savedStore.getId(), "한식");
+        List<MenuPriceItem> all = menuRepository.findPriceItems(savedStore.getId(), null);
+
+        // [Then]
+        assertThat(korean).containsExactly(new MenuPriceItem(savedMenu.getId(), savedMenu.getId()));
+        assertThat(all).extracting(MenuPriceItem::itemId)
+                .containsExactlyInAnyOrder(savedMenu.getId(), other.getId());
+    }
 }
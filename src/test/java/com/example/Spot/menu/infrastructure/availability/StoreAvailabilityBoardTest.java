@@ -0,0 +1,80 @@
+package com.example.Spot.menu.infrastructure.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.Spot.menu.domain.MenuAvailability;
+
+class StoreAvailabilityBoardTest {
+
+    private final UUID menuId = UUID.randomUUID();
+    private final UUID otherMenuId = UUID.randomUUID();
+    private final UUID optionId = UUID.randomUUID();
+
+    private StoreAvailabilityBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new StoreAvailabilityBoard();
+        board.load(List.of(
+                new MenuAvailability(menuId, menuId, true, false),
+                new MenuAvailability(optionId, menuId, true, false),
+                new MenuAvailability(otherMenuId, otherMenuId, null, true)));
+    }
+
+    @Test
+    @DisplayName("snapshot에는 품절/숨김 항목만 담기고, is_available이 null인 메뉴는 판매 중으로 본다")
+    void snapshot() {
+        StoreAvailabilityBoard.Snapshot snapshot = board.snapshot();
+
+        assertThat(snapshot.unavailableIds()).isEmpty();
+        assertThat(snapshot.hiddenIds()).containsExactly(otherMenuId);
+    }
+
+    @Test
+    @DisplayName("상태가 실제로 바뀐 항목만 변경으로 돌려주고, 그대로면 버전도 올리지 않는다")
+    void applyOnlyChanges() {
+        long version = board.version();
+
+        // 옵션 품절, 메뉴는 그대로 (가격 수정 등)
+        StoreAvailabilityBoard.Diff diff = board.apply(Set.of(menuId), List.of(
+                new MenuAvailability(menuId, menuId, true, false),
+                new MenuAvailability(optionId, menuId, false, false)));
+
+        assertThat(diff.changed()).extracting(MenuAvailability::itemId).containsExactly(optionId);
+        assertThat(diff.version()).isEqualTo(version + 1);
+        assertThat(board.snapshot().unavailableIds()).containsExactly(optionId);
+
+        StoreAvailabilityBoard.Diff same = board.apply(Set.of(menuId), List.of(
+                new MenuAvailability(menuId, menuId, true, false),
+                new MenuAvailability(optionId, menuId, false, false)));
+        assertThat(same.isEmpty()).isTrue();
+        assertThat(board.version()).isEqualTo(version + 1);
+    }
+
+    @Test
+    @DisplayName("다시 읽은 메뉴에서 빠진 항목은 삭제로 처리하고 슬롯을 재사용한다")
+    void removeAndReuseSlot() {
+        StoreAvailabilityBoard.Diff diff = board.apply(Set.of(menuId), List.of(
+                new MenuAvailability(menuId, menuId, true, false)));
+
+        assertThat(diff.removedIds()).containsExactly(optionId);
+        assertThat(board.size()).isEqualTo(2);
+
+        UUID newOptionId = UUID.randomUUID();
+        StoreAvailabilityBoard.Diff added = board.apply(Set.of(menuId), List.of(
+                new MenuAvailability(menuId, menuId, true, false),
+                new MenuAvailability(newOptionId, menuId, false, false)));
+
+        assertThat(added.changed()).extracting(MenuAvailability::itemId).containsExactly(newOptionId);
+        assertThat(board.size()).isEqualTo(3);
+        assertThat(board.snapshot().unavailableIds()).containsExactly(newOptionId);
+    }
+}
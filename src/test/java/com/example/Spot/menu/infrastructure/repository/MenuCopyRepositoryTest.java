@@ -0,0 +1,196 @@
+package com.example.Spot.menu.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.Spot.menu.domain.entity.MenuEntity;
+import com.example.Spot.menu.domain.entity.MenuOptionEntity;
+import com.example.Spot.menu.domain.entity.OriginEntity;
+import com.example.Spot.menu.domain.repository.MenuOptionRepository;
+import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.menu.domain.repository.OriginRepository;
+import com.example.Spot.menu.infrastructure.repository.MenuCopyRepository.CopiedMenu;
+import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.repository.StoreRepository;
+
+// MenuCopyRepository는 PostgreSQL 전용 native 쿼리(ON CONFLICT, 쓰기 CTE)라 컨테이너 PostgreSQL로 검증 (Docker가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MenuCopyRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuOptionRepository menuOptionRepository;
+
+    @Autowired
+    private OriginRepository originRepository;
+
+    @Autowired
+    private MenuCopyRepository menuCopyRepository;
+
+    private StoreEntity sourceStore;
+    private StoreEntity targetStore;
+
+    @BeforeEach
+    void 원본_가게_메뉴_생성() {
+        sourceStore = saveStore("원조역삼막국수");
+        targetStore = saveStore("원조역삼막국수 선릉점");
+
+        MenuEntity kimchiStew = saveMenu(sourceStore, "김치찌개", "kimchi-stew");
+        saveOption(kimchiStew, "공기밥 추가", false);
+        saveOption(kimchiStew, "라면사리 추가", true);
+        saveOrigin(kimchiStew, "국내산", "돼지고기", false);
+        saveOrigin(kimchiStew, "중국산", "김치", true);
+
+        saveMenu(sourceStore, "비빔밥", null);
+        MenuEntity deletedMenu = saveMenu(sourceStore, "단종 메뉴", "discontinued");
+        deletedMenu.softDelete(1);
+        menuRepository.flush();
+    }
+
+    @Test
+    @DisplayName("[메뉴 복사] 삭제되지 않은 메뉴와 옵션/원산지만 대상 가게로 복사하고 (가게, 새 메뉴) 목록을 반환한다")
+    void 메뉴_복사_테스트() {
+        // when
+        List<CopiedMenu> copied = menuCopyRepository.copyActiveMenus(
+                sourceStore.getId(), List.of(targetStore.getId()), LocalDateTime.now(), 1);
+
+        // then
+        Map<UUID, MenuEntity> targetMenus = menuRepository.findAllByStoreIdAndIsDeletedFalse(targetStore.getId())
+                .stream()
+                .collect(Collectors.toMap(MenuEntity::getId, Function.identity()));
+        assertThat(targetMenus.values())
+                .extracting(MenuEntity::getName, MenuEntity::getClientKey)
+                .containsExactlyInAnyOrder(tuple("김치찌개", "kimchi-stew"), tuple("비빔밥", null));
+        assertThat(copied)
+                .extracting(CopiedMenu::getStoreId, CopiedMenu::getMenuId)
+                .containsExactlyInAnyOrderElementsOf(targetMenus.keySet().stream()
+                        .map(menuId -> tuple(targetStore.getId(), menuId))
+                        .toList());
+
+        UUID copiedStewId = targetMenus.values().stream()
+                .filter(menu -> menu.getName().equals("김치찌개"))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+        assertThat(menuOptionRepository.findAllByMenuIdIn(List.of(copiedStewId)))
+                .extracting(MenuOptionEntity::getName)
+                .containsExactly("공기밥 추가");
+        assertThat(originRepository.findAllByMenuIdIn(List.of(copiedStewId)))
+                .extracting(OriginEntity::getIngredientName)
+                .containsExactly("돼지고기");
+    }
+
+    @Test
+    @DisplayName("[메뉴 복사] 대상 가게에 같은 client_key가 있는 메뉴는 건너뛰고 옵션/원산지도 복사하지 않는다")
+    void 메뉴_복사_client_key_중복_테스트() {
+        // given: 대상 가게에 이미 같은 키의 메뉴가 있음
+        MenuEntity existing = saveMenu(targetStore, "김치찌개 (기존)", "kimchi-stew");
+
+        // when
+        List<CopiedMenu> copied = menuCopyRepository.copyActiveMenus(
+                sourceStore.getId(), List.of(targetStore.getId()), LocalDateTime.now(), 1);
+
+        // then
+        List<MenuEntity> targetMenus = menuRepository.findAllByStoreIdAndIsDeletedFalse(targetStore.getId());
+        assertThat(targetMenus)
+                .extracting(MenuEntity::getName)
+                .containsExactlyInAnyOrder("김치찌개 (기존)", "비빔밥");
+        UUID copiedBibimbapId = targetMenus.stream()
+                .filter(menu -> menu.getName().equals("비빔밥"))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+        assertThat(copied)
+                .extracting(CopiedMenu::getStoreId, CopiedMenu::getMenuId)
+                .containsExactly(tuple(targetStore.getId(), copiedBibimbapId));
+        assertThat(menuOptionRepository.findAllByMenuIdIn(List.of(existing.getId()))).isEmpty();
+        assertThat(originRepository.findAllByMenuIdIn(List.of(existing.getId()))).isEmpty();
+    }
+
+    private StoreEntity saveStore(String name) {
+        StoreEntity store = StoreEntity.builder()
+                .name(name)
+                .addressDetail("서울시 강남구")
+                .roadAddress("서울시 강남구 테헤란로 123")
+                .phoneNumber("02-4321-8765")
+                .openTime(LocalTime.of(11, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .build();
+        setCreated(store);
+        return storeRepository.save(store);
+    }
+
+    private MenuEntity saveMenu(StoreEntity store, String name, String clientKey) {
+        MenuEntity menu = MenuEntity.builder()
+                .store(store)
+                .name(name)
+                .category("한식")
+                .price(9000)
+                .clientKey(clientKey)
+                .build();
+        setCreated(menu);
+        return menuRepository.saveAndFlush(menu);
+    }
+
+    private void saveOption(MenuEntity menu, String name, boolean deleted) {
+        MenuOptionEntity option = MenuOptionEntity.builder()
+                .menu(menu)
+                .name(name)
+                .price(1000)
+                .build();
+        setCreated(option);
+        if (deleted) {
+            option.softDelete(1);
+        }
+        menuOptionRepository.saveAndFlush(option);
+    }
+
+    private void saveOrigin(MenuEntity menu, String originName, String ingredientName, boolean deleted) {
+        OriginEntity origin = OriginEntity.builder()
+                .menu(menu)
+                .originName(originName)
+                .ingredientName(ingredientName)
+                .build();
+        setCreated(origin);
+        if (deleted) {
+            origin.softDelete(1);
+        }
+        originRepository.saveAndFlush(origin);
+    }
+
+    private void setCreated(Object entity) {
+        ReflectionTestUtils.setField(entity, "createdBy", 123);
+        ReflectionTestUtils.setField(entity, "createdAt", LocalDateTime.now());
+    }
+}
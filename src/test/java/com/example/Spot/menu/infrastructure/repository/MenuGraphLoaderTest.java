@@ -0,0 +1,157 @@
+package com.example.Spot.menu.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.example.Spot.config.TestConfig;
+import com.example.Spot.global.TestSupport;
+import com.example.Spot.global.presentation.FieldSelection;
+import com.example.Spot.menu.domain.MenuGraph;
+import com.example.Spot.menu.domain.entity.MenuEntity;
+import com.example.Spot.menu.domain.entity.MenuOptionEntity;
+import com.example.Spot.menu.domain.entity.OriginEntity;
+import com.example.Spot.menu.presentation.dto.response.MenuPublicResponseDto;
+import com.example.Spot.store.domain.entity.StoreEntity;
+
+@Import({TestConfig.class, MenuGraphLoader.class})
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MenuGraphLoaderTest extends TestSupport {
+
+    @Autowired
+    private MenuGraphLoader menuGraphLoader;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void 메뉴_수와_상관없이_메뉴_옵션_원산지를_쿼리_3번으로_조회한다() {
+        // given
+        StoreEntity small = persistStoreWithMenus("작은 가게", 2);
+        StoreEntity large = persistStoreWithMenus("큰 가게", 20);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then - DTO 변환까지 포함해도 추가 쿼리 없음
+        assertThat(countStatements(small)).isEqualTo(3);
+        assertThat(countStatements(large)).isEqualTo(3);
+    }
+
+    @Test
+    void 삭제되거나_숨긴_메뉴와_삭제된_옵션_원산지는_손님용_조회에서_제외된다() {
+        // given
+        StoreEntity store = persistStore("가게");
+        MenuEntity visible = persistMenu(store, "막국수");
+        MenuEntity hidden = persistMenu(store, "숨긴 메뉴");
+        hidden.changeHidden(true);
+        MenuOptionEntity option = persistOption(visible, "곱빼기");
+        MenuOptionEntity deletedOption = persistOption(visible, "사리 추가");
+        deletedOption.softDelete(TEST_USER_ID);
+        OriginEntity origin = persistOrigin(visible, "메밀");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<MenuGraph> graphs = menuGraphLoader.loadActiveMenus(store.getId());
+
+        // then
+        assertThat(graphs).extracting(graph -> graph.menu().getId()).containsExactly(visible.getId());
+        assertThat(graphs.get(0).options()).extracting(MenuOptionEntity::getId).containsExactly(option.getId());
+        assertThat(graphs.get(0).origins()).extracting(OriginEntity::getId).containsExactly(origin.getId());
+    }
+
+    @Test
+    void 요청하지_않은_연관은_조회하지_않는다() {
+        // given
+        StoreEntity store = persistStoreWithMenus("가게", 3);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        List<MenuGraph> graphs = menuGraphLoader.loadActiveMenus(store.getId(), FieldSelection.parse("id,name"));
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(graphs).hasSize(3).allSatisfy(graph -> {
+            assertThat(graph.options()).isEmpty();
+            assertThat(graph.origins()).isEmpty();
+        });
+    }
+
+    private long countStatements(StoreEntity store) {
+        statistics.clear();
+        List<MenuPublicResponseDto> menus = menuGraphLoader.loadActiveMenus(store.getId()).stream()
+                .map(MenuPublicResponseDto::of)
+                .toList();
+        assertThat(menus).allSatisfy(menu -> {
+            assertThat(menu.options()).hasSize(2);
+            assertThat(menu.origins()).hasSize(1);
+        });
+        entityManager.clear();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private StoreEntity persistStoreWithMenus(String name, int menuCount) {
+        StoreEntity store = persistStore(name);
+        for (int i = 0; i < menuCount; i++) {
+            MenuEntity menu = persistMenu(store, name + " 메뉴" + i);
+            persistOption(menu, "보통");
+            persistOption(menu, "곱빼기");
+            persistOrigin(menu, "국내산");
+        }
+        return store;
+    }
+
+    private StoreEntity persistStore(String name) {
+        return entityManager.persist(StoreEntity.builder()
+                .name(name)
+                .roadAddress("서울시 강남구")
+                .addressDetail("123-45")
+                .phoneNumber("02-1234-5678")
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(22, 0))
+                .build());
+    }
+
+    private MenuEntity persistMenu(StoreEntity store, String name) {
+        return entityManager.persist(MenuEntity.builder()
+                .store(store)
+                .name(name)
+                .category("한식")
+                .price(10000)
+                .build());
+    }
+
+    private MenuOptionEntity persistOption(MenuEntity menu, String name) {
+        return entityManager.persist(MenuOptionEntity.builder()
+                .menu(menu)
+                .name(name)
+                .detail("기본")
+                .price(0)
+                .build());
+    }
+
+    private OriginEntity persistOrigin(MenuEntity menu, String originName) {
+        return entityManager.persist(OriginEntity.builder()
+                .menu(menu)
+                .originName(originName)
+                .ingredientName("메밀")
+                .build());
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.Spot.menu.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.Spot.menu.domain.entity.MenuEntity;
+import com.example.Spot.menu.domain.entity.MenuOptionEntity;
+import com.example.Spot.menu.domain.entity.MenuPriceSnapshotEntity;
+import com.example.Spot.menu.domain.repository.MenuOptionRepository;
+import com.example.Spot.menu.domain.repository.MenuPriceSnapshotRepository;
+import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.repository.StoreRepository;
+
+// MenuPriceRepository는 PostgreSQL 전용 native 쿼리라 H2 대신 컨테이너 PostgreSQL로 검증 (Docker가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MenuPriceRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuOptionRepository menuOptionRepository;
+
+    @Autowired
+    private MenuPriceRepository menuPriceRepository;
+
+    @Autowired
+    private MenuPriceSnapshotRepository menuPriceSnapshotRepository;
+
+    private StoreEntity savedStore;
+    private MenuEntity kimchiStew;
+    private MenuEntity bibimbap;
+    private MenuOptionEntity riceOption;
+    private MenuOptionEntity eggOption;
+
+    @BeforeEach
+    void 가게_메뉴_옵션_생성() {
+        StoreEntity store = StoreEntity.builder()
+                .name("원조역삼막국수")
+                .addressDetail("서울시 강남구")
+                .roadAddress("서울시 강남구 테헤란로 123")
+                .phoneNumber("02-4321-8765")
+                .openTime(LocalTime.of(11, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .build();
+        setCreated(store);
+        savedStore = storeRepository.save(store);
+
+        kimchiStew = saveMenu("김치찌개", 10000);
+        bibimbap = saveMenu("비빔밥", 8000);
+        riceOption = saveOption(kimchiStew, "공기밥 추가", 1000);
+        eggOption = saveOption(bibimbap, "계란 추가", 500);
+    }
+
+    @Test
+    @DisplayName("[가격 조정] 메뉴 10% 인하는 가격을 바꾸고 이전/조정 가격을 스냅샷에 남긴다")
+    void 메뉴_비율_조정_스냅샷_테스트() {
+        // given
+        UUID adjustmentId = UUID.randomUUID();
+
+        // when
+        int adjusted = menuPriceRepository.adjustMenuPrices(adjustmentId, savedStore.getId(),
+                List.of(kimchiStew.getId(), bibimbap.getId()), new BigDecimal("0.90"), 0, LocalDateTime.now(), 1);
+
+        // then
+        assertThat(adjusted).isEqualTo(2);
+        assertThat(menuRepository.findById(kimchiStew.getId()).orElseThrow().getPrice()).isEqualTo(9000);
+        assertThat(menuRepository.findById(bibimbap.getId()).orElseThrow().getPrice()).isEqualTo(7200);
+        assertThat(menuPriceSnapshotRepository.findAllByAdjustmentIdAndStoreId(adjustmentId, savedStore.getId()))
+                .extracting(MenuPriceSnapshotEntity::getItemId, MenuPriceSnapshotEntity::getPreviousPrice,
+                        MenuPriceSnapshotEntity::getAdjustedPrice)
+                .containsExactlyInAnyOrder(
+                        tuple(kimchiStew.getId(), 10000, 9000),
+                        tuple(bibimbap.getId(), 8000, 7200));
+    }
+
+    @Test
+    @DisplayName("[가격 되돌리기] 조정 값 그대로인 메뉴만 되돌리고, 이후 수정했거나 삭제된 메뉴는 건드리지 않는다")
+    void 메뉴_되돌리기_테스트() {
+        // given
+        UUID adjustmentId = UUID.randomUUID();
+        menuPriceRepository.adjustMenuPrices(adjustmentId, savedStore.getId(),
+                List.of(kimchiStew.getId(), bibimbap.getId()), BigDecimal.ONE, 1000, LocalDateTime.now(), 1);
+
+        // 조정 이후 비빔밥은 삭제
+        MenuEntity deleted = menuRepository.findById(bibimbap.getId()).orElseThrow();
+        deleted.softDelete(1);
+        menuRepository.flush();
+
+        // when
+        int restored = menuPriceRepository.rollbackMenuPrices(adjustmentId, savedStore.getId(), LocalDateTime.now(), 1);
+
+        // then
+        assertThat(restored).isEqualTo(1);
+        assertThat(menuRepository.findById(kimchiStew.getId()).orElseThrow().getPrice()).isEqualTo(10000);
+        assertThat(menuRepository.findById(bibimbap.getId()).orElseThrow().getPrice()).isEqualTo(9000);
+        assertThat(menuPriceSnapshotRepository.findAllByAdjustmentIdAndStoreId(adjustmentId, savedStore.getId()))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("[가격 되돌리기] 옵션은 옵션 자체나 소속 메뉴가 삭제되었으면 되돌리지 않는다")
+    void 옵션_되돌리기_테스트() {
+        // given
+        UUID adjustmentId = UUID.randomUUID();
+        int adjusted = menuPriceRepository.adjustOptionPrices(adjustmentId, savedStore.getId(),
+                List.of(riceOption.getId(), eggOption.getId()), BigDecimal.ONE, 500, LocalDateTime.now(), 1);
+        assertThat(adjusted).isEqualTo(2);
+        assertThat(menuOptionRepository.findById(riceOption.getId()).orElseThrow().getPrice()).isEqualTo(1500);
+
+        // 조정 이후 계란 추가 옵션의 메뉴(비빔밥)를 삭제
+        MenuEntity deletedMenu = menuRepository.findById(bibimbap.getId()).orElseThrow();
+        deletedMenu.softDelete(1);
+        menuRepository.flush();
+
+        // when
+        int restored = menuPriceRepository.rollbackOptionPrices(adjustmentId, savedStore.getId(), LocalDateTime.now(), 1);
+
+        // then
+        assertThat(restored).isEqualTo(1);
+        assertThat(menuOptionRepository.findById(riceOption.getId()).orElseThrow().getPrice()).isEqualTo(1000);
+        assertThat(menuOptionRepository.findById(eggOption.getId()).orElseThrow().getPrice()).isEqualTo(1000);
+    }
+
+    private MenuEntity saveMenu(String name, int price) {
+        MenuEntity menu = MenuEntity.builder()
+                .store(savedStore)
+                .name(name)
+                .category("한식")
+                .price(price)
+                .build();
+        setCreated(menu);
+        return menuRepository.save(menu);
+    }
+
+    private MenuOptionEntity saveOption(MenuEntity menu, String name, int price) {
+        MenuOptionEntity option = MenuOptionEntity.builder()
+                .menu(menu)
+                .name(name)
+                .price(price)
+                .build();
+        setCreated(option);
+        return menuOptionRepository.save(option);
+    }
+
+    private void setCreated(Object entity) {
+        ReflectionTestUtils.setField(entity, "createdBy", 123);
+        ReflectionTestUtils.setField(entity, "createdAt", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.Spot.menu.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MenuSearchIndexTest {
+
+    private static final UUID SEOUL_STORE = UUID.randomUUID();
+    private static final UUID GANGWON_STORE = UUID.randomUUID();
+
+    private MenuSearchIndex index;
+
+    private final MenuSearchDocument malatang = document(SEOUL_STORE, "서울", "마라탕", "중식", "얼얼한 국물");
+    private final MenuSearchDocument malaxiangguo = document(SEOUL_STORE, "서울", "마라샹궈", "중식", "볶음 요리");
+    private final MenuSearchDocument noodle = document(GANGWON_STORE, "강원", "막국수", "한식", "마라 소스 추가 가능");
+
+    @BeforeEach
+    void setUp() {
+        index = new MenuSearchIndex();
+        index.rebuild(List.of(malatang, malaxiangguo, noodle));
+    }
+
+    @Test
+    @DisplayName("여러 매장의 메뉴를 메뉴명 > 설명 순으로 찾는다")
+    void searchAcrossStores() {
+        List<MenuSearchDocument> result = index.search("마라", d -> true);
+
+        assertThat(result).containsExactly(malatang, malaxiangguo, noodle);
+    }
+
+    @Test
+    @DisplayName("카테고리와 초성으로도 찾을 수 있다")
+    void searchByCategoryAndChosung() {
+        assertThat(index.search("한식", d -> true)).containsExactly(noodle);
+        assertThat(index.search("ㅁㄹㅌ", d -> true)).containsExactly(malatang);
+    }
+
+    @Test
+    @DisplayName("메뉴 수정/삭제와 매장 단위 교체가 바로 반영된다")
+    void incrementalUpdate() {
+        List<String> regions = List.of("서울");
+        assertThat(index.search("마라", d -> d.isVisibleTo(false, regions))).containsExactly(malatang, malaxiangguo);
+
+        index.remove(malaxiangguo.id());
+        MenuSearchDocument renamed = new MenuSearchDocument(malatang.id(), SEOUL_STORE, "가게", "서울",
+                "로제 떡볶이", "분식", null, 9000);
+        index.upsert(renamed);
+        assertThat(index.search("마라", d -> true)).containsExactly(noodle);
+
+        // 매장이 승인 취소되면 해당 매장 메뉴가 모두 빠진다
+        index.replaceStore(SEOUL_STORE, List.of());
+        assertThat(index.search("떡볶이", d -> true)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static MenuSearchDocument document(
+            UUID storeId, String regionCode, String name, String category, String description) {
+        return new MenuSearchDocument(UUID.randomUUID(), storeId, "가게", regionCode, name, category, description, 10000);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.Spot.menu.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.Spot.menu.application.event.MenuChangedEvent;
+import com.example.Spot.menu.infrastructure.repository.MenuSearchRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSearchIndexerTest {
+
+    private static final UUID STORE_ID = UUID.randomUUID();
+    private static final UUID MENU_ID = UUID.randomUUID();
+
+    @Mock
+    private MenuSearchRepository menuSearchRepository;
+
+    private MenuSearchIndex menuSearchIndex;
+    private MenuSearchIndexer menuSearchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        menuSearchIndex = new MenuSearchIndex();
+        menuSearchIndexer = new MenuSearchIndexer(menuSearchRepository, menuSearchIndex);
+    }
+
+    @Test
+    @DisplayName("재색인이 전체 메뉴를 읽은 뒤 커밋된 메뉴 변경은 재색인이 끝난 뒤 다시 읽어 반영한다")
+    void menuChangedDuringRebuildIsReplayed() {
+        MenuSearchDocument stale = document("마라탕");
+        MenuSearchDocument fresh = document("로제 떡볶이");
+        // 전체 조회 직후(재색인 반영 전)에 메뉴 이름 변경이 커밋된 상황
+        given(menuSearchRepository.findAllDocuments()).willAnswer(invocation -> {
+            menuSearchIndexer.onMenuChanged(MenuChangedEvent.of(STORE_ID, MENU_ID));
+            return List.of(stale);
+        });
+        given(menuSearchRepository.findDocumentsByIdIn(Set.of(MENU_ID))).willReturn(List.of(fresh));
+
+        menuSearchIndexer.rebuild();
+
+        assertThat(menuSearchIndex.search("떡볶이", d -> true)).containsExactly(fresh);
+        assertThat(menuSearchIndex.search("마라탕", d -> true)).isEmpty();
+    }
+
+    private MenuSearchDocument document(String name) {
+        return new MenuSearchDocument(MENU_ID, STORE_ID, "가게", "서울", name, "분식", null, 9000);
+    }
+}
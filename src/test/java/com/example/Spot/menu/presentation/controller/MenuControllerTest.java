@@ -2,15 +2,19 @@
 package com.example.Spot.menu.presentation.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -26,6 +30,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -36,7 +41,11 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.example.Spot.global.presentation.FieldSelection;
+import com.example.Spot.global.presentation.advice.ResourceNotFoundException;
 import com.example.Spot.infra.auth.security.CustomUserDetails;
+import com.example.Spot.menu.application.service.MenuAvailabilityService;
+import com.example.Spot.menu.application.service.MenuPriceService;
 import com.example.Spot.menu.application.service.MenuService;
 import com.example.Spot.menu.domain.entity.MenuEntity;
 import com.example.Spot.menu.presentation.dto.request.CreateMenuRequestDto;
@@ -45,6 +54,7 @@ import com.example.Spot.menu.presentation.dto.request.UpdateMenuRequestDto;
 import com.example.Spot.menu.presentation.dto.response.CreateMenuResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuAdminResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuPublicResponseDto;
+import com.example.Spot.store.application.service.StoreContentVersionService;
 import com.example.Spot.store.domain.entity.StoreEntity;
 import com.example.Spot.user.domain.Role;
 import com.example.Spot.user.domain.entity.UserEntity;
@@ -63,6 +73,15 @@ class MenuControllerTest {
     @MockitoBean
     private MenuService menuService;    // 가짜 서비스
 
+    @MockitoBean
+    private MenuPriceService menuPriceService;
+
+    @MockitoBean
+    private MenuAvailabilityService menuAvailabilityService;
+
+    @MockitoBean
+    private StoreContentVersionService storeContentVersionService;
+
     @Test
     @DisplayName("[GET] 메뉴 조회 성공")
     @WithMockUser // 로그인 된 상태라고 가정
@@ -78,7 +97,7 @@ class MenuControllerTest {
         MenuPublicResponseDto responseDto = MenuPublicResponseDto.of(menu, new ArrayList<>());
 
         // 가짜 서비스 설정
-        given(menuService.getMenuDetail(storeId, menuId, 0, Role.OWNER)).willReturn(responseDto);
+        given(menuService.getMenuDetail(storeId, menuId, 0, Role.OWNER, FieldSelection.ALL)).willReturn(responseDto);
 
         // when & then (실행 및 검증)
         mockMvc.perform(get("/api/stores/{storeId}/menus/{menuId}", storeId, menuId)
@@ -87,6 +106,61 @@ class MenuControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("[GET] 메뉴 상세 조회 - fields에 없는 옵션/원산지는 조회하지 않고 선택한 필드만 응답")
+    void 메뉴_상세_조회_필드_선택_테스트() throws Exception {
+        // given
+        UUID menuId = UUID.randomUUID();
+        UUID storeId = UUID.randomUUID();
+        MenuEntity menu = createMenuEntity(createStoreEntity(storeId), "육전물막국수", menuId);
+        given(storeContentVersionService.getETag(storeId)).willReturn(storeId + "-1");
+        given(menuService.getMenuDetail(eq(storeId), eq(menuId), eq(1), any(),
+                argThat(fields -> fields.includes("name") && !fields.includes("options") && !fields.includes("origins"))))
+                .willReturn(MenuPublicResponseDto.of(menu, List.of()));
+
+        // when & then
+        mockMvc.perform(get("/api/stores/{storeId}/menus/{menuId}", storeId, menuId)
+                        .param("fields", "menu_id,name")
+                        .with(user(createMockUser(Role.CUSTOMER))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.name").value("육전물막국수"))
+                .andExpect(jsonPath("$.result.options").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("[GET] 손님 메뉴 상세 조회 - 다른 가게의 메뉴를 경로의 가게로 조회하면 404")
+    void 메뉴_상세_조회_다른_가게_404() throws Exception {
+        // given
+        UUID storeId = UUID.randomUUID();
+        UUID otherStoreMenuId = UUID.randomUUID();
+        given(storeContentVersionService.getETag(storeId)).willReturn(storeId + "-1");
+        given(menuService.getMenuDetail(eq(storeId), eq(otherStoreMenuId), eq(1), eq(Role.CUSTOMER), any()))
+                .willThrow(new ResourceNotFoundException("해당 메뉴가 존재하지 않습니다."));
+
+        // when & then
+        mockMvc.perform(get("/api/stores/{storeId}/menus/{menuId}", storeId, otherStoreMenuId)
+                        .with(user(createMockUser(Role.CUSTOMER))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("[GET] 손님 메뉴 조회 - If-None-Match가 현재 버전과 같으면 메뉴를 조회하지 않고 304")
+    void 메뉴_조회_ETag_일치시_304() throws Exception {
+        // given
+        UUID storeId = UUID.randomUUID();
+        String etag = storeId + "-3";
+        given(storeContentVersionService.getETag(storeId)).willReturn(etag);
+
+        // when & then
+        mockMvc.perform(get("/api/stores/{storeId}/menus", storeId)
+                        .with(user(createMockUser(Role.CUSTOMER)))
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + etag + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + etag + "\""));
+
+        verify(menuService, never()).getMenus(any(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("[POST] 메뉴 생성 테스트 성공")
     void 메뉴_생성_테스트() throws Exception {
@@ -0,0 +1,132 @@
+package com.example.Spot.store.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.Spot.menu.application.event.MenuChangedEvent;
+import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.menu.infrastructure.repository.MenuGraphLoader;
+import com.example.Spot.store.application.service.CatalogSyncService;
+import com.example.Spot.store.domain.CatalogChangeType;
+import com.example.Spot.store.domain.StoreStatus;
+import com.example.Spot.store.domain.StoreSummary;
+import com.example.Spot.store.domain.entity.CatalogChangeEntity;
+import com.example.Spot.store.domain.entity.CatalogSequenceEntity;
+import com.example.Spot.store.domain.repository.CatalogChangeRepository;
+import com.example.Spot.store.domain.repository.CatalogSequenceRepository;
+import com.example.Spot.store.domain.repository.StoreCategoryRepository;
+import com.example.Spot.store.domain.repository.StoreRepository;
+import com.example.Spot.store.infrastructure.repository.StoreSearchRepository;
+import com.example.Spot.store.infrastructure.search.StoreSearchDocument;
+import com.example.Spot.store.presentation.dto.response.CatalogSyncResponse;
+import com.example.Spot.store.presentation.dto.response.StoreListResponse;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogSyncServiceTest {
+
+    @Mock
+    private CatalogChangeRepository catalogChangeRepository;
+    @Mock
+    private CatalogSequenceRepository catalogSequenceRepository;
+    @Mock
+    private StoreRepository storeRepository;
+    @Mock
+    private StoreCategoryRepository storeCategoryRepository;
+    @Mock
+    private StoreSearchRepository storeSearchRepository;
+    @Mock
+    private MenuRepository menuRepository;
+    @Mock
+    private MenuGraphLoader menuGraphLoader;
+
+    @InjectMocks
+    private CatalogSyncService catalogSyncService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(catalogSyncService, "activeRegions", List.of("서울"));
+    }
+
+    @Test
+    void 변경_기록은_카운터에서_이어지는_seq를_발급한다() {
+        // 1. Given: 마지막 seq가 5
+        CatalogSequenceEntity sequence = new CatalogSequenceEntity("catalog");
+        ReflectionTestUtils.setField(sequence, "lastSeq", 5L);
+        given(catalogSequenceRepository.findByNameForUpdate("catalog")).willReturn(Optional.of(sequence));
+        UUID storeId = UUID.randomUUID();
+        UUID menuId1 = UUID.randomUUID();
+        UUID menuId2 = UUID.randomUUID();
+
+        // 2. When
+        catalogSyncService.onMenuChanged(new MenuChangedEvent(storeId, new LinkedHashSet<>(List.of(menuId1, menuId2))));
+
+        // 3. Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CatalogChangeEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(catalogChangeRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(CatalogChangeEntity::getSeq).containsExactly(6L, 7L);
+        assertThat(saved.getValue()).extracting(CatalogChangeEntity::getEntityId).containsExactly(menuId1, menuId2);
+        assertThat(saved.getValue()).allMatch(change -> change.getStoreId().equals(storeId));
+        assertThat(sequence.getLastSeq()).isEqualTo(7L);
+    }
+
+    @Test
+    void 변경분은_항목별로_한_번만_내려주고_노출되지_않는_항목은_삭제로_표시한다() {
+        // 1. Given: s1은 두 번 수정, s2는 삭제됨, m1(s1 소속)은 삭제됨
+        UUID s1 = UUID.randomUUID();
+        UUID s2 = UUID.randomUUID();
+        UUID m1 = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        given(catalogChangeRepository.findBySeqGreaterThanOrderBySeqAsc(any(Long.class), any())).willReturn(List.of(
+                new CatalogChangeEntity(11L, CatalogChangeType.STORE, s1, s1, now),
+                new CatalogChangeEntity(12L, CatalogChangeType.MENU, m1, s1, now),
+                new CatalogChangeEntity(13L, CatalogChangeType.STORE, s1, s1, now),
+                new CatalogChangeEntity(14L, CatalogChangeType.STORE, s2, s2, now)));
+        given(storeSearchRepository.findDocumentsByIdIn(any())).willReturn(List.of(
+                new StoreSearchDocument(s1, "가게1", "서울특별시 종로구", StoreStatus.APPROVED, false, "서울", now, null, null),
+                new StoreSearchDocument(s2, "가게2", "서울특별시 종로구", StoreStatus.APPROVED, true, "서울", now, null, null)));
+        given(storeRepository.findSummariesByIdIn(List.of(s1))).willReturn(List.of(
+                new StoreSummary(s1, "가게1", "서울특별시 종로구", "1층", "02-1234-5678", StoreStatus.APPROVED, false, now)));
+        given(menuRepository.findAllById(any())).willReturn(List.of());
+
+        // 2. When
+        CatalogSyncResponse response = catalogSyncService.getChanges(10L, 100);
+
+        // 3. Then
+        assertThat(response.version()).isEqualTo(14L);
+        assertThat(response.hasMore()).isFalse();
+        assertThat(response.stores()).extracting(StoreListResponse::id).containsExactly(s1);
+        assertThat(response.deletedStoreIds()).containsExactly(s2);
+        assertThat(response.menus()).isEmpty();
+        assertThat(response.deletedMenuIds()).containsExactly(m1);
+    }
+
+    @Test
+    void since가_없으면_현재_버전만_반환한다() {
+        CatalogSequenceEntity sequence = new CatalogSequenceEntity("catalog");
+        ReflectionTestUtils.setField(sequence, "lastSeq", 42L);
+        given(catalogSequenceRepository.findById("catalog")).willReturn(Optional.of(sequence));
+
+        CatalogSyncResponse response = catalogSyncService.getChanges(null, 100);
+
+        assertThat(response.version()).isEqualTo(42L);
+        assertThat(response.stores()).isEmpty();
+    }
+}
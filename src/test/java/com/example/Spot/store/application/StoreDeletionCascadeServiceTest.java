@@ -0,0 +1,151 @@
+package com.example.Spot.store.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.Spot.menu.application.event.MenuChangedEvent;
+import com.example.Spot.store.application.service.StoreDeletionCascadeService;
+import com.example.Spot.store.domain.StoreDeletionStage;
+import com.example.Spot.store.domain.StoreDeletionStatus;
+import com.example.Spot.store.domain.entity.StoreDeletionJobEntity;
+import com.example.Spot.store.domain.repository.StoreDeletionJobRepository;
+import com.example.Spot.store.infrastructure.repository.StoreCascadeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StoreDeletionCascadeServiceTest {
+
+    @Mock
+    private StoreDeletionJobRepository storeDeletionJobRepository;
+    @Mock
+    private StoreCascadeRepository storeCascadeRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StoreDeletionCascadeService storeDeletionCascadeService;
+
+    private final UUID storeId = UUID.randomUUID();
+    private final UUID jobId = UUID.randomUUID();
+    private final Integer ownerId = 2;
+
+    @BeforeEach
+    void setUp() {
+        storeDeletionCascadeService = new StoreDeletionCascadeService(
+                storeDeletionJobRepository, storeCascadeRepository, eventPublisher,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void 삭제_작업은_단계별로_배치_UPDATE를_실행하고_진행_상황을_기록한다() {
+        // 1. Given: 옵션 2개(배치 1회), 원산지 없음, 메뉴 1개, 리뷰 1개
+        StoreDeletionJobEntity job = createJob();
+        UUID optionId1 = UUID.randomUUID();
+        UUID optionId2 = UUID.randomUUID();
+        UUID menuId = UUID.randomUUID();
+        UUID reviewId = UUID.randomUUID();
+
+        given(storeDeletionJobRepository.findByIdForUpdate(jobId)).willReturn(Optional.of(job));
+        given(storeCascadeRepository.findActiveMenuOptionIds(eq(storeId), any()))
+                .willReturn(List.of(optionId1, optionId2), List.of());
+        given(storeCascadeRepository.softDeleteMenuOptions(eq(List.of(optionId1, optionId2)), any(), eq(ownerId)))
+                .willReturn(2);
+        given(storeCascadeRepository.findMenuIdsByOptionIdIn(List.of(optionId1, optionId2))).willReturn(List.of(menuId));
+        given(storeCascadeRepository.findActiveOriginIds(eq(storeId), any())).willReturn(List.of());
+        given(storeCascadeRepository.findActiveMenuIds(eq(storeId), any())).willReturn(List.of(menuId), List.of());
+        given(storeCascadeRepository.softDeleteMenus(eq(List.of(menuId)), any(), eq(ownerId))).willReturn(1);
+        given(storeCascadeRepository.findActiveReviewIds(eq(storeId), any())).willReturn(List.of(reviewId), List.of());
+        given(storeCascadeRepository.softDeleteReviews(eq(List.of(reviewId)), any(), eq(ownerId))).willReturn(1);
+
+        // 2. When
+        storeDeletionCascadeService.run(jobId);
+
+        // 3. Then
+        assertThat(job.getStatus()).isEqualTo(StoreDeletionStatus.COMPLETED);
+        assertThat(job.getStage()).isEqualTo(StoreDeletionStage.DONE);
+        assertThat(job.getDeletedMenuOptions()).isEqualTo(2);
+        assertThat(job.getDeletedOrigins()).isZero();
+        assertThat(job.getDeletedMenus()).isEqualTo(1);
+        assertThat(job.getDeletedReviews()).isEqualTo(1);
+        assertThat(job.getCompletedAt()).isNotNull();
+        verify(storeCascadeRepository, never()).softDeleteOrigins(any(), any(), any());
+
+        // 옵션 배치, 메뉴 배치마다 메뉴 변경 이벤트 발행 (리뷰 배치는 발행하지 않음)
+        ArgumentCaptor<MenuChangedEvent> events = ArgumentCaptor.forClass(MenuChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).allSatisfy(event -> {
+            assertThat(event.storeId()).isEqualTo(storeId);
+            assertThat(event.menuIds()).containsExactly(menuId);
+        });
+    }
+
+    @Test
+    void 중단된_작업은_기록된_단계부터_이어서_진행한다() {
+        // 1. Given: 옵션/원산지 단계까지 끝나고 메뉴 단계에서 중단된 작업
+        StoreDeletionJobEntity job = createJob();
+        job.advance();
+        job.advance();
+        given(storeDeletionJobRepository.findByIdForUpdate(jobId)).willReturn(Optional.of(job));
+        given(storeCascadeRepository.findActiveMenuIds(eq(storeId), any())).willReturn(List.of());
+        given(storeCascadeRepository.findActiveReviewIds(eq(storeId), any())).willReturn(List.of());
+
+        // 2. When
+        storeDeletionCascadeService.run(jobId);
+
+        // 3. Then
+        assertThat(job.isFinished()).isTrue();
+        verify(storeCascadeRepository, never()).findActiveMenuOptionIds(any(), any());
+        verify(storeCascadeRepository, never()).findActiveOriginIds(any(), any());
+    }
+
+    @Test
+    void 계속_실패하는_작업은_정해진_횟수_뒤_재시도를_멈춘다() {
+        // 1. Given: 옵션 조회가 항상 실패하는 작업
+        StoreDeletionJobEntity job = createJob();
+        given(storeDeletionJobRepository.findByIdForUpdate(jobId)).willReturn(Optional.of(job));
+        given(storeDeletionJobRepository.findById(jobId)).willReturn(Optional.of(job));
+        given(storeCascadeRepository.findActiveMenuOptionIds(eq(storeId), any()))
+                .willThrow(new IllegalStateException("constraint violation"));
+
+        // 2. When & Then: 4번째 실패까지는 FAILED(재시도 대상), 5번째 실패에서 ABANDONED
+        for (int attempt = 1; attempt < 5; attempt++) {
+            storeDeletionCascadeService.run(jobId);
+            assertThat(job.getStatus()).isEqualTo(StoreDeletionStatus.FAILED);
+        }
+        storeDeletionCascadeService.run(jobId);
+
+        assertThat(job.getStatus()).isEqualTo(StoreDeletionStatus.ABANDONED);
+        assertThat(job.getFailedAttempts()).isEqualTo(5);
+        assertThat(job.getLastError()).isEqualTo("constraint violation");
+
+        // 중단된 작업은 다시 실행해도 배치를 처리하지 않는다
+        storeDeletionCascadeService.run(jobId);
+        verify(storeCascadeRepository, times(5)).findActiveMenuOptionIds(eq(storeId), any());
+    }
+
+    private StoreDeletionJobEntity createJob() {
+        StoreDeletionJobEntity job = new StoreDeletionJobEntity(storeId, ownerId);
+        ReflectionTestUtils.setField(job, "id", jobId);
+        return job;
+    }
+}
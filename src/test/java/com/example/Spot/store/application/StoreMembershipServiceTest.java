@@ -0,0 +1,95 @@
+package com.example.Spot.store.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.Spot.store.application.event.StoreChangedEvent;
+import com.example.Spot.store.application.event.StoreMembershipChangedEvent;
+import com.example.Spot.store.application.service.StoreMembershipService;
+import com.example.Spot.store.domain.repository.StoreUserRepository;
+import com.example.Spot.user.domain.Role;
+
+@ExtendWith(MockitoExtension.class)
+class StoreMembershipServiceTest {
+
+    @Mock
+    private StoreUserRepository storeUserRepository;
+
+    @InjectMocks
+    private StoreMembershipService storeMembershipService;
+
+    private final Integer ownerId = 2;
+    private final UUID myStoreId = UUID.randomUUID();
+    private final UUID otherStoreId = UUID.randomUUID();
+
+    @Test
+    void 유저별_소속은_한_번만_조회하고_이후에는_캐시에서_판단한다() {
+        // 1. Given
+        given(storeUserRepository.findStoreIdsByUserId(ownerId)).willReturn(List.of(myStoreId));
+
+        // 2. When & Then
+        assertThat(storeMembershipService.isOwner(ownerId, Role.OWNER, myStoreId)).isTrue();
+        assertThat(storeMembershipService.isMember(ownerId, myStoreId)).isTrue();
+        assertThat(storeMembershipService.isOwner(ownerId, Role.OWNER, otherStoreId)).isFalse();
+        verify(storeUserRepository, times(1)).findStoreIdsByUserId(ownerId);
+    }
+
+    @Test
+    void 역할은_캐시하지_않고_넘겨받은_역할로_판단한다() {
+        // 1. Given: 소속은 그대로지만 역할이 OWNER에서 바뀐 유저
+        given(storeUserRepository.findStoreIdsByUserId(ownerId)).willReturn(List.of(myStoreId));
+        assertThat(storeMembershipService.isOwner(ownerId, Role.OWNER, myStoreId)).isTrue();
+
+        // 2. When & Then
+        assertThat(storeMembershipService.isOwner(ownerId, Role.CUSTOMER, myStoreId)).isFalse();
+        assertThat(storeMembershipService.isMember(ownerId, myStoreId)).isTrue();
+    }
+
+    @Test
+    void 소속_변경_이벤트가_오면_다시_조회한다() {
+        // 1. Given: 처음에는 소속 매장이 없다가 직원으로 추가됨
+        given(storeUserRepository.findStoreIdsByUserId(ownerId))
+                .willReturn(List.of())
+                .willReturn(List.of(myStoreId));
+        assertThat(storeMembershipService.isMember(ownerId, myStoreId)).isFalse();
+
+        // 2. When
+        storeMembershipService.onMembershipChanged(new StoreMembershipChangedEvent(Set.of(ownerId)));
+
+        // 3. Then
+        assertThat(storeMembershipService.isMember(ownerId, myStoreId)).isTrue();
+        verify(storeUserRepository, times(2)).findStoreIdsByUserId(ownerId);
+    }
+
+    @Test
+    void 매장이_바뀌면_그_매장_소속_유저만_다시_조회한다() {
+        // 1. Given: 매장이 삭제되어 소속 조회에서 빠짐
+        Integer otherUserId = 3;
+        given(storeUserRepository.findStoreIdsByUserId(ownerId))
+                .willReturn(List.of(myStoreId))
+                .willReturn(List.of());
+        given(storeUserRepository.findStoreIdsByUserId(otherUserId)).willReturn(List.of(otherStoreId));
+        assertThat(storeMembershipService.isMember(ownerId, myStoreId)).isTrue();
+        assertThat(storeMembershipService.isMember(otherUserId, otherStoreId)).isTrue();
+
+        // 2. When
+        storeMembershipService.onStoreChanged(StoreChangedEvent.of(myStoreId));
+
+        // 3. Then
+        assertThat(storeMembershipService.isMember(ownerId, myStoreId)).isFalse();
+        assertThat(storeMembershipService.isMember(otherUserId, otherStoreId)).isTrue();
+        verify(storeUserRepository, times(1)).findStoreIdsByUserId(otherUserId);
+    }
+}
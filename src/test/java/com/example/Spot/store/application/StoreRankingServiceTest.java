@@ -0,0 +1,75 @@
+package com.example.Spot.store.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.Spot.review.application.event.ReviewChangedEvent;
+import com.example.Spot.store.application.service.StoreRankingService;
+import com.example.Spot.store.infrastructure.repository.StoreRankingRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StoreRankingServiceTest {
+
+    @Mock
+    private StoreRankingRepository storeRankingRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StoreRankingService storeRankingService;
+
+    @BeforeEach
+    void setUp() {
+        storeRankingService = new StoreRankingService(
+                storeRankingRepository, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void 주기_작업은_id_순으로_배치를_나눠_집계와_점수를_갱신한다() {
+        // 1. Given: 첫 배치는 가득 차고(1000개) 두 번째 배치에서 끝난다
+        List<UUID> firstBatch = IntStream.range(0, 1000).mapToObj(i -> UUID.randomUUID()).toList();
+        List<UUID> secondBatch = List.of(UUID.randomUUID());
+        UUID lastOfFirst = firstBatch.get(firstBatch.size() - 1);
+
+        given(storeRankingRepository.findIdsAfter(eq(new UUID(0L, 0L)), any())).willReturn(firstBatch);
+        given(storeRankingRepository.findIdsAfter(eq(lastOfFirst), any())).willReturn(secondBatch);
+
+        // 2. When
+        storeRankingService.refreshAll();
+
+        // 3. Then
+        verify(storeRankingRepository).refreshAggregates(firstBatch);
+        verify(storeRankingRepository).refreshScores(firstBatch);
+        verify(storeRankingRepository).refreshAggregates(secondBatch);
+        verify(storeRankingRepository).refreshScores(secondBatch);
+        verify(storeRankingRepository, never()).findIdsAfter(eq(secondBatch.get(0)), any());
+    }
+
+    @Test
+    void 리뷰가_바뀌면_해당_매장의_리뷰_집계와_점수만_갱신한다() {
+        // 1. Given
+        UUID storeId = UUID.randomUUID();
+
+        // 2. When
+        storeRankingService.onReviewChanged(new ReviewChangedEvent(storeId));
+
+        // 3. Then: 주문 집계(p_order)는 주기 작업에서만
+        verify(storeRankingRepository).refreshReviewAggregates(List.of(storeId));
+        verify(storeRankingRepository).refreshScores(List.of(storeId));
+        verify(storeRankingRepository, never()).refreshAggregates(any());
+    }
+}
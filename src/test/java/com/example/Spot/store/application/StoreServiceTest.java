@@ -3,36 +3,70 @@ package com.example.Spot.store.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.example.Spot.global.presentation.FieldSelection;
+import com.example.Spot.global.presentation.advice.DuplicateResourceException;
+import com.example.Spot.menu.infrastructure.repository.MenuGraphLoader;
+import com.example.Spot.store.application.event.StoreChangedEvent;
+import com.example.Spot.store.application.event.StoreFingerprintsAddedEvent;
+import com.example.Spot.store.application.service.StoreDeletionCascadeService;
+import com.example.Spot.store.application.service.StoreMembershipService;
 import com.example.Spot.store.application.service.StoreService;
+import com.example.Spot.store.domain.StoreCategoryName;
+import com.example.Spot.store.domain.StoreFingerprint;
+import com.example.Spot.store.domain.StoreStatus;
+import com.example.Spot.store.domain.StoreSummary;
 import com.example.Spot.store.domain.entity.CategoryEntity;
 import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.entity.StoreUserEntity;
 import com.example.Spot.store.domain.repository.CategoryRepository;
+import com.example.Spot.store.domain.repository.StoreCategoryRepository;
 import com.example.Spot.store.domain.repository.StoreRepository;
+import com.example.Spot.store.domain.repository.StoreUserRepository;
+import com.example.Spot.store.infrastructure.dedup.StoreFingerprintFilter;
+import com.example.Spot.store.infrastructure.search.StoreSearchIndex;
+import com.example.Spot.store.presentation.dto.request.StoreBulkRow;
 import com.example.Spot.store.presentation.dto.request.StoreCreateRequest;
+import com.example.Spot.store.presentation.dto.request.StoreStatusBulkUpdateRequest;
+import com.example.Spot.store.presentation.dto.request.StoreUpdateRequest;
+import com.example.Spot.store.presentation.dto.request.StoreUserUpdateRequest;
+import com.example.Spot.store.presentation.dto.response.StoreBulkResultResponse;
 import com.example.Spot.store.presentation.dto.response.StoreDetailResponse;
 import com.example.Spot.store.presentation.dto.response.StoreListResponse;
+import com.example.Spot.store.presentation.dto.response.StoreStatusBulkUpdateResponse;
 import com.example.Spot.user.domain.Role;
 import com.example.Spot.user.domain.entity.UserEntity;
 import com.example.Spot.user.domain.repository.UserRepository;
@@ -46,6 +80,22 @@ public class StoreServiceTest {
     private UserRepository userRepository;
     @Mock
     private CategoryRepository categoryRepository;
+    @Mock
+    private StoreCategoryRepository storeCategoryRepository;
+    @Mock
+    private MenuGraphLoader menuGraphLoader;
+    @Mock
+    private StoreSearchIndex storeSearchIndex;
+    @Mock
+    private StoreFingerprintFilter storeFingerprintFilter;
+    @Mock
+    private StoreMembershipService storeMembershipService;
+    @Mock
+    private StoreDeletionCascadeService storeDeletionCascadeService;
+    @Mock
+    private StoreUserRepository storeUserRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     
     @InjectMocks
     private StoreService storeService;
@@ -97,35 +147,33 @@ public class StoreServiceTest {
         // 1. Given
         UserEntity owner = createUser(ownerId, Role.OWNER);
         StoreEntity store = createStore(testStoreId, "내 가게", "서울시");
-        store.addStoreUser(owner);
 
         given(userRepository.findById(ownerId)).willReturn(Optional.of(owner));
-        given(storeRepository.findByIdWithDetails(testStoreId, false)).willReturn(Optional.of(store));
+        given(storeMembershipService.isOwner(ownerId, Role.OWNER, testStoreId)).willReturn(true);
+        given(storeRepository.findByIdAndIsDeletedFalse(testStoreId)).willReturn(Optional.of(store));
         
         // 2. When
         storeService.deleteStore(testStoreId, ownerId);
         
-        // 3. Then
+        // 3. Then: 하위 데이터는 커밋 후 배치로 삭제되도록 작업만 등록된다
         assertThat(store.getIsDeleted()).isTrue();
-        verify(storeRepository).findByIdWithDetails(testStoreId, false);
+        verify(storeRepository).findByIdAndIsDeletedFalse(testStoreId);
+        verify(storeDeletionCascadeService).request(testStoreId, ownerId);
     }
     
     @Test
     void 소유주가_아닌_유저가_삭제하면_예외가_발생한다() {
         // 1. Given
         UserEntity otherOwner = createUser(99, Role.OWNER);
-        UserEntity realOwner = createUser(ownerId, Role.OWNER);
-
-        StoreEntity store = createStore(testStoreId, "진짜 사장님 가게", "서울시");
-        store.addStoreUser(realOwner);
 
         given(userRepository.findById(99)).willReturn(Optional.of(otherOwner));
-        given(storeRepository.findByIdWithDetails(testStoreId, false)).willReturn(Optional.of(store));
+        given(storeMembershipService.isOwner(99, Role.OWNER, testStoreId)).willReturn(false);
         
-        // 2. When & Then
+        // 2. When & Then: 권한이 없으면 매장을 로딩하기 전에 차단된다
         assertThatThrownBy(() -> storeService.deleteStore(testStoreId, 99))
                 .isInstanceOf(AccessDeniedException.class)
                 .hasMessageContaining("관리 권한이 없습니다.");
+        verify(storeRepository, never()).findByIdAndIsDeletedFalse(testStoreId);
     }
     
     @Test
@@ -137,12 +185,12 @@ public class StoreServiceTest {
         StoreCreateRequest request = new StoreCreateRequest(
                 "새로운 가게", "서울시 강남구", "101호", "02-123-4567",
                 LocalTime.of(9, 0), LocalTime.of(22, 0), 
-                List.of("한식"), userId, userId
+                List.of("한식"), userId, userId, null, null
         );
          
         given(userRepository.findById(anyInt())).willReturn(Optional.of(user));
         given(categoryRepository.findByName("한식")).willReturn(Optional.of(new CategoryEntity("한식")));
-        given(storeRepository.save(any(StoreEntity.class))).willAnswer(invocation -> {
+        given(storeRepository.saveAndFlush(any(StoreEntity.class))).willAnswer(invocation -> {
             StoreEntity store = invocation.getArgument(0);
             ReflectionTestUtils.setField(store, "id", UUID.randomUUID());
             return store;
@@ -151,40 +199,322 @@ public class StoreServiceTest {
         // 2. When
         UUID resultId = storeService.createStore(request, userId);
         
-        // 3. Then
+        // 3. Then: Bloom 필터에 없는 지문이므로 DB 중복 조회 없이 저장된다
         assertThat(resultId).isNotNull();
-        verify(storeRepository).save(any(StoreEntity.class));
+        verify(storeRepository).saveAndFlush(any(StoreEntity.class));
+        verify(storeRepository, never()).existsByFingerprintAndIsDeletedFalse(any());
+        verify(eventPublisher).publishEvent(
+                StoreFingerprintsAddedEvent.of(StoreFingerprint.of("서울시 강남구", "101호", "새로운 가게")));
         verify(categoryRepository).findByName("한식");
+        verify(eventPublisher).publishEvent(StoreChangedEvent.of(resultId));
     }
     
+    @Test
+    void 저장_시_지문_인덱스가_아닌_제약_위반은_중복으로_바꾸지_않는다() {
+        // 1. Given: 동시에 등록된 같은 매장(지문 인덱스)과 그 외 제약 위반
+        UserEntity user = createUser(ownerId, Role.OWNER);
+        StoreCreateRequest request = new StoreCreateRequest(
+                "새로운 가게", "서울시 강남구", "101호", "02-123-4567",
+                LocalTime.of(9, 0), LocalTime.of(22, 0),
+                List.of("한식"), ownerId, ownerId, null, null
+        );
+        given(userRepository.findById(anyInt())).willReturn(Optional.of(user));
+        given(categoryRepository.findByName("한식")).willReturn(Optional.of(new CategoryEntity("한식")));
+        given(storeRepository.saveAndFlush(any(StoreEntity.class)))
+                .willThrow(constraintViolation(StoreFingerprint.UNIQUE_INDEX))
+                .willThrow(constraintViolation("p_store_user_store_id_fkey"));
+
+        // 2. When & Then
+        assertThatThrownBy(() -> storeService.createStore(request, ownerId))
+                .isInstanceOf(DuplicateResourceException.class);
+        assertThatThrownBy(() -> storeService.createStore(request, ownerId))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(eventPublisher, never()).publishEvent(any(StoreFingerprintsAddedEvent.class));
+    }
+
+    @Test
+    void 공백이나_대소문자만_다른_매장은_중복으로_판단한다() {
+        // 1. Given: "ABC 치킨" 매장이 이미 존재
+        StoreCreateRequest request = new StoreCreateRequest(
+                "abc치킨", "서울시  강남구", "101호", "02-123-4567",
+                LocalTime.of(9, 0), LocalTime.of(22, 0),
+                List.of("한식"), ownerId, ownerId, null, null
+        );
+        String fingerprint = StoreFingerprint.of("서울시 강남구", "101호", "ABC 치킨");
+        given(storeFingerprintFilter.mightExist(fingerprint)).willReturn(true);
+        given(storeRepository.existsByFingerprintAndIsDeletedFalse(fingerprint)).willReturn(true);
+
+        // 2. When & Then
+        assertThatThrownBy(() -> storeService.createStore(request, ownerId))
+                .isInstanceOf(DuplicateResourceException.class);
+        verify(storeRepository, never()).saveAndFlush(any());
+    }
+
     @Test
     void 전체조회_일반유저는_서비스지역_매장만_볼_수_있다() {
         // 1. Given
         Integer userId = 10;
         UserEntity customer = createUser(userId, Role.CUSTOMER);
         
-        // 서울 매장과 부산 매장 준비
-        StoreEntity seoulStore = createStore(UUID.randomUUID(), "서울가게", "서울시 종로구");
-        StoreEntity busanStore = createStore(UUID.randomUUID(), "부산가게", "부산시 해운대구");
-
-        Page<StoreEntity> storePage = new PageImpl<>(List.of(seoulStore, busanStore));
+        // 서비스 지역 필터는 레포지토리(SQL)에서 처리되므로 서울 매장만 반환된다
+        StoreSummary seoulStore = createSummary(UUID.randomUUID(), "서울가게");
+        PageRequest pageable = PageRequest.of(0, 10);
+        Page<StoreSummary> storePage = new PageImpl<>(List.of(seoulStore), pageable, 1);
 
         given(userRepository.findById(userId)).willReturn(Optional.of(customer));
-        given(storeRepository.findAllByRole(false, PageRequest.of(0, 10))).willReturn(storePage);
+        given(storeRepository.findAllInRegions(List.of("서울", "경기"), null, null, null, null, null, null, pageable)).willReturn(storePage);
+        given(storeCategoryRepository.findCategoryNamesByStoreIdIn(List.of(seoulStore.id())))
+                .willReturn(List.of(new StoreCategoryName(seoulStore.id(), "한식")));
         
         // 2. When
-        Page<StoreListResponse> result = storeService.getAllStores(userId, PageRequest.of(0, 10));
+        Page<StoreListResponse> result = storeService.getAllStores(userId, null, pageable);
         
         // 3. Then
         assertThat(result.getContent().size()).isEqualTo(1);
         assertThat(result.getContent().get(0).name()).isEqualTo("서울가게");
+        assertThat(result.getContent().get(0).categoryNames()).containsExactly("한식");
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(storeRepository, never()).findAllByRole(false, null, null, null, null, null, null, pageable);
+    }
+    
+    @Test
+    void 여러_매장_조회는_IN_쿼리_한_번으로_요청한_순서대로_반환한다() {
+        // 1. Given: 비로그인 사용자가 b, a, b(중복), c 순서로 요청, c는 조회 불가(SQL 조건에서 제외)
+        StoreSummary a = createSummary(UUID.randomUUID(), "A가게");
+        StoreSummary b = createSummary(UUID.randomUUID(), "B가게");
+        UUID c = UUID.randomUUID();
+
+        given(storeRepository.findVisibleSummariesByIdIn(List.of(b.id(), a.id(), c), false, List.of("서울", "경기")))
+                .willReturn(List.of(a, b));
+        given(storeCategoryRepository.findCategoryNamesByStoreIdIn(List.of(b.id(), a.id())))
+                .willReturn(List.of(new StoreCategoryName(a.id(), "한식")));
+
+        // 2. When
+        List<StoreListResponse> result = storeService.getStoresByIds(List.of(b.id(), a.id(), b.id(), c), null);
+
+        // 3. Then
+        assertThat(result).extracting(StoreListResponse::name).containsExactly("B가게", "A가게");
+        assertThat(result.get(1).categoryNames()).containsExactly("한식");
+        verify(userRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    void 필드를_선택하면_선택하지_않은_연관은_조회하지_않는다() {
+        // 1. Given: 비로그인 사용자가 이름과 카테고리만 요청
+        StoreEntity store = createStore(testStoreId, "서울 매장", "서울특별시 종로구 사직로 161");
+
+        given(storeRepository.findByIdForManagement(testStoreId, false)).willReturn(Optional.of(store));
+        given(storeCategoryRepository.findCategoryNamesByStoreIdIn(List.of(testStoreId)))
+                .willReturn(List.of(new StoreCategoryName(testStoreId, "한식")));
+
+        // 2. When
+        StoreDetailResponse result = storeService.getStoreDetails(
+                testStoreId, null, FieldSelection.parse("name,categoryNames"));
+
+        // 3. Then: 직원 fetch join, 메뉴/옵션 조회 없이 응답
+        assertThat(result.name()).isEqualTo("서울 매장");
+        assertThat(result.categoryNames()).containsExactly("한식");
+        assertThat(result.menus()).isNull();
+        verify(storeRepository, never()).findByIdWithDetails(any(), anyBoolean());
+        verify(menuGraphLoader, never()).loadActiveMenus(any());
+    }
+
+    @Test
+    void 서비스지역_판단은_정규화된_지역코드로_한다() {
+        // 1. Given: 설정값은 "서울", 매장 주소는 "서울특별시"
+        UserEntity customer = createUser(3, Role.CUSTOMER);
+        StoreEntity store = createStore(testStoreId, "서울 매장", "서울특별시 종로구 사직로 161");
+
+        given(userRepository.findById(3)).willReturn(Optional.of(customer));
+        given(storeRepository.findByIdWithDetails(testStoreId, false)).willReturn(Optional.of(store));
+
+        // 2. When
+        StoreDetailResponse result = storeService.getStoreDetails(testStoreId, 3);
+
+        // 3. Then
+        assertThat(store.getRegionCode()).isEqualTo("서울");
+        assertThat(result.name()).isEqualTo("서울 매장");
     }
     
     // 공통 로직
+    @Test
+    void 대량_등록은_참조_데이터를_한_번에_조회하고_실패한_행만_제외한다() {
+        // 1. Given: 정상 행, 파일 내 중복 행, 없는 카테고리 행
+        Integer ownerId = 2;
+        Integer chefId = 3;
+        StoreCreateRequest valid = bulkRequest("새 가게", "한식", ownerId, chefId);
+        StoreCreateRequest duplicated = bulkRequest("새 가게", "한식", ownerId, chefId);
+        StoreCreateRequest unknownCategory = bulkRequest("다른 가게", "없는카테고리", ownerId, chefId);
+
+        given(categoryRepository.findAllByNameIn(any())).willReturn(List.of(new CategoryEntity("한식")));
+        given(userRepository.findAllById(any())).willReturn(List.of(
+                createUser(ownerId, Role.OWNER), createUser(chefId, Role.CHEF)));
+        given(storeRepository.saveAll(any())).willAnswer(invocation -> {
+            Iterable<StoreEntity> stores = invocation.getArgument(0);
+            stores.forEach(store -> ReflectionTestUtils.setField(store, "id", UUID.randomUUID()));
+            return List.of();
+        });
+
+        // 2. When
+        List<StoreBulkResultResponse> results = storeService.createStoresBulk(List.of(
+                new StoreBulkRow(1, valid), new StoreBulkRow(2, duplicated), new StoreBulkRow(3, unknownCategory)));
+
+        // 3. Then
+        assertThat(results).extracting(StoreBulkResultResponse::status).containsExactly(
+                StoreBulkResultResponse.Status.CREATED,
+                StoreBulkResultResponse.Status.FAILED,
+                StoreBulkResultResponse.Status.FAILED);
+        assertThat(results.get(0).storeId()).isNotNull();
+        verify(categoryRepository, never()).findByName(any());
+        verify(userRepository, never()).findById(anyInt());
+        verify(storeRepository, never()).findActiveFingerprintsIn(any());
+    }
+
+    @Test
+    void 대량_등록_중_동시에_등록된_같은_매장은_flush에서_중복으로_던진다() {
+        // 1. Given: 검증은 통과했지만 저장 시점에 다른 트랜잭션이 같은 매장을 먼저 커밋
+        Integer chefId = 3;
+        StoreCreateRequest request = new StoreCreateRequest(
+                "새 가게", "서울시 강남구", "101호", "02-123-4567",
+                LocalTime.of(9, 0), LocalTime.of(22, 0),
+                List.of("한식"), ownerId, chefId, null, null
+        );
+        given(categoryRepository.findAllByNameIn(any())).willReturn(List.of(new CategoryEntity("한식")));
+        given(userRepository.findAllById(any())).willReturn(List.of(
+                createUser(ownerId, Role.OWNER), createUser(chefId, Role.CHEF)));
+        willThrow(constraintViolation(StoreFingerprint.UNIQUE_INDEX))
+                .given(storeRepository).flush();
+
+        // 2. When & Then: 커밋 전이므로 Bloom 필터에 넣을 지문도 발행하지 않는다
+        assertThatThrownBy(() -> storeService.createStoresBulk(List.of(new StoreBulkRow(1, request))))
+                .isInstanceOf(DuplicateResourceException.class);
+        verify(eventPublisher, never()).publishEvent(any(StoreFingerprintsAddedEvent.class));
+    }
+
+    @Test
+    void 직원_변경은_대상_유저를_한_번에_조회하고_추가_삭제를_일괄_처리한다() {
+        // 1. Given: 현재 직원 5번, 요청은 5번 추가(이미 직원) + 6번 추가 + 5번 삭제
+        UserEntity owner = createUser(ownerId, Role.OWNER);
+        StoreEntity store = createStore(testStoreId, "내 가게", "서울시");
+        StoreUserUpdateRequest request = new StoreUserUpdateRequest(List.of(
+                new StoreUserUpdateRequest.UserChange(5, Role.CHEF, StoreUserUpdateRequest.Action.ADD),
+                new StoreUserUpdateRequest.UserChange(6, Role.CHEF, StoreUserUpdateRequest.Action.ADD),
+                new StoreUserUpdateRequest.UserChange(5, Role.CHEF, StoreUserUpdateRequest.Action.REMOVE)
+        ));
+
+        given(userRepository.findById(ownerId)).willReturn(Optional.of(owner));
+        given(storeMembershipService.isOwner(ownerId, Role.OWNER, testStoreId)).willReturn(true);
+        given(storeRepository.findByIdForManagement(testStoreId, false)).willReturn(Optional.of(store));
+        given(userRepository.findAllById(any())).willReturn(List.of(createUser(5, Role.CHEF), createUser(6, Role.CHEF)));
+        given(storeUserRepository.findUserIdsByStoreId(testStoreId)).willReturn(List.of(5));
+
+        // 2. When
+        storeService.updateStoreStaff(testStoreId, request, ownerId);
+
+        // 3. Then
+        verify(storeUserRepository).deleteAllByStoreIdAndUserIdIn(testStoreId, Set.of(5));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StoreUserEntity>> added = ArgumentCaptor.forClass(List.class);
+        verify(storeUserRepository).saveAll(added.capture());
+        assertThat(added.getValue()).extracting(storeUser -> storeUser.getUser().getId()).containsExactly(6);
+        verify(userRepository, times(1)).findById(anyInt());
+    }
+
+    private StoreCreateRequest bulkRequest(String name, String category, Integer ownerId, Integer chefId) {
+        return new StoreCreateRequest(
+                name, "서울특별시 강남구 테헤란로 1", "101호", "02-123-4567",
+                LocalTime.of(9, 0), LocalTime.of(22, 0),
+                List.of(category), ownerId, chefId, null, null
+        );
+    }
+
     private UserEntity createUser(Integer id, Role role) {
         return UserEntity.forAuthentication(id, role);
     }
     
+    @Test
+    void 승인_대기_매장_일괄_처리는_PENDING_매장만_한_번에_변경하고_나머지는_건너뛴다() {
+        // 1. Given
+        UserEntity master = createUser(masterId, Role.MASTER);
+        UUID pendingId = UUID.randomUUID();
+        UUID processedId = UUID.randomUUID();
+        StoreStatusBulkUpdateRequest request =
+                new StoreStatusBulkUpdateRequest(List.of(pendingId, processedId), StoreStatus.APPROVED);
+
+        given(userRepository.findById(masterId)).willReturn(Optional.of(master));
+        given(storeRepository.findPendingIdsByIdIn(Set.of(pendingId, processedId))).willReturn(List.of(pendingId));
+        given(storeRepository.updatePendingStatusByIdIn(
+                eq(List.of(pendingId)), eq(StoreStatus.APPROVED), any(LocalDateTime.class), eq(masterId)))
+                .willReturn(1);
+
+        // 2. When
+        StoreStatusBulkUpdateResponse result = storeService.updatePendingStoreStatus(request, masterId);
+
+        // 3. Then
+        assertThat(result.updatedCount()).isEqualTo(1);
+        assertThat(result.skippedStoreIds()).containsExactly(processedId);
+        verify(storeRepository, never()).findByIdWithDetails(any(), anyBoolean());
+        verify(eventPublisher).publishEvent(StoreChangedEvent.of(pendingId));
+    }
+
+    @Test
+    void 승인_대기_매장_일괄_처리는_관리자만_가능하다() {
+        // 1. Given
+        UserEntity owner = createUser(ownerId, Role.OWNER);
+        StoreStatusBulkUpdateRequest request =
+                new StoreStatusBulkUpdateRequest(List.of(testStoreId), StoreStatus.APPROVED);
+        given(userRepository.findById(ownerId)).willReturn(Optional.of(owner));
+
+        // 2. When & Then
+        assertThatThrownBy(() -> storeService.updatePendingStoreStatus(request, ownerId))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(storeRepository, never()).updatePendingStatusByIdIn(any(), any(), any(), any());
+    }
+
+    @Test
+    void 매장_수정_시_clearLocation이면_좌표를_지우고_변경_이벤트를_발행한다() {
+        // 1. Given: 좌표가 있는 매장
+        UserEntity master = createUser(masterId, Role.MASTER);
+        StoreEntity store = createStore(testStoreId, "강남 매장", "서울시 강남구 테헤란로 1");
+        ReflectionTestUtils.setField(store, "addressDetail", "1층");
+        store.updateLocation(37.5, 127.0);
+        given(userRepository.findById(masterId)).willReturn(Optional.of(master));
+        given(storeRepository.findByIdForManagement(testStoreId, true)).willReturn(Optional.of(store));
+
+        StoreUpdateRequest request = new StoreUpdateRequest(
+                null, null, null, null, null, null, null, null, null, true);
+
+        // 2. When
+        storeService.updateStore(testStoreId, request, masterId);
+
+        // 3. Then: 좌표가 지워지고, 검색 색인(주변 매장 격자)은 변경 이벤트로 갱신된다
+        assertThat(store.getLatitude()).isNull();
+        assertThat(store.getLongitude()).isNull();
+        verify(eventPublisher).publishEvent(StoreChangedEvent.of(testStoreId));
+    }
+
+    @Test
+    void 매장_수정_시_좌표_삭제와_좌표_입력을_함께_보내면_예외가_발생한다() {
+        // 1. Given
+        UserEntity master = createUser(masterId, Role.MASTER);
+        StoreEntity store = createStore(testStoreId, "강남 매장", "서울시 강남구 테헤란로 1");
+        given(userRepository.findById(masterId)).willReturn(Optional.of(master));
+        given(storeRepository.findByIdForManagement(testStoreId, true)).willReturn(Optional.of(store));
+
+        StoreUpdateRequest request = new StoreUpdateRequest(
+                null, null, null, null, null, null, null, 37.5, 127.0, true);
+
+        // 2. When & Then
+        assertThatThrownBy(() -> storeService.updateStore(testStoreId, request, masterId))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private StoreSummary createSummary(UUID id, String name) {
+        return new StoreSummary(id, name, "서울시 종로구", "1층", "02-1234-5678",
+                StoreStatus.APPROVED, false, LocalDateTime.now());
+    }
+
     private StoreEntity createStore(UUID id, String name, String address) {
         StoreEntity store = StoreEntity.builder()
                 .name(name)
@@ -196,4 +526,9 @@ public class StoreServiceTest {
         
         return store;
     }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("constraint violation",
+                new ConstraintViolationException("constraint violation", new SQLException(), constraintName));
+    }
 }
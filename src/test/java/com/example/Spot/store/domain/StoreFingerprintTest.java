@@ -0,0 +1,40 @@
+package com.example.Spot.store.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.Spot.global.infrastructure.bloom.BloomFilter;
+
+class StoreFingerprintTest {
+
+    @Test
+    @DisplayName("공백과 대소문자만 다른 주소/매장명은 같은 지문을 가진다")
+    void sameFingerprintForWhitespaceAndCaseVariants() {
+        String original = StoreFingerprint.of("서울특별시 강남구 테헤란로 1", "2층", "BBQ 치킨");
+        String variant = StoreFingerprint.of(" 서울특별시  강남구 테헤란로 1", "2 층", "bbq치킨");
+
+        assertThat(variant).isEqualTo(original).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("주소와 매장명의 경계가 다르면 다른 지문이다")
+    void differentFingerprintWhenFieldsShift() {
+        assertThat(StoreFingerprint.of("서울", "강남 1", "치킨"))
+                .isNotEqualTo(StoreFingerprint.of("서울강남", "1", "치킨"));
+    }
+
+    @Test
+    @DisplayName("Bloom 필터는 넣은 지문을 놓치지 않는다")
+    void bloomFilterHasNoFalseNegative() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(StoreFingerprint.of("서울 " + i, "1층", "가게" + i));
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain(StoreFingerprint.of("서울 " + i, "1층", "가게" + i))).isTrue();
+        }
+    }
+}
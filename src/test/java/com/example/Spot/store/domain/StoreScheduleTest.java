@@ -0,0 +1,72 @@
+package com.example.Spot.store.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StoreScheduleTest {
+
+    // 2026-10-16 = 금요일
+    private static final LocalDate FRIDAY = LocalDate.of(2026, 10, 16);
+    private static final LocalDate SATURDAY = FRIDAY.plusDays(1);
+
+    private final StoreSchedule schedule = StoreSchedule.of(
+            Map.of(
+                    // 평일: 점심 영업 + 브레이크 타임 + 저녁 영업
+                    DayOfWeek.FRIDAY, List.of(range(17, 0, 22, 0), range(11, 0, 15, 0)),
+                    // 토요일: 자정을 넘기는 영업
+                    DayOfWeek.SATURDAY, List.of(range(18, 0, 2, 0))
+            ),
+            Map.of());
+
+    @Test
+    @DisplayName("하루에 여러 영업 구간이 있으면 브레이크 타임에는 영업하지 않는다")
+    void multipleWindowsPerDay() {
+        assertThat(schedule.isOpenAt(FRIDAY.atTime(11, 30))).isTrue();
+        assertThat(schedule.isOpenAt(FRIDAY.atTime(16, 0))).isFalse();
+        assertThat(schedule.isOpenAt(FRIDAY.atTime(22, 0))).isTrue();
+        assertThat(schedule.isOpenAt(FRIDAY.atTime(22, 1))).isFalse();
+        assertThat(schedule.isOpenAt(FRIDAY.minusDays(1).atTime(12, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("자정을 넘기는 영업은 다음 날 새벽까지 이어진다")
+    void overnightWindow() {
+        assertThat(schedule.isOpenAt(SATURDAY.atTime(23, 0))).isTrue();
+        assertThat(schedule.isOpenAt(SATURDAY.plusDays(1).atTime(1, 30))).isTrue();
+        assertThat(schedule.isOpenAt(SATURDAY.plusDays(1).atTime(3, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("휴무일/특별 영업일은 그날 시작하는 주간 구간을 대체한다")
+    void holidayOverrides() {
+        StoreSchedule withHolidays = schedule.withOverrides(Map.of(
+                FRIDAY, List.of(),
+                SATURDAY, List.of(range(10, 0, 14, 0))));
+
+        assertThat(withHolidays.isOpenAt(FRIDAY.atTime(12, 0))).isFalse();
+        assertThat(withHolidays.isOpenAt(SATURDAY.atTime(12, 0))).isTrue();
+        assertThat(withHolidays.isOpenAt(SATURDAY.atTime(23, 0))).isFalse();
+        assertThat(withHolidays.isOpenAt(LocalDateTime.of(SATURDAY.plusDays(1), LocalTime.of(1, 0)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("기본 영업시간이 비어 있으면 24시간 영업이다")
+    void dailyWithoutTimesIsAlwaysOpen() {
+        assertThat(StoreSchedule.ALWAYS_OPEN.isOpenAt(FRIDAY.atTime(3, 0))).isTrue();
+        assertThat(StoreSchedule.daily(LocalTime.of(9, 0), LocalTime.of(18, 0)).isOpenAt(FRIDAY.atTime(8, 59)))
+                .isFalse();
+    }
+
+    private static StoreSchedule.TimeRange range(int openHour, int openMinute, int closeHour, int closeMinute) {
+        return new StoreSchedule.TimeRange(LocalTime.of(openHour, openMinute), LocalTime.of(closeHour, closeMinute));
+    }
+}
@@ -2,8 +2,14 @@ package com.example.Spot.store.domain.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,15 +20,28 @@ import org.springframework.data.domain.PageRequest;
 
 import com.example.Spot.config.TestConfig;
 import com.example.Spot.global.TestSupport;
+import com.example.Spot.store.domain.StoreCategoryName;
+import com.example.Spot.store.domain.StoreOpenAt;
+import com.example.Spot.store.domain.StoreStatus;
+import com.example.Spot.store.domain.StoreSummary;
+import com.example.Spot.store.domain.entity.CategoryEntity;
 import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.entity.StoreHolidayEntity;
+import com.example.Spot.store.domain.entity.StoreOpeningHoursEntity;
+import com.example.Spot.store.presentation.dto.request.StoreCursor;
 
 @Import(TestConfig.class)
 @DataJpaTest
 class StoreRepositoryTest extends TestSupport {
 
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+
     @Autowired
     private StoreRepository storeRepository;
 
+    @Autowired
+    private StoreCategoryRepository storeCategoryRepository;
+
     @Test
     void 가게를_저장하고_조회할_수_있다() {
         //given (준비)
@@ -44,11 +63,11 @@ class StoreRepositoryTest extends TestSupport {
         storeRepository.save(deleted);
 
         // when
-        Page<StoreEntity> result = storeRepository.findAllByRole(false, PageRequest.of(0, 10));
+        Page<StoreSummary> result = storeRepository.findAllByRole(false, null, null, null, null, null, null, PageRequest.of(0, 10));
 
         // then
         assertThat(result.getTotalElements()).isEqualTo(1);
-        assertThat(result.getContent().get(0).getName()).isEqualTo("정상 가게");
+        assertThat(result.getContent().get(0).name()).isEqualTo("정상 가게");
     }
 
     @Test
@@ -60,11 +79,11 @@ class StoreRepositoryTest extends TestSupport {
         storeRepository.save(deleted);
         
         // when
-        Page<StoreEntity> result = storeRepository.findAllByRole(false, PageRequest.of(0, 10));
+        Page<StoreSummary> result = storeRepository.findAllByRole(false, null, null, null, null, null, null, PageRequest.of(0, 10));
         
         // then
         assertThat(result.getTotalElements()).isEqualTo(1);
-        assertThat(result.getContent().get(0).getName()).isEqualTo("정상 가게");
+        assertThat(result.getContent().get(0).name()).isEqualTo("정상 가게");
     }
 
     @Test
@@ -74,11 +93,11 @@ class StoreRepositoryTest extends TestSupport {
         storeRepository.save(createStore("맛있는 피자"));
         
         // when
-        Page<StoreEntity> result = storeRepository.searchByName("치킨", false, PageRequest.of(0, 10));
+        Page<StoreSummary> result = storeRepository.searchByName("치킨", false, PageRequest.of(0, 10));
          
         // then
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getName()).isEqualTo("맛있는 치킨");
+        assertThat(result.getContent().get(0).name()).isEqualTo("맛있는 치킨");
     }
 
     @Test
@@ -125,11 +144,260 @@ class StoreRepositoryTest extends TestSupport {
         assertThat(foundStore.get().getIsDeleted()).isTrue();
     }
     
+    @Test
+    void 서비스_지역_조회는_페이지를_꽉_채우고_정확한_전체_개수를_반환한다() {
+        // given: 서울 매장 3개, 부산 매장 2개 (모두 승인)
+        for (int i = 0; i < 3; i++) {
+            StoreEntity store = storeRepository.save(createStore("서울 가게" + i, "서울특별시 종로구"));
+            store.updateStatus(StoreStatus.APPROVED);
+        }
+        for (int i = 0; i < 2; i++) {
+            StoreEntity store = storeRepository.save(createStore("부산 가게" + i, "부산광역시 해운대구"));
+            store.updateStatus(StoreStatus.APPROVED);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Page<StoreSummary> result = findInSeoul(StoreOpenAt.ANY, PageRequest.of(0, 2));
+
+        // then
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).allMatch(store -> store.name().startsWith("서울 가게"));
+    }
+
+    @Test
+    void 서비스_지역_검색은_승인되지_않은_가게를_제외한다() {
+        // given
+        StoreEntity approved = storeRepository.save(createStore("맛있는 치킨", "서울시 강남구"));
+        approved.updateStatus(StoreStatus.APPROVED);
+        storeRepository.save(createStore("맛있는 치킨 2호점", "서울시 강남구"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Page<StoreSummary> result = storeRepository.searchByNameInRegions("치킨", List.of("서울"), PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().get(0).name()).isEqualTo("맛있는 치킨");
+    }
+    
+    @Test
+    void 커서_기반_조회로_모든_가게를_중복없이_순회할_수_있다() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            StoreEntity store = storeRepository.save(createStore("가게" + i));
+            store.updateStatus(StoreStatus.APPROVED);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when: 2개씩 커서를 이어가며 조회
+        List<UUID> visited = new ArrayList<>();
+        StoreCursor cursor = StoreCursor.FIRST;
+        while (true) {
+            List<UUID> ids = storeRepository.findIdsAfterCursor(
+                    false, List.of("서울"), null, null, null, null, null, null, cursor.createdAt(), cursor.id(), PageRequest.ofSize(2));
+            if (ids.isEmpty()) {
+                break;
+            }
+            visited.addAll(ids);
+            StoreEntity last = storeRepository.findById(ids.get(ids.size() - 1)).orElseThrow();
+            cursor = new StoreCursor(last.getCreatedAt(), last.getId());
+        }
+
+        // then
+        assertThat(visited).hasSize(5).doesNotHaveDuplicates();
+        assertThat(storeRepository.findSummariesByIdIn(visited)).hasSize(5);
+    }
+
+    @Test
+    void 영업시간_필터는_자정을_넘기는_영업도_처리한다() {
+        // given: 주간 영업(09:00~22:00), 야간 영업(18:00~02:00), 영업시간 미설정(24시간)
+        StoreEntity day = storeRepository.save(createStore("주간 가게", LocalTime.of(9, 0), LocalTime.of(22, 0)));
+        StoreEntity night = storeRepository.save(createStore("야간 가게", LocalTime.of(18, 0), LocalTime.of(2, 0)));
+        StoreEntity allDay = storeRepository.save(createStore("24시 가게", null, null));
+        List.of(day, night, allDay).forEach(store -> store.updateStatus(StoreStatus.APPROVED));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<String> at1am = names(findInSeoul(openAt(1, 0), PageRequest.of(0, 10)));
+        List<String> at8pm = names(findInSeoul(openAt(20, 0), PageRequest.of(0, 10)));
+        List<String> at10am = names(findInSeoul(openAt(10, 0), PageRequest.of(0, 10)));
+
+        // then
+        assertThat(at1am).containsExactlyInAnyOrder("야간 가게", "24시 가게");
+        assertThat(at8pm).containsExactlyInAnyOrder("주간 가게", "야간 가게", "24시 가게");
+        assertThat(at10am).containsExactlyInAnyOrder("주간 가게", "24시 가게");
+    }
+
+    @Test
+    void 요일별_일정이_있는_매장은_일정_테이블로_영업_여부를_판단한다() {
+        // given: 기본 영업시간은 09:00~22:00이지만 월요일 11:00~15:00, 일요일 22:00~02:00 일정이 있고
+        //        화요일(MONDAY + 1)은 하루 휴무인 매장
+        StoreEntity scheduled = storeRepository.save(createStore("일정 가게", LocalTime.of(9, 0), LocalTime.of(22, 0)));
+        scheduled.updateStatus(StoreStatus.APPROVED);
+        scheduled.updateHasSchedule(true);
+        entityManager.persist(openingHours(scheduled, DayOfWeek.MONDAY, LocalTime.of(11, 0), LocalTime.of(15, 0)));
+        entityManager.persist(openingHours(scheduled, DayOfWeek.SUNDAY, LocalTime.of(22, 0), LocalTime.of(2, 0)));
+        entityManager.persist(openingHours(scheduled, DayOfWeek.TUESDAY, LocalTime.of(11, 0), LocalTime.of(15, 0)));
+        entityManager.persist(StoreHolidayEntity.builder().store(scheduled).holidayDate(MONDAY.plusDays(1)).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then: open_minute 비교는 무시하고 일정 테이블만 본다
+        assertThat(names(findInSeoul(StoreOpenAt.of(MONDAY.atTime(12, 0)), PageRequest.of(0, 10))))
+                .containsExactly("일정 가게");
+        assertThat(names(findInSeoul(StoreOpenAt.of(MONDAY.atTime(10, 0)), PageRequest.of(0, 10))))
+                .isEmpty();
+        // 일요일 22:00에 시작한 영업이 월요일 02:00까지 이어진다
+        assertThat(names(findInSeoul(StoreOpenAt.of(MONDAY.atTime(1, 0)), PageRequest.of(0, 10))))
+                .containsExactly("일정 가게");
+        // 휴무일은 요일 구간이 있어도 영업하지 않는다
+        assertThat(names(findInSeoul(StoreOpenAt.of(MONDAY.plusDays(1).atTime(12, 0)), PageRequest.of(0, 10))))
+                .isEmpty();
+    }
+
+    @Test
+    void 영업시간을_수정하면_필터용_분_값도_함께_갱신된다() {
+        // given
+        StoreEntity store = storeRepository.save(createStore("가게", LocalTime.of(9, 0), LocalTime.of(22, 0)));
+        store.updateStatus(StoreStatus.APPROVED);
+
+        // when
+        store.updateStoreDetails(null, null, null, null, LocalTime.of(23, 30), LocalTime.of(5, 0), null);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(store.getOpenMinute()).isEqualTo(23 * 60 + 30);
+        assertThat(store.getCloseMinute()).isEqualTo(5 * 60);
+        assertThat(findInSeoul(openAt(1, 0), PageRequest.of(0, 10)).getTotalElements())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 목록_페이지_매장들의_카테고리를_한_번에_조회할_수_있다() {
+        // given
+        CategoryEntity korean = new CategoryEntity("한식");
+        CategoryEntity chicken = new CategoryEntity("치킨");
+        entityManager.persist(korean);
+        entityManager.persist(chicken);
+
+        StoreEntity first = createStore("한식 치킨 가게");
+        first.addCategory(korean);
+        first.addCategory(chicken);
+        StoreEntity second = createStore("치킨 가게");
+        second.addCategory(chicken);
+        storeRepository.save(first);
+        storeRepository.save(second);
+        storeRepository.save(createStore("카테고리 없는 가게"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<StoreCategoryName> result =
+                storeCategoryRepository.findCategoryNamesByStoreIdIn(List.of(first.getId(), second.getId()));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(
+                new StoreCategoryName(first.getId(), "한식"),
+                new StoreCategoryName(first.getId(), "치킨"),
+                new StoreCategoryName(second.getId(), "치킨"));
+    }
+
+    @Test
+    void 승인_대기열은_오래된_순으로_조회되고_일괄_상태변경은_PENDING_매장만_바꾼다() {
+        // given: 대기 2개, 이미 승인된 1개
+        StoreEntity first = storeRepository.save(createStore("대기 가게1"));
+        StoreEntity second = storeRepository.save(createStore("대기 가게2"));
+        StoreEntity approved = storeRepository.save(createStore("승인된 가게"));
+        approved.updateStatus(StoreStatus.APPROVED);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        StoreCursor cursor = StoreCursor.FIRST_ASC;
+        List<StoreSummary> pending = storeRepository.findPendingAfterCursor(
+                cursor.createdAt(), cursor.id(), PageRequest.ofSize(10));
+        int updated = storeRepository.updatePendingStatusByIdIn(
+                List.of(first.getId(), second.getId(), approved.getId()),
+                StoreStatus.REJECTED, LocalDateTime.now(), TEST_USER_ID);
+
+        // then
+        assertThat(pending).extracting(StoreSummary::name).containsExactly("대기 가게1", "대기 가게2");
+        assertThat(updated).isEqualTo(2);
+        assertThat(storeRepository.findById(first.getId()).orElseThrow().getStatus()).isEqualTo(StoreStatus.REJECTED);
+        assertThat(storeRepository.findById(approved.getId()).orElseThrow().getStatus()).isEqualTo(StoreStatus.APPROVED);
+        assertThat(storeRepository.findPendingIdsByIdIn(List.of(first.getId(), second.getId()))).isEmpty();
+    }
+
+    private Page<StoreSummary> findInSeoul(StoreOpenAt open, PageRequest pageable) {
+        return storeRepository.findAllInRegions(List.of("서울"), open.minute(), open.time(),
+                open.today(), open.todayOfWeek(), open.yesterday(), open.yesterdayOfWeek(), pageable);
+    }
+
+    private StoreOpenAt openAt(int hour, int minute) {
+        return StoreOpenAt.of(MONDAY.atTime(hour, minute));
+    }
+
+    private StoreOpeningHoursEntity openingHours(
+            StoreEntity store, DayOfWeek dayOfWeek, LocalTime openTime, LocalTime closeTime) {
+        return StoreOpeningHoursEntity.builder()
+                .store(store)
+                .dayOfWeek(dayOfWeek)
+                .openTime(openTime)
+                .closeTime(closeTime)
+                .build();
+    }
+
+    private List<String> names(Page<StoreSummary> page) {
+        return page.getContent().stream().map(StoreSummary::name).toList();
+    }
+
+    @Test
+    void 콘텐츠_버전은_벌크_UPDATE로만_증가하고_엔티티_수정에_덮어써지지_않는다() {
+        // given
+        StoreEntity store = storeRepository.save(createStore("버전 가게"));
+        StoreEntity other = storeRepository.save(createStore("다른 가게"));
+        entityManager.flush();
+
+        // when
+        storeRepository.incrementContentVersion(List.of(store.getId()));
+        storeRepository.incrementContentVersion(List.of(store.getId()));
+        store.updateHasSchedule(true);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(storeRepository.findContentVersionById(store.getId())).contains(2L);
+        assertThat(storeRepository.findContentVersionById(other.getId())).contains(0L);
+        assertThat(storeRepository.findContentVersionById(UUID.randomUUID())).isEmpty();
+    }
+
+    private StoreEntity createStore(String name, LocalTime openTime, LocalTime closeTime) {
+        return StoreEntity.builder()
+                .name(name)
+                .roadAddress("서울특별시 종로구")
+                .addressDetail("123-45")
+                .phoneNumber("02-1234-5678")
+                .openTime(openTime)
+                .closeTime(closeTime)
+                .build();
+    }
+
     // 반복되는 Store 생성을 위한 헬퍼 메서드
     private StoreEntity createStore(String name) {
+        return createStore(name, "서울시 강남구");
+    }
+
+    private StoreEntity createStore(String name, String roadAddress) {
         return StoreEntity.builder()
                 .name(name)
-                .roadAddress("서울시 강남구")
+                .roadAddress(roadAddress)
                 .addressDetail("123-45")
                 .phoneNumber("02-1234-5678")
                 .openTime(LocalTime.of(9, 0))
@@ -0,0 +1,82 @@
+package com.example.Spot.store.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.Spot.menu.application.event.MenuChangedEvent;
+import com.example.Spot.store.application.event.StoreChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class StoreDetailCacheTest {
+
+    private final StoreDetailCache cache = new StoreDetailCache(new ObjectMapper());
+    private final UUID storeId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("한 번 조회된 매장 상세는 다시 로딩하지 않고 직렬화된 결과를 반환한다")
+    void hitDoesNotLoadAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        byte[] first = cache.getOrLoad(storeId, () -> Map.of("name", "치킨집 " + loads.incrementAndGet()));
+        byte[] second = cache.getOrLoad(storeId, () -> Map.of("name", "치킨집 " + loads.incrementAndGet()));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"치킨집 1\"}");
+    }
+
+    @Test
+    @DisplayName("매장/메뉴 변경 이벤트가 오면 해당 매장만 캐시에서 제거된다")
+    void evictOnStoreOrMenuChanged() {
+        UUID otherStoreId = UUID.randomUUID();
+        cache.getOrLoad(storeId, () -> Map.of("name", "A"));
+        cache.getOrLoad(otherStoreId, () -> Map.of("name", "B"));
+
+        cache.onMenuChanged(MenuChangedEvent.of(storeId, UUID.randomUUID()));
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.onStoreChanged(StoreChangedEvent.of(otherStoreId));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 도중 변경이 커밋되면 조회 결과를 캐시에 넣지 않는다")
+    void staleLoadIsNotCached() {
+        cache.getOrLoad(storeId, () -> {
+            cache.evict(storeId);
+            return Map.of("name", "변경 전");
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 도중 evict된 뒤 다음 조회 결과는 정상적으로 캐시된다")
+    void loadAfterStaleLoadIsCached() {
+        cache.getOrLoad(storeId, () -> {
+            cache.evict(storeId);
+            return Map.of("name", "변경 전");
+        });
+        cache.getOrLoad(storeId, () -> Map.of("name", "변경 후"));
+
+        byte[] cached = cache.getOrLoad(storeId, () -> Map.of("name", "다시 로딩"));
+        assertThat(new String(cached, StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"변경 후\"}");
+    }
+
+    @Test
+    @DisplayName("캐시된 매장 수는 상한을 넘지 않는다")
+    void entriesAreBounded() {
+        for (int i = 0; i < 2_100; i++) {
+            cache.getOrLoad(UUID.randomUUID(), () -> Map.of("name", "매장"));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2_000);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.Spot.store.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.Spot.global.infrastructure.geo.GeoGrid;
+import com.example.Spot.store.domain.StoreStatus;
+
+class StoreSearchIndexTest {
+
+    private StoreSearchIndex index;
+
+    private final StoreSearchDocument chicken = document("굽네치킨 강남점", "서울특별시 강남구 테헤란로 1", "서울");
+    private final StoreSearchDocument pizza = document("치즈피자", "서울특별시 서초구 서초대로 2", "서울");
+    private final StoreSearchDocument gangneung = document("강릉 닭갈비", "강원특별자치도 강릉시 경강로 3", "강원");
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreSearchIndex();
+        index.rebuild(List.of(chicken, pizza, gangneung));
+    }
+
+    @Test
+    @DisplayName("초성만 입력해도 매장명을 찾을 수 있다")
+    void searchByChosung() {
+        List<StoreSearchDocument> result = index.search("ㅊㅋ", d -> true);
+
+        assertThat(result).containsExactly(chicken);
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절(받침 미완성)로도 매장명을 찾을 수 있다")
+    void searchByPartialJamo() {
+        assertThat(index.search("치키", d -> true)).containsExactly(chicken);
+        assertThat(index.search("달", d -> true)).containsExactly(gangneung);
+    }
+
+    @Test
+    @DisplayName("매장명 접두어 일치가 주소 일치보다 먼저 나온다")
+    void rankNamePrefixFirst() {
+        List<StoreSearchDocument> result = index.search("강", d -> true);
+
+        assertThat(result).containsExactly(gangneung, chicken);
+    }
+
+    @Test
+    @DisplayName("필터에 걸리는 매장은 제외되고, 삭제/수정 내용이 바로 반영된다")
+    void filterAndIncrementalUpdate() {
+        List<String> regions = List.of("서울");
+        assertThat(index.search("강", d -> d.isVisibleTo(false, regions))).containsExactly(chicken);
+
+        index.remove(chicken.id());
+        StoreSearchDocument renamed = new StoreSearchDocument(
+                pizza.id(), "강남피자", pizza.roadAddress(), StoreStatus.APPROVED, false, "서울", pizza.createdAt(),
+                null, null);
+        index.upsert(renamed);
+
+        assertThat(index.search("강", d -> d.isVisibleTo(false, regions))).containsExactly(renamed);
+        assertThat(index.search("치즈", d -> true)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("좌표가 있는 매장만 반경 안에서 가까운 순으로 조회되고, 좌표 변경이 바로 반영된다")
+    void nearestByLocation() {
+        // 강남역 기준: 역삼역(약 0.8km), 선릉역(약 2km), 잠실역(약 6km)
+        StoreSearchDocument yeoksam = document("역삼점", "서울특별시 강남구 테헤란로 156", "서울", 37.5006, 127.0365);
+        StoreSearchDocument seolleung = document("선릉점", "서울특별시 강남구 테헤란로 340", "서울", 37.5045, 127.0490);
+        StoreSearchDocument jamsil = document("잠실점", "서울특별시 송파구 올림픽로 265", "서울", 37.5133, 127.1001);
+        index.rebuild(List.of(chicken, seolleung, jamsil, yeoksam));
+
+        List<UUID> nearest = index.nearest(37.4979, 127.0276, 3000, 10, d -> true).stream()
+                .map(GeoGrid.Hit::key)
+                .toList();
+        assertThat(nearest).containsExactly(yeoksam.id(), seolleung.id());
+        assertThat(index.nearest(37.4979, 127.0276, 10_000, 1, d -> true))
+                .extracting(GeoGrid.Hit::key)
+                .containsExactly(yeoksam.id());
+
+        index.upsert(document(yeoksam.id(), "역삼점", yeoksam.roadAddress(), "서울", null, null));
+        assertThat(index.nearest(37.4979, 127.0276, 3000, 10, d -> true))
+                .extracting(GeoGrid.Hit::key)
+                .containsExactly(seolleung.id());
+    }
+
+    private StoreSearchDocument document(String name, String roadAddress, String regionCode) {
+        return document(name, roadAddress, regionCode, null, null);
+    }
+
+    private StoreSearchDocument document(
+            String name, String roadAddress, String regionCode, Double latitude, Double longitude) {
+        return document(UUID.randomUUID(), name, roadAddress, regionCode, latitude, longitude);
+    }
+
+    private StoreSearchDocument document(
+            UUID id, String name, String roadAddress, String regionCode, Double latitude, Double longitude) {
+        return new StoreSearchDocument(
+                id, name, roadAddress, StoreStatus.APPROVED, false, regionCode, LocalDateTime.now(),
+                latitude, longitude);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.Spot.store.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.Spot.store.application.event.StoreChangedEvent;
+import com.example.Spot.store.domain.StoreStatus;
+import com.example.Spot.store.infrastructure.repository.StoreSearchRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StoreSearchIndexerTest {
+
+    private static final UUID STORE_ID = UUID.randomUUID();
+
+    @Mock
+    private StoreSearchRepository storeSearchRepository;
+
+    private StoreSearchIndex storeSearchIndex;
+    private StoreSearchIndexer storeSearchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        storeSearchIndex = new StoreSearchIndex();
+        storeSearchIndexer = new StoreSearchIndexer(storeSearchRepository, storeSearchIndex);
+    }
+
+    @Test
+    @DisplayName("재색인이 전체 매장을 읽은 뒤 커밋된 매장 변경은 재색인이 끝난 뒤 다시 읽어 반영한다")
+    void storeChangedDuringRebuildIsReplayed() {
+        StoreSearchDocument stale = document("원조역삼막국수");
+        StoreSearchDocument fresh = document("역삼냉면");
+        // 전체 조회 직후(재색인 반영 전)에 매장 이름 변경이 커밋된 상황
+        given(storeSearchRepository.findAllDocuments()).willAnswer(invocation -> {
+            storeSearchIndexer.onStoreChanged(StoreChangedEvent.of(STORE_ID));
+            return List.of(stale);
+        });
+        given(storeSearchRepository.findDocumentsByIdIn(Set.of(STORE_ID))).willReturn(List.of(fresh));
+
+        storeSearchIndexer.rebuild();
+
+        assertThat(storeSearchIndex.search("냉면", d -> true)).containsExactly(fresh);
+        assertThat(storeSearchIndex.search("막국수", d -> true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재색인 중에 삭제된 매장은 재색인이 끝난 뒤 색인과 주변 매장 격자에서 제거한다")
+    void storeRemovedDuringRebuildIsDropped() {
+        given(storeSearchRepository.findAllDocuments()).willAnswer(invocation -> {
+            storeSearchIndexer.onStoreChanged(StoreChangedEvent.of(STORE_ID));
+            return List.of(document("원조역삼막국수"));
+        });
+        given(storeSearchRepository.findDocumentsByIdIn(Set.of(STORE_ID))).willReturn(List.of());
+
+        storeSearchIndexer.rebuild();
+
+        assertThat(storeSearchIndex.size()).isZero();
+        assertThat(storeSearchIndex.nearest(37.5, 127.03, 1000, 10, d -> true)).isEmpty();
+    }
+
+    private StoreSearchDocument document(String name) {
+        return new StoreSearchDocument(STORE_ID, name, "서울시 강남구 테헤란로 123", StoreStatus.APPROVED,
+                false, "11680", LocalDateTime.now(), 37.5, 127.03);
+    }
+}